@@ -4,6 +4,7 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.amazon.s3.AmazonS3Source;
+import dev.langchain4j.internal.OrderedParallelIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -17,10 +18,15 @@ import software.amazon.awssdk.services.s3.model.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.stream.Collectors.toList;
@@ -30,10 +36,24 @@ public class AmazonS3DocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(AmazonS3DocumentLoader.class);
 
+    static final int DEFAULT_PARALLELISM = 8;
+
     private final S3Client s3Client;
+    private final int parallelism;
 
     public AmazonS3DocumentLoader(S3Client s3Client) {
+        this(s3Client, null);
+    }
+
+    /**
+     * @param s3Client    The S3 client. It is used concurrently by multiple threads.
+     * @param parallelism The maximum number of objects downloaded and parsed concurrently
+     *                    by {@link #loadDocuments(String, String, DocumentParser)}
+     *                    and {@link #streamDocuments(String, String, DocumentParser)}. Default: {@value #DEFAULT_PARALLELISM}.
+     */
+    public AmazonS3DocumentLoader(S3Client s3Client, Integer parallelism) {
         this.s3Client = ensureNotNull(s3Client, "s3Client");
+        this.parallelism = ensureGreaterThanZero(getOrDefault(parallelism, DEFAULT_PARALLELISM), "parallelism");
     }
 
     /**
@@ -75,6 +95,10 @@ public class AmazonS3DocumentLoader {
     /**
      * Loads all documents from an S3 bucket.
      * Skips any documents that fail to load.
+     * <br>
+     * All pages of the listing are loaded, and the objects are downloaded and parsed concurrently.
+     * For large buckets, consider {@link #streamDocuments(String, String, DocumentParser)},
+     * which does not hold all documents in memory at once.
      *
      * @param bucket S3 bucket to load from.
      * @param prefix Only keys with the specified prefix will be loaded.
@@ -83,30 +107,106 @@ public class AmazonS3DocumentLoader {
      * @throws RuntimeException If {@link S3Exception} occurs.
      */
     public List<Document> loadDocuments(String bucket, String prefix, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
+        try (Stream<Document> documents = streamDocuments(bucket, prefix, parser)) {
+            return documents.collect(toList());
+        }
+    }
+
+    /**
+     * Lazily loads all documents from an S3 bucket.
+     * <br>
+     * See {@link #streamDocuments(String, String, DocumentParser, Map)} for details.
+     *
+     * @param bucket S3 bucket to load from.
+     * @param prefix Only keys with the specified prefix will be loaded.
+     * @param parser The parser to be used for parsing text from the object.
+     * @return A lazily populated stream of documents, which must be closed.
+     * @throws RuntimeException If {@link S3Exception} occurs.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser) {
+        return streamDocuments(bucket, prefix, parser, null);
+    }
 
+    /**
+     * Lazily loads all documents from an S3 bucket, skipping the objects that did not change since they were loaded.
+     * <br>
+     * The bucket is listed page by page (following the continuation tokens) as the returned stream is consumed,
+     * so buckets with millions of objects can be processed without holding all keys or documents in memory.
+     * The objects are downloaded and parsed by up to {@code parallelism} threads
+     * (see {@link #AmazonS3DocumentLoader(S3Client, Integer)}), at most {@code 2 * parallelism} objects ahead
+     * of the consumer. The documents are returned in the order of the listing.
+     * <br>
+     * Each object is loaded independently: the objects that fail to load are logged and skipped.
+     * <br>
+     * When {@code eTags} is provided, it is used to skip unchanged objects: an object is not downloaded
+     * when {@code eTags} contains its key with the same ETag. When a document is returned by the stream,
+     * the ETag of its object is put into {@code eTags}, so that the same map (persisted by the caller, if needed)
+     * can be passed to the next call to load only new and modified objects.
+     * <br>
+     * The returned stream holds threads, so it must be closed, e.g.:
+     * <pre>
+     * try (Stream&lt;Document&gt; documents = loader.streamDocuments(bucket, prefix, parser, eTags)) {
+     *     ingestor.ingest(documents);
+     * }
+     * </pre>
+     *
+     * @param bucket S3 bucket to load from.
+     * @param prefix Only keys with the specified prefix will be loaded. Optional.
+     * @param parser The parser to be used for parsing text from the object. It is called concurrently.
+     * @param eTags  The ETags of the already loaded objects, by key. Optional.
+     * @return A lazily populated stream of documents, which must be closed.
+     * @throws RuntimeException If {@link S3Exception} occurs.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser,
+                                            Map<String, String> eTags) {
         ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
                 .bucket(ensureNotBlank(bucket, "bucket"))
                 .prefix(prefix)
                 .build();
 
-        ListObjectsV2Response listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request);
-
-        List<S3Object> filteredS3Objects = listObjectsV2Response.contents().stream()
+        // the paginator fetches the next page (using the continuation token) only when the previous one is consumed
+        Iterator<S3Object> s3Objects = s3Client.listObjectsV2Paginator(listObjectsV2Request).contents().stream()
                 .filter(s3Object -> !s3Object.key().endsWith("/") && s3Object.size() > 0)
-                .collect(toList());
-
-        for (S3Object s3Object : filteredS3Objects) {
-            String key = s3Object.key();
-            try {
-                Document document = loadDocument(bucket, key, parser);
-                documents.add(document);
-            } catch (Exception e) {
-                log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+                .filter(s3Object -> eTags == null || !Objects.equals(eTags.get(s3Object.key()), s3Object.eTag()))
+                .iterator();
+
+        // the objects are downloaded and parsed on a dedicated pool of threads, in the order of the listing,
+        // with a bounded number of objects in flight ahead of the consumer
+        OrderedParallelIterator<S3Object, LoadedObject> iterator = new OrderedParallelIterator<>(
+                s3Objects,
+                s3Object -> loadObjectOrNull(bucket, s3Object, parser),
+                parallelism,
+                "langchain4j-s3-document-loader");
+
+        return iterator.stream()
+                .map(loadedObject -> {
+                    // the ETag is recorded only when the document is consumed
+                    if (eTags != null && loadedObject.eTag() != null) {
+                        eTags.put(loadedObject.key(), loadedObject.eTag());
+                    }
+                    return loadedObject.document();
+                });
+    }
+
+    private LoadedObject loadObjectOrNull(String bucket, S3Object s3Object, DocumentParser parser) {
+        String key = s3Object.key();
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build();
+            try (ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(getObjectRequest)) {
+                AmazonS3Source source = new AmazonS3Source(inputStream, bucket, key);
+                Document document = DocumentLoader.load(source, parser);
+                return new LoadedObject(key, inputStream.response().eTag(), document);
             }
+        } catch (Exception e) {
+            log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+            return null;
         }
+    }
 
-        return documents;
+    private record LoadedObject(String key, String eTag, Document document) {
     }
 
     public static Builder builder() {
@@ -120,6 +220,7 @@ public class AmazonS3DocumentLoader {
         private String profile;
         private boolean forcePathStyle;
         private AwsCredentials awsCredentials;
+        private Integer parallelism;
 
         /**
          * Set the AWS region. Defaults to US_EAST_1
@@ -187,10 +288,22 @@ public class AmazonS3DocumentLoader {
             return this;
         }
 
+        /**
+         * Set the maximum number of objects downloaded and parsed concurrently
+         * when loading multiple documents. Defaults to {@value AmazonS3DocumentLoader#DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism The maximum number of objects loaded concurrently.
+         * @return The builder instance.
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public AmazonS3DocumentLoader build() {
             AwsCredentialsProvider credentialsProvider = createCredentialsProvider();
             S3Client s3Client = createS3Client(credentialsProvider);
-            return new AmazonS3DocumentLoader(s3Client);
+            return new AmazonS3DocumentLoader(s3Client, parallelism);
         }
 
         private AwsCredentialsProvider createCredentialsProvider() {
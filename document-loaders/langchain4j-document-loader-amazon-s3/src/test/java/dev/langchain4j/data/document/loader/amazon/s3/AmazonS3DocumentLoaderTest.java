@@ -0,0 +1,331 @@
+package dev.langchain4j.data.document.loader.amazon.s3;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AmazonS3DocumentLoaderTest {
+
+    private static final String TEST_BUCKET = "test-bucket";
+
+    private S3StandIn s3;
+    private DocumentParser parser = new TextDocumentParser();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new S3StandIn(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.stop();
+    }
+
+    @Test
+    void should_load_documents_from_all_pages() {
+
+        // given
+        for (int i = 0; i < 7; i++) {
+            s3.put("docs/file-" + i + ".txt", "Content " + i);
+        }
+        s3.put("docs/", "");
+        s3.put("docs/empty.txt", "");
+        s3.put("other/file.txt", "You cannot load me!");
+
+        AmazonS3DocumentLoader loader = loader(4);
+
+        // when
+        List<Document> documents = loader.loadDocuments(TEST_BUCKET, "docs/", parser);
+
+        // then
+        assertThat(documents)
+                .extracting(Document::text)
+                .containsExactly(
+                        "Content 0", "Content 1", "Content 2", "Content 3", "Content 4", "Content 5", "Content 6");
+        assertThat(documents.get(0).metadata().getString("source")).isEqualTo("s3://test-bucket/docs/file-0.txt");
+        assertThat(s3.listRequests.get()).isEqualTo(5);
+    }
+
+    @Test
+    void should_download_objects_concurrently() {
+
+        // given
+        for (int i = 0; i < 8; i++) {
+            s3.put("file-" + i + ".txt", "Content " + i);
+        }
+        s3.getObjectDelayMillis = 200;
+
+        AmazonS3DocumentLoader loader = loader(4);
+
+        // when
+        List<Document> documents = loader.loadDocuments(TEST_BUCKET, parser);
+
+        // then
+        assertThat(documents).hasSize(8);
+        assertThat(s3.maxConcurrentGetObjectRequests.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void should_skip_unchanged_objects() {
+
+        // given
+        s3.put("file-1.txt", "Content 1");
+        s3.put("file-2.txt", "Content 2");
+
+        AmazonS3DocumentLoader loader = loader(2);
+        Map<String, String> eTags = new HashMap<>();
+
+        try (Stream<Document> documents = loader.streamDocuments(TEST_BUCKET, null, parser, eTags)) {
+            assertThat(documents.toList()).hasSize(2);
+        }
+        assertThat(eTags).containsOnlyKeys("file-1.txt", "file-2.txt");
+
+        s3.put("file-2.txt", "Modified content 2");
+        s3.put("file-3.txt", "Content 3");
+        s3.getObjectRequests.set(0);
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, null, parser, eTags)) {
+            documents = stream.toList();
+        }
+
+        // then
+        assertThat(documents).extracting(Document::text).containsExactly("Modified content 2", "Content 3");
+        assertThat(s3.getObjectRequests.get()).isEqualTo(2);
+        assertThat(eTags.get("file-2.txt")).isEqualTo(S3StandIn.eTag("Modified content 2"));
+    }
+
+    @Test
+    void should_skip_objects_that_fail_to_load() {
+
+        // given
+        s3.put("file-1.txt", "Content 1");
+        s3.put("file-2.txt", "broken");
+        s3.put("file-3.txt", "Content 3");
+
+        DocumentParser failingParser = inputStream -> {
+            Document document = new TextDocumentParser().parse(inputStream);
+            if (document.text().equals("broken")) {
+                throw new RuntimeException("cannot parse");
+            }
+            return document;
+        };
+
+        AmazonS3DocumentLoader loader = loader(2);
+        Map<String, String> eTags = new HashMap<>();
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, null, failingParser, eTags)) {
+            documents = stream.toList();
+        }
+
+        // then
+        assertThat(documents).extracting(Document::text).containsExactly("Content 1", "Content 3");
+        // the failed object is retried next time
+        assertThat(eTags).containsOnlyKeys("file-1.txt", "file-3.txt");
+    }
+
+    @Test
+    void should_list_lazily() {
+
+        // given
+        for (int i = 0; i < 20; i++) {
+            s3.put("file-" + (char) ('a' + i) + ".txt", "Content " + i);
+        }
+
+        AmazonS3DocumentLoader loader = loader(1);
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, null, parser)) {
+            documents = stream.limit(1).toList();
+        }
+
+        // then
+        assertThat(documents).extracting(Document::text).containsExactly("Content 0");
+        assertThat(s3.listRequests.get()).isEqualTo(1);
+    }
+
+    private AmazonS3DocumentLoader loader(int parallelism) {
+        return AmazonS3DocumentLoader.builder()
+                .endpointUrl(s3.endpointUrl())
+                .forcePathStyle(true)
+                .awsCredentials(new AwsCredentials("test", "test"))
+                .parallelism(parallelism)
+                .build();
+    }
+
+    /**
+     * A minimal S3-compatible stand-in, serving the ListObjectsV2 and GetObject operations
+     * of a single bucket with path-style addressing. Listings are split into pages of {@code pageSize} keys.
+     */
+    private static class S3StandIn {
+
+        private final HttpServer server;
+        private final int pageSize;
+        private final NavigableMap<String, String> objects = new ConcurrentSkipListMap<>();
+        private final AtomicInteger concurrentGetObjectRequests = new AtomicInteger();
+
+        final AtomicInteger listRequests = new AtomicInteger();
+        final AtomicInteger getObjectRequests = new AtomicInteger();
+        final AtomicInteger maxConcurrentGetObjectRequests = new AtomicInteger();
+        volatile long getObjectDelayMillis;
+
+        S3StandIn(int pageSize) throws IOException {
+            this.pageSize = pageSize;
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            this.server.createContext("/" + TEST_BUCKET, this::handle);
+            this.server.setExecutor(Executors.newCachedThreadPool());
+            this.server.start();
+        }
+
+        String endpointUrl() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        void put(String key, String content) {
+            objects.put(key, content);
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String key = path.substring(("/" + TEST_BUCKET).length()).replaceFirst("^/", "");
+            if (key.isEmpty()) {
+                listObjects(exchange);
+            } else {
+                getObject(exchange, key);
+            }
+        }
+
+        private void listObjects(HttpExchange exchange) throws IOException {
+            listRequests.incrementAndGet();
+            Map<String, String> query = query(exchange);
+            String prefix = query.getOrDefault("prefix", "");
+            String continuationToken = query.get("continuation-token");
+
+            NavigableMap<String, String> matching = (continuationToken == null
+                            ? objects
+                            : objects.tailMap(continuationToken, true))
+                    .entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .collect(ConcurrentSkipListMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()),
+                            Map::putAll);
+
+            StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                    .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                    .append("<Name>").append(TEST_BUCKET).append("</Name>")
+                    .append("<Prefix>").append(prefix).append("</Prefix>")
+                    .append("<MaxKeys>1000</MaxKeys>");
+            int count = 0;
+            String nextKey = null;
+            for (Map.Entry<String, String> entry : matching.entrySet()) {
+                if (count == pageSize) {
+                    nextKey = entry.getKey();
+                    break;
+                }
+                xml.append("<Contents>")
+                        .append("<Key>").append(entry.getKey()).append("</Key>")
+                        .append("<LastModified>2025-01-01T00:00:00.000Z</LastModified>")
+                        .append("<ETag>").append(eTag(entry.getValue()).replace("\"", "&quot;")).append("</ETag>")
+                        .append("<Size>").append(entry.getValue().getBytes(UTF_8).length).append("</Size>")
+                        .append("<StorageClass>STANDARD</StorageClass>")
+                        .append("</Contents>");
+                count++;
+            }
+            xml.append("<KeyCount>").append(count).append("</KeyCount>")
+                    .append("<IsTruncated>").append(nextKey != null).append("</IsTruncated>");
+            if (nextKey != null) {
+                xml.append("<NextContinuationToken>").append(nextKey).append("</NextContinuationToken>");
+            }
+            xml.append("</ListBucketResult>");
+
+            respond(exchange, 200, "application/xml", xml.toString(), null);
+        }
+
+        private void getObject(HttpExchange exchange, String key) throws IOException {
+            getObjectRequests.incrementAndGet();
+            int concurrent = concurrentGetObjectRequests.incrementAndGet();
+            maxConcurrentGetObjectRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                if (getObjectDelayMillis > 0) {
+                    Thread.sleep(getObjectDelayMillis);
+                }
+                String content = objects.get(key);
+                if (content == null) {
+                    respond(exchange, 404, "application/xml",
+                            "<Error><Code>NoSuchKey</Code><Message>Not found</Message></Error>", null);
+                } else {
+                    respond(exchange, 200, "text/plain", content, eTag(content));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentGetObjectRequests.decrementAndGet();
+            }
+        }
+
+        private static Map<String, String> query(HttpExchange exchange) {
+            Map<String, String> query = new ConcurrentHashMap<>();
+            String rawQuery = exchange.getRequestURI().getRawQuery();
+            if (rawQuery != null) {
+                for (String parameter : rawQuery.split("&")) {
+                    String[] keyAndValue = parameter.split("=", 2);
+                    query.put(
+                            URLDecoder.decode(keyAndValue[0], UTF_8),
+                            keyAndValue.length > 1 ? URLDecoder.decode(keyAndValue[1], UTF_8) : "");
+                }
+            }
+            return query;
+        }
+
+        static String eTag(String content) {
+            try {
+                byte[] md5 = MessageDigest.getInstance("MD5").digest(content.getBytes(UTF_8));
+                return "\"" + HexFormat.of().formatHex(md5) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static void respond(HttpExchange exchange, int status, String contentType, String body, String eTag)
+                throws IOException {
+            byte[] bytes = body.getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            if (eTag != null) {
+                exchange.getResponseHeaders().add("ETag", eTag);
+            }
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
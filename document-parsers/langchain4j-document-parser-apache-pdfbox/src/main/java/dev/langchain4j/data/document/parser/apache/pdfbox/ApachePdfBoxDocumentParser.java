@@ -4,28 +4,71 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.internal.OrderedParallelIterator;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
- * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * Parses PDF file into a {@link Document} using Apache PDFBox library.
+ * <br>
+ * Large PDF files can be parsed page by page with {@link #parsePages(Path)} or {@link #parsePages(InputStream)},
+ * which extract the text of multiple page ranges in parallel and return one {@link Document} per page.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * The metadata key of the (1-based) number of the page a document returned by {@link #parsePages(Path)}
+     * was extracted from.
+     */
+    public static final String PAGE_NUMBER = "page_number";
+
+    static final int PAGES_PER_TASK = 16;
+    static final int PAGES_PER_LOAD = 16 * PAGES_PER_TASK;
+
     private final boolean includeMetadata;
+    private final int parallelism;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
+        this(includeMetadata, null);
+    }
+
+    /**
+     * @param includeMetadata whether to include the document information (author, creation date, etc.)
+     *                        into the metadata of the parsed documents.
+     * @param parallelism     the maximum number of page ranges extracted concurrently by {@link #parsePages(Path)}.
+     *                        Default: the number of available processors.
+     */
+    public ApachePdfBoxDocumentParser(boolean includeMetadata, Integer parallelism) {
         this.includeMetadata = includeMetadata;
+        this.parallelism = ensureGreaterThanZero(
+                getOrDefault(parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
     }
 
     @Override
@@ -44,6 +87,128 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the PDF from the specified input stream page by page.
+     * <br>
+     * The input stream is first copied into a temporary file, which is deleted when the returned stream is closed.
+     * See {@link #parsePages(Path)} for details.
+     *
+     * @param inputStream the PDF to parse.
+     * @return a lazily populated stream of documents, one per non-blank page, which must be closed.
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        ensureNotNull(inputStream, "inputStream");
+        Path file;
+        try {
+            file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.copy(inputStream, file, REPLACE_EXISTING);
+            return parsePages(file).onClose(() -> deleteQuietly(file));
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the specified PDF file page by page.
+     * <br>
+     * Unlike {@link #parse(InputStream)}, the file is not loaded into memory: it is read from the disk
+     * as the pages are processed, and the decoded content streams are buffered in temporary files.
+     * The pages are split into ranges of {@value #PAGES_PER_TASK} pages, which are extracted in parallel
+     * by up to {@code parallelism} threads. At most {@code 2 * parallelism} ranges are extracted ahead of the consumer.
+     * <br>
+     * As {@link PDDocument} is not thread-safe, each thread loads the file into its own {@link PDDocument},
+     * which it uses for the ranges it extracts. The objects of the file are parsed lazily, when a page
+     * refers to them, and stay cached in the {@link PDDocument}, so each thread reloads the file
+     * after extracting {@value #PAGES_PER_LOAD} pages: it holds (at most) the objects of the last
+     * {@value #PAGES_PER_LOAD} pages it has processed, however large the file is.
+     * <br>
+     * One {@link Document} is returned per page, in the page order, with the {@value #PAGE_NUMBER} metadata entry.
+     * Blank pages are skipped.
+     * <br>
+     * The returned stream holds threads, so it must be closed, e.g.:
+     * <pre>
+     * try (Stream&lt;Document&gt; pages = parser.parsePages(file)) {
+     *     ingestor.ingest(pages);
+     * }
+     * </pre>
+     *
+     * @param pdfFile the PDF file to parse.
+     * @return a lazily populated stream of documents, one per non-blank page, which must be closed.
+     */
+    public Stream<Document> parsePages(Path pdfFile) {
+        ensureNotNull(pdfFile, "pdfFile");
+
+        int pageCount;
+        Metadata documentMetadata;
+        try (PDDocument pdfDocument = load(pdfFile)) {
+            pageCount = pdfDocument.getNumberOfPages();
+            documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        WorkerDocuments workerDocuments = new WorkerDocuments(pdfFile);
+        Iterator<Integer> startPages = IntStream.iterate(1, page -> page <= pageCount, page -> page + PAGES_PER_TASK)
+                .iterator();
+        OrderedParallelIterator<Integer, List<Document>> iterator = new OrderedParallelIterator<Integer, List<Document>>(
+                        startPages,
+                        startPage -> {
+                            int endPage = Math.min(startPage + PAGES_PER_TASK - 1, pageCount);
+                            PDDocument pdfDocument = workerDocuments.get(endPage - startPage + 1);
+                            return extractPages(pdfDocument, startPage, endPage, documentMetadata);
+                        },
+                        parallelism,
+                        "langchain4j-pdfbox-parser")
+                .onClose(workerDocuments::close);
+
+        return iterator.stream().flatMap(List::stream);
+    }
+
+    private static PDDocument load(Path pdfFile) throws IOException {
+        return PDDocument.load(pdfFile.toFile(), MemoryUsageSetting.setupTempFileOnly());
+    }
+
+    /**
+     * Extracts the text of the pages from {@code startPage} to {@code endPage} (both inclusive, 1-based).
+     */
+    private static List<Document> extractPages(PDDocument pdfDocument, int startPage, int endPage,
+                                               Metadata documentMetadata) {
+        try {
+            PageCollectingTextStripper stripper = new PageCollectingTextStripper();
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            stripper.writeText(pdfDocument, stripper.pageWriter);
+
+            List<Document> documents = new ArrayList<>();
+            for (int i = 0; i < stripper.pageTexts.size(); i++) {
+                String text = stripper.pageTexts.get(i);
+                if (!isNullOrBlank(text)) {
+                    Metadata metadata = documentMetadata.copy().put(PAGE_NUMBER, stripper.pageNumbers.get(i));
+                    documents.add(Document.from(text, metadata));
+                }
+            }
+            return documents;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // best effort, the file is in the temporary directory
+        }
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +218,93 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    /**
+     * Collects the text of each page separately, in a single pass over the page range.
+     */
+    private static class PageCollectingTextStripper extends PDFTextStripper {
+
+        private final StringWriter pageWriter = new StringWriter();
+        private final List<String> pageTexts = new ArrayList<>();
+        private final List<Integer> pageNumbers = new ArrayList<>();
+
+        PageCollectingTextStripper() throws IOException {
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            pageTexts.add(pageWriter.toString());
+            pageNumbers.add(getCurrentPageNo());
+            pageWriter.getBuffer().setLength(0);
+        }
+    }
+
+    /**
+     * The {@link PDDocument}s of the worker threads, one per thread, loaded when the thread extracts its first range,
+     * and reloaded every {@value #PAGES_PER_LOAD} pages, so that the objects cached by a {@link PDDocument}
+     * do not grow without bound.
+     */
+    private static class WorkerDocuments {
+
+        private final Path pdfFile;
+        private final Map<Thread, WorkerDocument> documents = new HashMap<>();
+        private boolean closed;
+
+        WorkerDocuments(Path pdfFile) {
+            this.pdfFile = pdfFile;
+        }
+
+        /**
+         * Returns the {@link PDDocument} of the current thread, to extract the specified number of pages.
+         */
+        synchronized PDDocument get(int pageCount) {
+            if (closed) {
+                throw new IllegalStateException("The stream of pages has been closed");
+            }
+            WorkerDocument document = documents.get(Thread.currentThread());
+            if (document != null && document.pageCount >= PAGES_PER_LOAD) {
+                closeQuietly(document.pdfDocument);
+                document = null;
+            }
+            if (document == null) {
+                try {
+                    document = new WorkerDocument(load(pdfFile));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                documents.put(Thread.currentThread(), document);
+            }
+            document.pageCount += pageCount;
+            return document.pdfDocument;
+        }
+
+        /**
+         * Closes the {@link PDDocument}s. It is called once all the ranges have been extracted
+         * or, when the stream is closed before being exhausted, once the running extractions have completed.
+         */
+        synchronized void close() {
+            closed = true;
+            documents.values().forEach(document -> closeQuietly(document.pdfDocument));
+            documents.clear();
+        }
+
+        private static void closeQuietly(PDDocument pdfDocument) {
+            try {
+                pdfDocument.close();
+            } catch (IOException ignored) {
+                // best effort, the pages have already been extracted
+            }
+        }
+    }
+
+    private static class WorkerDocument {
+
+        private final PDDocument pdfDocument;
+        private int pageCount;
+
+        WorkerDocument(PDDocument pdfDocument) {
+            this.pdfDocument = pdfDocument;
+        }
+    }
 }
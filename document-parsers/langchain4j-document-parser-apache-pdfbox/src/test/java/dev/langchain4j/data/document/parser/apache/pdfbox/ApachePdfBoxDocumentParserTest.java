@@ -3,11 +3,21 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.PAGES_PER_LOAD;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.PAGE_NUMBER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -53,4 +63,123 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pages_in_parallel(@TempDir Path directory) throws IOException {
+
+        // given
+        Path pdfFile = createPdfWithPages(directory, 50);
+
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, 3);
+
+        // when
+        List<Document> pages;
+        try (Stream<Document> stream = parser.parsePages(pdfFile)) {
+            pages = stream.toList();
+        }
+
+        // then
+        assertThat(pages).hasSize(49);
+        for (Document page : pages) {
+            Integer pageNumber = page.metadata().getInteger(PAGE_NUMBER);
+            assertThat(pageNumber).isNotEqualTo(7);
+            assertThat(page.text()).isEqualToIgnoringWhitespace("Page " + pageNumber);
+        }
+        assertThat(pages).extracting(page -> page.metadata().getInteger(PAGE_NUMBER)).isSorted();
+    }
+
+    @Test
+    void should_parse_pages_when_worker_documents_are_reloaded(@TempDir Path directory) throws IOException {
+
+        // given
+        int pageCount = PAGES_PER_LOAD + 40;
+        Path pdfFile = createPdfWithPages(directory, pageCount);
+
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, 1);
+
+        // when
+        List<Document> pages;
+        try (Stream<Document> stream = parser.parsePages(pdfFile)) {
+            pages = stream.toList();
+        }
+
+        // then
+        assertThat(pages).hasSize(pageCount - 1);
+        assertThat(pages.get(pages.size() - 1).text()).isEqualToIgnoringWhitespace("Page " + pageCount);
+        assertThat(pages).extracting(page -> page.metadata().getInteger(PAGE_NUMBER)).isSorted();
+    }
+
+    @Test
+    void should_stop_parsing_pages_when_stream_is_closed_early(@TempDir Path directory) throws IOException {
+
+        // given
+        Path pdfFile = createPdfWithPages(directory, 200);
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, 2);
+
+        // when
+        List<Document> pages;
+        try (Stream<Document> stream = parser.parsePages(pdfFile)) {
+            pages = stream.limit(20).toList();
+        }
+
+        // then
+        assertThat(pages).extracting(page -> page.metadata().getInteger(PAGE_NUMBER))
+                .containsExactly(1, 2, 3, 4, 5, 6, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21);
+
+        // the file is not held anymore, and can be parsed again
+        try (Stream<Document> stream = parser.parsePages(pdfFile)) {
+            assertThat(stream.count()).isEqualTo(199);
+        }
+    }
+
+    @Test
+    void should_parse_pages_from_input_stream_include_metadata() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(true);
+
+            List<Document> pages;
+            try (Stream<Document> stream = parser.parsePages(inputStream)) {
+                pages = stream.toList();
+            }
+
+            assertThat(pages).hasSize(1);
+            assertThat(pages.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(pages.get(0).metadata().toMap())
+                    .containsEntry(PAGE_NUMBER, 1)
+                    .containsEntry("Author", "ljuba");
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf");
+             Stream<Document> pages = new ApachePdfBoxDocumentParser().parsePages(inputStream)) {
+            assertThat(pages).isEmpty();
+        }
+    }
+
+    /**
+     * Creates a PDF file whose pages contain "Page N", except for the page 7, which is blank.
+     */
+    private static Path createPdfWithPages(Path directory, int pageCount) throws IOException {
+        Path pdfFile = directory.resolve("pages.pdf");
+        try (PDDocument pdfDocument = new PDDocument()) {
+            for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+                PDPage page = new PDPage();
+                pdfDocument.addPage(page);
+                if (pageNumber == 7) {
+                    continue; // blank page
+                }
+                try (PDPageContentStream contentStream = new PDPageContentStream(pdfDocument, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(PDType1Font.HELVETICA, 12);
+                    contentStream.newLineAtOffset(100, 700);
+                    contentStream.showText("Page " + pageNumber);
+                    contentStream.endText();
+                }
+            }
+            pdfDocument.save(pdfFile.toFile());
+        }
+        return pdfFile;
+    }
+}
@@ -0,0 +1,228 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import static dev.langchain4j.data.document.parser.apache.tika.ApacheTikaDocumentParser.DEFAULT_PARSER_SUPPLIER;
+import static dev.langchain4j.data.document.parser.apache.tika.ApacheTikaDocumentParser.DEFAULT_PARSE_CONTEXT_SUPPLIER;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DaemonExecutors;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.tika.exception.ZeroByteFileException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses files with Apache Tika and splits them into {@link TextSegment}s while they are being parsed.
+ * <br>
+ * Unlike {@link ApacheTikaDocumentParser}, which accumulates the whole extracted text of a file
+ * before creating a {@link Document}, this parser passes the text to the {@link DocumentSplitter}
+ * in chunks of at most {@code maxBufferSizeInChars} characters, as the text is extracted,
+ * and hands the resulting segments over to a consumer right away.
+ * So the memory used for the text of a file is bounded by {@code maxBufferSizeInChars},
+ * regardless of the size of the file (e.g., a large office document or an archive).
+ * <br>
+ * The chunks are cut at paragraph breaks (or line breaks, or whitespaces) when possible.
+ * Segments never span two chunks, and there is no overlap between the last segment of a chunk
+ * and the first segment of the next one.
+ * Each segment gets the provided metadata, and an "index" metadata entry,
+ * which is consecutive across all the chunks of a file.
+ * <br>
+ * Many files can be parsed concurrently with {@link #parseAll(Collection, Consumer)}.
+ */
+public class ApacheTikaStreamingParser {
+
+    public static final int DEFAULT_MAX_BUFFER_SIZE_IN_CHARS = 1_000_000;
+
+    private static final Logger log = LoggerFactory.getLogger(ApacheTikaStreamingParser.class);
+
+
+    private final Supplier<Parser> parserSupplier;
+    private final Supplier<ParseContext> parseContextSupplier;
+    private final DocumentSplitter documentSplitter;
+    private final int maxBufferSizeInChars;
+    private final int parallelism;
+
+    /**
+     * Creates an instance of an {@code ApacheTikaStreamingParser} with the default Tika components
+     * ({@link AutoDetectParser} and empty {@link ParseContext}).
+     *
+     * @param documentSplitter The splitter used to split the extracted text into segments.
+     */
+    public ApacheTikaStreamingParser(DocumentSplitter documentSplitter) {
+        this(null, null, documentSplitter, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code ApacheTikaStreamingParser}.
+     * If some of the optional parameters are not provided ({@code null}), the defaults will be used.
+     *
+     * @param parserSupplier       Supplier for Tika parser to use. Default: {@link AutoDetectParser}
+     * @param parseContextSupplier Supplier for Tika parse context. Default: empty {@link ParseContext}
+     * @param documentSplitter     The splitter used to split the extracted text into segments.
+     *                             It is called concurrently by {@link #parseAll(Collection, Consumer)},
+     *                             so it must be thread-safe.
+     * @param maxBufferSizeInChars The maximum number of characters of a file buffered before they are split.
+     *                             Default: {@value #DEFAULT_MAX_BUFFER_SIZE_IN_CHARS}
+     * @param parallelism          The maximum number of files parsed concurrently by
+     *                             {@link #parseAll(Collection, Consumer)}.
+     *                             Default: the number of available processors.
+     */
+    public ApacheTikaStreamingParser(
+            Supplier<Parser> parserSupplier,
+            Supplier<ParseContext> parseContextSupplier,
+            DocumentSplitter documentSplitter,
+            Integer maxBufferSizeInChars,
+            Integer parallelism) {
+        this.parserSupplier = getOrDefault(parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
+        this.parseContextSupplier = getOrDefault(parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
+        this.documentSplitter = ensureNotNull(documentSplitter, "documentSplitter");
+        this.maxBufferSizeInChars = ensureGreaterThanZero(
+                getOrDefault(maxBufferSizeInChars, DEFAULT_MAX_BUFFER_SIZE_IN_CHARS), "maxBufferSizeInChars");
+        this.parallelism = ensureGreaterThanZero(
+                getOrDefault(parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
+    }
+
+    /**
+     * Parses the provided input stream and passes its segments to the consumer, in order, as they are created.
+     *
+     * @param inputStream     The input stream to parse.
+     * @param metadata        The metadata added to each segment.
+     * @param segmentConsumer The consumer of the segments.
+     * @return The number of segments.
+     * @throws BlankDocumentException If no text was extracted.
+     * @throws RuntimeException       If the consumer fails, its exception is rethrown unchanged.
+     */
+    public int parse(
+            InputStream inputStream,
+            dev.langchain4j.data.document.Metadata metadata,
+            Consumer<TextSegment> segmentConsumer) {
+        ensureNotNull(inputStream, "inputStream");
+        ensureNotNull(metadata, "metadata");
+        ensureNotNull(segmentConsumer, "segmentConsumer");
+
+        SegmentingWriter writer =
+                new SegmentingWriter(documentSplitter, metadata, maxBufferSizeInChars, segmentConsumer);
+        try {
+            Parser parser = parserSupplier.get();
+            ParseContext parseContext = parseContextSupplier.get();
+
+            parser.parse(inputStream, new BodyContentHandler(writer), new Metadata(), parseContext);
+            writer.finish();
+
+            if (writer.segmentCount() == 0) {
+                throw new BlankDocumentException();
+            }
+            return writer.segmentCount();
+        } catch (BlankDocumentException e) {
+            throw e;
+        } catch (ZeroByteFileException e) {
+            throw new BlankDocumentException();
+        } catch (Exception e) {
+            if (writer.consumerFailure() != null) {
+                // the failures of the consumer are rethrown as is, even when Tika wrapped them
+                throw writer.consumerFailure();
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Parses the provided files concurrently, using up to {@code parallelism} threads,
+     * and passes their segments to the consumer as they are created.
+     * <br>
+     * The segments of each file are passed in order, but the segments of different files are interleaved.
+     * The consumer is called concurrently from multiple threads, so it must be thread-safe.
+     * At most {@code parallelism * maxBufferSizeInChars} characters of text are buffered at once.
+     * <br>
+     * Each segment gets the {@value Document#FILE_NAME} and {@value Document#ABSOLUTE_DIRECTORY_PATH}
+     * metadata entries of its file.
+     * Each file is parsed independently: the files that fail to parse are logged and skipped
+     * (the segments of a file that fails in the middle of parsing may have already been passed to the consumer),
+     * the blank ones are skipped. If the consumer fails, the exception is rethrown.
+     *
+     * @param files           The files to parse.
+     * @param segmentConsumer The consumer of the segments. It must be thread-safe.
+     * @return The number of segments.
+     */
+    public int parseAll(Collection<Path> files, Consumer<TextSegment> segmentConsumer) {
+        ensureNotNull(files, "files");
+        ensureNotNull(segmentConsumer, "segmentConsumer");
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        ExecutorService executor =
+                DaemonExecutors.newFixedPool("langchain4j-tika-parser", Math.min(parallelism, files.size()));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(executor.submit(() -> parseOrSkip(file, segmentConsumer)));
+            }
+
+            int segmentCount = 0;
+            for (Future<Integer> future : futures) {
+                segmentCount += future.get();
+            }
+            return segmentCount;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int parseOrSkip(Path file, Consumer<TextSegment> segmentConsumer) {
+        dev.langchain4j.data.document.Metadata metadata = new dev.langchain4j.data.document.Metadata()
+                .put(Document.FILE_NAME, file.getFileName().toString())
+                .put(Document.ABSOLUTE_DIRECTORY_PATH, file.toAbsolutePath().getParent().toString());
+        // the failures of the consumer are not caused by the file, so they are not skipped
+        RuntimeException[] consumerFailure = new RuntimeException[1];
+        Consumer<TextSegment> failureRecordingConsumer = segment -> {
+            try {
+                segmentConsumer.accept(segment);
+            } catch (RuntimeException e) {
+                consumerFailure[0] = e;
+                throw e;
+            }
+        };
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return parse(inputStream, metadata, failureRecordingConsumer);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty files are ignored
+            return 0;
+        } catch (Exception e) {
+            if (consumerFailure[0] != null) {
+                throw consumerFailure[0];
+            }
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to parse '{}': {}", file, message);
+            return 0;
+        }
+    }
+}
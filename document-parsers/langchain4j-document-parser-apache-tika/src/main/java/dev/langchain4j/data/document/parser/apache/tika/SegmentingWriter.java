@@ -0,0 +1,133 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Writer} that receives the text extracted by Tika and, instead of accumulating the whole text,
+ * splits it into {@link TextSegment}s as soon as {@code maxBufferSize} characters are buffered.
+ * <br>
+ * The buffered text is cut at the last paragraph break (or line break, or whitespace) of its second half,
+ * the text before the cut is split by the {@link DocumentSplitter}, and the rest is kept in the buffer.
+ * When there is no such break, the text is cut at the end of the buffer, but never inside a surrogate pair.
+ * The segments are re-indexed, so that their "index" metadata entries are consecutive across the whole document.
+ */
+class SegmentingWriter extends Writer {
+
+    private static final String INDEX = "index";
+
+    private final DocumentSplitter documentSplitter;
+    private final Metadata metadata;
+    private final int maxBufferSize;
+    private final Consumer<TextSegment> segmentConsumer;
+    private final StringBuilder buffer;
+    private int segmentCount;
+    private RuntimeException consumerFailure;
+
+    SegmentingWriter(
+            DocumentSplitter documentSplitter,
+            Metadata metadata,
+            int maxBufferSize,
+            Consumer<TextSegment> segmentConsumer) {
+        this.documentSplitter = documentSplitter;
+        this.metadata = metadata;
+        this.maxBufferSize = maxBufferSize;
+        this.segmentConsumer = segmentConsumer;
+        this.buffer = new StringBuilder(Math.min(maxBufferSize, 8192));
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            int count = Math.min(end - offset, maxBufferSize - buffer.length());
+            buffer.append(chars, offset, count);
+            offset += count;
+            if (buffer.length() == maxBufferSize) {
+                splitBufferedText(cut());
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        // the text is only split when the buffer is full, or at the end of the document, see finish()
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    /**
+     * Splits the remaining buffered text.
+     */
+    void finish() {
+        splitBufferedText(buffer.length());
+    }
+
+    int segmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Returns the exception thrown by the segment consumer, if any.
+     * Tika may wrap it when it propagates through the parser.
+     */
+    RuntimeException consumerFailure() {
+        return consumerFailure;
+    }
+
+    private int cut() {
+        int lineBreak = -1;
+        int whitespace = -1;
+        for (int i = buffer.length() - 1; i >= buffer.length() / 2; i--) {
+            char c = buffer.charAt(i);
+            if (c == '\n') {
+                if (i > 0 && buffer.charAt(i - 1) == '\n') {
+                    return i + 1;
+                }
+                if (lineBreak == -1) {
+                    lineBreak = i + 1;
+                }
+            } else if (whitespace == -1 && Character.isWhitespace(c)) {
+                whitespace = i + 1;
+            }
+        }
+        if (lineBreak != -1) {
+            return lineBreak;
+        }
+        if (whitespace != -1) {
+            return whitespace;
+        }
+        int end = buffer.length();
+        if (end > 1 && Character.isHighSurrogate(buffer.charAt(end - 1))) {
+            // the low surrogate has not been written yet, keep the pair together
+            end--;
+        }
+        return end;
+    }
+
+    private void splitBufferedText(int end) {
+        String text = buffer.substring(0, end);
+        buffer.delete(0, end);
+        if (isNullOrBlank(text)) {
+            return;
+        }
+        for (TextSegment segment : documentSplitter.split(Document.from(text, metadata.copy()))) {
+            segment.metadata().put(INDEX, String.valueOf(segmentCount++));
+            try {
+                segmentConsumer.accept(segment);
+            } catch (RuntimeException e) {
+                consumerFailure = e;
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApacheTikaStreamingParserTest {
+
+    private final List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private final DocumentSplitter lineSplitter = document -> {
+        chunkSizes.add(document.text().length());
+        List<TextSegment> segments = new ArrayList<>();
+        for (String line : document.text().split("\n")) {
+            if (!line.isBlank()) {
+                segments.add(TextSegment.from(line.trim(), document.metadata().copy().put("index", "0")));
+            }
+        }
+        return segments;
+    };
+
+    @Test
+    void should_split_text_while_parsing_with_bounded_buffer() {
+
+        // given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("Line ").append(i).append(i % 10 == 9 ? "\n\n" : "\n");
+        }
+        InputStream inputStream = new ByteArrayInputStream(text.toString().getBytes(UTF_8));
+
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(null, null, lineSplitter, 500, null);
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        int segmentCount = parser.parse(inputStream, Metadata.from("source", "test"), segments::add);
+
+        // then
+        assertThat(segmentCount).isEqualTo(1000);
+        assertThat(segments).hasSize(1000);
+        for (int i = 0; i < segments.size(); i++) {
+            TextSegment segment = segments.get(i);
+            assertThat(segment.text()).isEqualTo("Line " + i);
+            assertThat(segment.metadata().getString("index")).isEqualTo(String.valueOf(i));
+            assertThat(segment.metadata().getString("source")).isEqualTo("test");
+        }
+        assertThat(chunkSizes.size()).isGreaterThan(1);
+        assertThat(Collections.max(chunkSizes)).isLessThanOrEqualTo(500);
+    }
+
+    @Test
+    void should_parse_office_files() {
+
+        // given
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(lineSplitter);
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.docx");
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        parser.parse(inputStream, new Metadata(), segments::add);
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly("test content");
+    }
+
+    @Test
+    void should_throw_blank_document_exception() {
+
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(lineSplitter);
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.txt");
+
+        assertThatThrownBy(() -> parser.parse(inputStream, new Metadata(), segment -> {}))
+                .isExactlyInstanceOf(BlankDocumentException.class);
+    }
+
+    @Test
+    void should_parse_all_files_concurrently(@TempDir Path directory) throws IOException {
+
+        // given
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(Files.writeString(directory.resolve("file-" + i + ".txt"), "First line\nSecond line"));
+        }
+        files.add(Files.writeString(directory.resolve("blank.txt"), " "));
+
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(null, null, lineSplitter, null, 4);
+        List<TextSegment> segments = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        int segmentCount = parser.parseAll(files, segments::add);
+
+        // then
+        assertThat(segmentCount).isEqualTo(20);
+        assertThat(segments).hasSize(20);
+        assertThat(segments)
+                .filteredOn(segment -> segment.metadata().getString(Document.FILE_NAME).equals("file-3.txt"))
+                .extracting(TextSegment::text)
+                .containsExactly("First line", "Second line");
+    }
+
+    @Test
+    void should_rethrow_consumer_failure(@TempDir Path directory) throws IOException {
+
+        // given
+        Path file = Files.writeString(directory.resolve("file.txt"), "First line\nSecond line");
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(lineSplitter);
+
+        // when-then
+        assertThatThrownBy(() -> parser.parseAll(List.of(file), segment -> {
+                    throw new IllegalStateException("store is down");
+                }))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("store is down");
+    }
+
+    @Test
+    void should_rethrow_consumer_failure_unchanged() {
+
+        // given
+        InputStream inputStream = new ByteArrayInputStream("First line\nSecond line".getBytes(UTF_8));
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(lineSplitter);
+        IllegalStateException failure = new IllegalStateException("store is down");
+
+        // when-then
+        assertThatThrownBy(() -> parser.parse(inputStream, new Metadata(), segment -> {
+                    throw failure;
+                }))
+                .isSameAs(failure);
+    }
+
+    @Test
+    void should_not_split_surrogate_pairs() {
+
+        // given
+        String text = "\uD83D\uDE00".repeat(100); // emojis, without any whitespace
+        InputStream inputStream = new ByteArrayInputStream(text.getBytes(UTF_8));
+
+        DocumentSplitter chunkSplitter = document -> List.of(TextSegment.from(document.text(), document.metadata()));
+        ApacheTikaStreamingParser parser = new ApacheTikaStreamingParser(null, null, chunkSplitter, 7, null);
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        parser.parse(inputStream, new Metadata(), segments::add);
+
+        // then
+        assertThat(segments.size()).isGreaterThan(1);
+        StringBuilder parsedText = new StringBuilder();
+        for (TextSegment segment : segments) {
+            String segmentText = segment.text();
+            assertThat(Character.isLowSurrogate(segmentText.charAt(0))).isFalse();
+            assertThat(Character.isHighSurrogate(segmentText.charAt(segmentText.length() - 1))).isFalse();
+            parsedText.append(segmentText);
+        }
+        assertThat(parsedText.toString()).isEqualTo(text);
+    }
+}
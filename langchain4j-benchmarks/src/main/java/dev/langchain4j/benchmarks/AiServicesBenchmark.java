@@ -0,0 +1,102 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.service.V;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of an AI Service proxy (preparing messages, rendering templates,
+ * building the request and parsing the response) on top of a stub {@link ChatModel} that returns immediately.
+ * The {@code chatModel} benchmark calls the stub model directly and serves as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiServicesBenchmark {
+
+    interface Assistant {
+
+        String chat(String userMessage);
+
+        @SystemMessage("You are a helpful assistant of {{company}}. Answer in {{language}}.")
+        @UserMessage("Answer the following question of {{name}}: {{question}}")
+        String answer(
+                @V("company") String company,
+                @V("language") String language,
+                @V("name") String name,
+                @V("question") String question);
+
+        @UserMessage("Extract the person from the following text: {{it}}")
+        Person extractPerson(String text);
+    }
+
+    record Person(String name, int age) {}
+
+    static class StubChatModel implements ChatModel {
+
+        private static final ChatResponse TEXT_RESPONSE = ChatResponse.builder()
+                .aiMessage(AiMessage.from("The keeper climbed the stairs to light the lamp."))
+                .build();
+
+        private static final ChatResponse JSON_RESPONSE = ChatResponse.builder()
+                .aiMessage(AiMessage.from("{\"name\": \"Klaus\", \"age\": 42}"))
+                .build();
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            return chatRequest.messages().size() == 1
+                            && chatRequest.messages().get(0).toString().contains("Extract")
+                    ? JSON_RESPONSE
+                    : TEXT_RESPONSE;
+        }
+    }
+
+    ChatModel chatModel;
+    Assistant assistant;
+
+    @Setup
+    public void setUp() {
+        chatModel = new StubChatModel();
+        assistant = AiServices.create(Assistant.class, chatModel);
+    }
+
+    @Benchmark
+    public String chatModel() {
+        return chatModel.chat("Why did the keeper climb the stairs every night?");
+    }
+
+    @Benchmark
+    public String simple() {
+        return assistant.chat("Why did the keeper climb the stairs every night?");
+    }
+
+    @Benchmark
+    public String templates() {
+        return assistant.answer("ACME", "English", "Klaus", "Why did the keeper climb the stairs every night?");
+    }
+
+    @Benchmark
+    public Person structuredOutput() {
+        return assistant.extractPerson("Klaus is 42 years old and keeps the lighthouse.");
+    }
+}
@@ -0,0 +1,111 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.retriever.lexical.Bm25Index;
+import dev.langchain4j.rag.content.retriever.lexical.Bm25Match;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Bm25Index#search} for indexes of several sizes, for natural language queries
+ * and for exact identifier (product code) queries, as well as incremental updates of a large index.
+ * <br>
+ * Each segment is a window of {@value #WORDS_PER_SEGMENT} words of the corpus followed by a unique product code.
+ * Indexing a few million segments needs a large heap, e.g. {@code -p size=3000000 -jvmArgs -Xmx8g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Bm25IndexBenchmark {
+
+    private static final int WORDS_PER_SEGMENT = 30;
+    private static final int QUERY_COUNT = 16;
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    @Param({"10"})
+    int maxResults;
+
+    Bm25Index index;
+    String[] keywordQueries;
+    String[] productCodeQueries;
+    int nextQuery;
+    int nextId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Fixtures.SEED);
+        String[] words = Fixtures.corpus(200_000).split("\\s+");
+
+        index = new Bm25Index();
+        int batchSize = 10_000;
+        for (int from = 0; from < size; from += batchSize) {
+            int to = Math.min(from + batchSize, size);
+            List<String> ids = new ArrayList<>(to - from);
+            List<TextSegment> segments = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(String.valueOf(i));
+                segments.add(TextSegment.from(window(words, random, WORDS_PER_SEGMENT) + " " + productCode(i)));
+            }
+            index.addAll(ids, segments);
+        }
+
+        keywordQueries = new String[QUERY_COUNT];
+        productCodeQueries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            keywordQueries[i] = window(words, random, 6);
+            productCodeQueries[i] = "where is " + productCode(random.nextInt(size)) + " in stock?";
+        }
+    }
+
+    private static String window(String[] words, Random random, int length) {
+        int start = random.nextInt(words.length - length);
+        return String.join(" ", List.of(words).subList(start, start + length));
+    }
+
+    private static String productCode(int i) {
+        return "SKU-" + i;
+    }
+
+    @Benchmark
+    public List<Bm25Match> searchKeywords() {
+        return index.search(keywordQueries[nextQuery()], maxResults, 0.0, null);
+    }
+
+    @Benchmark
+    public List<Bm25Match> searchProductCode() {
+        return index.search(productCodeQueries[nextQuery()], maxResults, 0.0, null);
+    }
+
+    @Benchmark
+    public int addAndRemove() {
+        String id = "new-" + nextId++;
+        index.add(id, TextSegment.from(keywordQueries[nextQuery()] + " " + productCode(nextId)));
+        index.remove(id);
+        return index.size();
+    }
+
+    private int nextQuery() {
+        int query = nextQuery;
+        nextQuery = (nextQuery + 1) % QUERY_COUNT;
+        return query;
+    }
+}
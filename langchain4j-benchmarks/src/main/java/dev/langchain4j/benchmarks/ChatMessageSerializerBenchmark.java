@@ -0,0 +1,77 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures (de)serialization of chat histories, as done by persistent chat memory stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageSerializerBenchmark {
+
+    @Param({"10", "100"})
+    int messageCount;
+
+    List<ChatMessage> messages;
+    String json;
+
+    @Setup
+    public void setUp() {
+        String text = Fixtures.corpus(400);
+        messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        for (int i = 1; i < messageCount; i++) {
+            messages.add(message(i, text));
+        }
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    private static ChatMessage message(int i, String text) {
+        return switch (i % 4) {
+            case 1 -> UserMessage.from(text);
+            case 2 -> AiMessage.from(ToolExecutionRequest.builder()
+                    .id("call_" + i)
+                    .name("getWeather")
+                    .arguments("{\"city\":\"Munich\"}")
+                    .build());
+            case 3 -> ToolExecutionResultMessage.from("call_" + (i - 1), "getWeather", "{\"temperature\":21}");
+            default -> AiMessage.from(text);
+        };
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> deserialize() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
@@ -0,0 +1,48 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CosineSimilarity#between(Embedding, Embedding)} for common embedding dimensions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CosineSimilarityBenchmark {
+
+    @Param({"384", "768", "1536", "3072"})
+    int dimension;
+
+    Embedding embeddingA;
+    Embedding embeddingB;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Fixtures.SEED);
+        embeddingA = Fixtures.randomEmbedding(dimension, random);
+        embeddingB = Fixtures.randomEmbedding(dimension, random);
+    }
+
+    @Benchmark
+    public double between() {
+        return CosineSimilarity.between(embeddingA, embeddingB);
+    }
+}
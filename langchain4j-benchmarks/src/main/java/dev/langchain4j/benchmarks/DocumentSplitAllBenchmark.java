@@ -0,0 +1,94 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.splitter.DocumentBySentenceSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link DocumentBySentenceSplitter#splitAll(List, Executor)} on 200 documents
+ * of 10,000 characters each, split into segments of 500 characters (with 50 characters of overlap).
+ * With a {@code parallelism} of 1, {@link DocumentBySentenceSplitter#splitAll(List)} is measured instead.
+ * <br>
+ * Besides the number of {@code splitAll} calls per second, the number of produced segments per second
+ * is reported as the {@code segments} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitAllBenchmark {
+
+    private static final int DOCUMENT_COUNT = 200;
+    private static final int DOCUMENT_SIZE_IN_CHARS = 10_000;
+    private static final int MAX_SEGMENT_SIZE_IN_CHARS = 500;
+    private static final int MAX_OVERLAP_SIZE_IN_CHARS = 50;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    List<Document> documents;
+    DocumentBySentenceSplitter splitter;
+    ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Segments {
+
+        public long segments;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            segments = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        String corpus = Fixtures.corpus(DOCUMENT_COUNT * DOCUMENT_SIZE_IN_CHARS);
+        documents = new ArrayList<>(DOCUMENT_COUNT);
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            documents.add(Document.from(
+                    corpus.substring(i * DOCUMENT_SIZE_IN_CHARS, (i + 1) * DOCUMENT_SIZE_IN_CHARS)));
+        }
+        splitter = new DocumentBySentenceSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+        executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<TextSegment> splitAll(Segments counter) {
+        List<TextSegment> segments =
+                executor != null ? splitter.splitAll(documents, executor) : splitter.splitAll(documents);
+        counter.segments += segments.size();
+        return segments;
+    }
+}
@@ -0,0 +1,68 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentByParagraphSplitter;
+import dev.langchain4j.data.document.splitter.DocumentBySentenceSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting of documents of several sizes into segments of 500 characters (with 50 characters of overlap).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    private static final int MAX_SEGMENT_SIZE_IN_CHARS = 500;
+    private static final int MAX_OVERLAP_SIZE_IN_CHARS = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    int documentSizeInChars;
+
+    Document document;
+    DocumentSplitter paragraphSplitter;
+    DocumentSplitter sentenceSplitter;
+    DocumentSplitter recursiveSplitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(Fixtures.corpus(documentSizeInChars));
+        paragraphSplitter = new DocumentByParagraphSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+        sentenceSplitter = new DocumentBySentenceSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+        recursiveSplitter = DocumentSplitters.recursive(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+    }
+
+    @Benchmark
+    public List<TextSegment> paragraph() {
+        return paragraphSplitter.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> sentence() {
+        return sentenceSplitter.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> recursive() {
+        return recursiveSplitter.split(document);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentByLineSplitter;
+import dev.langchain4j.data.document.splitter.DocumentByParagraphSplitter;
+import dev.langchain4j.data.document.splitter.DocumentByWordSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways the parts of a document are handled by the splitters,
+ * when splitting into segments of 500 characters (with 50 characters of overlap):
+ * <ul>
+ *     <li>{@code offsets}: the built-in splitter, which keeps the parts as offsets into the document text</li>
+ *     <li>{@code strings}: the same splitter, overriding {@code split(String)}, so that every part is a new string</li>
+ * </ul>
+ * Run with {@code -prof gc} to compare the allocated bytes per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterPartsBenchmark {
+
+    private static final int MAX_SEGMENT_SIZE_IN_CHARS = 500;
+    private static final int MAX_OVERLAP_SIZE_IN_CHARS = 50;
+
+    @Param({"100000", "1000000"})
+    int documentSizeInChars;
+
+    @Param({"paragraph", "line", "word"})
+    String splitter;
+
+    Document document;
+    DocumentSplitter offsetsSplitter;
+    DocumentSplitter stringsSplitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(Fixtures.corpus(documentSizeInChars));
+        switch (splitter) {
+            case "paragraph" -> {
+                offsetsSplitter = new DocumentByParagraphSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+                stringsSplitter = new DocumentByParagraphSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS) {
+                    @Override
+                    public String[] split(String text) {
+                        return super.split(text);
+                    }
+                };
+            }
+            case "line" -> {
+                offsetsSplitter = new DocumentByLineSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+                stringsSplitter = new DocumentByLineSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS) {
+                    @Override
+                    public String[] split(String text) {
+                        return super.split(text);
+                    }
+                };
+            }
+            case "word" -> {
+                offsetsSplitter = new DocumentByWordSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS);
+                stringsSplitter = new DocumentByWordSplitter(MAX_SEGMENT_SIZE_IN_CHARS, MAX_OVERLAP_SIZE_IN_CHARS) {
+                    @Override
+                    public String[] split(String text) {
+                        return super.split(text);
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown splitter: " + splitter);
+        }
+    }
+
+    @Benchmark
+    public List<TextSegment> offsets() {
+        return offsetsSplitter.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> strings() {
+        return stringsSplitter.split(document);
+    }
+}
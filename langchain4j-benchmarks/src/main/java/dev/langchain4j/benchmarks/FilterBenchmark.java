@@ -0,0 +1,57 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluation of metadata {@link Filter}s, as done by in-memory embedding stores for every stored entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    Metadata metadata;
+    Filter simpleFilter;
+    Filter compositeFilter;
+
+    @Setup
+    public void setUp() {
+        metadata = new Metadata()
+                .put("category", "lighthouse")
+                .put("author", "keeper")
+                .put("year", 1911)
+                .put("rating", 4.5);
+        simpleFilter = metadataKey("category").isEqualTo("lighthouse");
+        compositeFilter = metadataKey("category")
+                .isIn("lighthouse", "harbour", "coast")
+                .and(metadataKey("year").isBetween(1900, 1950))
+                .and(metadataKey("rating").isGreaterThanOrEqualTo(4.0).or(metadataKey("author").isEqualTo("sailor")));
+    }
+
+    @Benchmark
+    public boolean simple() {
+        return simpleFilter.test(metadata);
+    }
+
+    @Benchmark
+    public boolean composite() {
+        return compositeFilter.test(metadata);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixture data shared by the benchmarks: recorded provider responses (see {@code src/main/resources/fixtures})
+ * and synthetic data of configurable size. All synthetic data is generated with a fixed seed,
+ * so that the results are comparable between runs.
+ */
+final class Fixtures {
+
+    static final long SEED = 42;
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param name the name of the file in the {@code fixtures} directory
+     * @return the content of the fixture
+     */
+    static String load(String name) {
+        try (InputStream inputStream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds a synthetic corpus of (approximately) the given size by repeating the paragraphs of {@code corpus.txt}
+     * in a pseudo-random order, so that the text has natural sentence and paragraph structure.
+     *
+     * @param sizeInChars the desired size of the corpus
+     * @return the corpus
+     */
+    static String corpus(int sizeInChars) {
+        String[] paragraphs = load("corpus.txt").trim().split("\n\n");
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(sizeInChars + 1024);
+        while (sb.length() < sizeInChars) {
+            if (!sb.isEmpty()) {
+                sb.append("\n\n");
+            }
+            sb.append(paragraphs[random.nextInt(paragraphs.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param dimension the dimension of the embedding
+     * @param random    the source of randomness
+     * @return a random normalized embedding
+     */
+    static Embedding randomEmbedding(int dimension, Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        Embedding embedding = Embedding.from(vector);
+        embedding.normalize();
+        return embedding;
+    }
+
+    static List<Embedding> randomEmbeddings(int count, int dimension, Random random) {
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            embeddings.add(randomEmbedding(dimension, random));
+        }
+        return embeddings;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link InMemoryEmbeddingStore#search(EmbeddingSearchRequest)} for stores of several sizes,
+ * with and without a metadata filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryEmbeddingStoreBenchmark {
+
+    private static final int DIMENSION = 384;
+    private static final int QUERY_COUNT = 16;
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"10"})
+    int maxResults;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    Embedding[] queries;
+    int nextQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Fixtures.SEED);
+
+        List<Embedding> embeddings = Fixtures.randomEmbeddings(size, DIMENSION, random);
+        List<TextSegment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Metadata metadata = new Metadata()
+                    .put("category", "category-" + (i % 10))
+                    .put("year", 2000 + (i % 25));
+            segments.add(TextSegment.from("segment " + i, metadata));
+        }
+
+        store = new InMemoryEmbeddingStore<>();
+        store.addAll(embeddings, segments);
+
+        queries = Fixtures.randomEmbeddings(QUERY_COUNT, DIMENSION, random).toArray(new Embedding[0]);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(nextQuery())
+                .maxResults(maxResults)
+                .build());
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchWithFilter() {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(nextQuery())
+                .maxResults(maxResults)
+                .filter(metadataKey("category").isEqualTo("category-3").and(metadataKey("year").isGreaterThan(2010)))
+                .build());
+    }
+
+    private Embedding nextQuery() {
+        Embedding query = queries[nextQuery];
+        nextQuery = (nextQuery + 1) % queries.length;
+        return query;
+    }
+}
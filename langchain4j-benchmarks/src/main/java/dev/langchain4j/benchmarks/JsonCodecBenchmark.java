@@ -0,0 +1,47 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.internal.Json;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures (de)serialization of a recorded chat completion response with the default {@link Json} codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    String json;
+    Map<?, ?> object;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.load("openai-chat-completion.json");
+        object = Json.fromJson(json, Map.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> fromJson() {
+        return Json.fromJson(json, Map.class);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return Json.toJson(object);
+    }
+}
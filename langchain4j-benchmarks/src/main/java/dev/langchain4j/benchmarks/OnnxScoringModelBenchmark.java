@@ -0,0 +1,91 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.onnx.OnnxScoringModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link OnnxScoringModel#scoreAll(List, String)} for a batch of segments
+ * of mixed lengths (from a few words to a few paragraphs), with several batch sizes and numbers of sessions.
+ * With {@code maxBatchSize} = {@value #SEGMENT_COUNT}, all segments are scored in a single inference
+ * and padded to the longest one.
+ * <br>
+ * The model is not bundled, pass the paths of a cross-encoder model and its tokenizer
+ * (e.g. from https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2):
+ * <pre>
+ * java -jar benchmarks.jar OnnxScoringModel -p modelPath=/path/to/model.onnx -p tokenizerPath=/path/to/tokenizer.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OnnxScoringModelBenchmark {
+
+    private static final int SEGMENT_COUNT = 64;
+    private static final String QUERY = "How do transformers handle long documents?";
+
+    @Param({""})
+    String modelPath;
+
+    @Param({""})
+    String tokenizerPath;
+
+    @Param({"64", "16", "4"})
+    int maxBatchSize;
+
+    @Param({"1", "2"})
+    int sessions;
+
+    OnnxScoringModel model;
+    List<TextSegment> segments;
+
+    @Setup
+    public void setUp() {
+        if (modelPath.isBlank() || tokenizerPath.isBlank()) {
+            throw new IllegalStateException(
+                    "Please provide the model and tokenizer with '-p modelPath=...' and '-p tokenizerPath=...'");
+        }
+
+        model = OnnxScoringModel.builder()
+                .pathToModel(modelPath)
+                .pathToTokenizer(tokenizerPath)
+                .maxBatchSize(maxBatchSize)
+                .sessions(sessions)
+                .intraOpThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / sessions))
+                .build();
+
+        String corpus = Fixtures.corpus(200_000);
+        Random random = new Random(Fixtures.SEED);
+        segments = new ArrayList<>(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            // mostly short segments, with a few long ones
+            int length = random.nextInt(10) == 0 ? 1500 + random.nextInt(1000) : 50 + random.nextInt(300);
+            int start = random.nextInt(corpus.length() - length);
+            segments.add(TextSegment.from(corpus.substring(start, start + length)));
+        }
+    }
+
+    @Benchmark
+    public Response<List<Double>> scoreAll() {
+        return model.scoreAll(segments, QUERY);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering of a {@link PromptTemplate}, both with and without parsing the template,
+ * for several sizes of the injected context (as in RAG prompts).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    private static final String TEMPLATE =
+            """
+            You are a helpful assistant of {{company}}.
+            Today is {{current_date}}. The user's name is {{name}}.
+
+            Answer the question using only the following information:
+            {{contents}}
+
+            Question: {{question}}
+            """;
+
+    @Param({"2000", "20000", "200000"})
+    int contentsSizeInChars;
+
+    Map<String, Object> variables;
+    PromptTemplate promptTemplate;
+
+    @Setup
+    public void setUp() {
+        variables = Map.of(
+                "company", "ACME",
+                "name", "Klaus",
+                "contents", Fixtures.corpus(contentsSizeInChars),
+                "question", "Why did the keeper climb the stairs every night?");
+        promptTemplate = PromptTemplate.from(TEMPLATE);
+    }
+
+    @Benchmark
+    public Prompt parseAndRender() {
+        return PromptTemplate.from(TEMPLATE).apply(variables);
+    }
+
+    @Benchmark
+    public Prompt render() {
+        return promptTemplate.apply(variables);
+    }
+}
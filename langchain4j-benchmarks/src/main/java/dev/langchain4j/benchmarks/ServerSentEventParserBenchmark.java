@@ -0,0 +1,62 @@
+package dev.langchain4j.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.io.ByteArrayInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing of recorded streaming responses with the {@link DefaultServerSentEventParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSentEventParserBenchmark {
+
+    @Param({"openai-chat-completion-stream.txt", "anthropic-messages-stream.txt"})
+    String fixture;
+
+    byte[] stream;
+    ServerSentEventParser parser;
+
+    @Setup
+    public void setUp() {
+        stream = Fixtures.load(fixture).getBytes(UTF_8);
+        parser = new DefaultServerSentEventParser();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        parser.parse(new ByteArrayInputStream(stream), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+}
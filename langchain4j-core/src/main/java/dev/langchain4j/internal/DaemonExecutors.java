@@ -0,0 +1,89 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.Internal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors running on daemon threads, so that they never prevent the JVM from exiting.
+ * The threads are named "{namePrefix}-N", where N is a sequence number shared by all threads with the same prefix,
+ * e.g. "langchain4j-retrieval-1".
+ */
+@Internal
+public class DaemonExecutors {
+
+    private static final int DEFAULT_MAX_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static final Map<String, AtomicInteger> THREAD_COUNTERS = new ConcurrentHashMap<>();
+
+    private DaemonExecutors() {}
+
+    /**
+     * Creates a {@link ThreadFactory} of daemon threads named "{namePrefix}-N".
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        ensureNotBlank(namePrefix, "namePrefix");
+        AtomicInteger counter = THREAD_COUNTERS.computeIfAbsent(namePrefix, ignored -> new AtomicInteger());
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates a pool of a fixed number of daemon threads.
+     * The caller owns the pool and is responsible for shutting it down.
+     */
+    public static ExecutorService newFixedPool(String namePrefix, int threads) {
+        ensureGreaterThanZero(threads, "threads");
+        return Executors.newFixedThreadPool(threads, threadFactory(namePrefix));
+    }
+
+    /**
+     * Creates a pool of up to {@code maxThreads} daemon threads, queueing the tasks submitted when all are busy.
+     * Idle threads are stopped after a second, so the pool does not need to be shut down.
+     */
+    public static ExecutorService newBoundedPool(String namePrefix, int maxThreads) {
+        ensureGreaterThanZero(maxThreads, "maxThreads");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads, 1, SECONDS, new LinkedBlockingQueue<>(), threadFactory(namePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates an unbounded pool of daemon threads, reusing the idle ones.
+     */
+    public static ExecutorService newCachedPool(String namePrefix) {
+        return Executors.newCachedThreadPool(threadFactory(namePrefix));
+    }
+
+    /**
+     * Creates a single daemon thread executing delayed tasks.
+     */
+    public static ScheduledExecutorService newSingleThreadScheduledExecutor(String namePrefix) {
+        return Executors.newSingleThreadScheduledExecutor(threadFactory(namePrefix));
+    }
+
+    /**
+     * Creates the executor used by default by components that run blocking calls (e.g., to models or stores)
+     * concurrently: a virtual thread per task executor when running on Java 21+,
+     * or a {@link #newBoundedPool(String, int) bounded pool} of 16 (or 4 per processor, if more) daemon threads otherwise.
+     */
+    public static ExecutorService newDefaultExecutor(String namePrefix) {
+        return createVirtualThreadExecutor(() -> newBoundedPool(namePrefix, DEFAULT_MAX_THREADS));
+    }
+}
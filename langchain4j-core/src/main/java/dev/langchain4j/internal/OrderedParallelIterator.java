@@ -0,0 +1,171 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.Internal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link Iterator} that applies a task to each input on a dedicated pool of daemon threads,
+ * and returns the results in the order of the inputs.
+ * <br>
+ * The inputs are consumed lazily: at most {@code 2 * parallelism} tasks are submitted ahead of the consumer,
+ * so the memory usage is bounded, regardless of the number of inputs.
+ * {@code null} results are skipped.
+ * <br>
+ * When the task or the input iterator throws, the pending tasks are cancelled, the threads are stopped,
+ * and the exception is rethrown to the consumer ({@link RuntimeException}s unchanged, other throwables wrapped).
+ * <br>
+ * The threads are stopped when the iterator is exhausted or {@link #close()}d,
+ * so an iterator that may not be consumed until the end must be closed.
+ * Closing the iterator waits for the running tasks to complete.
+ *
+ * @param <T> the type of the inputs.
+ * @param <R> the type of the results.
+ */
+@Internal
+public class OrderedParallelIterator<T, R> implements Iterator<R>, AutoCloseable {
+
+    private final Iterator<T> inputs;
+    private final Function<T, R> task;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final Deque<Future<R>> inFlight = new ArrayDeque<>();
+    private final List<Runnable> closeHandlers = new ArrayList<>();
+    private R next;
+    private boolean closed;
+
+    /**
+     * @param inputs           the inputs, consumed lazily, on the thread of the consumer.
+     * @param task             the task applied to each input. It is called concurrently, so it must be thread-safe.
+     * @param parallelism      the maximum number of tasks running concurrently.
+     * @param threadNamePrefix the prefix of the names of the threads, e.g. "langchain4j-document-loader".
+     */
+    public OrderedParallelIterator(Iterator<T> inputs, Function<T, R> task, int parallelism, String threadNamePrefix) {
+        this.inputs = ensureNotNull(inputs, "inputs");
+        this.task = ensureNotNull(task, "task");
+        this.maxInFlight = 2 * ensureGreaterThanZero(parallelism, "parallelism");
+        this.executor = DaemonExecutors.newFixedPool(threadNamePrefix, parallelism);
+    }
+
+    /**
+     * Registers a handler that is called once, when the iterator is exhausted or closed,
+     * e.g. to release the resources used by the task.
+     * The handler is called after all the tasks have completed, so no task uses these resources anymore.
+     */
+    public OrderedParallelIterator<T, R> onClose(Runnable closeHandler) {
+        closeHandlers.add(ensureNotNull(closeHandler, "closeHandler"));
+        return this;
+    }
+
+    /**
+     * Returns a sequential, ordered stream of the results, which closes this iterator when closed.
+     */
+    public Stream<R> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (closed) {
+                return false;
+            }
+            submitTasks();
+            Future<R> oldest = inFlight.poll();
+            if (oldest == null) {
+                close();
+                return false;
+            }
+            next = await(oldest);
+        }
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        R result = next;
+        next = null;
+        return result;
+    }
+
+    private void submitTasks() {
+        try {
+            while (inFlight.size() < maxInFlight && inputs.hasNext()) {
+                T input = inputs.next();
+                inFlight.add(executor.submit(() -> task.apply(input)));
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Cancels the pending tasks, interrupts the running ones and stops the threads, waiting for the running tasks
+     * to complete before calling the close handlers. The iterator has no more elements afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        inFlight.forEach(future -> future.cancel(true));
+        inFlight.clear();
+        executor.shutdownNow();
+        awaitTermination();
+        closeHandlers.forEach(Runnable::run);
+    }
+
+    private void awaitTermination() {
+        boolean interrupted = false;
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1, SECONDS);
+            } catch (InterruptedException e) {
+                // the tasks have already been interrupted, they must complete before their resources are released
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.observability.Scope;
+import dev.langchain4j.observability.Span;
+
+import java.util.function.Supplier;
+
+import static dev.langchain4j.observability.SpanNames.CHAT;
+import static dev.langchain4j.observability.SpanNames.INPUT_TOKENS;
+import static dev.langchain4j.observability.SpanNames.OUTPUT_TOKENS;
+
+/**
+ * Utility methods for tracing.
+ */
+@Internal
+public final class TracingUtils {
+
+    private TracingUtils() {
+    }
+
+    /**
+     * Runs the given action within a new child span of the given parent span.
+     * The child span is made current for the duration of the action,
+     * records the exception thrown by the action (if any) and is ended when the action completes.
+     *
+     * @param parent   the parent span.
+     * @param spanName the name of the child span.
+     * @param action   the action to run.
+     * @param <T>      the type of the result.
+     * @return the result of the action.
+     */
+    public static <T> T inChildSpan(Span parent, String spanName, Supplier<T> action) {
+        Span span = parent.startChild(spanName);
+        try (Scope ignored = span.makeCurrent()) {
+            return action.get();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Runs the given action within a new child span of the given parent span.
+     * See {@link #inChildSpan(Span, String, Supplier)}.
+     *
+     * @param parent   the parent span.
+     * @param spanName the name of the child span.
+     * @param action   the action to run.
+     */
+    public static void inChildSpan(Span parent, String spanName, Runnable action) {
+        inChildSpan(parent, spanName, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the LLM within a new {@link dev.langchain4j.observability.SpanNames#CHAT} child span
+     * of the given parent span and records the token usage as span attributes.
+     *
+     * @param parent the parent span.
+     * @param chat   the LLM call.
+     * @return the response of the LLM.
+     */
+    public static ChatResponse chatInChildSpan(Span parent, Supplier<ChatResponse> chat) {
+        return inChildSpan(parent, CHAT, () -> {
+            ChatResponse chatResponse = chat.get();
+            TokenUsage tokenUsage = chatResponse.tokenUsage();
+            if (tokenUsage != null) {
+                Span span = Span.current();
+                if (tokenUsage.inputTokenCount() != null) {
+                    span.setAttribute(INPUT_TOKENS, tokenUsage.inputTokenCount());
+                }
+                if (tokenUsage.outputTokenCount() != null) {
+                    span.setAttribute(OUTPUT_TOKENS, tokenUsage.outputTokenCount());
+                }
+            }
+            return chatResponse;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package dev.langchain4j.model;
+
+/**
+ * A {@link TokenCountEstimator} that can also tokenize a text and tell where each token ends.
+ * <br>
+ * It allows to tokenize a (long) text once and then work with token boundaries,
+ * instead of estimating the token count of many (overlapping) parts of the text,
+ * see {@code DocumentByTokenSplitter}.
+ */
+public interface TokenOffsetEstimator extends TokenCountEstimator {
+
+    /**
+     * Tokenizes the given text and returns the end offset of each token.
+     * <br>
+     * The offsets are {@code char} indices into the text: token {@code i} spans
+     * from {@code offsets[i - 1]} (or {@code 0} for the first token) to {@code offsets[i]} (exclusive).
+     * The offsets are in ascending order, and the last offset is equal to {@code text.length()}.
+     * They are not necessarily strictly ascending: a character encoded by several tokens
+     * is attributed to the last of them.
+     * The number of offsets is the number of tokens, as returned by {@link #estimateTokenCountInText(String)}.
+     *
+     * @param text the text.
+     * @return the end offsets of the tokens.
+     */
+    int[] estimateTokenEndOffsetsInText(String text);
+}
@@ -4,6 +4,7 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelPartialResponseContext;
 import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
 import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -40,6 +41,26 @@ class ChatModelListenerUtils {
         });
     }
 
+    static void onPartialResponse(String partialResponse,
+                                  ChatRequest chatRequest,
+                                  ModelProvider modelProvider,
+                                  Map<Object, Object> attributes,
+                                  List<ChatModelListener> listeners) {
+        if (listeners == null || listeners.isEmpty()) {
+            return;
+        }
+        ChatModelPartialResponseContext partialResponseContext = new ChatModelPartialResponseContext(
+                partialResponse, chatRequest, modelProvider, attributes);
+        listeners.forEach(listener -> {
+            try {
+                listener.onPartialResponse(partialResponseContext);
+            } catch (Exception e) {
+                LOG.warn("An exception occurred during the invocation of the chat model listener. " +
+                        "This exception has been ignored.", e);
+            }
+        });
+    }
+
     static void onResponse(ChatResponse chatResponse,
                            ChatRequest chatRequest,
                            ModelProvider modelProvider,
@@ -46,6 +46,7 @@ public interface StreamingChatModel {
 
             @Override
             public void onPartialResponse(String partialResponse) {
+                ChatModelListenerUtils.onPartialResponse(partialResponse, finalChatRequest, provider(), attributes, listeners);
                 handler.onPartialResponse(partialResponse);
             }
 
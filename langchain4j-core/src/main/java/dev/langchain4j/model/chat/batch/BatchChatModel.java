@@ -0,0 +1,58 @@
+package dev.langchain4j.model.chat.batch;
+
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents a model that processes many {@link BatchChatRequest}s asynchronously, as a single batch,
+ * using the batch API of the LLM provider (e.g. OpenAI Batch API).
+ * <br>
+ * Batch APIs are intended for throughput-oriented workloads (e.g. offline classification or extraction)
+ * that do not need an immediate response: they are usually cheaper than the interactive API
+ * and have separate rate limits, but the results can take up to several hours to become available.
+ * <br>
+ * Unlike {@link ChatModel}, this model does not block until the responses are available:
+ * the batch is {@link #submit(List) submitted}, its status is {@link #retrieve(String) polled}
+ * and, once it is {@link BatchJobStatus#isTerminal() terminal}, its {@link #results(BatchJob) results} are fetched.
+ */
+public interface BatchChatModel {
+
+    /**
+     * Submits the requests as a single batch.
+     *
+     * @param requests the requests. Their IDs must be unique within the batch.
+     * @return the submitted batch.
+     */
+    BatchJob submit(List<BatchChatRequest> requests);
+
+    /**
+     * Retrieves the current state of a previously submitted batch.
+     *
+     * @param batchJobId the ID of the batch.
+     * @return the batch.
+     */
+    BatchJob retrieve(String batchJobId);
+
+    /**
+     * Fetches the results of a batch in a {@link BatchJobStatus#isTerminal() terminal} state.
+     * Requests that were not processed (e.g. because the batch has {@link BatchJobStatus#EXPIRED})
+     * might have no result.
+     *
+     * @param batchJob the batch.
+     * @return the results, in no particular order.
+     */
+    List<BatchChatResult> results(BatchJob batchJob);
+
+    /**
+     * @return the maximum number of requests in a single batch.
+     */
+    default int maxBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    default Set<Capability> supportedCapabilities() {
+        return Set.of();
+    }
+}
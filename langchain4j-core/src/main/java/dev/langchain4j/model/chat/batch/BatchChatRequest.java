@@ -0,0 +1,53 @@
+package dev.langchain4j.model.chat.batch;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.chat.request.ChatRequest;
+import java.util.Objects;
+
+/**
+ * A single {@link ChatRequest} that is part of a batch submitted to a {@link BatchChatModel}.
+ * The {@link #id()} must be unique within the batch and is used to correlate
+ * the {@link BatchChatResult} with this request.
+ */
+public class BatchChatRequest {
+
+    private final String id;
+    private final ChatRequest chatRequest;
+
+    public BatchChatRequest(String id, ChatRequest chatRequest) {
+        this.id = ensureNotBlank(id, "id");
+        this.chatRequest = ensureNotNull(chatRequest, "chatRequest");
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public ChatRequest chatRequest() {
+        return chatRequest;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchChatRequest that = (BatchChatRequest) o;
+        return Objects.equals(this.id, that.id) && Objects.equals(this.chatRequest, that.chatRequest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, chatRequest);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchChatRequest {" + " id = " + id + ", chatRequest = " + chatRequest + " }";
+    }
+
+    public static BatchChatRequest from(String id, ChatRequest chatRequest) {
+        return new BatchChatRequest(id, chatRequest);
+    }
+}
@@ -0,0 +1,77 @@
+package dev.langchain4j.model.chat.batch;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.Objects;
+
+/**
+ * The result of a single {@link BatchChatRequest}.
+ * Contains either a {@link ChatResponse} or an error message, if the request failed.
+ */
+public class BatchChatResult {
+
+    private final String id;
+    private final ChatResponse chatResponse;
+    private final String errorMessage;
+
+    private BatchChatResult(String id, ChatResponse chatResponse, String errorMessage) {
+        this.id = ensureNotBlank(id, "id");
+        this.chatResponse = chatResponse;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * @return the ID of the {@link BatchChatRequest} this result belongs to.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return the response, or {@code null} if the request failed.
+     */
+    public ChatResponse chatResponse() {
+        return chatResponse;
+    }
+
+    /**
+     * @return the reason of the failure, or {@code null} if the request succeeded.
+     */
+    public String errorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isSuccessful() {
+        return chatResponse != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchChatResult that = (BatchChatResult) o;
+        return Objects.equals(this.id, that.id)
+                && Objects.equals(this.chatResponse, that.chatResponse)
+                && Objects.equals(this.errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, chatResponse, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchChatResult {" + " id = " + id + ", chatResponse = " + chatResponse + ", errorMessage = "
+                + errorMessage + " }";
+    }
+
+    public static BatchChatResult success(String id, ChatResponse chatResponse) {
+        return new BatchChatResult(id, chatResponse, null);
+    }
+
+    public static BatchChatResult failure(String id, String errorMessage) {
+        return new BatchChatResult(id, null, errorMessage);
+    }
+}
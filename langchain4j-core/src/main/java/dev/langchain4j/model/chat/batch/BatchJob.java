@@ -0,0 +1,64 @@
+package dev.langchain4j.model.chat.batch;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.Objects;
+
+/**
+ * A batch of {@link BatchChatRequest}s submitted to a {@link BatchChatModel}.
+ */
+public class BatchJob {
+
+    private final String id;
+    private final BatchJobStatus status;
+    private final String errorMessage;
+
+    public BatchJob(String id, BatchJobStatus status) {
+        this(id, status, null);
+    }
+
+    public BatchJob(String id, BatchJobStatus status, String errorMessage) {
+        this.id = ensureNotBlank(id, "id");
+        this.status = ensureNotNull(status, "status");
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * @return the provider-specific ID of the batch.
+     */
+    public String id() {
+        return id;
+    }
+
+    public BatchJobStatus status() {
+        return status;
+    }
+
+    /**
+     * @return the reason why the batch has {@link BatchJobStatus#FAILED}, if provided.
+     */
+    public String errorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchJob that = (BatchJob) o;
+        return Objects.equals(this.id, that.id)
+                && this.status == that.status
+                && Objects.equals(this.errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchJob {" + " id = " + id + ", status = " + status + ", errorMessage = " + errorMessage + " }";
+    }
+}
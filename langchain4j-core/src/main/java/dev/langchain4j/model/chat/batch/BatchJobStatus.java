@@ -0,0 +1,38 @@
+package dev.langchain4j.model.chat.batch;
+
+/**
+ * The status of a {@link BatchJob}.
+ */
+public enum BatchJobStatus {
+
+    /**
+     * The batch is being validated, queued or processed.
+     */
+    IN_PROGRESS,
+    /**
+     * All requests of the batch have been processed. Some of them might have failed,
+     * see {@link BatchChatResult#isSuccessful()}.
+     */
+    COMPLETED,
+    /**
+     * The batch could not be processed (e.g. it did not pass validation).
+     */
+    FAILED,
+    /**
+     * The batch was not completed within the completion window.
+     * Results of the requests that were processed are still available.
+     */
+    EXPIRED,
+    /**
+     * The batch was cancelled.
+     * Results of the requests that were processed are still available.
+     */
+    CANCELLED;
+
+    /**
+     * @return {@code true} if the status will not change anymore.
+     */
+    public boolean isTerminal() {
+        return this != IN_PROGRESS;
+    }
+}
@@ -20,6 +20,21 @@ public interface ChatModelListener {
 
     }
 
+    /**
+     * This method is called every time a {@link dev.langchain4j.model.chat.StreamingChatModel}
+     * streams a partial response (usually a single token).
+     * It is called on the hot path, so implementations should be cheap.
+     *
+     * @param partialResponseContext The partial response context.
+     *                               It contains the partial response, corresponding {@link ChatRequest}
+     *                               and attributes.
+     *                               The attributes can be used to pass data between methods of this listener
+     *                               or between multiple listeners.
+     */
+    default void onPartialResponse(ChatModelPartialResponseContext partialResponseContext) {
+
+    }
+
     /**
      * This method is called after the response is received from the model.
      *
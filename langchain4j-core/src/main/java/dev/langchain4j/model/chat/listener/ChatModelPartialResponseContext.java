@@ -0,0 +1,57 @@
+package dev.langchain4j.model.chat.listener;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+
+import java.util.Map;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * The chat partial response context.
+ * It contains a partial response streamed by a {@link StreamingChatModel},
+ * corresponding {@link ChatRequest}, {@link ModelProvider} and attributes.
+ * The attributes can be used to pass data between methods of a {@link ChatModelListener}
+ * or between multiple {@link ChatModelListener}s.
+ */
+public class ChatModelPartialResponseContext {
+
+    private final String partialResponse;
+    private final ChatRequest chatRequest;
+    private final ModelProvider modelProvider;
+    private final Map<Object, Object> attributes;
+
+    public ChatModelPartialResponseContext(String partialResponse,
+                                           ChatRequest chatRequest,
+                                           ModelProvider modelProvider,
+                                           Map<Object, Object> attributes) {
+        this.partialResponse = ensureNotNull(partialResponse, "partialResponse");
+        this.chatRequest = ensureNotNull(chatRequest, "chatRequest");
+        this.modelProvider = modelProvider;
+        this.attributes = ensureNotNull(attributes, "attributes");
+    }
+
+    /**
+     * @return The partial response (usually a single token).
+     */
+    public String partialResponse() {
+        return partialResponse;
+    }
+
+    public ChatRequest chatRequest() {
+        return chatRequest;
+    }
+
+    public ModelProvider modelProvider() {
+        return modelProvider;
+    }
+
+    /**
+     * @return The attributes map. It can be used to pass data between methods of a {@link ChatModelListener}
+     * or between multiple {@link ChatModelListener}s.
+     */
+    public Map<Object, Object> attributes() {
+        return attributes;
+    }
+}
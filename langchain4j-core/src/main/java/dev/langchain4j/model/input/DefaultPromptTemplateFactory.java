@@ -5,20 +5,99 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Internal
 class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
+    /**
+     * The maximum total length (in characters) of the compiled templates kept in the cache.
+     * Templates can be created from arbitrary text (e.g. a user message passed into an AI Service),
+     * so the least recently used templates are evicted once this limit is reached.
+     */
+    static final int MAX_CACHED_TEMPLATES_LENGTH = 1_000_000;
+
+    /**
+     * Templates longer than this are not cached: they are usually one-off texts (e.g. RAG-augmented prompts)
+     * and would evict many reusable templates.
+     */
+    static final int MAX_CACHED_TEMPLATE_LENGTH = 10_000;
+
+    private static final TemplateCache CACHE =
+            new TemplateCache(MAX_CACHED_TEMPLATES_LENGTH, MAX_CACHED_TEMPLATE_LENGTH);
+
     @Override
     public DefaultTemplate create(PromptTemplateFactory.Input input) {
-        return new DefaultTemplate(input.getTemplate());
+        String template = ensureNotBlank(input.getTemplate(), "template");
+        return CACHE.getOrCompile(template);
     }
 
+    /**
+     * A least recently used cache of compiled templates, bounded by the total length of the templates.
+     */
+    static class TemplateCache {
+
+        private final int maxTotalLength;
+        private final int maxTemplateLength;
+        private final LinkedHashMap<String, DefaultTemplate> templates = new LinkedHashMap<>(16, 0.75f, true);
+        private long totalLength;
+
+        TemplateCache(int maxTotalLength, int maxTemplateLength) {
+            this.maxTotalLength = maxTotalLength;
+            this.maxTemplateLength = Math.min(maxTemplateLength, maxTotalLength);
+        }
+
+        DefaultTemplate getOrCompile(String template) {
+            if (template.length() > maxTemplateLength) {
+                return new DefaultTemplate(template);
+            }
+            synchronized (this) {
+                DefaultTemplate compiled = templates.get(template);
+                if (compiled != null) {
+                    return compiled;
+                }
+            }
+            // compiled outside the lock, a concurrent compilation of the same template is harmless
+            DefaultTemplate compiled = new DefaultTemplate(template);
+            synchronized (this) {
+                if (templates.putIfAbsent(template, compiled) == null) {
+                    totalLength += template.length();
+                    Iterator<Map.Entry<String, DefaultTemplate>> eldest = templates.entrySet().iterator();
+                    while (totalLength > maxTotalLength) {
+                        totalLength -= eldest.next().getKey().length();
+                        eldest.remove();
+                    }
+                }
+            }
+            return compiled;
+        }
+
+        synchronized int size() {
+            return templates.size();
+        }
+
+        synchronized long totalLength() {
+            return totalLength;
+        }
+
+        synchronized boolean contains(String template) {
+            return templates.containsKey(template);
+        }
+    }
+
+    /**
+     * A template compiled into a sequence of literal and variable segments.
+     * It is immutable and can be safely shared between threads.
+     * <br>
+     * The template is rendered in a single pass, so the values of the variables
+     * are never interpreted as a part of the template (e.g. a value containing {@code {{name}}} is inserted as is).
+     */
     static class DefaultTemplate implements Template {
 
         /**
@@ -33,50 +112,77 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*(.+?)\\s*\\}\\}");
 
         private final String template;
-        private final Set<String> allVariables;
+        /**
+         * Literal segments, {@code literals[i]} precedes the variable {@code variables[variableIndexes[i]]}.
+         * The last literal follows the last variable.
+         */
+        private final String[] literals;
+        private final int[] variableIndexes;
+        /**
+         * Distinct names of all variables, in the order of their first appearance in the template.
+         */
+        private final String[] variables;
+        private final int literalsLength;
 
         public DefaultTemplate(String template) {
             this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<Integer> variableIndexes = new ArrayList<>();
+            Map<String, Integer> variables = new LinkedHashMap<>();
+            int literalsLength = 0;
+
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int literalStart = 0;
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                String literal = template.substring(literalStart, matcher.start());
+                literals.add(literal);
+                literalsLength += literal.length();
+                variableIndexes.add(variables.computeIfAbsent(matcher.group(1), name -> variables.size()));
+                literalStart = matcher.end();
             }
-            return variables;
+            String lastLiteral = template.substring(literalStart);
+            literals.add(lastLiteral);
+            literalsLength += lastLiteral.length();
+
+            this.literals = literals.toArray(new String[0]);
+            this.variableIndexes = variableIndexes.stream().mapToInt(Integer::intValue).toArray();
+            this.variables = variables.keySet().toArray(new String[0]);
+            this.literalsLength = literalsLength;
         }
 
         public String render(Map<String, Object> variables) {
-            ensureAllVariablesProvided(variables);
-
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            if (this.variables.length == 0) {
+                return template;
             }
 
-            return result;
-        }
+            Object[] values = new Object[this.variables.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = variables.get(this.variables[i]);
+                if (values[i] == null && !variables.containsKey(this.variables[i])) {
+                    throw illegalArgument("Value for the variable '%s' is missing", this.variables[i]);
+                }
+            }
 
-        private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
-            for (String variable : allVariables) {
-                if (!providedVariables.containsKey(variable)) {
-                    throw illegalArgument("Value for the variable '%s' is missing", variable);
+            String[] strings = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                strings[i] = values[i] == null ? null : values[i].toString();
+                if (strings[i] == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", this.variables[i]);
                 }
             }
-        }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+            int length = literalsLength;
+            for (int variableIndex : variableIndexes) {
+                length += strings[variableIndex].length();
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
 
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < variableIndexes.length; i++) {
+                sb.append(literals[i]).append(strings[variableIndexes[i]]);
+            }
+            sb.append(literals[literals.length - 1]);
+            return sb.toString();
         }
     }
 }
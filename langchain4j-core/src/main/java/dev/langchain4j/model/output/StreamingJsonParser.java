@@ -0,0 +1,267 @@
+package dev.langchain4j.model.output;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.internal.Json;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Parses a JSON document incrementally, while it is being streamed by the LLM
+ * (e.g. from {@link StreamingChatResponseHandler#onPartialResponse(String)}),
+ * and notifies the {@link Listener} as soon as a part of the document is complete:
+ * <br>
+ * - each field of the root JSON object, as soon as its value is closed
+ * (see {@link Listener#onField(String, String)}),
+ * <br>
+ * - each element of the root JSON array or of an array that is a value of a field of the root object,
+ * as soon as the element is closed (see {@link Listener#onArrayElement(String, int, String)}),
+ * <br>
+ * - the whole document, once the root object or array is closed (see {@link Listener#onComplete(String)}).
+ * <br>
+ * <br>
+ * This allows starting downstream work (e.g. rendering or processing the first extracted items)
+ * while the LLM is still generating the rest of the structured output.
+ * <br>
+ * <br>
+ * Any text before the root JSON object or array (e.g. the opening of a Markdown code block)
+ * and after it is ignored. Each character is inspected only once, so the total parsing cost is linear
+ * in the length of the document, regardless of how it is split into partial responses.
+ * <br>
+ * <br>
+ * Example:
+ * <pre>
+ * StreamingJsonParser parser = new StreamingJsonParser(
+ *         StreamingJsonParser.Listener.arrayElements(Item.class, item -&gt; process(item)));
+ *
+ * model.chat(chatRequest, new StreamingChatResponseHandler() {
+ *
+ *     public void onPartialResponse(String partialResponse) {
+ *         parser.feed(partialResponse);
+ *     }
+ *     ...
+ * });
+ * </pre>
+ * This class is not thread-safe, partial responses of a single response must be fed sequentially.
+ */
+public class StreamingJsonParser {
+
+    /**
+     * Receives notifications about the completed parts of a streamed JSON document.
+     * All values are passed as raw JSON text, e.g. {@code "Klaus"} (including the quotes), {@code 42} or {@code {"a":1}}.
+     */
+    public interface Listener {
+
+        /**
+         * Called when the value of a field of the root JSON object is complete.
+         *
+         * @param name      the name of the field.
+         * @param valueJson the value of the field, as JSON.
+         */
+        default void onField(String name, String valueJson) {}
+
+        /**
+         * Called when an element of the root JSON array, or of an array that is a value of
+         * a field of the root JSON object, is complete.
+         *
+         * @param fieldName   the name of the field of the root object containing the array,
+         *                    or {@code null} if the array is the root of the document.
+         * @param index       the index of the element in the array.
+         * @param elementJson the element, as JSON.
+         */
+        default void onArrayElement(String fieldName, int index, String elementJson) {}
+
+        /**
+         * Called when the root JSON object or array is complete.
+         *
+         * @param json the whole JSON document.
+         */
+        default void onComplete(String json) {}
+
+        /**
+         * Creates a listener that deserializes each completed array element
+         * (see {@link #onArrayElement(String, int, String)}) into the given type.
+         *
+         * @param elementType     the type of the elements.
+         * @param elementConsumer the consumer of the deserialized elements.
+         * @param <T>             the type of the elements.
+         * @return the listener.
+         */
+        static <T> Listener arrayElements(Class<T> elementType, Consumer<T> elementConsumer) {
+            ensureNotNull(elementType, "elementType");
+            ensureNotNull(elementConsumer, "elementConsumer");
+            return new Listener() {
+
+                @Override
+                public void onArrayElement(String fieldName, int index, String elementJson) {
+                    elementConsumer.accept(Json.fromJson(elementJson, elementType));
+                }
+            };
+        }
+
+        /**
+         * Creates a listener that is notified about each completed field of the root JSON object
+         * (see {@link #onField(String, String)}).
+         *
+         * @param fieldConsumer the consumer of the field names and their values (as JSON).
+         * @return the listener.
+         */
+        static Listener fields(BiConsumer<String, String> fieldConsumer) {
+            ensureNotNull(fieldConsumer, "fieldConsumer");
+            return new Listener() {
+
+                @Override
+                public void onField(String name, String valueJson) {
+                    fieldConsumer.accept(name, valueJson);
+                }
+            };
+        }
+    }
+
+    private final Listener listener;
+    private final StringBuilder json = new StringBuilder();
+
+    private Frame current;
+    private boolean completed;
+
+    private boolean inString;
+    private boolean escaped;
+    private boolean stringIsKey;
+    private int stringStart;
+
+    private boolean inPrimitive;
+    private int primitiveStart;
+
+    public StreamingJsonParser(Listener listener) {
+        this.listener = ensureNotNull(listener, "listener");
+    }
+
+    /**
+     * Feeds the next part of the JSON document.
+     *
+     * @param partialJson the next part of the document (e.g. a partial response of the LLM).
+     */
+    public void feed(String partialJson) {
+        if (partialJson == null) {
+            return;
+        }
+        for (int i = 0; i < partialJson.length() && !completed; i++) {
+            char c = partialJson.charAt(i);
+            if (current != null) {
+                json.append(c);
+            }
+            process(c);
+        }
+    }
+
+    /**
+     * @return {@code true} if the root JSON object or array has been closed.
+     */
+    public boolean isComplete() {
+        return completed;
+    }
+
+    private void process(char c) {
+        int position = json.length() - 1;
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                if (stringIsKey) {
+                    current.key = decodeKey(stringStart, position + 1);
+                } else {
+                    onValue(stringStart, position + 1);
+                }
+            }
+            return;
+        }
+
+        if (inPrimitive) {
+            if (c != ',' && c != '}' && c != ']' && !Character.isWhitespace(c)) {
+                return;
+            }
+            inPrimitive = false;
+            onValue(primitiveStart, position);
+        }
+
+        if (current == null) {
+            if (c == '{' || c == '[') {
+                json.append(c);
+                current = new Frame(c == '{', null, 0);
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                stringStart = position;
+                stringIsKey = current.object && current.expectingKey;
+            }
+            case '{', '[' -> current = new Frame(c == '{', current, position);
+            case '}', ']' -> {
+                Frame closed = current;
+                current = closed.parent;
+                if (current == null) {
+                    completed = true;
+                    listener.onComplete(json.toString());
+                } else {
+                    onValue(closed.start, position + 1);
+                }
+            }
+            case ':' -> current.expectingKey = false;
+            case ',' -> current.expectingKey = current.object;
+            default -> {
+                if (!Character.isWhitespace(c)) {
+                    inPrimitive = true;
+                    primitiveStart = position;
+                }
+            }
+        }
+    }
+
+    private void onValue(int start, int end) {
+        Frame frame = current;
+        if (frame.parent == null) {
+            if (frame.object) {
+                listener.onField(frame.key, json.substring(start, end));
+            } else {
+                listener.onArrayElement(null, frame.index, json.substring(start, end));
+            }
+        } else if (!frame.object && frame.parent.parent == null && frame.parent.object) {
+            listener.onArrayElement(frame.parent.key, frame.index, json.substring(start, end));
+        }
+        frame.index++;
+    }
+
+    private String decodeKey(int start, int end) {
+        for (int i = start + 1; i < end - 1; i++) {
+            if (json.charAt(i) == '\\') {
+                return Json.fromJson(json.substring(start, end), String.class);
+            }
+        }
+        return json.substring(start + 1, end - 1);
+    }
+
+    private static class Frame {
+
+        private final boolean object;
+        private final Frame parent;
+        private final int start;
+        private boolean expectingKey;
+        private String key;
+        private int index;
+
+        private Frame(boolean object, Frame parent, int start) {
+            this.object = object;
+            this.parent = parent;
+            this.start = start;
+            this.expectingKey = object;
+        }
+    }
+}
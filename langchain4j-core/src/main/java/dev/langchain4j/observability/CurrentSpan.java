@@ -0,0 +1,29 @@
+package dev.langchain4j.observability;
+
+/**
+ * Holds the current {@link Span} of each thread.
+ */
+class CurrentSpan {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private CurrentSpan() {
+    }
+
+    static Span get() {
+        Span span = CURRENT.get();
+        return span == null ? NoOpTracer.NOOP_SPAN : span;
+    }
+
+    static Scope set(Span span) {
+        Span previous = CURRENT.get();
+        CURRENT.set(span);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+}
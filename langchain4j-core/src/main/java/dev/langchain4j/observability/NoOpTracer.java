@@ -0,0 +1,57 @@
+package dev.langchain4j.observability;
+
+/**
+ * A {@link Tracer} that does nothing. It always returns the same no-op {@link Span},
+ * so that tracing does not allocate anything when it is disabled.
+ */
+class NoOpTracer implements Tracer {
+
+    static final NoOpTracer INSTANCE = new NoOpTracer();
+
+    private static final Scope NOOP_SCOPE = () -> {
+    };
+
+    static final Span NOOP_SPAN = new Span() {
+
+        @Override
+        public Span setAttribute(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+        }
+
+        @Override
+        public Span startChild(String name) {
+            return this;
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @Override
+        public Scope makeCurrent() {
+            return NOOP_SCOPE;
+        }
+
+        @Override
+        public String toString() {
+            return "NoOpSpan";
+        }
+    };
+
+    private NoOpTracer() {
+    }
+
+    @Override
+    public Span startSpan(String name) {
+        return NOOP_SPAN;
+    }
+}
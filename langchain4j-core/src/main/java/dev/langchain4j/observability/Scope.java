@@ -0,0 +1,10 @@
+package dev.langchain4j.observability;
+
+/**
+ * Restores the previously current {@link Span} when closed. See {@link Span#makeCurrent()}.
+ */
+public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,81 @@
+package dev.langchain4j.observability;
+
+/**
+ * A span represents a single timed operation (e.g. an LLM call or a tool execution)
+ * within an AI Service invocation. Spans form a tree: child spans are started with {@link #startChild(String)}.
+ * <br>
+ * <br>
+ * A span can be made "current" for the calling thread with {@link #makeCurrent()},
+ * so that components that do not have access to the span (e.g. a {@code RetrievalAugmentor})
+ * can attach their child spans to it via {@link #current()}.
+ * When work is handed over to another thread, the parent span should be captured
+ * on the calling thread and passed explicitly.
+ *
+ * @see Tracer
+ */
+public interface Span {
+
+    /**
+     * Sets an attribute on this span.
+     *
+     * @param key   the attribute key.
+     * @param value the attribute value.
+     * @return this span.
+     */
+    Span setAttribute(String key, String value);
+
+    /**
+     * Sets an attribute on this span.
+     *
+     * @param key   the attribute key.
+     * @param value the attribute value.
+     * @return this span.
+     */
+    Span setAttribute(String key, long value);
+
+    /**
+     * Records an exception that happened during the operation and marks this span as failed.
+     *
+     * @param exception the exception.
+     */
+    void recordException(Throwable exception);
+
+    /**
+     * Starts a new span that is a child of this span.
+     *
+     * @param name the name of the child span.
+     * @return the started child span. It must be ended with {@link #end()}.
+     */
+    Span startChild(String name);
+
+    /**
+     * Ends this span. Calling any other method after this one has no effect.
+     */
+    void end();
+
+    /**
+     * Makes this span the current span of the calling thread, until the returned {@link Scope} is closed.
+     * Implementations that bridge to another tracing library can override this method
+     * to also make the wrapped span current (e.g. {@code io.opentelemetry.api.trace.Span#makeCurrent()}),
+     * in which case they should close both scopes.
+     *
+     * @return the scope that must be closed on the same thread to restore the previously current span.
+     */
+    default Scope makeCurrent() {
+        return CurrentSpan.set(this);
+    }
+
+    /**
+     * @return the current span of the calling thread, or a no-op span if there is none.
+     */
+    static Span current() {
+        return CurrentSpan.get();
+    }
+
+    /**
+     * @return a span that does nothing.
+     */
+    static Span noop() {
+        return NoOpTracer.NOOP_SPAN;
+    }
+}
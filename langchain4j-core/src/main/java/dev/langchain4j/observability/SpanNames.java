@@ -0,0 +1,103 @@
+package dev.langchain4j.observability;
+
+/**
+ * Names of the {@link Span}s and their attributes reported during an AI Service invocation.
+ */
+public final class SpanNames {
+
+    private SpanNames() {
+    }
+
+    /**
+     * The root span, covering the whole invocation of an AI Service method.
+     * For streaming methods, it ends when the {@code TokenStream} is returned.
+     * Attributes: {@link #AI_SERVICE_CLASS}, {@link #AI_SERVICE_METHOD}.
+     */
+    public static final String AI_SERVICE_INVOKE = "ai_service.invoke";
+
+    /**
+     * Rendering of the system and user message templates.
+     */
+    public static final String PROMPT_TEMPLATE_RENDER = "prompt_template.render";
+
+    /**
+     * Loading the chat memory (and its messages).
+     */
+    public static final String CHAT_MEMORY_LOAD = "chat_memory.load";
+
+    /**
+     * Storing the system and user messages in the chat memory.
+     */
+    public static final String CHAT_MEMORY_STORE = "chat_memory.store";
+
+    /**
+     * {@code RetrievalAugmentor.augment()}. The default retrieval augmentor reports nested spans:
+     * {@link #QUERY_TRANSFORMER_TRANSFORM}, {@link #QUERY_ROUTER_ROUTE}, {@link #CONTENT_RETRIEVER_RETRIEVE},
+     * {@link #CONTENT_AGGREGATOR_AGGREGATE} and {@link #CONTENT_INJECTOR_INJECT}.
+     */
+    public static final String RETRIEVAL_AUGMENTOR_AUGMENT = "retrieval_augmentor.augment";
+
+    public static final String QUERY_TRANSFORMER_TRANSFORM = "query_transformer.transform";
+
+    public static final String QUERY_ROUTER_ROUTE = "query_router.route";
+
+    /**
+     * A single {@code ContentRetriever.retrieve()} call.
+     * Attributes: {@link #CONTENT_RETRIEVER}, {@link #CONTENT_COUNT}.
+     */
+    public static final String CONTENT_RETRIEVER_RETRIEVE = "content_retriever.retrieve";
+
+    public static final String CONTENT_AGGREGATOR_AGGREGATE = "content_aggregator.aggregate";
+
+    /**
+     * Re-ranking of the retrieved contents with a {@code ScoringModel}, nested in {@link #CONTENT_AGGREGATOR_AGGREGATE}.
+     * Attributes: {@link #CONTENT_COUNT}.
+     */
+    public static final String RE_RANK = "re_rank";
+
+    /**
+     * {@code ContentInjector.inject()}. When the default content injector packs the contents into a token budget,
+     * it reports the attributes {@link #CONTENT_COUNT} and {@link #CONTENT_TOKENS} of the injected contents.
+     */
+    public static final String CONTENT_INJECTOR_INJECT = "content_injector.inject";
+
+    /**
+     * Execution of the input guardrails.
+     */
+    public static final String INPUT_GUARDRAILS = "input_guardrails";
+
+    /**
+     * The moderation call. It runs on another thread, in parallel with the first LLM call.
+     */
+    public static final String MODERATION = "moderation";
+
+    /**
+     * A single LLM call. There is one such span for the initial call and one for each round of tool executions.
+     * Attributes: {@link #INPUT_TOKENS}, {@link #OUTPUT_TOKENS} (when reported by the model).
+     */
+    public static final String CHAT = "chat";
+
+    /**
+     * A single tool execution. Attributes: {@link #TOOL_NAME}.
+     */
+    public static final String EXECUTE_TOOL = "execute_tool";
+
+    /**
+     * Execution of the output guardrails (including the LLM calls made to reprompt or retry, if any).
+     */
+    public static final String OUTPUT_GUARDRAILS = "output_guardrails";
+
+    /**
+     * Parsing the LLM response into the return type of the AI Service method.
+     */
+    public static final String OUTPUT_PARSER_PARSE = "output_parser.parse";
+
+    public static final String AI_SERVICE_CLASS = "ai_service.class";
+    public static final String AI_SERVICE_METHOD = "ai_service.method";
+    public static final String CONTENT_RETRIEVER = "content_retriever";
+    public static final String CONTENT_COUNT = "content.count";
+    public static final String CONTENT_TOKENS = "content.tokens";
+    public static final String INPUT_TOKENS = "gen_ai.usage.input_tokens";
+    public static final String OUTPUT_TOKENS = "gen_ai.usage.output_tokens";
+    public static final String TOOL_NAME = "gen_ai.tool.name";
+}
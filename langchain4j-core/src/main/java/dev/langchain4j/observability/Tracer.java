@@ -0,0 +1,39 @@
+package dev.langchain4j.observability;
+
+/**
+ * A tracer that creates {@link Span}s describing where the time of an AI Service invocation is spent.
+ * <br>
+ * <br>
+ * For each invocation, a root span (see {@link SpanNames#AI_SERVICE_INVOKE}) is started with {@link #startSpan(String)}
+ * and a child span is started (with {@link Span#startChild(String)}) for each phase of the invocation:
+ * prompt template rendering, retrieval augmentation (with nested spans for query transformation,
+ * routing, each content retriever, aggregation and injection), chat memory access, moderation,
+ * each LLM call, each tool execution, guardrails and output parsing.
+ * See {@link SpanNames} for the full list of spans.
+ * <br>
+ * <br>
+ * The API mirrors the OpenTelemetry tracing API, so that an adapter is a thin wrapper
+ * around {@code io.opentelemetry.api.trace.Tracer}: {@link #startSpan(String)} creates a span
+ * with the current OpenTelemetry context as a parent, {@link Span#startChild(String)} creates a span
+ * with the wrapped OpenTelemetry span as a parent, and so on.
+ * <br>
+ * <br>
+ * By default, a no-op tracer is used (see {@link #noop()}), which does not allocate any spans.
+ */
+public interface Tracer {
+
+    /**
+     * Starts a new root span.
+     *
+     * @param name the name of the span.
+     * @return the started span. It must be ended with {@link Span#end()}.
+     */
+    Span startSpan(String name);
+
+    /**
+     * @return a tracer that does nothing. All its spans are the same no-op {@link Span} instance.
+     */
+    static Tracer noop() {
+        return NoOpTracer.INSTANCE;
+    }
+}
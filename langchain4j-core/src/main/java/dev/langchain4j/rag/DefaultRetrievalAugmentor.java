@@ -1,41 +1,67 @@
 package dev.langchain4j.rag;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.observability.Scope;
+import dev.langchain4j.observability.Span;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.injector.DefaultContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingContentRetriever;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
 
+import static dev.langchain4j.internal.DaemonExecutors.newDefaultExecutor;
+import static dev.langchain4j.internal.TracingUtils.inChildSpan;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.SpanNames.CONTENT_AGGREGATOR_AGGREGATE;
+import static dev.langchain4j.observability.SpanNames.CONTENT_COUNT;
+import static dev.langchain4j.observability.SpanNames.CONTENT_INJECTOR_INJECT;
+import static dev.langchain4j.observability.SpanNames.CONTENT_RETRIEVER;
+import static dev.langchain4j.observability.SpanNames.CONTENT_RETRIEVER_RETRIEVE;
+import static dev.langchain4j.observability.SpanNames.QUERY_ROUTER_ROUTE;
+import static dev.langchain4j.observability.SpanNames.QUERY_TRANSFORMER_TRANSFORM;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.concurrent.TimeUnit.SECONDS;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * The default implementation of {@link RetrievalAugmentor} intended to be suitable for the majority of use cases.
@@ -94,11 +120,36 @@ import static java.util.stream.Collectors.toMap;
  * Nonetheless, you are encouraged to use one of the advanced ready-to-use implementations or create a custom one.
  * <br>
  * <br>
- * When there is only a single {@link Query} and a single {@link ContentRetriever},
+ * When there is only a single {@link Query} and a single {@link ContentRetriever} (and no timeouts are configured),
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
- * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
- * is used, but you can provide a custom {@link Executor} instance.
+ * By default, an executor shared by all instances is used: a virtual thread per task executor when running on Java 21+,
+ * or a bounded pool of daemon threads named "langchain4j-retrieval-N" otherwise.
+ * You can provide a custom {@link Executor} instance as well.
+ * <br>
+ * <br>
+ * The number of routing and retrieval tasks of a single {@link #augment(AugmentationRequest)} call
+ * that run concurrently can be limited with {@code maxConcurrency}, so that a large fan-out
+ * (e.g., many transformed queries times many retrievers) does not occupy the whole executor.
+ * <br>
+ * <br>
+ * A {@code retrieverTimeout} limits the duration of each {@link ContentRetriever} call, and a {@code timeout}
+ * limits the duration of routing and retrieval as a whole. When a timeout is exceeded, a warning is logged
+ * and the {@link Content}s retrieved so far are used: late retrievers are skipped (and, if not started yet, not called).
+ * When {@code skipSlowRetrievers} is enabled, retrievers that usually do not respond within the timeouts
+ * are not called at all (except for an occasional probe), so that they do not occupy the executor in vain.
+ * <br>
+ * <br>
+ * When {@link Query}s are retrieved in parallel, the texts of the queries routed to {@link EmbeddingContentRetriever}s
+ * (e.g., {@code EmbeddingStoreContentRetriever}) are embedded in a single {@link EmbeddingModel#embedAll(List)} call
+ * per {@link EmbeddingModel}, and the resulting embeddings are passed to these retrievers,
+ * instead of each of them embedding each query separately. Only the queries routed to the retrievers
+ * using a given {@link EmbeddingModel} are embedded with it.
+ * This can be disabled with {@code batchQueryEmbeddings}.
+ * <br>
+ * <br>
+ * Each step is reported as a child of the current {@link Span} (see {@link dev.langchain4j.observability.SpanNames}),
+ * including a separate span for each {@link ContentRetriever} call, even when it runs on another thread.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -107,30 +158,53 @@ import static java.util.stream.Collectors.toMap;
  */
 public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultRetrievalAugmentor.class);
+
+    /**
+     * The default executor, shared by all instances that were not configured with a custom one.
+     */
+    private static class DefaultExecutor {
+
+        private static final Executor INSTANCE = newDefaultExecutor("langchain4j-retrieval");
+    }
+
     private final QueryTransformer queryTransformer;
     private final QueryRouter queryRouter;
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final Integer maxConcurrency;
+    private final Duration timeout;
+    private final Duration retrieverTimeout;
+    private final RetrieverLatencyTracker latencyTracker;
+    private final boolean batchQueryEmbeddings;
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
-        this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
-        this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
-        this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
-        this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
-        this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
+        this(new DefaultRetrievalAugmentorBuilder()
+                .queryTransformer(queryTransformer)
+                .queryRouter(queryRouter)
+                .contentAggregator(contentAggregator)
+                .contentInjector(contentInjector)
+                .executor(executor));
     }
 
-    private static ExecutorService createDefaultExecutor() {
-        return new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            1, SECONDS,
-            new SynchronousQueue<>()
-        );
+    private DefaultRetrievalAugmentor(DefaultRetrievalAugmentorBuilder builder) {
+        this.queryTransformer = getOrDefault(builder.queryTransformer, DefaultQueryTransformer::new);
+        this.queryRouter = ensureNotNull(builder.queryRouter, "queryRouter");
+        this.contentAggregator = getOrDefault(builder.contentAggregator, DefaultContentAggregator::new);
+        this.contentInjector = getOrDefault(builder.contentInjector, DefaultContentInjector::new);
+        this.executor = getOrDefault(builder.executor, DefaultExecutor.INSTANCE);
+        this.maxConcurrency = builder.maxConcurrency == null
+                ? null
+                : ensureGreaterThanZero(builder.maxConcurrency, "maxConcurrency");
+        this.timeout = builder.timeout;
+        this.retrieverTimeout = builder.retrieverTimeout;
+        this.latencyTracker = getOrDefault(builder.skipSlowRetrievers, false) ? new RetrieverLatencyTracker() : null;
+        this.batchQueryEmbeddings = getOrDefault(builder.batchQueryEmbeddings, true);
     }
 
     @Override
@@ -145,13 +219,18 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         }
         Query originalQuery = Query.from(queryText, augmentationRequest.metadata());
 
-        Collection<Query> queries = queryTransformer.transform(originalQuery);
+        Span span = Span.current();
+
+        Collection<Query> queries = inChildSpan(span, QUERY_TRANSFORMER_TRANSFORM,
+                () -> queryTransformer.transform(originalQuery));
 
-        Map<Query, Collection<List<Content>>> queryToContents = process(queries);
+        Map<Query, Collection<List<Content>>> queryToContents = process(queries, span);
 
-        List<Content> contents = contentAggregator.aggregate(queryToContents);
+        List<Content> contents = inChildSpan(span, CONTENT_AGGREGATOR_AGGREGATE,
+                () -> contentAggregator.aggregate(queryToContents));
 
-        ChatMessage augmentedChatMessage = contentInjector.inject(contents, chatMessage);
+        ChatMessage augmentedChatMessage = inChildSpan(span, CONTENT_INJECTOR_INJECT,
+                () -> contentInjector.inject(contents, chatMessage));
 
         return AugmentationResult.builder()
             .chatMessage(augmentedChatMessage)
@@ -159,57 +238,340 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             .build();
     }
 
-    private Map<Query, Collection<List<Content>>> process(Collection<Query> queries) {
+    private Map<Query, Collection<List<Content>>> process(Collection<Query> queries, Span span) {
+        if (queries.isEmpty()) {
+            return emptyMap();
+        }
+
+        Executor executor = maxConcurrency == null
+                ? this.executor
+                : new ConcurrencyLimitingExecutor(this.executor, maxConcurrency);
+        Queue<CompletableFuture<?>> tasks = new ConcurrentLinkedQueue<>();
+
+        Map<Query, CompletableFuture<List<CompletableFuture<List<Content>>>>> queryToFutureContents =
+                new LinkedHashMap<>();
         if (queries.size() == 1) {
             Query query = queries.iterator().next();
-            Collection<ContentRetriever> retrievers = queryRouter.route(query);
-            if (retrievers.size() == 1) {
+            Collection<ContentRetriever> retrievers = route(query, span);
+            if (retrievers.isEmpty()) {
+                return emptyMap();
+            } else if (retrievers.size() == 1 && timeout == null && retrieverTimeout == null) {
                 ContentRetriever contentRetriever = retrievers.iterator().next();
-                List<Content> contents = contentRetriever.retrieve(query);
+                List<Content> contents = retrieve(contentRetriever, query, span, null);
                 return singletonMap(query, singletonList(contents));
-            } else if (retrievers.size() > 1) {
-                Collection<List<Content>> contents = retrieveFromAll(retrievers, query).join();
-                return singletonMap(query, contents);
-            } else {
-                return emptyMap();
             }
-        } else if (queries.size() > 1) {
-            Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
-            queries.forEach(query -> {
-                CompletableFuture<Collection<List<Content>>> futureContents =
-                        supplyAsync(() -> queryRouter.route(query), executor)
-                                .thenCompose(retrievers -> retrieveFromAll(retrievers, query));
-                queryToFutureContents.put(query, futureContents);
-            });
-            return join(queryToFutureContents);
+            Collection<ContentRetriever> calledRetrievers = withoutSkippedRetrievers(retrievers);
+            QueryEmbeddings queryEmbeddings = batchQueryEmbeddings
+                    ? new QueryEmbeddings(singletonMap(query, calledRetrievers))
+                    : null;
+            queryToFutureContents.put(query, completedFuture(
+                    retrieveFromAll(calledRetrievers, query, span, queryEmbeddings, executor, tasks)));
         } else {
-            return emptyMap();
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            for (Query query : queries) {
+                CompletableFuture<Collection<ContentRetriever>> futureRetrievers =
+                        supplyAsync(() -> withoutSkippedRetrievers(route(query, span)), executor);
+                tasks.add(futureRetrievers);
+                queryToFutureRetrievers.put(query, futureRetrievers);
+            }
+            // when batching, embedding waits for all queries to be routed, so that only the routed ones are embedded
+            CompletableFuture<QueryEmbeddings> futureQueryEmbeddings = batchQueryEmbeddings
+                    ? allOf(queryToFutureRetrievers.values().toArray(new CompletableFuture[0]))
+                            .thenApply(ignored -> new QueryEmbeddings(joinAll(queryToFutureRetrievers)))
+                    : completedFuture(null);
+            queryToFutureRetrievers.forEach((query, futureRetrievers) -> queryToFutureContents.put(query,
+                    futureRetrievers.thenCombine(futureQueryEmbeddings, (retrievers, queryEmbeddings) ->
+                            retrieveFromAll(retrievers, query, span, queryEmbeddings, executor, tasks))));
         }
+
+        awaitCompletion(queryToFutureContents.values(), tasks);
+
+        Map<Query, Collection<List<Content>>> queryToContents = new LinkedHashMap<>();
+        queryToFutureContents.forEach((query, futureContents) -> {
+            List<CompletableFuture<List<Content>>> futures = resultOrNull(futureContents);
+            if (futures != null) {
+                List<List<Content>> contents = new ArrayList<>();
+                for (CompletableFuture<List<Content>> futureContent : futures) {
+                    List<Content> content = resultOrNull(futureContent);
+                    if (content != null) {
+                        contents.add(content);
+                    }
+                }
+                queryToContents.put(query, contents);
+            }
+        });
+        return queryToContents;
     }
 
-    private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
-                                                                         Query query) {
-        List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retriever.retrieve(query), executor))
-            .collect(Collectors.toList());
-
-        return allOf(futureContents.toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                futureContents.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toList()));
+    /**
+     * Returns the result of the given future, or {@code null} if it is not completed yet or was cancelled
+     * because of the timeout. Other failures are propagated.
+     */
+    private static <T> T resultOrNull(CompletableFuture<T> future) {
+        if (!future.isDone()) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            return null;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private void awaitCompletion(Collection<CompletableFuture<List<CompletableFuture<List<Content>>>>> futureContents,
+                                 Queue<CompletableFuture<?>> tasks) {
+        CompletableFuture<Void> completion = allOf(futureContents.stream()
+                .map(futures -> futures.thenCompose(it -> allOf(it.toArray(new CompletableFuture[0]))))
+                .toArray(CompletableFuture[]::new));
+        if (timeout == null) {
+            completion.join();
+            return;
+        }
+        try {
+            completion.get(timeout.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Content retrieval did not complete within {}, proceeding with the contents retrieved so far", timeout);
+            tasks.forEach(task -> task.cancel(false));
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.forEach(task -> task.cancel(false));
+            throw new CompletionException(e);
+        }
+    }
+
+    private Collection<ContentRetriever> route(Query query, Span span) {
+        return inChildSpan(span, QUERY_ROUTER_ROUTE, () -> queryRouter.route(query));
+    }
+
+    private Collection<ContentRetriever> withoutSkippedRetrievers(Collection<ContentRetriever> retrievers) {
+        if (latencyTracker == null) {
+            return retrievers;
+        }
+        List<ContentRetriever> calledRetrievers = new ArrayList<>(retrievers.size());
+        for (ContentRetriever retriever : retrievers) {
+            if (latencyTracker.shouldSkip(retriever)) {
+                log.debug("Skipping content retriever {}, as it usually does not respond within the timeout",
+                        retriever.getClass().getName());
+            } else {
+                calledRetrievers.add(retriever);
+            }
+        }
+        return calledRetrievers;
+    }
+
+    private static <K, V> Map<K, V> joinAll(Map<K, CompletableFuture<V>> futures) {
+        Map<K, V> results = new LinkedHashMap<>();
+        futures.forEach((key, future) -> results.put(key, future.join()));
+        return results;
     }
 
-    private static Map<Query, Collection<List<Content>>> join(
-        Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
-        return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                queryToFutureContents.entrySet().stream()
-                    .collect(toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().join()
-                    ))
-            ).join();
+    private static List<Content> retrieve(ContentRetriever retriever,
+                                          Query query,
+                                          Span span,
+                                          QueryEmbeddings queryEmbeddings) {
+        Span retrieverSpan = span.startChild(CONTENT_RETRIEVER_RETRIEVE)
+                .setAttribute(CONTENT_RETRIEVER, retriever.getClass().getName());
+        try (Scope ignored = retrieverSpan.makeCurrent()) {
+            List<Content> contents;
+            EmbeddingContentRetriever embeddingRetriever = queryEmbeddings != null
+                    ? QueryEmbeddings.acceptingEmbeddedQueries(retriever)
+                    : null;
+            if (embeddingRetriever != null) {
+                Embedding embeddedQuery = queryEmbeddings.embed(embeddingRetriever.embeddingModel(), query);
+                contents = embeddingRetriever.retrieve(query, embeddedQuery);
+            } else {
+                contents = retriever.retrieve(query);
+            }
+            retrieverSpan.setAttribute(CONTENT_COUNT, contents.size());
+            return contents;
+        } catch (RuntimeException e) {
+            retrieverSpan.recordException(e);
+            throw e;
+        } finally {
+            retrieverSpan.end();
+        }
+    }
+
+    private List<CompletableFuture<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
+                                                                   Query query,
+                                                                   Span span,
+                                                                   QueryEmbeddings queryEmbeddings,
+                                                                   Executor executor,
+                                                                   Queue<CompletableFuture<?>> tasks) {
+        List<CompletableFuture<List<Content>>> futureContents = new ArrayList<>(retrievers.size());
+        for (ContentRetriever retriever : retrievers) {
+            CompletableFuture<List<Content>> task = supplyAsync(() -> retrieve(retriever, query, span, queryEmbeddings), executor);
+            if (retrieverTimeout != null) {
+                task.orTimeout(retrieverTimeout.toMillis(), MILLISECONDS);
+            }
+            tasks.add(task);
+            futureContents.add(task.handle((contents, error) -> onRetrievalCompleted(retriever, contents, error)));
+        }
+        return futureContents;
+    }
+
+    private List<Content> onRetrievalCompleted(ContentRetriever retriever, List<Content> contents, Throwable error) {
+        if (error == null) {
+            if (latencyTracker != null) {
+                latencyTracker.recordResponse(retriever);
+            }
+            return contents;
+        }
+        Throwable cause = unwrap(error);
+        if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+            log.warn("Content retriever {} did not respond within {}, its contents are skipped",
+                    retriever.getClass().getName(),
+                    cause instanceof TimeoutException ? retrieverTimeout : timeout);
+            if (latencyTracker != null) {
+                latencyTracker.recordMiss(retriever);
+            }
+            if (cause instanceof TimeoutException) {
+                return emptyList();
+            }
+        }
+        throw error instanceof CompletionException completionException
+                ? completionException
+                : new CompletionException(error);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Embeds the texts of the {@link Query}s of a single augmentation that were routed to
+     * {@link EmbeddingContentRetriever}s, in one batch per {@link EmbeddingModel}, when the first of them is needed.
+     * Concurrent retrievers using the same {@link EmbeddingModel} wait for this batch
+     * instead of embedding their queries separately.
+     */
+    private static class QueryEmbeddings {
+
+        private final Map<EmbeddingModel, List<String>> texts = new HashMap<>();
+        private final Map<EmbeddingModel, CompletableFuture<Map<String, Embedding>>> embeddings =
+                new ConcurrentHashMap<>();
+
+        private QueryEmbeddings(Map<Query, Collection<ContentRetriever>> queryToRetrievers) {
+            Map<EmbeddingModel, Collection<String>> routedTexts = new HashMap<>();
+            queryToRetrievers.forEach((query, retrievers) -> {
+                for (ContentRetriever retriever : retrievers) {
+                    EmbeddingContentRetriever embeddingRetriever = acceptingEmbeddedQueries(retriever);
+                    if (embeddingRetriever != null) {
+                        routedTexts.computeIfAbsent(embeddingRetriever.embeddingModel(), ignored -> new LinkedHashSet<>())
+                                .add(query.text());
+                    }
+                }
+            });
+            routedTexts.forEach((embeddingModel, modelTexts) -> texts.put(embeddingModel, List.copyOf(modelTexts)));
+        }
+
+        private static EmbeddingContentRetriever acceptingEmbeddedQueries(ContentRetriever retriever) {
+            return retriever instanceof EmbeddingContentRetriever embeddingRetriever
+                    && embeddingRetriever.acceptsEmbeddedQueries()
+                    ? embeddingRetriever
+                    : null;
+        }
+
+        private Embedding embed(EmbeddingModel embeddingModel, Query query) {
+            List<String> modelTexts = texts.get(embeddingModel);
+            if (modelTexts == null || !modelTexts.contains(query.text())) {
+                return embeddingModel.embed(query.text()).content();
+            }
+
+            CompletableFuture<Map<String, Embedding>> newEmbeddings = new CompletableFuture<>();
+            CompletableFuture<Map<String, Embedding>> futureEmbeddings =
+                    embeddings.putIfAbsent(embeddingModel, newEmbeddings);
+            if (futureEmbeddings == null) {
+                futureEmbeddings = newEmbeddings;
+                try {
+                    newEmbeddings.complete(embedAll(embeddingModel, modelTexts));
+                } catch (RuntimeException e) {
+                    newEmbeddings.completeExceptionally(e);
+                    throw e;
+                }
+            }
+
+            Embedding embedding;
+            try {
+                embedding = futureEmbeddings.join().get(query.text());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+            return embedding != null ? embedding : embeddingModel.embed(query.text()).content();
+        }
+
+        private static Map<String, Embedding> embedAll(EmbeddingModel embeddingModel, List<String> texts) {
+            List<TextSegment> segments = texts.stream().map(TextSegment::from).toList();
+            List<Embedding> embedded = embeddingModel.embedAll(segments).content();
+            Map<String, Embedding> textToEmbedding = new HashMap<>();
+            for (int i = 0; i < texts.size(); i++) {
+                textToEmbedding.put(texts.get(i), embedded.get(i));
+            }
+            return textToEmbedding;
+        }
+    }
+
+    /**
+     * Limits the number of tasks (of a single augmentation) that are executed concurrently by the delegate executor.
+     * Excess tasks are queued, without blocking the caller or the threads of the delegate executor.
+     */
+    private static class ConcurrencyLimitingExecutor implements Executor {
+
+        private final Executor delegate;
+        private final int maxConcurrency;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private int running;
+
+        private ConcurrencyLimitingExecutor(Executor delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                queue.add(task);
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            Runnable next;
+            synchronized (this) {
+                if (running >= maxConcurrency || queue.isEmpty()) {
+                    return;
+                }
+                next = queue.poll();
+                running++;
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        next.run();
+                    } finally {
+                        synchronized (this) {
+                            running--;
+                        }
+                        dispatch();
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    running--;
+                }
+                throw e;
+            }
+            dispatch();
+        }
     }
 
     public static DefaultRetrievalAugmentorBuilder builder() {
@@ -223,6 +585,11 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private Integer maxConcurrency;
+        private Duration timeout;
+        private Duration retrieverTimeout;
+        private Boolean skipSlowRetrievers;
+        private Boolean batchQueryEmbeddings;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -257,8 +624,58 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        /**
+         * @param maxConcurrency the maximum number of routing and retrieval tasks of a single augmentation
+         *                       that are executed concurrently. By default, there is no limit.
+         */
+        public DefaultRetrievalAugmentorBuilder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * @param timeout the maximum duration of routing and retrieval of a single augmentation.
+         *                When exceeded, the contents retrieved so far are used. By default, there is no limit.
+         */
+        public DefaultRetrievalAugmentorBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param retrieverTimeout the maximum duration of each {@link ContentRetriever} call.
+         *                         When exceeded, the contents of this retriever are skipped.
+         *                         By default, there is no limit.
+         */
+        public DefaultRetrievalAugmentorBuilder retrieverTimeout(Duration retrieverTimeout) {
+            this.retrieverTimeout = retrieverTimeout;
+            return this;
+        }
+
+        /**
+         * @param skipSlowRetrievers whether to skip the {@link ContentRetriever}s that usually do not respond
+         *                           within the {@code timeout} or {@code retrieverTimeout}.
+         *                           Such retrievers are still called occasionally, to detect when they become faster.
+         *                           Default value: false.
+         */
+        public DefaultRetrievalAugmentorBuilder skipSlowRetrievers(Boolean skipSlowRetrievers) {
+            this.skipSlowRetrievers = skipSlowRetrievers;
+            return this;
+        }
+
+        /**
+         * @param batchQueryEmbeddings whether to embed the texts of the {@link Query}s of an augmentation
+         *                             in a single batch (per {@link EmbeddingModel}), instead of letting each
+         *                             {@link EmbeddingContentRetriever} embed each query separately.
+         *                             Default value: true.
+         */
+        public DefaultRetrievalAugmentorBuilder batchQueryEmbeddings(Boolean batchQueryEmbeddings) {
+            this.batchQueryEmbeddings = batchQueryEmbeddings;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(this);
         }
     }
 }
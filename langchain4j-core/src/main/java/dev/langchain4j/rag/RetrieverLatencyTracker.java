@@ -0,0 +1,66 @@
+package dev.langchain4j.rag;
+
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Learns which {@link ContentRetriever}s usually do not respond within the timeout,
+ * so that {@link DefaultRetrievalAugmentor} can skip them instead of waiting for them on every augmentation.
+ * <br>
+ * For each retriever, an exponentially weighted miss rate is maintained.
+ * Once a retriever has been observed a few times and misses the timeout more often than not, it is skipped.
+ * Every {@value #PROBE_INTERVAL}th call of a skipped retriever is still performed (probing),
+ * so that a retriever which became faster is eventually used again.
+ */
+class RetrieverLatencyTracker {
+
+    static final int MIN_OBSERVATIONS = 3;
+    static final int PROBE_INTERVAL = 10;
+    private static final double SMOOTHING_FACTOR = 0.25;
+    private static final double MAX_MISS_RATE = 0.5;
+
+    private final Map<ContentRetriever, Stats> stats = synchronizedMap(new WeakHashMap<>());
+
+    boolean shouldSkip(ContentRetriever retriever) {
+        Stats retrieverStats = stats.get(retriever);
+        if (retrieverStats == null) {
+            return false;
+        }
+        synchronized (retrieverStats) {
+            if (retrieverStats.observations < MIN_OBSERVATIONS || retrieverStats.missRate <= MAX_MISS_RATE) {
+                retrieverStats.skipped = 0;
+                return false;
+            }
+            return ++retrieverStats.skipped % PROBE_INTERVAL != 0;
+        }
+    }
+
+    void recordResponse(ContentRetriever retriever) {
+        record(retriever, 0.0);
+    }
+
+    void recordMiss(ContentRetriever retriever) {
+        record(retriever, 1.0);
+    }
+
+    private void record(ContentRetriever retriever, double miss) {
+        Stats retrieverStats = stats.computeIfAbsent(retriever, ignored -> new Stats());
+        synchronized (retrieverStats) {
+            retrieverStats.missRate = retrieverStats.observations == 0
+                    ? miss
+                    : retrieverStats.missRate + SMOOTHING_FACTOR * (miss - retrieverStats.missRate);
+            retrieverStats.observations++;
+        }
+    }
+
+    private static class Stats {
+
+        private double missRate;
+        private int observations;
+        private int skipped;
+    }
+}
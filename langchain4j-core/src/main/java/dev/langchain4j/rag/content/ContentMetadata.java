@@ -3,5 +3,12 @@ package dev.langchain4j.rag.content;
 public enum ContentMetadata {
     SCORE,
     RERANKED_SCORE,
-    EMBEDDING_ID
+    EMBEDDING_ID,
+    /**
+     * The {@link dev.langchain4j.data.embedding.Embedding} of the {@link Content#textSegment()},
+     * when it was retrieved from an embedding store that returned it.
+     * Used, for example, by {@link dev.langchain4j.rag.content.aggregator.DiversifyingContentAggregator}
+     * to compare contents without embedding them again.
+     */
+    EMBEDDING
 }
@@ -2,6 +2,7 @@ package dev.langchain4j.rag.content;
 
 import dev.langchain4j.data.segment.TextSegment;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -69,11 +70,25 @@ public class DefaultContent implements Content {
         return Objects.hash(textSegment);
     }
 
+    /**
+     * Returns a string representation of this {@code Content}.
+     * <br>
+     * The {@link ContentMetadata#EMBEDDING} is left out, as it can be very long.
+     */
     @Override
     public String toString() {
         return "DefaultContent {" +
                 " textSegment = " + textSegment +
-                ", metadata = " + metadata +
+                ", metadata = " + metadataWithoutEmbedding() +
                 " }";
     }
+
+    private Map<ContentMetadata, Object> metadataWithoutEmbedding() {
+        if (!metadata.containsKey(ContentMetadata.EMBEDDING)) {
+            return metadata;
+        }
+        Map<ContentMetadata, Object> printed = new EnumMap<>(metadata);
+        printed.remove(ContentMetadata.EMBEDDING);
+        return printed;
+    }
 }
@@ -0,0 +1,296 @@
+package dev.langchain4j.rag.content.aggregator;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ContentAggregator} that removes redundancy from the {@link Content}s aggregated by another
+ * {@link ContentAggregator} (by default, {@link DefaultContentAggregator}), so that fewer redundant tokens
+ * reach the LLM. It works in two steps:
+ * <br>
+ * <br>
+ * 1. Near-duplicate removal: {@link Content}s whose text is (almost) the same as, or (almost) contained in,
+ * the text of a more relevant {@link Content} are removed. For example, mirrored documents, or a child segment
+ * ranked below its parent segment. A less relevant {@link Content} that contains a more relevant one
+ * (e.g., a parent segment ranked below its child segment) is kept, as it adds context.
+ * Texts are compared using MinHash signatures of their word shingles, and only the pairs that the signatures
+ * estimate to be near-duplicates are checked exactly, so the cost barely depends on the text length.
+ * <br>
+ * 2. Diversification using <a href="https://www.cs.cmu.edu/~jgc/publication/The_Use_MMR_Diversity_Based_LTMIR_1998.pdf">
+ * Maximal Marginal Relevance</a> (MMR): {@link Content}s are selected one by one, each time taking the one that
+ * maximizes {@code lambda * relevance - (1 - lambda) * (max similarity to the already selected ones)}.
+ * The relevance is derived from the rank in the aggregated list, which already reflects the relevance to the query.
+ * The similarity of two {@link Content}s is the cosine similarity of their embeddings
+ * ({@link ContentMetadata#EMBEDDING}, provided, for example, by
+ * {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}), so nothing needs to be embedded.
+ * When one of them has no embedding, the similarity of their texts (estimated Jaccard similarity of word shingles)
+ * is used instead.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@link #contentAggregator}: the {@link ContentAggregator} whose results are diversified.
+ * Default: {@link DefaultContentAggregator}.
+ * <br>
+ * - {@link #lambda}: the trade-off between relevance (1) and diversity (0). Default: {@value #DEFAULT_LAMBDA}.
+ * <br>
+ * - {@link #maxResults}: the maximum number of {@link Content}s to return. Default: all remaining {@link Content}s,
+ * re-ordered so that redundant ones come last.
+ * <br>
+ * - {@link #duplicateThreshold}: the estimated fraction of the text of a {@link Content}
+ * contained in a more relevant {@link Content} above which it is removed as a near-duplicate.
+ * Default: {@value #DEFAULT_DUPLICATE_THRESHOLD}.
+ * <br>
+ * - {@link #timeBudget}: the maximum time spent on both steps. When exceeded, the remaining {@link Content}s
+ * are returned in the order of relevance, without further processing. Default: 50 milliseconds.
+ */
+public class DiversifyingContentAggregator implements ContentAggregator {
+
+    static final double DEFAULT_LAMBDA = 0.7;
+    static final double DEFAULT_DUPLICATE_THRESHOLD = 0.9;
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(50);
+
+    private static final Logger log = LoggerFactory.getLogger(DiversifyingContentAggregator.class);
+
+    private final ContentAggregator contentAggregator;
+    private final double lambda;
+    private final Integer maxResults;
+    private final double duplicateThreshold;
+    private final Duration timeBudget;
+
+    public DiversifyingContentAggregator() {
+        this(null, null, null, null, null);
+    }
+
+    public DiversifyingContentAggregator(ContentAggregator contentAggregator,
+                                         Double lambda,
+                                         Integer maxResults,
+                                         Double duplicateThreshold,
+                                         Duration timeBudget) {
+        this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
+        this.lambda = ensureBetween(getOrDefault(lambda, DEFAULT_LAMBDA), 0, 1, "lambda");
+        this.maxResults = maxResults == null ? null : ensureGreaterThanZero(maxResults, "maxResults");
+        this.duplicateThreshold = ensureBetween(
+                getOrDefault(duplicateThreshold, DEFAULT_DUPLICATE_THRESHOLD), 0, 1, "duplicateThreshold");
+        this.timeBudget = getOrDefault(timeBudget, DEFAULT_TIME_BUDGET);
+    }
+
+    public static DiversifyingContentAggregatorBuilder builder() {
+        return new DiversifyingContentAggregatorBuilder();
+    }
+
+    @Override
+    public List<Content> aggregate(Map<Query, Collection<List<Content>>> queryToContents) {
+        List<Content> contents = contentAggregator.aggregate(queryToContents);
+        if (contents.size() <= 1) {
+            return contents;
+        }
+
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        Signatures signatures = new Signatures(contents.size());
+
+        List<Content> unique = removeNearDuplicates(contents, signatures, deadline);
+        List<Content> diversified = diversify(unique, signatures, deadline);
+
+        log.debug("Diversified {} contents into {}", contents.size(), diversified.size());
+        return diversified;
+    }
+
+    private List<Content> removeNearDuplicates(List<Content> contents, Signatures signatures, long deadline) {
+        List<Content> unique = new ArrayList<>(contents.size());
+        List<Integer> uniqueIndices = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            if (isExceeded(deadline)) {
+                log.debug("Time budget of {} exceeded, skipping near-duplicate removal of {} contents",
+                        timeBudget, contents.size() - i);
+                unique.addAll(contents.subList(i, contents.size()));
+                break;
+            }
+            boolean duplicate = false;
+            MinHash signature = signatures.get(i, contents.get(i));
+            for (int uniqueIndex : uniqueIndices) {
+                if (signature.isContainedIn(signatures.get(uniqueIndex, null), duplicateThreshold)) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                unique.add(contents.get(i));
+                uniqueIndices.add(i);
+            }
+        }
+        signatures.retain(uniqueIndices, unique.size());
+        return unique;
+    }
+
+    private List<Content> diversify(List<Content> contents, Signatures signatures, long deadline) {
+        int count = maxResults == null ? contents.size() : Math.min(maxResults, contents.size());
+        if (lambda == 1.0) {
+            return new ArrayList<>(contents.subList(0, count));
+        }
+
+        Embedding[] embeddings = new Embedding[contents.size()];
+        for (int i = 0; i < contents.size(); i++) {
+            if (contents.get(i).metadata().get(ContentMetadata.EMBEDDING) instanceof Embedding embedding) {
+                embeddings[i] = embedding;
+            }
+        }
+
+        List<Content> selected = new ArrayList<>(count);
+        boolean[] isSelected = new boolean[contents.size()];
+        double[] maxSimilarity = new double[contents.size()];
+        while (selected.size() < count) {
+            if (isExceeded(deadline)) {
+                log.debug("Time budget of {} exceeded, returning the remaining contents in the order of relevance",
+                        timeBudget);
+                for (int i = 0; i < contents.size() && selected.size() < count; i++) {
+                    if (!isSelected[i]) {
+                        selected.add(contents.get(i));
+                    }
+                }
+                break;
+            }
+
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < contents.size(); i++) {
+                if (isSelected[i]) {
+                    continue;
+                }
+                double relevance = 1.0 - (double) i / contents.size();
+                double score = lambda * relevance - (1 - lambda) * maxSimilarity[i];
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+
+            isSelected[best] = true;
+            selected.add(contents.get(best));
+            for (int i = 0; i < contents.size(); i++) {
+                if (!isSelected[i]) {
+                    double similarity = similarity(contents, embeddings, signatures, best, i);
+                    maxSimilarity[i] = Math.max(maxSimilarity[i], similarity);
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static double similarity(List<Content> contents, Embedding[] embeddings, Signatures signatures, int i, int j) {
+        if (embeddings[i] != null && embeddings[j] != null && embeddings[i].dimension() == embeddings[j].dimension()) {
+            return CosineSimilarity.between(embeddings[i], embeddings[j]);
+        }
+        return signatures.get(i, contents.get(i)).jaccard(signatures.get(j, contents.get(j)));
+    }
+
+    private static boolean isExceeded(long deadline) {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Lazily computed {@link MinHash} signatures of the {@link Content}s, by their index.
+     */
+    private static class Signatures {
+
+        private MinHash[] signatures;
+
+        private Signatures(int size) {
+            this.signatures = new MinHash[size];
+        }
+
+        MinHash get(int index, Content content) {
+            if (signatures[index] == null) {
+                signatures[index] = MinHash.of(content.textSegment().text());
+            }
+            return signatures[index];
+        }
+
+        /**
+         * Keeps only the signatures at the given indices (re-indexed from 0), followed by empty slots up to the size.
+         */
+        void retain(List<Integer> indices, int size) {
+            MinHash[] retained = new MinHash[size];
+            for (int i = 0; i < indices.size(); i++) {
+                retained[i] = signatures[indices.get(i)];
+            }
+            signatures = retained;
+        }
+    }
+
+    public static class DiversifyingContentAggregatorBuilder {
+
+        private ContentAggregator contentAggregator;
+        private Double lambda;
+        private Integer maxResults;
+        private Double duplicateThreshold;
+        private Duration timeBudget;
+
+        DiversifyingContentAggregatorBuilder() {
+        }
+
+        /**
+         * @param contentAggregator The {@link ContentAggregator} whose results are diversified.
+         *                          Default: {@link DefaultContentAggregator}.
+         */
+        public DiversifyingContentAggregatorBuilder contentAggregator(ContentAggregator contentAggregator) {
+            this.contentAggregator = contentAggregator;
+            return this;
+        }
+
+        /**
+         * @param lambda The trade-off between relevance (1) and diversity (0).
+         *               Default: {@value DiversifyingContentAggregator#DEFAULT_LAMBDA}.
+         */
+        public DiversifyingContentAggregatorBuilder lambda(Double lambda) {
+            this.lambda = lambda;
+            return this;
+        }
+
+        /**
+         * @param maxResults The maximum number of {@link Content}s to return. Default: all (re-ordered).
+         */
+        public DiversifyingContentAggregatorBuilder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * @param duplicateThreshold The estimated fraction of the text of a {@link Content} contained in
+         *                           a more relevant {@link Content} above which it is removed as a near-duplicate.
+         *                           Default: {@value DiversifyingContentAggregator#DEFAULT_DUPLICATE_THRESHOLD}.
+         */
+        public DiversifyingContentAggregatorBuilder duplicateThreshold(Double duplicateThreshold) {
+            this.duplicateThreshold = duplicateThreshold;
+            return this;
+        }
+
+        /**
+         * @param timeBudget The maximum time spent on near-duplicate removal and diversification. Default: 50 ms.
+         */
+        public DiversifyingContentAggregatorBuilder timeBudget(Duration timeBudget) {
+            this.timeBudget = timeBudget;
+            return this;
+        }
+
+        public DiversifyingContentAggregator build() {
+            return new DiversifyingContentAggregator(contentAggregator, lambda, maxResults, duplicateThreshold, timeBudget);
+        }
+    }
+}
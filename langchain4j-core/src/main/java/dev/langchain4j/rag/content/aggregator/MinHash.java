@@ -0,0 +1,138 @@
+package dev.langchain4j.rag.content.aggregator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static java.util.Locale.ROOT;
+
+/**
+ * A MinHash signature of the set of word shingles (sequences of {@value #SHINGLE_SIZE} consecutive words) of a text.
+ * <br>
+ * Two signatures estimate the Jaccard similarity of the shingle sets of their texts
+ * in time proportional to the signature size, independently of the text length.
+ * The (hashed) shingles are kept as well, so that an estimated containment can be confirmed exactly.
+ */
+class MinHash {
+
+    static final int SIGNATURE_SIZE = 64;
+    static final int SHINGLE_SIZE = 3;
+
+    private static final long[] SEEDS = new SplittableRandom(42).longs(SIGNATURE_SIZE).toArray();
+
+    private final long[] minima;
+    private final long[] shingles;
+    private final int shingleCount;
+
+    private MinHash(long[] minima, long[] shingles) {
+        this.minima = minima;
+        this.shingles = shingles;
+        this.shingleCount = shingles.length;
+    }
+
+    static MinHash of(String text) {
+        Set<Long> shingles = shingles(text);
+
+        long[] minima = new long[SIGNATURE_SIZE];
+        Arrays.fill(minima, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(shingle ^ SEEDS[i]);
+                if (hash < minima[i]) {
+                    minima[i] = hash;
+                }
+            }
+        }
+        long[] sortedShingles = shingles.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new MinHash(minima, sortedShingles);
+    }
+
+    /**
+     * Hashes the word shingles of the text. Texts shorter than a shingle are represented by their words.
+     */
+    private static Set<Long> shingles(String text) {
+        String[] words = text.toLowerCase(ROOT).split("[^\\p{L}\\p{N}]+");
+        long[] wordHashes = new long[words.length];
+        int wordCount = 0;
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                wordHashes[wordCount++] = mix(word.hashCode());
+            }
+        }
+
+        Set<Long> shingles = new HashSet<>();
+        int shingleSize = Math.min(SHINGLE_SIZE, wordCount);
+        for (int i = 0; i + shingleSize <= wordCount && shingleSize > 0; i++) {
+            long shingle = 0;
+            for (int j = i; j < i + shingleSize; j++) {
+                shingle = shingle * 31 + wordHashes[j];
+            }
+            shingles.add(shingle);
+        }
+        return shingles;
+    }
+
+    /**
+     * @return the estimated Jaccard similarity (size of the intersection divided by the size of the union)
+     * of the shingle sets.
+     */
+    double jaccard(MinHash that) {
+        if (this.shingleCount == 0 || that.shingleCount == 0) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (this.minima[i] == that.minima[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    /**
+     * @return the estimated fraction of the shingles of this text that are contained in the other text.
+     * Unlike the Jaccard similarity, it is close to 1 also when this text is (almost) a part of the other one,
+     * but not when the other text is a part of this (longer) one.
+     */
+    double containmentIn(MinHash that) {
+        double jaccard = jaccard(that);
+        if (jaccard == 0) {
+            return 0;
+        }
+        double intersection = jaccard * (this.shingleCount + that.shingleCount) / (1 + jaccard);
+        return Math.min(1.0, intersection / this.shingleCount);
+    }
+
+    /**
+     * Checks whether at least the given fraction of the shingles of this text are contained in the other text.
+     * <br>
+     * The signatures are used to rule out most pairs cheaply: a few chance matches of the signature slots
+     * can inflate the estimate when the texts differ much in length, so a positive estimate is confirmed
+     * by counting the shared shingles exactly.
+     */
+    boolean isContainedIn(MinHash that, double threshold) {
+        if (this.shingleCount == 0 || this.shingleCount * threshold > that.shingleCount) {
+            return false;
+        }
+        if (containmentIn(that) < threshold) {
+            return false;
+        }
+        int contained = 0;
+        for (long shingle : this.shingles) {
+            if (Arrays.binarySearch(that.shingles, shingle) >= 0) {
+                contained++;
+            }
+        }
+        return contained >= this.shingleCount * threshold;
+    }
+
+    /**
+     * The finalizer of SplitMix64, spreads the bits of the input over the whole output.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -2,22 +2,34 @@ package dev.langchain4j.rag.content.aggregator;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.scoring.ScoringModel;
+import dev.langchain4j.observability.Span;
+import dev.langchain4j.observability.SpanNames;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.transformer.ExpandingQueryTransformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static dev.langchain4j.internal.DaemonExecutors.newDefaultExecutor;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.TracingUtils.inChildSpan;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.SpanNames.CONTENT_COUNT;
+import static dev.langchain4j.observability.SpanNames.RE_RANK;
 import static dev.langchain4j.rag.content.ContentMetadata.RERANKED_SCORE;
 import static java.util.Collections.emptyList;
 
@@ -43,6 +55,28 @@ import static java.util.Collections.emptyList;
  * - {@link #minScore}: the minimum score for {@link Content}s to be returned.
  * {@link Content}s scoring below this threshold (as determined by the {@link ScoringModel})
  * are excluded from the results.
+ * <br>
+ * - {@link #maxResults}: the maximum number of {@link Content}s to be returned.
+ * <br>
+ * - {@link #maxCandidates}: the maximum number of fused {@link Content}s (the best ones, according to the
+ * reciprocal rank fusion) that are re-ranked by the {@link ScoringModel}. The remaining ones are discarded.
+ * This is a cheap first stage that limits the load on the (usually expensive) {@link ScoringModel}.
+ * <br>
+ * - {@link #maxSegmentsPerBatch}: the maximum number of {@link TextSegment}s scored by a single
+ * {@link ScoringModel#scoreAll(List, String)} call. When there are more, they are split into multiple batches
+ * that are scored concurrently, using the {@link #executor}. By default, all segments are scored in a single call.
+ * <br>
+ * - {@link #executor}: the {@link Executor} used to score multiple batches concurrently.
+ * By default, an executor shared by all instances is used: a virtual thread per task executor when running on Java 21+,
+ * or a bounded pool of daemon threads named "langchain4j-re-ranking-N" otherwise.
+ * <br>
+ * - {@link #scoreCacheSize}: the maximum number of scores to cache. Scores are cached by the query text
+ * and a hash of the segment text, so that {@link Content}s retrieved again for the same query
+ * (e.g., in a follow-up question or a retried request) are not scored again. By default, scores are not cached.
+ * <br>
+ * <br>
+ * The re-ranking is reported as a separate {@link SpanNames#RE_RANK} span,
+ * so that its latency can be told apart from the rest of the aggregation.
  *
  * @see DefaultContentAggregator
  */
@@ -61,10 +95,19 @@ public class ReRankingContentAggregator implements ContentAggregator {
                 return queryToContents.keySet().iterator().next();
             };
 
+    private static class DefaultExecutor {
+
+        private static final Executor INSTANCE = newDefaultExecutor("langchain4j-re-ranking");
+    }
+
     private final ScoringModel scoringModel;
     private final Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
     private final Double minScore;
     private final Integer maxResults;
+    private final Integer maxCandidates;
+    private final Integer maxSegmentsPerBatch;
+    private final Executor executor;
+    private final ScoreCache scoreCache;
 
     public ReRankingContentAggregator(ScoringModel scoringModel) {
         this(scoringModel, DEFAULT_QUERY_SELECTOR, null);
@@ -80,10 +123,28 @@ public class ReRankingContentAggregator implements ContentAggregator {
                                       Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
                                       Double minScore,
                                       Integer maxResults) {
-        this.scoringModel = ensureNotNull(scoringModel, "scoringModel");
-        this.querySelector = getOrDefault(querySelector, DEFAULT_QUERY_SELECTOR);
-        this.minScore = minScore;
-        this.maxResults = getOrDefault(maxResults, Integer.MAX_VALUE);
+        this(builder()
+                .scoringModel(scoringModel)
+                .querySelector(querySelector)
+                .minScore(minScore)
+                .maxResults(maxResults));
+    }
+
+    private ReRankingContentAggregator(ReRankingContentAggregatorBuilder builder) {
+        this.scoringModel = ensureNotNull(builder.scoringModel, "scoringModel");
+        this.querySelector = getOrDefault(builder.querySelector, DEFAULT_QUERY_SELECTOR);
+        this.minScore = builder.minScore;
+        this.maxResults = getOrDefault(builder.maxResults, Integer.MAX_VALUE);
+        this.maxCandidates = builder.maxCandidates == null
+                ? Integer.MAX_VALUE
+                : ensureGreaterThanZero(builder.maxCandidates, "maxCandidates");
+        this.maxSegmentsPerBatch = builder.maxSegmentsPerBatch == null
+                ? Integer.MAX_VALUE
+                : ensureGreaterThanZero(builder.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.executor = getOrDefault(builder.executor, DefaultExecutor.INSTANCE);
+        this.scoreCache = builder.scoreCacheSize == null || builder.scoreCacheSize == 0
+                ? null
+                : new ScoreCache(ensureGreaterThanZero(builder.scoreCacheSize, "scoreCacheSize"));
     }
 
     public static ReRankingContentAggregatorBuilder builder() {
@@ -125,23 +186,125 @@ public class ReRankingContentAggregator implements ContentAggregator {
 
     protected List<Content> reRankAndFilter(List<Content> contents, Query query) {
 
+        // equal segments (e.g., retrieved from multiple sources) are scored and returned only once
         List<TextSegment> segments = contents.stream()
                 .map(Content::textSegment)
+                .distinct()
+                .limit(maxCandidates)
+                .collect(Collectors.toList());
+
+        double[] scores = inChildSpan(Span.current(), RE_RANK, () -> {
+            Span.current().setAttribute(CONTENT_COUNT, segments.size());
+            return score(segments, query.text());
+        });
+
+        return IntStream.range(0, segments.size())
+                .filter(i -> minScore == null || scores[i] >= minScore)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(maxResults)
+                .map(i -> Content.from(segments.get(i), Map.of(RERANKED_SCORE, scores[i])))
                 .collect(Collectors.toList());
+    }
 
-        List<Double> scores = scoringModel.scoreAll(segments, query.text()).content();
+    private double[] score(List<TextSegment> segments, String query) {
 
-        Map<TextSegment, Double> segmentToScore = new HashMap<>();
+        double[] scores = new double[segments.size()];
+
+        List<Integer> indicesToScore = new ArrayList<>(segments.size());
+        long[] segmentHashes = new long[segments.size()];
         for (int i = 0; i < segments.size(); i++) {
-            segmentToScore.put(segments.get(i), scores.get(i));
+            if (scoreCache != null) {
+                segmentHashes[i] = hash(segments.get(i).text());
+                Double cachedScore = scoreCache.get(new ScoreKey(query, segmentHashes[i]));
+                if (cachedScore != null) {
+                    scores[i] = cachedScore;
+                    continue;
+                }
+            }
+            indicesToScore.add(i);
         }
 
-        return segmentToScore.entrySet().stream()
-                .filter(entry -> minScore == null || entry.getValue() >= minScore)
-                .sorted(Map.Entry.<TextSegment, Double>comparingByValue().reversed())
-                .map(entry ->  Content.from(entry.getKey(), Map.of(RERANKED_SCORE, entry.getValue())))
-                .limit(maxResults)
+        List<List<Integer>> batches = partition(indicesToScore, maxSegmentsPerBatch);
+        if (batches.size() == 1) {
+            scoreBatch(batches.get(0), segments, query, scores);
+        } else if (batches.size() > 1) {
+            List<CompletableFuture<Void>> futures = batches.stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> scoreBatch(batch, segments, query, scores), executor))
+                    .collect(Collectors.toList());
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        if (scoreCache != null) {
+            for (int i : indicesToScore) {
+                scoreCache.put(new ScoreKey(query, segmentHashes[i]), scores[i]);
+            }
+        }
+
+        return scores;
+    }
+
+    private void scoreBatch(List<Integer> batch, List<TextSegment> segments, String query, double[] scores) {
+        List<TextSegment> batchSegments = batch.stream()
+                .map(segments::get)
                 .collect(Collectors.toList());
+        List<Double> batchScores = scoringModel.scoreAll(batchSegments, query).content();
+        for (int i = 0; i < batch.size(); i++) {
+            scores[batch.get(i)] = batchScores.get(i);
+        }
+    }
+
+    private static List<List<Integer>> partition(List<Integer> indices, int batchSize) {
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < indices.size(); from += batchSize) {
+            batches.add(indices.subList(from, Math.min(from + batchSize, indices.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * A 64-bit FNV-1a hash of the text, so that the cache does not keep (and compare) whole segment texts.
+     */
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private record ScoreKey(String query, long segmentHash) {
+    }
+
+    private static class ScoreCache {
+
+        private final Map<ScoreKey, Double> scores;
+
+        private ScoreCache(int maxSize) {
+            this.scores = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScoreKey, Double> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        private synchronized Double get(ScoreKey key) {
+            return scores.get(key);
+        }
+
+        private synchronized void put(ScoreKey key, double score) {
+            scores.put(key, score);
+        }
     }
 
     public static class ReRankingContentAggregatorBuilder {
@@ -149,6 +312,10 @@ public class ReRankingContentAggregator implements ContentAggregator {
         private Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
         private Double minScore;
         private Integer maxResults;
+        private Integer maxCandidates;
+        private Integer maxSegmentsPerBatch;
+        private Executor executor;
+        private Integer scoreCacheSize;
 
         ReRankingContentAggregatorBuilder() {
         }
@@ -173,8 +340,47 @@ public class ReRankingContentAggregator implements ContentAggregator {
             return this;
         }
 
+        /**
+         * @param maxCandidates the maximum number of fused {@link Content}s that are re-ranked by the
+         *                      {@link ScoringModel}. By default, all fused {@link Content}s are re-ranked.
+         */
+        public ReRankingContentAggregatorBuilder maxCandidates(Integer maxCandidates) {
+            this.maxCandidates = maxCandidates;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerBatch the maximum number of segments scored by a single
+         *                            {@link ScoringModel#scoreAll(List, String)} call.
+         *                            Multiple batches are scored concurrently.
+         *                            By default, all segments are scored in a single call.
+         */
+        public ReRankingContentAggregatorBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param executor the {@link Executor} used to score multiple batches concurrently.
+         *                 By default, an executor shared by all instances is used.
+         */
+        public ReRankingContentAggregatorBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param scoreCacheSize the maximum number of (query, segment) scores to cache.
+         *                       The least recently used scores are evicted first.
+         *                       By default, scores are not cached.
+         */
+        public ReRankingContentAggregatorBuilder scoreCacheSize(Integer scoreCacheSize) {
+            this.scoreCacheSize = scoreCacheSize;
+            return this;
+        }
+
         public ReRankingContentAggregator build() {
-            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults);
+            return new ReRankingContentAggregator(this);
         }
     }
 }
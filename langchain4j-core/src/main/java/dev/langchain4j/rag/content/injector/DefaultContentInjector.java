@@ -4,20 +4,31 @@ import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.SpanNames.CONTENT_COUNT;
+import static dev.langchain4j.observability.SpanNames.CONTENT_TOKENS;
 import static java.util.stream.Collectors.joining;
 
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.input.Prompt;
 import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.observability.Span;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default implementation of {@link ContentInjector} intended to be suitable for the majority of use cases.
@@ -42,6 +53,18 @@ import java.util.Map;
  * <br>
  * - {@link #metadataKeysToInclude}: A list of {@link Metadata} keys that should be included
  * with each {@link Content#textSegment()}.
+ * <br>
+ * - {@link #maxTokens} and {@link #tokenCountEstimator}: The token budget for the injected {@link Content}s
+ * and the estimator used to count their tokens. When configured, the {@link Content}s are packed into the budget:
+ * they are taken greedily in the order of their score ({@link ContentMetadata#RERANKED_SCORE}
+ * or {@link ContentMetadata#SCORE}; in the given order when not all of them have a score),
+ * a {@link Content} that does not fit is truncated (when at least {@value #MIN_TRUNCATED_TOKENS} tokens are left)
+ * or dropped, and {@link Content}s that are adjacent segments of the same document
+ * (see {@link #areAdjacent(TextSegment, TextSegment)}) are merged into one, without their overlap.
+ * The number of injected {@link Content}s and their estimated token count are reported as the
+ * {@link dev.langchain4j.observability.SpanNames#CONTENT_COUNT} and
+ * {@link dev.langchain4j.observability.SpanNames#CONTENT_TOKENS} attributes of the current span.
+ * Note that the budget does not include the tokens of the user message and the prompt template.
  */
 public class DefaultContentInjector implements ContentInjector {
 
@@ -52,8 +75,18 @@ public class DefaultContentInjector implements ContentInjector {
                     Answer using the following information:
                     {{contents}}""");
 
+    static final int MIN_TRUNCATED_TOKENS = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultContentInjector.class);
+
+    private static final String INDEX = "index";
+    private static final int MIN_OVERLAP_LENGTH = 8;
+    private static final int MAX_OVERLAP_LENGTH = 2000;
+
     private final PromptTemplate promptTemplate;
     private final List<String> metadataKeysToInclude;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Integer maxTokens;
 
     public DefaultContentInjector() {
         this(DEFAULT_PROMPT_TEMPLATE, null);
@@ -68,8 +101,28 @@ public class DefaultContentInjector implements ContentInjector {
     }
 
     public DefaultContentInjector(PromptTemplate promptTemplate, List<String> metadataKeysToInclude) {
+        this(promptTemplate, metadataKeysToInclude, null, null);
+    }
+
+    /**
+     * @param tokenCountEstimator The estimator used to count the tokens of the {@link Content}s.
+     *                            Required when {@code maxTokens} is set.
+     * @param maxTokens           The maximum number of tokens of the injected {@link Content}s,
+     *                            or {@code null} to inject all {@link Content}s.
+     */
+    public DefaultContentInjector(PromptTemplate promptTemplate,
+                                  List<String> metadataKeysToInclude,
+                                  TokenCountEstimator tokenCountEstimator,
+                                  Integer maxTokens) {
         this.promptTemplate = getOrDefault(promptTemplate, DEFAULT_PROMPT_TEMPLATE);
         this.metadataKeysToInclude = copy(metadataKeysToInclude);
+        if (maxTokens != null) {
+            this.maxTokens = ensureGreaterThanZero(maxTokens, "maxTokens");
+            this.tokenCountEstimator = ensureNotNull(tokenCountEstimator, "tokenCountEstimator");
+        } else {
+            this.maxTokens = null;
+            this.tokenCountEstimator = tokenCountEstimator;
+        }
     }
 
     public static DefaultContentInjectorBuilder builder() {
@@ -83,6 +136,13 @@ public class DefaultContentInjector implements ContentInjector {
             return chatMessage;
         }
 
+        if (maxTokens != null) {
+            contents = pack(contents);
+            if (contents.isEmpty()) {
+                return chatMessage;
+            }
+        }
+
         Prompt prompt = createPrompt(chatMessage, contents);
         if (chatMessage instanceof UserMessage message && isNotNullOrBlank(message.name())) {
             return prompt.toUserMessage(message.name());
@@ -98,6 +158,230 @@ public class DefaultContentInjector implements ContentInjector {
         return promptTemplate.apply(variables);
     }
 
+    /**
+     * Selects the {@link Content}s to inject so that their estimated token count does not exceed {@link #maxTokens}.
+     * See the class javadoc for details.
+     *
+     * @param contents The {@link Content}s to pack.
+     * @return The {@link Content}s to inject, the most relevant first.
+     */
+    protected List<Content> pack(List<Content> contents) {
+        List<Content> ranked = rank(contents);
+
+        List<Content> packed = new ArrayList<>();
+        List<Integer> tokenCounts = new ArrayList<>();
+        int remainingTokens = maxTokens;
+        for (Content content : ranked) {
+            int tokenCount = estimateTokenCount(content);
+            if (tokenCount > remainingTokens) {
+                if (remainingTokens < MIN_TRUNCATED_TOKENS) {
+                    continue;
+                }
+                content = truncate(content, remainingTokens);
+                if (content == null) {
+                    continue;
+                }
+                tokenCount = estimateTokenCount(content);
+            }
+            packed.add(content);
+            tokenCounts.add(tokenCount);
+            remainingTokens -= tokenCount;
+            if (remainingTokens <= 0) {
+                break;
+            }
+        }
+
+        int usedTokens = mergeAdjacent(packed, tokenCounts);
+
+        log.debug("Packed {} of {} contents into {} of {} tokens", packed.size(), contents.size(), usedTokens, maxTokens);
+        Span.current()
+                .setAttribute(CONTENT_COUNT, packed.size())
+                .setAttribute(CONTENT_TOKENS, usedTokens);
+        return packed;
+    }
+
+    private static List<Content> rank(List<Content> contents) {
+        for (Content content : contents) {
+            if (score(content) == null) {
+                return contents;
+            }
+        }
+        List<Content> ranked = new ArrayList<>(contents);
+        ranked.sort(Comparator.comparingDouble((Content content) -> score(content)).reversed());
+        return ranked;
+    }
+
+    private static Double score(Content content) {
+        Object score = content.metadata().get(ContentMetadata.RERANKED_SCORE);
+        if (score == null) {
+            score = content.metadata().get(ContentMetadata.SCORE);
+        }
+        return score instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private int estimateTokenCount(Content content) {
+        return tokenCountEstimator.estimateTokenCountInText(format(content));
+    }
+
+    /**
+     * Truncates the text of the given {@link Content} at a whitespace, so that it fits into the given number of tokens.
+     *
+     * @return the truncated {@link Content}, or {@code null} if not even the first word fits.
+     */
+    private Content truncate(Content content, int maxTokens) {
+        String text = content.textSegment().text();
+        Content truncated = null;
+        int low = 1;
+        int high = text.length() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int end = lastWhitespaceBefore(text, middle);
+            if (end <= 0) {
+                low = middle + 1;
+                continue;
+            }
+            Content candidate = withText(content, text.substring(0, end).stripTrailing());
+            if (estimateTokenCount(candidate) <= maxTokens) {
+                truncated = candidate;
+                low = middle + 1;
+            } else {
+                high = end - 1;
+            }
+        }
+        return truncated;
+    }
+
+    private static int lastWhitespaceBefore(String text, int index) {
+        for (int i = index; i > 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Merges the packed {@link Content}s that are adjacent segments of the same document.
+     * The merged {@link Content} takes the place of the more relevant one.
+     * Runs of more than two consecutive segments are merged into a single {@link Content},
+     * whatever the order in which they were packed: a merged {@link Content} remembers the first and the last
+     * of its original segments, which are checked for adjacency against the other {@link Content}s.
+     *
+     * @return the estimated token count of all {@link Content}s after merging.
+     */
+    private int mergeAdjacent(List<Content> packed, List<Integer> tokenCounts) {
+        List<TextSegment> firstSegments = new ArrayList<>(packed.size());
+        List<TextSegment> lastSegments = new ArrayList<>(packed.size());
+        for (Content content : packed) {
+            firstSegments.add(content.textSegment());
+            lastSegments.add(content.textSegment());
+        }
+
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < packed.size() && !merged; i++) {
+                for (int j = i + 1; j < packed.size() && !merged; j++) {
+                    String first = packed.get(i).textSegment().text();
+                    String second = packed.get(j).textSegment().text();
+                    Content mergedContent = null;
+                    if (areAdjacent(lastSegments.get(i), firstSegments.get(j))) {
+                        mergedContent = withText(packed.get(i), join(first, second));
+                        lastSegments.set(i, lastSegments.get(j));
+                    } else if (areAdjacent(lastSegments.get(j), firstSegments.get(i))) {
+                        mergedContent = withText(packed.get(j), join(second, first), packed.get(i));
+                        firstSegments.set(i, firstSegments.get(j));
+                    }
+                    if (mergedContent != null) {
+                        packed.set(i, mergedContent);
+                        tokenCounts.set(i, estimateTokenCount(mergedContent));
+                        packed.remove(j);
+                        tokenCounts.remove(j);
+                        firstSegments.remove(j);
+                        lastSegments.remove(j);
+                        merged = true;
+                    }
+                }
+            }
+        }
+        return tokenCounts.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Checks whether the second segment directly follows the first one in the same document.
+     * This is the case when both segments have the {@code index} metadata key (set by the document splitters),
+     * the index of the second is one greater than the index of the first,
+     * and all other metadata entries (which the segments inherit from their document) are equal and not empty.
+     */
+    protected boolean areAdjacent(TextSegment first, TextSegment second) {
+        Integer firstIndex = index(first);
+        Integer secondIndex = index(second);
+        if (firstIndex == null || secondIndex == null || secondIndex != firstIndex + 1) {
+            return false;
+        }
+        Map<String, Object> firstMetadata = new HashMap<>(first.metadata().toMap());
+        Map<String, Object> secondMetadata = new HashMap<>(second.metadata().toMap());
+        firstMetadata.remove(INDEX);
+        secondMetadata.remove(INDEX);
+        return !firstMetadata.isEmpty() && Objects.equals(firstMetadata, secondMetadata);
+    }
+
+    private static Integer index(TextSegment segment) {
+        Object index = segment.metadata().toMap().get(INDEX);
+        if (index == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(index.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Joins the texts of two consecutive segments, dropping the overlap that document splitters add between segments.
+     * The overlap is the longest suffix of the first text that is also a prefix of the second text,
+     * consists of whole words (on both sides, it is delimited by a non-alphanumeric character or the end of the text)
+     * and is at least {@value #MIN_OVERLAP_LENGTH} characters long.
+     * Otherwise, the segments are not considered to overlap (e.g., "...items" and "support..."),
+     * and their texts are joined with a space.
+     */
+    private static String join(String first, String second) {
+        int maxOverlap = Math.min(MAX_OVERLAP_LENGTH, Math.min(first.length(), second.length()));
+        for (int overlap = maxOverlap; overlap >= MIN_OVERLAP_LENGTH; overlap--) {
+            if (first.regionMatches(first.length() - overlap, second, 0, overlap)
+                    && isWordBoundary(first, first.length() - overlap)
+                    && isWordBoundary(second, overlap)) {
+                return first + second.substring(overlap);
+            }
+        }
+        return first + " " + second;
+    }
+
+    /**
+     * Checks whether the given position of the text is not inside a word.
+     */
+    private static boolean isWordBoundary(String text, int position) {
+        return position == 0
+                || position == text.length()
+                || !Character.isLetterOrDigit(text.charAt(position - 1))
+                || !Character.isLetterOrDigit(text.charAt(position));
+    }
+
+    private static Content withText(Content content, String text) {
+        return withText(content, text, content);
+    }
+
+    /**
+     * @param segmentSource  the {@link Content} whose segment metadata is kept (the earlier segment of the document).
+     * @param text           the new text.
+     * @param metadataSource the {@link Content} whose {@link Content#metadata()} (e.g. score) is kept.
+     */
+    private static Content withText(Content segmentSource, String text, Content metadataSource) {
+        TextSegment segment = TextSegment.from(text, segmentSource.textSegment().metadata());
+        return Content.from(segment, metadataSource.metadata());
+    }
+
     protected String format(List<Content> contents) {
         return contents.stream().map(this::format).collect(joining("\n\n"));
     }
@@ -140,6 +424,8 @@ public class DefaultContentInjector implements ContentInjector {
 
         private PromptTemplate promptTemplate;
         private List<String> metadataKeysToInclude;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxTokens;
 
         DefaultContentInjectorBuilder() {}
 
@@ -153,8 +439,28 @@ public class DefaultContentInjector implements ContentInjector {
             return this;
         }
 
+        /**
+         * @param tokenCountEstimator The estimator used to count the tokens of the {@link Content}s.
+         *                            Required when {@link #maxTokens(Integer)} is set.
+         */
+        public DefaultContentInjectorBuilder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param maxTokens The maximum (estimated) number of tokens of the injected {@link Content}s.
+         *                  When set, the most relevant {@link Content}s are packed into this budget
+         *                  and the rest is truncated or dropped. By default, all {@link Content}s are injected.
+         */
+        public DefaultContentInjectorBuilder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
         public DefaultContentInjector build() {
-            return new DefaultContentInjector(this.promptTemplate, this.metadataKeysToInclude);
+            return new DefaultContentInjector(
+                    this.promptTemplate, this.metadataKeysToInclude, this.tokenCountEstimator, this.maxTokens);
         }
     }
 }
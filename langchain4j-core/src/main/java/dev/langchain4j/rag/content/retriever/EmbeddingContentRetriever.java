@@ -0,0 +1,53 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.query.Query;
+
+import java.util.List;
+
+/**
+ * A {@link ContentRetriever} that retrieves using an embedding of the {@link Query},
+ * and that can be given an embedding computed by the caller instead of embedding the {@link Query} itself.
+ * <br>
+ * This allows the caller (e.g., {@code DefaultRetrievalAugmentor}) to embed multiple {@link Query}s
+ * in a single {@link EmbeddingModel#embedAll(List)} call, and to embed each {@link Query} only once
+ * for all retrievers sharing the same {@link EmbeddingModel}.
+ * <br>
+ * Implementations must return the same {@link Content}s from {@link #retrieve(Query, Embedding)}
+ * as from {@link #retrieve(Query)}, given the embedding of {@link Query#text()}
+ * computed by the {@link #embeddingModel()}.
+ *
+ * @see EmbeddingStoreContentRetriever
+ */
+public interface EmbeddingContentRetriever extends ContentRetriever {
+
+    /**
+     * Returns the {@link EmbeddingModel} used to embed {@link Query}s.
+     *
+     * @return The {@link EmbeddingModel}.
+     */
+    EmbeddingModel embeddingModel();
+
+    /**
+     * Retrieves relevant {@link Content}s using a given {@link Query} and its already computed embedding.
+     *
+     * @param query         The {@link Query} to use for retrieval.
+     * @param embeddedQuery The embedding of the {@link Query#text()}, computed by the {@link #embeddingModel()}.
+     * @return A list of retrieved {@link Content}s.
+     */
+    List<Content> retrieve(Query query, Embedding embeddedQuery);
+
+    /**
+     * Returns whether {@link #retrieve(Query, Embedding)} can be called instead of {@link #retrieve(Query)}.
+     * Implementations can return {@code false} to always be called with {@link #retrieve(Query)}.
+     * <br>
+     * Default value: true.
+     *
+     * @return Whether the retriever accepts already computed embeddings of {@link Query}s.
+     */
+    default boolean acceptsEmbeddedQueries() {
+        return true;
+    }
+}
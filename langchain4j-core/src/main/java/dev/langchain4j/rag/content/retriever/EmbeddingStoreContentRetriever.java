@@ -7,12 +7,14 @@ import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -55,7 +57,7 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
  * It can be used to dynamically define {@code filter} value, depending on factors such as the query,
  * the user (using Metadata#chatMemoryId()} from {@link Query#metadata()}), etc.
  */
-public class EmbeddingStoreContentRetriever implements ContentRetriever {
+public class EmbeddingStoreContentRetriever implements EmbeddingContentRetriever {
 
     public static final Function<Query, Integer> DEFAULT_MAX_RESULTS = (query) -> 3;
     public static final Function<Query, Double> DEFAULT_MIN_SCORE = (query) -> 0.0;
@@ -222,10 +224,44 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         return builder().embeddingStore(embeddingStore).build();
     }
 
+    /**
+     * Returns the {@link EmbeddingModel} used to embed {@link Query}s.
+     * It can be used to embed multiple queries in a single batch,
+     * before retrieving with {@link #retrieve(Query, Embedding)}.
+     */
     @Override
-    public List<Content> retrieve(Query query) {
+    public EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    /**
+     * Returns {@code true}: {@link #retrieve(Query)} only embeds the query and delegates to
+     * {@link #retrieve(Query, Embedding)}, so callers can embed queries in a batch and call the latter directly.
+     * <br>
+     * Subclasses overriding {@link #retrieve(Query)} must override this method to return {@code false},
+     * otherwise their override is bypassed by such callers (e.g., {@link dev.langchain4j.rag.DefaultRetrievalAugmentor}).
+     */
+    @Override
+    public boolean acceptsEmbeddedQueries() {
+        return true;
+    }
 
+    @Override
+    public List<Content> retrieve(Query query) {
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
+        return retrieve(query, embeddedQuery);
+    }
+
+    /**
+     * Retrieves {@link Content}s relevant to the given {@link Query}, using an already computed embedding of it.
+     * This avoids embedding the same query multiple times, or embedding multiple queries one by one.
+     *
+     * @param query         The query.
+     * @param embeddedQuery The embedding of the {@link Query#text()}, computed by the {@link #embeddingModel()}.
+     * @return A list of relevant {@link Content}s.
+     */
+    @Override
+    public List<Content> retrieve(Query query, Embedding embeddedQuery) {
 
         EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
@@ -237,16 +273,20 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
 
         return searchResult.matches().stream()
-                .map(embeddingMatch -> Content.from(
-                        embeddingMatch.embedded(),
-                        Map.of(
-                                ContentMetadata.SCORE, embeddingMatch.score(),
-                                ContentMetadata.EMBEDDING_ID, embeddingMatch.embeddingId()
-                        )
-                ))
+                .map(EmbeddingStoreContentRetriever::toContent)
                 .collect(Collectors.toList());
     }
 
+    private static Content toContent(EmbeddingMatch<TextSegment> embeddingMatch) {
+        Map<ContentMetadata, Object> metadata = new EnumMap<>(ContentMetadata.class);
+        metadata.put(ContentMetadata.SCORE, embeddingMatch.score());
+        metadata.put(ContentMetadata.EMBEDDING_ID, embeddingMatch.embeddingId());
+        if (embeddingMatch.embedding() != null) {
+            metadata.put(ContentMetadata.EMBEDDING, embeddingMatch.embedding());
+        }
+        return Content.from(embeddingMatch.embedded(), metadata);
+    }
+
     @Override
     public String toString() {
         return "EmbeddingStoreContentRetriever{" +
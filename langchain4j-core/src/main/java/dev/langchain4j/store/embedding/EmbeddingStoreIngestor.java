@@ -8,15 +8,20 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -53,6 +58,8 @@ public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    static final int DEFAULT_DOCUMENTS_PER_BATCH = 32;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
@@ -209,6 +216,58 @@ public class EmbeddingStoreIngestor {
         return new IngestionResult(embeddingsResponse.tokenUsage());
     }
 
+    /**
+     * Ingests documents from the specified stream into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}, in batches of {@value #DEFAULT_DOCUMENTS_PER_BATCH}
+     * documents.
+     * <br>
+     * See {@link #ingest(Stream, int)} for details.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        return ingest(documents, DEFAULT_DOCUMENTS_PER_BATCH);
+    }
+
+    /**
+     * Ingests documents from the specified stream into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * The stream is consumed in batches of {@code documentsPerBatch} documents, each batch is ingested
+     * (transformed, split, embedded and stored) before the next one is taken from the stream.
+     * This way, large collections of documents can be ingested without holding all of them in memory at once,
+     * and, when the stream is populated concurrently (for example, by
+     * {@code FileSystemDocumentLoader.streamDocumentsRecursively()}), the loading and parsing of the next documents
+     * overlaps with the embedding of the current batch.
+     * <br>
+     * The stream is not closed by this method.
+     *
+     * @param documents         the documents to ingest.
+     * @param documentsPerBatch the number of documents ingested at once.
+     * @return result including information related to ingestion process,
+     * with the token usage summed over all batches.
+     */
+    public IngestionResult ingest(Stream<Document> documents, int documentsPerBatch) {
+        ensureNotNull(documents, "documents");
+        ensureGreaterThanZero(documentsPerBatch, "documentsPerBatch");
+
+        TokenUsage tokenUsage = null;
+        List<Document> batch = new ArrayList<>(documentsPerBatch);
+        Iterator<Document> iterator = documents.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == documentsPerBatch) {
+                tokenUsage = TokenUsage.sum(tokenUsage, ingest(batch).tokenUsage());
+                batch = new ArrayList<>(documentsPerBatch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            tokenUsage = TokenUsage.sum(tokenUsage, ingest(batch).tokenUsage());
+        }
+        return new IngestionResult(tokenUsage);
+    }
+
     /**
      * Creates a new EmbeddingStoreIngestor builder.
      *
@@ -0,0 +1,49 @@
+package dev.langchain4j.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+class DaemonExecutorsTest {
+
+    @Test
+    void should_create_named_daemon_threads() throws Exception {
+
+        // given
+        ExecutorService executor = DaemonExecutors.newFixedPool("test-daemon-executors", 2);
+
+        try {
+            // when
+            Thread thread = executor.submit(Thread::currentThread).get(10, SECONDS);
+
+            // then
+            assertThat(thread.isDaemon()).isTrue();
+            assertThat(thread.getName()).matches("test-daemon-executors-\\d+");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_number_threads_with_same_prefix_across_executors() throws Exception {
+
+        // given
+        ExecutorService first = DaemonExecutors.newFixedPool("test-numbering", 1);
+        ExecutorService second = DaemonExecutors.newFixedPool("test-numbering", 1);
+
+        try {
+            // when
+            String firstName = first.submit(() -> Thread.currentThread().getName()).get(10, SECONDS);
+            String secondName = second.submit(() -> Thread.currentThread().getName()).get(10, SECONDS);
+
+            // then
+            assertThat(firstName).isEqualTo("test-numbering-1");
+            assertThat(secondName).isEqualTo("test-numbering-2");
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+}
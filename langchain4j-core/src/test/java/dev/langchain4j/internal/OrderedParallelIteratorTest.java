@@ -0,0 +1,181 @@
+package dev.langchain4j.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class OrderedParallelIteratorTest {
+
+    @Test
+    void should_return_results_in_order_of_inputs_and_skip_nulls() {
+
+        // given
+        Iterator<Integer> inputs = IntStream.range(0, 20).boxed().iterator();
+
+        // when
+        List<Integer> results;
+        try (Stream<Integer> stream = new OrderedParallelIterator<Integer, Integer>(
+                        inputs,
+                        i -> {
+                            sleep((20 - i) % 5);
+                            return i % 3 == 0 ? null : i * 10;
+                        },
+                        4,
+                        "test")
+                .stream()) {
+            results = stream.toList();
+        }
+
+        // then
+        assertThat(results).containsExactly(10, 20, 40, 50, 70, 80, 100, 110, 130, 140, 160, 170, 190);
+    }
+
+    @Test
+    void should_consume_inputs_lazily() {
+
+        // given
+        AtomicInteger consumedInputs = new AtomicInteger();
+        Iterator<Integer> inputs = IntStream.range(0, 1000)
+                .peek(i -> consumedInputs.incrementAndGet())
+                .boxed()
+                .iterator();
+
+        // when
+        try (OrderedParallelIterator<Integer, Integer> iterator =
+                new OrderedParallelIterator<>(inputs, i -> i, 2, "test")) {
+            iterator.next();
+
+            // then
+            assertThat(consumedInputs.get()).isLessThanOrEqualTo(2 * 2 + 1);
+        }
+    }
+
+    @Test
+    void should_rethrow_task_failure_unchanged() {
+
+        // given
+        OrderedParallelIterator<Integer, Integer> iterator = new OrderedParallelIterator<>(
+                List.of(1, 2, 3).iterator(),
+                i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("failed: " + i);
+                    }
+                    return i;
+                },
+                2,
+                "test");
+
+        // when-then
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThatThrownBy(iterator::next)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("failed: 2");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_rethrow_input_failure() {
+
+        // given
+        Iterator<Integer> inputs = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("cannot list inputs");
+            }
+        };
+        OrderedParallelIterator<Integer, Integer> iterator = new OrderedParallelIterator<>(inputs, i -> i, 2, "test");
+
+        // when-then
+        assertThatThrownBy(iterator::hasNext)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot list inputs");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_call_close_handlers_once_when_exhausted() {
+
+        // given
+        AtomicInteger closeCount = new AtomicInteger();
+        OrderedParallelIterator<Integer, Integer> iterator = new OrderedParallelIterator<Integer, Integer>(
+                        List.of(1, 2, 3).iterator(), i -> i, 2, "test")
+                .onClose(closeCount::incrementAndGet);
+
+        // when
+        List<Integer> results = iterator.stream().toList();
+        iterator.close();
+
+        // then
+        assertThat(results).containsExactly(1, 2, 3);
+        assertThat(closeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_call_close_handlers_after_running_tasks_completed() {
+
+        // given
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger runningTasksWhenClosed = new AtomicInteger(-1);
+        OrderedParallelIterator<Integer, Integer> iterator = new OrderedParallelIterator<Integer, Integer>(
+                        IntStream.range(0, 10).boxed().iterator(),
+                        i -> {
+                            runningTasks.incrementAndGet();
+                            try {
+                                sleepUninterruptibly(i == 0 ? 0 : 200);
+                                return i;
+                            } finally {
+                                runningTasks.decrementAndGet();
+                            }
+                        },
+                        2,
+                        "test")
+                .onClose(() -> runningTasksWhenClosed.set(runningTasks.get()));
+
+        assertThat(iterator.next()).isEqualTo(0);
+        while (runningTasks.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        iterator.close();
+
+        // then
+        assertThat(runningTasksWhenClosed.get()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        long end = System.currentTimeMillis() + millis;
+        boolean interrupted = false;
+        while (System.currentTimeMillis() < end) {
+            try {
+                Thread.sleep(Math.max(1, end - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
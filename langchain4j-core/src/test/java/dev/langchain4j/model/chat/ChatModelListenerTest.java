@@ -3,13 +3,16 @@ package dev.langchain4j.model.chat;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelPartialResponseContext;
 import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
 import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -141,4 +144,52 @@ class ChatModelListenerTest {
         // then
         verify(listener2).onResponse(any());
     }
+
+    @Test
+    void should_call_listeners_for_each_partial_response() {
+
+        // given
+        List<String> events = new ArrayList<>();
+        ChatModelListener listener = new ChatModelListener() {
+
+            @Override
+            public void onRequest(ChatModelRequestContext requestContext) {
+                events.add("request");
+            }
+
+            @Override
+            public void onPartialResponse(ChatModelPartialResponseContext partialResponseContext) {
+                events.add("partial: " + partialResponseContext.partialResponse());
+            }
+
+            @Override
+            public void onResponse(ChatModelResponseContext responseContext) {
+                events.add("response");
+            }
+        };
+        StreamingChatModel model = new StreamingChatModel() {
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                handler.onPartialResponse("Hello");
+                handler.onPartialResponse(" world");
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from("Hello world"))
+                        .build());
+            }
+        };
+
+        // when
+        TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+        model.chat("hi", handler);
+
+        // then
+        assertThat(handler.get().aiMessage().text()).isEqualTo("Hello world");
+        assertThat(events).containsExactly("request", "partial: Hello", "partial:  world", "response");
+    }
 }
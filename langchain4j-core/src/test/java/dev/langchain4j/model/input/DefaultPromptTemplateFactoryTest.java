@@ -0,0 +1,63 @@
+package dev.langchain4j.model.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultPromptTemplateFactoryTest {
+
+    @Test
+    void should_reuse_cached_template() {
+
+        // given
+        DefaultPromptTemplateFactory.TemplateCache cache = new DefaultPromptTemplateFactory.TemplateCache(100, 50);
+
+        // when
+        DefaultPromptTemplateFactory.DefaultTemplate first = cache.getOrCompile("Hello {{name}}");
+        DefaultPromptTemplateFactory.DefaultTemplate second = cache.getOrCompile("Hello {{name}}");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.totalLength()).isEqualTo("Hello {{name}}".length());
+    }
+
+    @Test
+    void should_evict_least_recently_used_templates_when_total_length_is_exceeded() {
+
+        // given
+        DefaultPromptTemplateFactory.TemplateCache cache = new DefaultPromptTemplateFactory.TemplateCache(30, 30);
+        String a = "aaaaaaaaa {{a}}"; // 15 chars
+        String b = "bbbbbbbbb {{b}}";
+        String c = "ccccccccc {{c}}";
+
+        // when
+        cache.getOrCompile(a);
+        cache.getOrCompile(b);
+        cache.getOrCompile(a);
+        cache.getOrCompile(c);
+
+        // then
+        assertThat(cache.contains(a)).isTrue();
+        assertThat(cache.contains(b)).isFalse();
+        assertThat(cache.contains(c)).isTrue();
+        assertThat(cache.totalLength()).isEqualTo(30);
+    }
+
+    @Test
+    void should_not_cache_long_templates() {
+
+        // given
+        DefaultPromptTemplateFactory.TemplateCache cache = new DefaultPromptTemplateFactory.TemplateCache(1000, 10);
+        String template = "Answer the question using the following information: {{information}}";
+
+        // when
+        DefaultPromptTemplateFactory.DefaultTemplate compiled = cache.getOrCompile(template);
+
+        // then
+        assertThat(compiled.render(Map.of("information", "none"))).endsWith("information: none");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.totalLength()).isZero();
+    }
+}
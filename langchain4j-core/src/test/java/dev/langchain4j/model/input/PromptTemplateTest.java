@@ -96,6 +96,53 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_allow_spaces_around_variable_name() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("My name is {{ name }}, I am {{age }} years old.");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "Klaus");
+        variables.put("age", 42);
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("My name is Klaus, I am 42 years old.");
+    }
+
+    @Test
+    void should_not_substitute_variables_inside_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("Answer {{question}} using {{context}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("question", "what is {{context}}?");
+        variables.put("context", "{{question}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("Answer what is {{context}}? using {{question}}");
+    }
+
+    @Test
+    void should_render_same_template_with_different_values() {
+
+        // given
+        PromptTemplate first = PromptTemplate.from("My name is {{name}}.");
+        PromptTemplate second = PromptTemplate.from("My name is {{name}}.");
+
+        // when-then
+        assertThat(first.apply(singletonMap("name", "Klaus")).text()).isEqualTo("My name is Klaus.");
+        assertThat(second.apply(singletonMap("name", "Francine")).text()).isEqualTo("My name is Francine.");
+        assertThat(first.apply(singletonMap("name", "Francine")).text()).isEqualTo("My name is Francine.");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
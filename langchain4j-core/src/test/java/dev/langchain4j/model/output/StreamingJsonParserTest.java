@@ -0,0 +1,101 @@
+package dev.langchain4j.model.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingJsonParserTest {
+
+    record Item(String name, int quantity) {}
+
+    static class RecordingListener implements StreamingJsonParser.Listener {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onField(String name, String valueJson) {
+            events.add("field " + name + " = " + valueJson);
+        }
+
+        @Override
+        public void onArrayElement(String fieldName, int index, String elementJson) {
+            events.add("element " + fieldName + "[" + index + "] = " + elementJson);
+        }
+
+        @Override
+        public void onComplete(String json) {
+            events.add("complete " + json);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 1000})
+    void should_emit_fields_and_array_elements_regardless_of_chunking(int chunkSize) {
+
+        // given
+        String json =
+                """
+                {"title": "Shopping \\"list\\"", "count": 2, "items": [{"name": "a]}", "quantity": 1}, \
+                {"name": "b", "quantity": -2.5e1}], "nested": {"numbers": [1, 2]}, "done": true}""";
+
+        RecordingListener listener = new RecordingListener();
+        StreamingJsonParser parser = new StreamingJsonParser(listener);
+
+        // when
+        for (int i = 0; i < json.length(); i += chunkSize) {
+            parser.feed(json.substring(i, Math.min(json.length(), i + chunkSize)));
+        }
+
+        // then
+        assertThat(listener.events)
+                .containsExactly(
+                        "field title = \"Shopping \\\"list\\\"\"",
+                        "field count = 2",
+                        "element items[0] = {\"name\": \"a]}\", \"quantity\": 1}",
+                        "element items[1] = {\"name\": \"b\", \"quantity\": -2.5e1}",
+                        "field items = [{\"name\": \"a]}\", \"quantity\": 1}, {\"name\": \"b\", \"quantity\": -2.5e1}]",
+                        "field nested = {\"numbers\": [1, 2]}",
+                        "field done = true",
+                        "complete " + json);
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    @Test
+    void should_emit_array_elements_as_soon_as_they_are_closed() {
+
+        // given
+        List<Item> items = new ArrayList<>();
+        StreamingJsonParser parser =
+                new StreamingJsonParser(StreamingJsonParser.Listener.arrayElements(Item.class, items::add));
+
+        // when-then
+        parser.feed("[{\"name\": \"a\", \"quantity\": 1}, {\"name\": \"b\"");
+        assertThat(items).containsExactly(new Item("a", 1));
+        assertThat(parser.isComplete()).isFalse();
+
+        parser.feed(", \"quantity\": 2}]");
+        assertThat(items).containsExactly(new Item("a", 1), new Item("b", 2));
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    @Test
+    void should_ignore_text_around_json() {
+
+        // given
+        List<String> fields = new ArrayList<>();
+        StreamingJsonParser parser = new StreamingJsonParser(
+                StreamingJsonParser.Listener.fields((name, value) -> fields.add(name + "=" + value)));
+
+        // when
+        parser.feed("```json\n{\"name\": ");
+        parser.feed("\"Klaus\", \"age\": 42}\n```");
+        parser.feed("{\"ignored\": true}");
+
+        // then
+        assertThat(fields).containsExactly("name=\"Klaus\"", "age=42");
+    }
+}
@@ -16,30 +16,44 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.rag.query.Metadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -322,6 +336,259 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(queryRouter);
     }
 
+    @Test
+    void should_skip_retrievers_exceeding_retriever_timeout() {
+
+        // given
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        ContentRetriever fastRetriever = new TestContentRetriever(content1);
+        ContentRetriever slowRetriever = new SlowContentRetriever(Duration.ofSeconds(5), content2);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new TestQueryRouter(asList(fastRetriever, slowRetriever)))
+                .contentAggregator(new TestContentAggregator())
+                .retrieverTimeout(Duration.ofMillis(100))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        long start = System.nanoTime();
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(2000);
+        assertThat(result.contents()).containsExactly(content1);
+    }
+
+    @Test
+    void should_return_contents_retrieved_so_far_when_timeout_is_exceeded() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        ContentRetriever fastRetriever = new TestContentRetriever(content1);
+        ContentRetriever slowRetriever = new SlowContentRetriever(Duration.ofSeconds(5), content2);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(query -> query.equals(query1) ? singletonList(fastRetriever) : singletonList(slowRetriever))
+                .contentAggregator(new TestContentAggregator())
+                .timeout(Duration.ofMillis(200))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        long start = System.nanoTime();
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(2000);
+        assertThat(result.contents()).containsExactly(content1);
+    }
+
+    @Test
+    void should_skip_retrievers_that_usually_exceed_retriever_timeout() {
+
+        // given
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        ContentRetriever fastRetriever = spy(new TestContentRetriever(content1));
+        ContentRetriever slowRetriever = spy(new SlowContentRetriever(Duration.ofMillis(500), content2));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new TestQueryRouter(asList(fastRetriever, slowRetriever)))
+                .contentAggregator(new TestContentAggregator())
+                .retrieverTimeout(Duration.ofMillis(50))
+                .skipSlowRetrievers(true)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+        int augmentations = RetrieverLatencyTracker.MIN_OBSERVATIONS + 5;
+
+        // when
+        for (int i = 0; i < augmentations; i++) {
+            AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+            assertThat(result.contents()).containsExactly(content1);
+        }
+
+        // then
+        verify(fastRetriever, times(augmentations)).retrieve(any());
+        verify(slowRetriever, times(RetrieverLatencyTracker.MIN_OBSERVATIONS)).retrieve(any());
+    }
+
+    @Test
+    void should_embed_all_queries_in_a_single_batch() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryTransformer queryTransformer = new TestQueryTransformer(query1, query2);
+
+        CountingEmbeddingModel embeddingModel = new CountingEmbeddingModel();
+
+        EmbeddingStore<TextSegment> embeddingStore1 = mock(EmbeddingStore.class);
+        when(embeddingStore1.search(any())).thenReturn(new EmbeddingSearchResult<>(
+                singletonList(new EmbeddingMatch<>(0.9, "id1", null, TextSegment.from("content 1")))));
+        EmbeddingStore<TextSegment> embeddingStore2 = mock(EmbeddingStore.class);
+        when(embeddingStore2.search(any())).thenReturn(new EmbeddingSearchResult<>(
+                singletonList(new EmbeddingMatch<>(0.8, "id2", null, TextSegment.from("content 2")))));
+
+        ContentRetriever contentRetriever1 = new EmbeddingStoreContentRetriever(embeddingStore1, embeddingModel);
+        ContentRetriever contentRetriever2 = new EmbeddingStoreContentRetriever(embeddingStore2, embeddingModel);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .queryRouter(new DefaultQueryRouter(contentRetriever1, contentRetriever2))
+                .contentAggregator(new TestContentAggregator())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(result.contents()).hasSize(4);
+        assertThat(embeddingModel.embeddedBatches).containsExactly(asList("query 1", "query 2"));
+
+        ArgumentCaptor<EmbeddingSearchRequest> searchRequests = ArgumentCaptor.forClass(EmbeddingSearchRequest.class);
+        verify(embeddingStore1, times(2)).search(searchRequests.capture());
+        assertThat(searchRequests.getAllValues())
+                .extracting(EmbeddingSearchRequest::queryEmbedding)
+                .containsExactlyInAnyOrder(CountingEmbeddingModel.embed("query 1"), CountingEmbeddingModel.embed("query 2"));
+    }
+
+    @Test
+    void should_embed_only_queries_routed_to_retrievers_using_embedding_model() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 22");
+        QueryTransformer queryTransformer = new TestQueryTransformer(query1, query2);
+
+        CountingEmbeddingModel embeddingModel1 = new CountingEmbeddingModel();
+        CountingEmbeddingModel embeddingModel2 = new CountingEmbeddingModel();
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(
+                singletonList(new EmbeddingMatch<>(0.9, "id1", null, TextSegment.from("content")))));
+
+        ContentRetriever contentRetriever1 = new EmbeddingStoreContentRetriever(embeddingStore, embeddingModel1);
+        ContentRetriever contentRetriever2 = new EmbeddingStoreContentRetriever(embeddingStore, embeddingModel2);
+        QueryRouter queryRouter = query -> query.equals(query1)
+                ? singletonList(contentRetriever1)
+                : asList(contentRetriever1, contentRetriever2);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .queryRouter(queryRouter)
+                .contentAggregator(new TestContentAggregator())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(result.contents()).hasSize(3);
+        assertThat(embeddingModel1.embeddedBatches).containsExactly(asList("query 1", "query 22"));
+        assertThat(embeddingModel2.embeddedBatches).containsExactly(singletonList("query 22"));
+    }
+
+    @Test
+    void should_not_bypass_retrieve_method_of_retriever_not_accepting_embedded_queries() {
+
+        // given
+        QueryTransformer queryTransformer = new TestQueryTransformer(Query.from("query 1"), Query.from("query 2"));
+
+        CountingEmbeddingModel embeddingModel = new CountingEmbeddingModel();
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(emptyList()));
+
+        Content content = Content.from("content");
+        ContentRetriever contentRetriever = new EmbeddingStoreContentRetriever(embeddingStore, embeddingModel) {
+
+            @Override
+            public List<Content> retrieve(Query query) {
+                return singletonList(content);
+            }
+
+            @Override
+            public boolean acceptsEmbeddedQueries() {
+                return false;
+            }
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .contentRetriever(contentRetriever)
+                .contentAggregator(new TestContentAggregator())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(result.contents()).containsExactly(content, content);
+        assertThat(embeddingModel.embeddedBatches).isEmpty();
+        verifyNoInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_limit_concurrency() {
+
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<ContentRetriever> retrievers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Content content = Content.from("content " + i);
+            retrievers.add(query -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+                return singletonList(content);
+            });
+        }
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new TestQueryRouter(retrievers))
+                .contentAggregator(new TestContentAggregator())
+                .executor(Executors.newFixedThreadPool(10))
+                .maxConcurrency(3)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(result.contents()).hasSize(10);
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
     static Stream<Executor> executors() {
         return Stream.<Executor>builder()
                 .add(Executors.newCachedThreadPool())
@@ -376,6 +643,43 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class CountingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> embeddedBatches = new CopyOnWriteArrayList<>();
+
+        static Embedding embed(String text) {
+            return Embedding.from(new float[] {text.length(), text.charAt(text.length() - 1)});
+        }
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<String> texts = textSegments.stream().map(TextSegment::text).collect(toList());
+            embeddedBatches.add(texts);
+            return Response.from(texts.stream().map(CountingEmbeddingModel::embed).collect(toList()));
+        }
+    }
+
+    static class SlowContentRetriever implements ContentRetriever {
+
+        private final Duration delay;
+        private final List<Content> contents;
+
+        SlowContentRetriever(Duration delay, Content... contents) {
+            this.delay = delay;
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return contents;
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
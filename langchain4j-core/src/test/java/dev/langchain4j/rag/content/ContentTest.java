@@ -3,6 +3,7 @@ package dev.langchain4j.rag.content;
 import static dev.langchain4j.rag.content.ContentMetadata.SCORE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -79,4 +80,18 @@ class ContentTest {
                 .hasToString(
                         "DefaultContent { textSegment = TextSegment { text = \"content\" metadata = {} }, metadata = {} }");
     }
+
+    @Test
+    void to_string_without_embedding() {
+
+        // given
+        final var content = Content.from(
+                TextSegment.from("content"),
+                Map.of(SCORE, 0.5, ContentMetadata.EMBEDDING, Embedding.from(new float[] {1, 2, 3})));
+
+        // then
+        assertThat(content)
+                .hasToString(
+                        "DefaultContent { textSegment = TextSegment { text = \"content\" metadata = {} }, metadata = {SCORE=0.5} }");
+    }
 }
@@ -0,0 +1,144 @@
+package dev.langchain4j.rag.content.aggregator;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.query.Query;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiversifyingContentAggregatorTest {
+
+    private static final String TEXT = "To cancel a reservation, go to the bookings page, select the reservation "
+            + "and click the cancel button. Cancellations are free of charge up to 24 hours before the check-in.";
+
+    @Test
+    void should_remove_near_duplicates() {
+
+        // given
+        Content original = Content.from(TEXT);
+        Content unrelated = Content.from("Pets are allowed in all rooms of the hotel for a small extra fee per night.");
+        Content mirrored = Content.from(TEXT.replace(", ", ",\n").toUpperCase() + " Thank you!");
+        Content contained = Content.from("select the reservation and click the cancel button. Cancellations are free of charge");
+
+        ContentAggregator aggregator = new DiversifyingContentAggregator();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(original, unrelated, mirrored, contained));
+
+        // then
+        assertThat(aggregated).containsExactly(original, unrelated);
+    }
+
+    @Test
+    void should_keep_less_relevant_content_containing_more_relevant_one() {
+
+        // given
+        Content child = Content.from("select the reservation and click the cancel button. Cancellations are free of charge");
+        Content parent = Content.from(TEXT);
+
+        ContentAggregator aggregator = DiversifyingContentAggregator.builder()
+                .lambda(1.0)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(child, parent));
+
+        // then
+        assertThat(aggregated).containsExactly(child, parent);
+    }
+
+    @Test
+    void should_keep_short_content_sharing_only_a_few_words_with_long_one() {
+
+        // given
+        Content longContent = Content.from(TEXT.repeat(20));
+        Content shortContent = Content.from("click the cancel button to leave the settings page");
+
+        ContentAggregator aggregator = DiversifyingContentAggregator.builder()
+                .lambda(1.0)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(longContent, shortContent));
+
+        // then
+        assertThat(aggregated).containsExactly(longContent, shortContent);
+    }
+
+    @Test
+    void should_diversify_using_embeddings() {
+
+        // given
+        Content cancellation = embedded("How to cancel a reservation", 1, 0);
+        Content cancellationFees = embedded("Fees for cancelling a reservation", 0.95f, 0.05f);
+        Content pets = embedded("Pets are allowed", 0.1f, 0.9f);
+
+        ContentAggregator aggregator = DiversifyingContentAggregator.builder()
+                .lambda(0.5)
+                .maxResults(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(cancellation, cancellationFees, pets));
+
+        // then
+        assertThat(aggregated).containsExactly(cancellation, pets);
+    }
+
+    @Test
+    void should_keep_order_of_relevance_when_lambda_is_one() {
+
+        // given
+        Content cancellation = embedded("How to cancel a reservation", 1, 0);
+        Content cancellationFees = embedded("Fees for cancelling a reservation", 0.95f, 0.05f);
+        Content pets = embedded("Pets are allowed", 0.1f, 0.9f);
+
+        ContentAggregator aggregator = DiversifyingContentAggregator.builder()
+                .lambda(1.0)
+                .maxResults(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(cancellation, cancellationFees, pets));
+
+        // then
+        assertThat(aggregated).containsExactly(cancellation, cancellationFees);
+    }
+
+    @Test
+    void should_return_contents_in_order_of_relevance_when_time_budget_is_exceeded() {
+
+        // given
+        Content original = Content.from(TEXT);
+        Content duplicate = Content.from(TEXT.replace("24 hours", "twenty-four hours"));
+        Content other = Content.from("Pets are allowed");
+
+        ContentAggregator aggregator = DiversifyingContentAggregator.builder()
+                .timeBudget(Duration.ZERO)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(contents(original, duplicate, other));
+
+        // then
+        assertThat(aggregated).containsExactly(original, duplicate, other);
+    }
+
+    private static Content embedded(String text, float... vector) {
+        return Content.from(TextSegment.from(text), Map.of(ContentMetadata.EMBEDDING, Embedding.from(vector)));
+    }
+
+    private static Map<Query, Collection<List<Content>>> contents(Content... contents) {
+        return singletonMap(Query.from("query"), singletonList(List.of(contents)));
+    }
+}
@@ -24,7 +24,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -240,6 +242,127 @@ class ReRankingContentAggregatorTest {
         assertReRankedContentScore(aggregated, 0.6, 0.5);
     }
 
+    @Test
+    void should_score_in_concurrent_batches() {
+
+        // given
+        Query query = Query.from("query");
+        List<Content> contents = contents(5);
+
+        TestScoringModel scoringModel = new TestScoringModel();
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxSegmentsPerBatch(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(singletonMap(query, singletonList(contents)));
+
+        // then
+        assertThat(scoringModel.batchSizes).containsExactlyInAnyOrder(2, 2, 1);
+        assertReRankedContentOrder(
+                aggregated, contents.get(4), contents.get(3), contents.get(2), contents.get(1), contents.get(0));
+        assertReRankedContentScore(aggregated, 0.5, 0.4, 0.3, 0.2, 0.1);
+    }
+
+    @Test
+    void should_reuse_cached_scores() {
+
+        // given
+        Query query = Query.from("query");
+        List<Content> contents = contents(3);
+
+        TestScoringModel scoringModel = new TestScoringModel();
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .scoreCacheSize(10)
+                .build();
+
+        aggregator.aggregate(singletonMap(query, singletonList(contents.subList(0, 2))));
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(singletonMap(query, singletonList(contents)));
+
+        // then
+        assertThat(scoringModel.batchSizes).containsExactly(2, 1); // only "content 3" is scored the second time
+        assertReRankedContentOrder(aggregated, contents.get(2), contents.get(1), contents.get(0));
+        assertReRankedContentScore(aggregated, 0.3, 0.2, 0.1);
+
+        // when
+        aggregator.aggregate(singletonMap(Query.from("another query"), singletonList(contents)));
+
+        // then
+        assertThat(scoringModel.batchSizes).containsExactly(2, 1, 3);
+    }
+
+    @Test
+    void should_re_rank_only_max_candidates() {
+
+        // given
+        Query query = Query.from("query");
+        List<Content> contents = contents(5);
+
+        TestScoringModel scoringModel = new TestScoringModel();
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxCandidates(3)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(singletonMap(query, singletonList(contents)));
+
+        // then
+        assertThat(scoringModel.batchSizes).containsExactly(3);
+        assertReRankedContentOrder(aggregated, contents.get(2), contents.get(1), contents.get(0));
+    }
+
+    @Test
+    void should_score_equal_segments_once() {
+
+        // given
+        Query query = Query.from("query");
+        List<Content> contents = contents(2);
+
+        TestScoringModel scoringModel = new TestScoringModel();
+
+        ReRankingContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .build();
+
+        // when
+        List<Content> reRanked = aggregator.reRankAndFilter(
+                asList(contents.get(0), contents.get(1), Content.from("content 1")), query);
+
+        // then
+        assertThat(scoringModel.batchSizes).containsExactly(2);
+        assertReRankedContentOrder(reRanked, contents.get(1), contents.get(0));
+    }
+
+    private static List<Content> contents(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> Content.from("content " + i))
+                .toList();
+    }
+
+    /**
+     * Scores "content N" with N / 10.
+     */
+    private static class TestScoringModel implements ScoringModel {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+            batchSizes.add(segments.size());
+            return Response.from(segments.stream()
+                    .map(segment -> Integer.parseInt(segment.text().substring("content ".length())) / 10.0)
+                    .toList());
+        }
+    }
+
     @ParameterizedTest
     @MethodSource
     void should_return_empty_list_when_there_is_no_content_to_rerank(
@@ -3,20 +3,25 @@ package dev.langchain4j.rag.content.injector;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ExampleTestTokenCountEstimator;
 import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DefaultContentInjectorTest {
@@ -240,4 +245,157 @@ class DefaultContentInjectorTest {
                 ))
                 .build();
     }
+
+    @Test
+    void should_pack_highest_scoring_contents_into_token_budget() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        List<Content> contents = asList(
+                scored("Bananas are tasty and yellow.", 0.7),
+                scored("Bananas are a great source of potassium.", 0.9),
+                scored("Bananas grow in clusters called hands.", 0.8)
+        );
+
+        ContentInjector injector = DefaultContentInjector.builder()
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxTokens(12)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                Tell me about bananas.
+
+                Answer using the following information:
+                Bananas are a great source of potassium.
+
+                Bananas are tasty and yellow.""");
+    }
+
+    @Test
+    void should_truncate_content_that_does_not_fit_into_token_budget() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        List<Content> contents = asList(
+                scored(words(0, 30), 0.9),
+                scored(words(100, 50), 0.8)
+        );
+
+        ContentInjector injector = DefaultContentInjector.builder()
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxTokens(70)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).endsWith(words(0, 30) + "\n\n" + words(100, 40));
+    }
+
+    @Test
+    void should_merge_adjacent_segments_of_same_document() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about foxes.");
+
+        Metadata metadata = Metadata.from("file_name", "fox.txt");
+        List<Content> contents = asList(
+                scored(TextSegment.from("fox jumps over the lazy dog.", metadata.copy().put("index", "1")), 0.9),
+                scored(TextSegment.from("Foxes are small.", Metadata.from("file_name", "other.txt").put("index", "0")), 0.8),
+                scored(TextSegment.from("The quick brown fox jumps", metadata.copy().put("index", "0")), 0.7)
+        );
+
+        ContentInjector injector = DefaultContentInjector.builder()
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxTokens(100)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                Tell me about foxes.
+
+                Answer using the following information:
+                The quick brown fox jumps over the lazy dog.
+
+                Foxes are small.""");
+    }
+
+    @Test
+    void should_merge_runs_of_adjacent_segments_into_one() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about foxes.");
+
+        Metadata metadata = Metadata.from("file_name", "fox.txt");
+        List<Content> contents = asList(
+                scored(TextSegment.from("The quick brown fox", metadata.copy().put("index", "0")), 0.9),
+                scored(TextSegment.from("over the lazy dog.", metadata.copy().put("index", "2")), 0.8),
+                scored(TextSegment.from("jumps", metadata.copy().put("index", "1")), 0.7)
+        );
+
+        ContentInjector injector = DefaultContentInjector.builder()
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxTokens(100)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                Tell me about foxes.
+
+                Answer using the following information:
+                The quick brown fox jumps over the lazy dog.""");
+    }
+
+    @Test
+    void should_not_drop_shared_characters_of_adjacent_segments_that_do_not_overlap() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("What is supported?");
+
+        Metadata metadata = Metadata.from("file_name", "features.txt");
+        List<Content> contents = asList(
+                scored(TextSegment.from("The list contains items", metadata.copy().put("index", "0")), 0.9),
+                scored(TextSegment.from("support is planned.", metadata.copy().put("index", "1")), 0.8)
+        );
+
+        ContentInjector injector = DefaultContentInjector.builder()
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxTokens(100)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                What is supported?
+
+                Answer using the following information:
+                The list contains items support is planned.""");
+    }
+
+    private static Content scored(String text, double score) {
+        return scored(TextSegment.from(text), score);
+    }
+
+    private static Content scored(TextSegment segment, double score) {
+        return Content.from(segment, Map.of(ContentMetadata.SCORE, score));
+    }
+
+    private static String words(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(i -> "w" + i).collect(joining(" "));
+    }
 }
@@ -0,0 +1,214 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelPartialResponseContext;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A {@link ChatModelListener} that records Micrometer metrics for {@link ChatModel}s and {@link StreamingChatModel}s.
+ * <br>
+ * <br>
+ * The following metrics are recorded for each request:
+ * <br>
+ * - {@code gen_ai.client.operation.duration}: request latency (timer), with the {@code error.type} tag for failed requests.
+ * <br>
+ * - {@code gen_ai.client.token.usage}: number of input and output tokens (distribution summary),
+ * with the {@code gen_ai.token.type} tag.
+ * <br>
+ * - {@code gen_ai.client.errors}: number of failed requests (counter), with the {@code error.type} tag.
+ * <br>
+ * - {@code gen_ai.client.active_requests}: number of requests in flight (long task timer).
+ * <br>
+ * <br>
+ * Additionally, for streaming requests:
+ * <br>
+ * - {@code gen_ai.client.time_to_first_token}: time until the first partial response is received (timer).
+ * <br>
+ * - {@code gen_ai.client.time_per_output_chunk}: inter-token latency, time between two partial responses (timer).
+ * <br>
+ * - {@code gen_ai.client.output_tokens_per_second}: decoding speed after the first token (distribution summary).
+ * It is calculated from the output token count reported by the provider,
+ * or from the number of partial responses when the token usage is not available.
+ * <br>
+ * <br>
+ * All metrics are tagged with {@code gen_ai.operation.name} ({@code chat}),
+ * {@code gen_ai.system} (the {@link dev.langchain4j.model.ModelProvider}) and {@code gen_ai.request.model}.
+ * Response metrics are also tagged with {@code gen_ai.response.model}.
+ * <br>
+ * <br>
+ * The same listener instance can be shared by multiple models.
+ *
+ * @see MicrometerEmbeddingModel
+ * @see MicrometerScoringModel
+ */
+public class MicrometerChatModelListener implements ChatModelListener {
+
+    static final String OPERATION_NAME = "chat";
+
+    /**
+     * The key under which the state of a single request is stored in the listener attributes.
+     * Each listener instance uses its own key, so that multiple listeners do not interfere with each other.
+     */
+    private final Object stateKey = new Object();
+    private final ModelMetrics metrics;
+
+    public MicrometerChatModelListener(Builder builder) {
+        this.metrics = new ModelMetrics(builder.meterRegistry, builder.tags, builder.percentileHistogram);
+    }
+
+    @Override
+    public void onRequest(ChatModelRequestContext requestContext) {
+        Tags tags = metrics.tags(
+                OPERATION_NAME,
+                requestContext.modelProvider(),
+                requestContext.chatRequest().modelName());
+        LongTaskTimer.Sample activeRequest = metrics.startActiveRequest(tags);
+        requestContext.attributes().put(stateKey, new RequestState(tags, activeRequest, System.nanoTime()));
+    }
+
+    @Override
+    public void onPartialResponse(ChatModelPartialResponseContext partialResponseContext) {
+        RequestState state = (RequestState) partialResponseContext.attributes().get(stateKey);
+        if (state != null) {
+            state.onPartialResponse(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext responseContext) {
+        RequestState state = (RequestState) responseContext.attributes().remove(stateKey);
+        if (state == null) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        state.activeRequest.stop();
+
+        ChatResponse chatResponse = responseContext.chatResponse();
+        String responseModel = chatResponse.modelName();
+        metrics.recordDuration(state.tags, responseModel, nowNanos - state.startNanos);
+        metrics.recordTokenUsage(state.tags, responseModel, chatResponse.tokenUsage());
+
+        Double tokensPerSecond = state.outputTokensPerSecond(chatResponse.tokenUsage(), nowNanos);
+        if (tokensPerSecond != null) {
+            metrics.recordOutputTokensPerSecond(state.tags, responseModel, tokensPerSecond);
+        }
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext errorContext) {
+        RequestState state = (RequestState) errorContext.attributes().remove(stateKey);
+        if (state == null) {
+            return;
+        }
+        state.activeRequest.stop();
+        metrics.recordError(state.tags, errorContext.error(), System.nanoTime() - state.startNanos);
+    }
+
+    /**
+     * The state of a single request. Partial responses of a single request are delivered sequentially,
+     * but not necessarily on the same thread, hence the synchronization.
+     */
+    private class RequestState {
+
+        private final Tags tags;
+        private final LongTaskTimer.Sample activeRequest;
+        private final long startNanos;
+
+        private long firstChunkNanos;
+        private long lastChunkNanos;
+        private int chunkCount;
+        private Timer timePerOutputChunkTimer;
+
+        RequestState(Tags tags, LongTaskTimer.Sample activeRequest, long startNanos) {
+            this.tags = tags;
+            this.activeRequest = activeRequest;
+            this.startNanos = startNanos;
+        }
+
+        synchronized void onPartialResponse(long nowNanos) {
+            if (chunkCount == 0) {
+                firstChunkNanos = nowNanos;
+                metrics.timeToFirstTokenTimer(tags).record(nowNanos - startNanos, NANOSECONDS);
+                timePerOutputChunkTimer = metrics.timePerOutputChunkTimer(tags);
+            } else {
+                timePerOutputChunkTimer.record(nowNanos - lastChunkNanos, NANOSECONDS);
+            }
+            lastChunkNanos = nowNanos;
+            chunkCount++;
+        }
+
+        /**
+         * @return the number of output tokens (after the first one) per second,
+         * or {@code null} if this is not a streaming request or it cannot be calculated
+         */
+        synchronized Double outputTokensPerSecond(TokenUsage tokenUsage, long nowNanos) {
+            if (chunkCount == 0) {
+                return null;
+            }
+            int outputTokens = tokenUsage != null && tokenUsage.outputTokenCount() != null
+                    ? tokenUsage.outputTokenCount()
+                    : chunkCount;
+            long decodingNanos = nowNanos - firstChunkNanos;
+            if (outputTokens <= 1 || decodingNanos <= 0) {
+                return null;
+            }
+            return (outputTokens - 1) / (decodingNanos / 1_000_000_000.0);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private MeterRegistry meterRegistry;
+        private Iterable<Tag> tags;
+        private Boolean percentileHistogram;
+
+        /**
+         * @param meterRegistry the {@link MeterRegistry} to record metrics into.
+         * @return builder
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * @param tags additional tags added to all metrics (e.g. the application or tenant).
+         * @return builder
+         */
+        public Builder tags(Iterable<Tag> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        /**
+         * @param percentileHistogram whether to publish percentile histograms for latencies and token usage,
+         *                            so that percentiles can be aggregated across instances. Default: {@code true}.
+         * @return builder
+         */
+        public Builder percentileHistogram(Boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+            return this;
+        }
+
+        public MicrometerChatModelListener build() {
+            return new MicrometerChatModelListener(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import java.util.List;
+
+/**
+ * A {@link ScoringModel} that records Micrometer metrics for the calls to the underlying {@link ScoringModel}.
+ * <br>
+ * <br>
+ * The same metrics as in {@link MicrometerChatModelListener} are recorded
+ * ({@code gen_ai.client.operation.duration}, {@code gen_ai.client.token.usage}, {@code gen_ai.client.errors}
+ * and {@code gen_ai.client.active_requests}), tagged with {@code gen_ai.operation.name} = {@code scoring}.
+ * <br>
+ * Since {@link ScoringModel} does not expose its provider and model name, they should be configured explicitly.
+ */
+public class MicrometerScoringModel implements ScoringModel {
+
+    static final String OPERATION_NAME = "scoring";
+
+    private final ScoringModel delegate;
+    private final ModelMetrics metrics;
+    private final Tags tags;
+    private final String modelName;
+
+    public MicrometerScoringModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.scoringModel, "scoringModel");
+        this.metrics = new ModelMetrics(builder.meterRegistry, builder.tags, builder.percentileHistogram);
+        this.modelName = builder.modelName;
+        this.tags = metrics.tags(OPERATION_NAME, builder.modelProvider, modelName);
+    }
+
+    @Override
+    public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+        long startNanos = System.nanoTime();
+        LongTaskTimer.Sample activeRequest = metrics.startActiveRequest(tags);
+        try {
+            Response<List<Double>> response = delegate.scoreAll(segments, query);
+            metrics.recordDuration(tags, modelName, System.nanoTime() - startNanos);
+            metrics.recordTokenUsage(tags, modelName, response.tokenUsage());
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordError(tags, e, System.nanoTime() - startNanos);
+            throw e;
+        } finally {
+            activeRequest.stop();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ScoringModel scoringModel;
+        private MeterRegistry meterRegistry;
+        private ModelProvider modelProvider;
+        private String modelName;
+        private Iterable<Tag> tags;
+        private Boolean percentileHistogram;
+
+        /**
+         * @param scoringModel the {@link ScoringModel} to record metrics for.
+         * @return builder
+         */
+        public Builder scoringModel(ScoringModel scoringModel) {
+            this.scoringModel = scoringModel;
+            return this;
+        }
+
+        /**
+         * @param meterRegistry the {@link MeterRegistry} to record metrics into.
+         * @return builder
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * @param modelProvider the provider of the scoring model, used for the {@code gen_ai.system} tag.
+         * @return builder
+         */
+        public Builder modelProvider(ModelProvider modelProvider) {
+            this.modelProvider = modelProvider;
+            return this;
+        }
+
+        /**
+         * @param modelName the name of the scoring model, used for the {@code gen_ai.request.model} tag.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param tags additional tags added to all metrics.
+         * @return builder
+         */
+        public Builder tags(Iterable<Tag> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        /**
+         * @param percentileHistogram whether to publish percentile histograms. Default: {@code true}.
+         * @return builder
+         */
+        public Builder percentileHistogram(Boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+            return this;
+        }
+
+        public MicrometerScoringModel build() {
+            return new MicrometerScoringModel(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+
+/**
+ * Records model metrics into a {@link MeterRegistry}.
+ * Metric and tag names follow the OpenTelemetry semantic conventions for generative AI,
+ * so that the metrics can be exported as-is via the Micrometer OTLP registry or the OpenTelemetry bridge.
+ */
+class ModelMetrics {
+
+    static final String OPERATION_DURATION = "gen_ai.client.operation.duration";
+    static final String TOKEN_USAGE = "gen_ai.client.token.usage";
+    static final String TIME_TO_FIRST_TOKEN = "gen_ai.client.time_to_first_token";
+    static final String TIME_PER_OUTPUT_CHUNK = "gen_ai.client.time_per_output_chunk";
+    static final String OUTPUT_TOKENS_PER_SECOND = "gen_ai.client.output_tokens_per_second";
+    static final String ERRORS = "gen_ai.client.errors";
+    static final String ACTIVE_REQUESTS = "gen_ai.client.active_requests";
+
+    static final String OPERATION_NAME_TAG = "gen_ai.operation.name";
+    static final String SYSTEM_TAG = "gen_ai.system";
+    static final String REQUEST_MODEL_TAG = "gen_ai.request.model";
+    static final String RESPONSE_MODEL_TAG = "gen_ai.response.model";
+    static final String TOKEN_TYPE_TAG = "gen_ai.token.type";
+    static final String ERROR_TYPE_TAG = "error.type";
+
+    static final String UNKNOWN = "unknown";
+    static final String NO_ERROR = "none";
+
+    private final MeterRegistry registry;
+    private final Tags commonTags;
+    private final boolean percentileHistogram;
+
+    ModelMetrics(MeterRegistry registry, Iterable<Tag> commonTags, Boolean percentileHistogram) {
+        this.registry = ensureNotNull(registry, "meterRegistry");
+        this.commonTags = Tags.of(commonTags == null ? Tags.empty() : commonTags);
+        this.percentileHistogram = percentileHistogram == null || percentileHistogram;
+    }
+
+    Tags tags(String operationName, ModelProvider modelProvider, String requestModel) {
+        return commonTags.and(
+                OPERATION_NAME_TAG, operationName,
+                SYSTEM_TAG, system(modelProvider),
+                REQUEST_MODEL_TAG, requestModel == null ? UNKNOWN : requestModel);
+    }
+
+    static String system(ModelProvider modelProvider) {
+        return modelProvider == null ? UNKNOWN : modelProvider.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Starts tracking an in-flight request. The returned sample must be stopped when the request completes.
+     * <br>
+     * The in-flight requests are tracked by a {@link LongTaskTimer}, which the registry caches like any other meter,
+     * so all the {@code ModelMetrics} sharing a registry (e.g., several listeners) count their requests together.
+     */
+    LongTaskTimer.Sample startActiveRequest(Tags tags) {
+        return LongTaskTimer.builder(ACTIVE_REQUESTS)
+                .description("Requests that are currently in flight")
+                .tags(tags)
+                .register(registry)
+                .start();
+    }
+
+    void recordDuration(Tags tags, String responseModel, long durationNanos) {
+        durationTimer(tags, responseModel, NO_ERROR).record(durationNanos, NANOSECONDS);
+    }
+
+    void recordError(Tags tags, Throwable error, long durationNanos) {
+        String errorType = error.getClass().getName();
+        durationTimer(tags, null, errorType).record(durationNanos, NANOSECONDS);
+        Counter.builder(ERRORS)
+                .description("Number of failed requests, by error type")
+                .tags(tags)
+                .tag(ERROR_TYPE_TAG, errorType)
+                .register(registry)
+                .increment();
+    }
+
+    void recordTokenUsage(Tags tags, String responseModel, TokenUsage tokenUsage) {
+        if (tokenUsage == null) {
+            return;
+        }
+        Tags responseTags = tags.and(RESPONSE_MODEL_TAG, responseModel == null ? UNKNOWN : responseModel);
+        if (tokenUsage.inputTokenCount() != null) {
+            tokenSummary(responseTags.and(TOKEN_TYPE_TAG, "input")).record(tokenUsage.inputTokenCount());
+        }
+        if (tokenUsage.outputTokenCount() != null) {
+            tokenSummary(responseTags.and(TOKEN_TYPE_TAG, "output")).record(tokenUsage.outputTokenCount());
+        }
+    }
+
+    Timer timeToFirstTokenTimer(Tags tags) {
+        return Timer.builder(TIME_TO_FIRST_TOKEN)
+                .description("Time from sending the request until the first token is received")
+                .tags(tags)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    Timer timePerOutputChunkTimer(Tags tags) {
+        return Timer.builder(TIME_PER_OUTPUT_CHUNK)
+                .description("Time between two consecutive chunks (usually tokens) of a streamed response")
+                .tags(tags)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    void recordOutputTokensPerSecond(Tags tags, String responseModel, double tokensPerSecond) {
+        DistributionSummary.builder(OUTPUT_TOKENS_PER_SECOND)
+                .description("Decoding speed of a streamed response, measured after the first token")
+                .baseUnit("tokens/s")
+                .tags(tags)
+                .tag(RESPONSE_MODEL_TAG, responseModel == null ? UNKNOWN : responseModel)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry)
+                .record(tokensPerSecond);
+    }
+
+    /**
+     * The duration timer always has the same tag keys, whether the operation succeeded or failed,
+     * as some registries (e.g., Prometheus) reject meters with the same name but different tag keys.
+     */
+    private Timer durationTimer(Tags tags, String responseModel, String errorType) {
+        return Timer.builder(OPERATION_DURATION)
+                .description("Duration of model operations")
+                .tags(tags)
+                .tag(RESPONSE_MODEL_TAG, responseModel == null ? UNKNOWN : responseModel)
+                .tag(ERROR_TYPE_TAG, errorType)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private DistributionSummary tokenSummary(Tags tags) {
+        return DistributionSummary.builder(TOKEN_USAGE)
+                .description("Number of input and output tokens used")
+                .baseUnit("tokens")
+                .tags(tags)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+}
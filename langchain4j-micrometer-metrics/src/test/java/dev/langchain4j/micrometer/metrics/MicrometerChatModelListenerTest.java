@@ -0,0 +1,269 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.model.ModelProvider.OPEN_AI;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.request.DefaultChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MicrometerChatModelListenerTest {
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+
+    ChatModelListener listener =
+            MicrometerChatModelListener.builder().meterRegistry(registry).build();
+
+    @Test
+    void should_record_duration_and_token_usage() {
+
+        // given
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("hi"))
+                        .modelName("gpt-4o-mini-2024-07-18")
+                        .tokenUsage(new TokenUsage(10, 3))
+                        .build();
+            }
+
+            @Override
+            public ChatRequestParameters defaultRequestParameters() {
+                return DefaultChatRequestParameters.builder().modelName("gpt-4o-mini").build();
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+
+            @Override
+            public ModelProvider provider() {
+                return OPEN_AI;
+            }
+        };
+
+        // when
+        model.chat("hi");
+        model.chat("hi");
+
+        // then
+        Timer duration = registry.get("gen_ai.client.operation.duration")
+                .tag("gen_ai.operation.name", "chat")
+                .tag("gen_ai.system", "open_ai")
+                .tag("gen_ai.request.model", "gpt-4o-mini")
+                .tag("gen_ai.response.model", "gpt-4o-mini-2024-07-18")
+                .tag("error.type", "none")
+                .timer();
+        assertThat(duration.count()).isEqualTo(2);
+
+        DistributionSummary inputTokens = registry.get("gen_ai.client.token.usage")
+                .tag("gen_ai.token.type", "input")
+                .summary();
+        assertThat(inputTokens.totalAmount()).isEqualTo(20);
+        DistributionSummary outputTokens = registry.get("gen_ai.client.token.usage")
+                .tag("gen_ai.token.type", "output")
+                .summary();
+        assertThat(outputTokens.totalAmount()).isEqualTo(6);
+
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+        assertThat(registry.find("gen_ai.client.time_to_first_token").timer()).isNull();
+    }
+
+    @Test
+    void should_record_errors_by_type() {
+
+        // given
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                throw new IllegalStateException("something went wrong");
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+        };
+
+        // when
+        assertThatThrownBy(() -> model.chat("hi")).isExactlyInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(registry.get("gen_ai.client.errors")
+                        .tag("error.type", IllegalStateException.class.getName())
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("gen_ai.client.operation.duration")
+                        .tag("gen_ai.response.model", "unknown")
+                        .tag("error.type", IllegalStateException.class.getName())
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+    }
+
+    @Test
+    void should_track_requests_in_flight() {
+
+        // given
+        double[] activeRequestsDuringCall = new double[1];
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                activeRequestsDuringCall[0] =
+                        registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks();
+                return ChatResponse.builder().aiMessage(AiMessage.from("hi")).build();
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+        };
+
+        // when
+        model.chat("hi");
+
+        // then
+        assertThat(activeRequestsDuringCall[0]).isEqualTo(1);
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+    }
+
+    @Test
+    void should_track_requests_in_flight_of_all_listeners_sharing_registry() {
+
+        // given
+        ChatModelListener otherListener =
+                MicrometerChatModelListener.builder().meterRegistry(registry).build();
+        double[] activeRequestsDuringCall = new double[1];
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                activeRequestsDuringCall[0] =
+                        registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks();
+                return ChatResponse.builder().aiMessage(AiMessage.from("hi")).build();
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener, otherListener);
+            }
+        };
+
+        // when
+        model.chat("hi");
+
+        // then
+        assertThat(activeRequestsDuringCall[0]).isEqualTo(2);
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+    }
+
+    @Test
+    void should_record_time_to_first_token_and_inter_token_latency_for_streaming() {
+
+        // given
+        StreamingChatModel model = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                sleep(50);
+                handler.onPartialResponse("Hello");
+                sleep(20);
+                handler.onPartialResponse(" ");
+                sleep(20);
+                handler.onPartialResponse("world");
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from("Hello world"))
+                        .tokenUsage(new TokenUsage(5, 3))
+                        .build());
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+        };
+
+        // when
+        TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+        model.chat("hi", handler);
+        handler.get();
+
+        // then
+        Timer timeToFirstToken =
+                registry.get("gen_ai.client.time_to_first_token").timer();
+        assertThat(timeToFirstToken.count()).isEqualTo(1);
+        assertThat(timeToFirstToken.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+
+        Timer timePerOutputChunk =
+                registry.get("gen_ai.client.time_per_output_chunk").timer();
+        assertThat(timePerOutputChunk.count()).isEqualTo(2);
+        assertThat(timePerOutputChunk.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+
+        DistributionSummary tokensPerSecond =
+                registry.get("gen_ai.client.output_tokens_per_second").summary();
+        assertThat(tokensPerSecond.count()).isEqualTo(1);
+        assertThat(tokensPerSecond.max()).isBetween(1.0, 100.0); // 2 tokens in ~40 ms
+    }
+
+    @Test
+    void should_not_interfere_with_other_listener_instances() {
+
+        // given
+        MeterRegistry otherRegistry = new SimpleMeterRegistry();
+        ChatModelListener otherListener =
+                MicrometerChatModelListener.builder().meterRegistry(otherRegistry).build();
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                return ChatResponse.builder().aiMessage(AiMessage.from("hi")).build();
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener, otherListener);
+            }
+        };
+
+        // when
+        model.chat("hi");
+
+        // then
+        assertThat(registry.get("gen_ai.client.operation.duration").timer().count()).isEqualTo(1);
+        assertThat(otherRegistry.get("gen_ai.client.operation.duration").timer().count()).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
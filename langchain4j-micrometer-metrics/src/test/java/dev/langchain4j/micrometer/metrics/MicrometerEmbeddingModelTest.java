@@ -0,0 +1,84 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.model.ModelProvider.OPEN_AI;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.model.scoring.ScoringModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MicrometerEmbeddingModelTest {
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void should_record_embedding_metrics() {
+
+        // given
+        EmbeddingModel embeddingModel = textSegments -> Response.from(
+                textSegments.stream().map(segment -> Embedding.from(new float[] {1, 2})).toList(),
+                new TokenUsage(textSegments.size() * 4));
+
+        EmbeddingModel model = MicrometerEmbeddingModel.builder()
+                .embeddingModel(embeddingModel)
+                .meterRegistry(registry)
+                .modelProvider(OPEN_AI)
+                .modelName("text-embedding-3-small")
+                .build();
+
+        // when
+        model.embedAll(List.of(TextSegment.from("one"), TextSegment.from("two")));
+        model.embed("three");
+
+        // then
+        assertThat(registry.get("gen_ai.client.operation.duration")
+                        .tag("gen_ai.operation.name", "embeddings")
+                        .tag("gen_ai.system", "open_ai")
+                        .tag("gen_ai.request.model", "text-embedding-3-small")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+        assertThat(registry.get("gen_ai.client.token.usage")
+                        .tag("gen_ai.token.type", "input")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(12);
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+    }
+
+    @Test
+    void should_record_scoring_errors() {
+
+        // given
+        ScoringModel scoringModel = (segments, query) -> {
+            throw new IllegalArgumentException("too long");
+        };
+
+        ScoringModel model = MicrometerScoringModel.builder()
+                .scoringModel(scoringModel)
+                .meterRegistry(registry)
+                .modelName("rerank-v3")
+                .build();
+
+        // when
+        assertThatThrownBy(() -> model.score("text", "query")).isExactlyInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(registry.get("gen_ai.client.errors")
+                        .tag("gen_ai.operation.name", "scoring")
+                        .tag("gen_ai.system", "unknown")
+                        .tag("error.type", IllegalArgumentException.class.getName())
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("gen_ai.client.active_requests").longTaskTimer().activeTasks()).isZero();
+    }
+}
@@ -7,6 +7,7 @@ import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 abstract class AbstractInProcessScoringModel implements ScoringModel {
@@ -22,6 +23,15 @@ abstract class AbstractInProcessScoringModel implements ScoringModel {
         }
     }
 
+    static OnnxScoringBertCrossEncoder loadFromFileSystem(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                                          int maxBatchSize, int sessionCount, Executor executor) {
+        try {
+            return new OnnxScoringBertCrossEncoder(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, maxBatchSize, sessionCount, executor);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected abstract OnnxScoringBertCrossEncoder model();
 
     public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
@@ -8,31 +8,65 @@ import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.OrtSession.Result;
+import dev.langchain4j.internal.DaemonExecutors;
 
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import static ai.onnxruntime.OnnxTensor.createTensor;
 
-class OnnxScoringBertCrossEncoder {
+class OnnxScoringBertCrossEncoder implements AutoCloseable {
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 32;
 
     private final OrtEnvironment environment;
-    private final OrtSession session;
+    private final BlockingQueue<OrtSession> sessions;
+    private final Executor executor;
+    private final ExecutorService ownExecutor;
     private final Set<String> expectedInputs;
     private final HuggingFaceTokenizer tokenizer;
     private final boolean normalize;
+    private final int maxBatchSize;
 
     public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
+        this(modelPath, options, pathToTokenizer, modelMaxLength, normalize, DEFAULT_MAX_BATCH_SIZE, 1, null);
+    }
+
+    /**
+     * @param maxBatchSize the maximum number of (query, document) pairs scored by a single {@code session.run}.
+     *                     Pairs are sorted by their token length before being split into batches,
+     *                     so that short documents are not padded to the length of the longest one.
+     * @param sessionCount the number of {@link OrtSession}s. When greater than 1, multiple batches are scored
+     *                     concurrently, each by its own session. Note that each session holds its own copy of the model.
+     * @param executor     the executor running the batches concurrently, when there are multiple sessions.
+     *                     If {@code null}, a pool of {@code sessionCount} threads is created, and shut down by {@link #close()}.
+     */
+    public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                       int maxBatchSize, int sessionCount, Executor executor) {
         try {
             this.environment = OrtEnvironment.getEnvironment();
-            this.session = this.environment.createSession(modelPath, options);
-            this.expectedInputs = session.getInputNames();
+            this.sessions = new ArrayBlockingQueue<>(sessionCount);
+            for (int i = 0; i < sessionCount; i++) {
+                this.sessions.add(this.environment.createSession(modelPath, options));
+            }
+            this.expectedInputs = sessions.peek().getInputNames();
+            this.ownExecutor = sessionCount > 1 && executor == null
+                    ? DaemonExecutors.newFixedPool("langchain4j-onnx-scoring", sessionCount)
+                    : null;
+            this.executor = sessionCount > 1 ? (executor != null ? executor : ownExecutor) : null;
             Map<String, String> tokenizerOptions = new HashMap<String, String>() {{
-                put("padding", "true");
+                put("padding", "false"); // each batch is padded separately, to the length of its longest pair
                 put("truncation", "LONGEST_FIRST"); // Default maximum length limit, LONGEST-FIRST prioritizes truncating the longest part
                 put("modelMaxLength", String.valueOf(modelMaxLength - 2));
             }};
             this.normalize = normalize;
+            this.maxBatchSize = maxBatchSize;
             this.tokenizer = HuggingFaceTokenizer.newInstance(Paths.get(pathToTokenizer), tokenizerOptions);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -51,32 +85,110 @@ class OnnxScoringBertCrossEncoder {
     }
 
     ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
-        int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
+        if (documents.isEmpty()) {
+            return new ScoringAndTokenCount(new ArrayList<>(), 0);
+        }
+
         PairList<String, String> pairs = new PairList<>();
         for (String document : documents) {
             pairs.add(query, document);
-            tokenCount += queryTokenCount + tokenizer.tokenize(document).size() - 2; // do not count special tokens [CLS] and [SEP]
         }
-        try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
+
+        // each pair is tokenized once, the encodings are used both for token counting and for inference
+        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
+        int tokenCount = 0;
+        for (Encoding encoding : encodings) {
+            tokenCount += countNonSpecialTokens(encoding);
+        }
+
+        double[] scores = new double[encodings.length];
+        List<int[]> batches = batchesByLength(encodings);
+        if (executor == null || batches.size() == 1) {
+            for (int[] batch : batches) {
+                scoreBatch(encodings, batch, scores);
+            }
+        } else {
+            CompletableFuture<?>[] futures = batches.stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> scoreBatch(encodings, batch, scores), executor))
+                    .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        List<Double> scoreList = new ArrayList<>(scores.length);
+        for (double score : scores) {
+            scoreList.add(score);
+        }
+        return new ScoringAndTokenCount(scoreList, tokenCount);
+    }
+
+    /**
+     * Splits the pairs into batches of pairs of similar token length.
+     *
+     * @return the indices of the pairs in each batch.
+     */
+    private List<int[]> batchesByLength(Encoding[] encodings) {
+        Integer[] indices = new Integer[encodings.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, Comparator.comparingInt(i -> encodings[i].getIds().length));
+
+        List<int[]> batches = new ArrayList<>();
+        for (int from = 0; from < indices.length; from += maxBatchSize) {
+            int to = Math.min(from + maxBatchSize, indices.length);
+            int[] batch = new int[to - from];
+            for (int i = from; i < to; i++) {
+                batch[i - from] = indices[i];
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void scoreBatch(Encoding[] encodings, int[] batch, double[] scores) {
+        OrtSession session;
+        try {
+            session = sessions.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        try (Result result = this.encode(session, encodings, batch)) {
+            float[][] output = (float[][]) result.get(0).getValue();
+            for (int i = 0; i < batch.length; i++) {
+                scores[batch[i]] = toScore(output[i]);
+            }
         } catch (OrtException e) {
             throw new RuntimeException(e);
+        } finally {
+            sessions.add(session);
         }
-        return new ScoringAndTokenCount(scores, tokenCount);
     }
 
-    private Result encode(PairList<String, String> pairs) throws OrtException {
-        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
-        long[][] inputIds = new long[encodings.length][];
-        long[][] attentionMask = new long[encodings.length][];
-        long[][] tokenTypeIds = new long[encodings.length][];
+    private Result encode(OrtSession session, Encoding[] encodings, int[] batch) throws OrtException {
+        int maxLength = 0;
+        for (int index : batch) {
+            maxLength = Math.max(maxLength, encodings[index].getIds().length);
+        }
+
+        // padded positions keep the (zero) attention mask, so the padding token ID does not affect the scores
+        long[][] inputIds = new long[batch.length][maxLength];
+        long[][] attentionMask = new long[batch.length][maxLength];
+        long[][] tokenTypeIds = new long[batch.length][maxLength];
 
-        for (int i = 0; i < encodings.length; i++) {
-            inputIds[i] = encodings[i].getIds();
-            attentionMask[i] = encodings[i].getAttentionMask();
-            tokenTypeIds[i] = encodings[i].getTypeIds();
+        for (int i = 0; i < batch.length; i++) {
+            Encoding encoding = encodings[batch[i]];
+            long[] ids = encoding.getIds();
+            System.arraycopy(ids, 0, inputIds[i], 0, ids.length);
+            System.arraycopy(encoding.getAttentionMask(), 0, attentionMask[i], 0, ids.length);
+            System.arraycopy(encoding.getTypeIds(), 0, tokenTypeIds[i], 0, ids.length);
         }
 
         try (
@@ -96,21 +208,51 @@ class OnnxScoringBertCrossEncoder {
         }
     }
 
-    private List<Double> toScore(OrtSession.Result result) throws OrtException {
-        float[][] output = (float[][]) result.get(0).getValue();
-        List<Double> scores = new ArrayList<>();
-        for (float[] floats : output) {
-            if (normalize) {
-                scores.add(sigmoid(floats[0]));
-            } else {
-                scores.add((double)floats[0]);
+    /**
+     * Counts the tokens of the query and the document, without the special tokens ([CLS] and [SEP]).
+     */
+    private static int countNonSpecialTokens(Encoding encoding) {
+        long[] specialTokenMask = encoding.getSpecialTokenMask();
+        int count = 0;
+        for (long special : specialTokenMask) {
+            if (special == 0) {
+                count++;
             }
         }
-        return scores;
+        return count;
+    }
+
+    private double toScore(float[] output) {
+        if (normalize) {
+            return sigmoid(output[0]);
+        } else {
+            return output[0];
+        }
     }
 
     private double sigmoid(float x) {
         return 1 / (1 + Math.exp(-x));
     }
 
+    /**
+     * Closes the sessions and the tokenizer, and shuts down the pool created when no executor was provided.
+     */
+    @Override
+    public void close() {
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+        tokenizer.close();
+        OrtException exception = null;
+        for (OrtSession session : sessions) {
+            try {
+                session.close();
+            } catch (OrtException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw new RuntimeException(exception);
+        }
+    }
 }
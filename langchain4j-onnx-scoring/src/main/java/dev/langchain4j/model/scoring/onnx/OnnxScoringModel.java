@@ -1,8 +1,22 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
-public class OnnxScoringModel extends AbstractInProcessScoringModel {
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+
+/**
+ * A {@link dev.langchain4j.model.scoring.ScoringModel} running a cross-encoder ONNX model in process.
+ * <br>
+ * It holds native resources (the ONNX sessions and the tokenizer) and, when built with multiple sessions
+ * and no executor, a thread pool: call {@link #close()} once the model is not used anymore.
+ */
+public class OnnxScoringModel extends AbstractInProcessScoringModel implements AutoCloseable {
 
     private static final int DEFAULT_MODEL_MAX_LENGTH = 510; // 512 - 2 (special tokens [CLS] and [SEP])
 
@@ -26,7 +40,146 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
     }
 
+    private OnnxScoringModel(Builder builder) {
+        if (builder.options != null && (builder.intraOpThreads != null || builder.interOpThreads != null)) {
+            // the provided options are not modified, as they may be shared with other sessions
+            throw illegalArgument("intraOpThreads and interOpThreads cannot be set together with options, " +
+                    "set them on the provided options instead");
+        }
+        OrtSession.SessionOptions options = getOrDefault(builder.options, OrtSession.SessionOptions::new);
+        try {
+            if (builder.intraOpThreads != null) {
+                options.setIntraOpNumThreads(ensureGreaterThanZero(builder.intraOpThreads, "intraOpThreads"));
+            }
+            if (builder.interOpThreads != null) {
+                options.setInterOpNumThreads(ensureGreaterThanZero(builder.interOpThreads, "interOpThreads"));
+            }
+        } catch (OrtException e) {
+            throw new RuntimeException(e);
+        }
+        this.onnxBertBiEncoder = loadFromFileSystem(
+                ensureNotBlank(builder.pathToModel, "pathToModel"),
+                options,
+                ensureNotBlank(builder.pathToTokenizer, "pathToTokenizer"),
+                getOrDefault(builder.modelMaxLength, DEFAULT_MODEL_MAX_LENGTH),
+                getOrDefault(builder.normalize, DEFAULT_NORMALIZE),
+                ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, OnnxScoringBertCrossEncoder.DEFAULT_MAX_BATCH_SIZE), "maxBatchSize"),
+                ensureGreaterThanZero(getOrDefault(builder.sessions, 1), "sessions"),
+                builder.executor);
+    }
+
     protected OnnxScoringBertCrossEncoder model() {
         return this.onnxBertBiEncoder;
     }
+
+    /**
+     * Releases the ONNX sessions and the tokenizer, and shuts down the thread pool created by this model, if any.
+     * An executor provided with {@link Builder#executor(Executor)} is not shut down.
+     */
+    @Override
+    public void close() {
+        onnxBertBiEncoder.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String pathToModel;
+        private String pathToTokenizer;
+        private OrtSession.SessionOptions options;
+        private Integer modelMaxLength;
+        private Boolean normalize;
+        private Integer maxBatchSize;
+        private Integer intraOpThreads;
+        private Integer interOpThreads;
+        private Integer sessions;
+        private Executor executor;
+
+        public Builder pathToModel(String pathToModel) {
+            this.pathToModel = pathToModel;
+            return this;
+        }
+
+        public Builder pathToTokenizer(String pathToTokenizer) {
+            this.pathToTokenizer = pathToTokenizer;
+            return this;
+        }
+
+        /**
+         * @param options the options of the ONNX sessions. They are not modified by this builder,
+         *                so {@link #intraOpThreads(Integer)} and {@link #interOpThreads(Integer)} cannot be used
+         *                together with them: set the thread counts on the provided options instead.
+         */
+        public Builder options(OrtSession.SessionOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder modelMaxLength(Integer modelMaxLength) {
+            this.modelMaxLength = modelMaxLength;
+            return this;
+        }
+
+        public Builder normalize(Boolean normalize) {
+            this.normalize = normalize;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize the maximum number of segments scored in a single inference.
+         *                     Segments are grouped by their token length, so that short segments
+         *                     are not padded to the length of the longest one. Default value: 32.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param intraOpThreads the number of threads used by ONNX Runtime to parallelize the execution within
+         *                       operators. By default, ONNX Runtime uses all available cores.
+         */
+        public Builder intraOpThreads(Integer intraOpThreads) {
+            this.intraOpThreads = intraOpThreads;
+            return this;
+        }
+
+        /**
+         * @param interOpThreads the number of threads used by ONNX Runtime to parallelize the execution
+         *                       of independent operators.
+         */
+        public Builder interOpThreads(Integer interOpThreads) {
+            this.interOpThreads = interOpThreads;
+            return this;
+        }
+
+        /**
+         * @param sessions the number of ONNX sessions. When greater than 1, batches are scored concurrently,
+         *                 each by its own session, which can increase throughput on multi-core CPUs
+         *                 (consider lowering {@link #intraOpThreads(Integer)} accordingly).
+         *                 Note that each session holds its own copy of the model in memory. Default value: 1.
+         */
+        public Builder sessions(Integer sessions) {
+            this.sessions = sessions;
+            return this;
+        }
+
+        /**
+         * @param executor the executor scoring the batches concurrently when there are multiple {@link #sessions(Integer)}.
+         *                 It is not shut down by {@link OnnxScoringModel#close()}.
+         *                 By default, the model creates a pool of one thread per session, shut down by
+         *                 {@link OnnxScoringModel#close()}.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public OnnxScoringModel build() {
+            return new OnnxScoringModel(this);
+        }
+    }
 }
@@ -24,6 +24,9 @@ class OnnxScoringModelIT {
     @TempDir
     private static Path tempDir;
 
+    private static Path modelPath;
+    private static Path tokenizerPath;
+
     private static ScoringModel model;
 
     @BeforeAll
@@ -34,11 +37,11 @@ class OnnxScoringModelIT {
         // System.setProperty("https.proxyPort","7890" );
 
         URL modelUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/onnx/model_quantized.onnx?download=true");
-        Path modelPath = tempDir.resolve("model_quantized.onnx");
+        modelPath = tempDir.resolve("model_quantized.onnx");
         Files.copy(modelUrl.openStream(), modelPath, REPLACE_EXISTING);
 
         URL tokenizerUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer.json?download=true");
-        Path tokenizerPath = tempDir.resolve("tokenizer.json");
+        tokenizerPath = tempDir.resolve("tokenizer.json");
         Files.copy(tokenizerUrl.openStream(), tokenizerPath, REPLACE_EXISTING);
 
         // To check the modelMaxLength parameter, refer to the model configuration file at  https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer_config.json
@@ -68,4 +71,59 @@ class OnnxScoringModelIT {
 
         assertThat(response.finishReason()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_score_the_same_in_micro_batches_and_multiple_sessions() {
+
+        // given
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("Berlin has a population of 3,520,031 registered inhabitants in an area of 891.82 square kilometers."));
+        segments.add(TextSegment.from("New York City is famous for the Metropolitan Museum of Art."));
+        segments.add(TextSegment.from("Berlin is the capital of Germany."));
+        segments.add(TextSegment.from("Paris is known for the Eiffel Tower, which was built for the 1889 World's Fair " +
+                "and is now one of the most visited monuments in the world."));
+        segments.add(TextSegment.from("Population: 3.5 million."));
+
+        String query = "How many people live in Berlin?";
+
+        OnnxScoringModel singleBatchModel = OnnxScoringModel.builder()
+                .pathToModel(modelPath.toString())
+                .pathToTokenizer(tokenizerPath.toString())
+                .modelMaxLength(512)
+                .maxBatchSize(segments.size())
+                .build();
+
+        OnnxScoringModel microBatchModel = OnnxScoringModel.builder()
+                .pathToModel(modelPath.toString())
+                .pathToTokenizer(tokenizerPath.toString())
+                .modelMaxLength(512)
+                .maxBatchSize(1)
+                .sessions(3)
+                .build();
+
+        // when
+        Response<List<Double>> singleBatchResponse;
+        Response<List<Double>> microBatchResponse;
+        try (singleBatchModel; microBatchModel) {
+            singleBatchResponse = singleBatchModel.scoreAll(segments, query);
+            microBatchResponse = microBatchModel.scoreAll(segments, query);
+        }
+
+        // then
+        List<Double> singleBatchScores = singleBatchResponse.content();
+        List<Double> microBatchScores = microBatchResponse.content();
+        assertThat(microBatchScores).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(microBatchScores.get(i)).isCloseTo(singleBatchScores.get(i), withPercentage(0.1));
+        }
+
+        // scores are returned in the order of the segments, not in the order of the (length-sorted) batches
+        assertThat(microBatchScores.get(0)).isCloseTo(8.663132667541504, withPercentage(0.1));
+        assertThat(microBatchScores.get(1)).isCloseTo(-11.245542526245117, withPercentage(0.1));
+
+        assertThat(microBatchResponse.tokenUsage().totalTokenCount())
+                .isEqualTo(singleBatchResponse.tokenUsage().totalTokenCount());
+        assertThat(microBatchResponse.tokenUsage().totalTokenCount())
+                .isEqualTo(model.scoreAll(segments, query).tokenUsage().totalTokenCount());
+    }
+}
@@ -0,0 +1,87 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import ai.onnxruntime.OrtSession;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OnnxScoringModelTest {
+
+    @Test
+    void should_fail_when_path_to_model_is_missing() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToTokenizer("tokenizer.json")
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("pathToModel cannot be null or blank");
+    }
+
+    @Test
+    void should_fail_when_path_to_tokenizer_is_missing() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("pathToTokenizer cannot be null or blank");
+    }
+
+    @Test
+    void should_fail_when_max_batch_size_is_not_positive() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .maxBatchSize(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxBatchSize must be greater than zero, but is: 0");
+    }
+
+    @Test
+    void should_fail_when_sessions_is_not_positive() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .sessions(-1)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("sessions must be greater than zero, but is: -1");
+    }
+
+    @Test
+    void should_fail_when_thread_counts_are_not_positive() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .intraOpThreads(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("intraOpThreads must be greater than zero, but is: 0");
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .interOpThreads(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("interOpThreads must be greater than zero, but is: 0");
+    }
+
+    @Test
+    void should_fail_when_thread_counts_are_set_together_with_options() {
+
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .options(new OrtSession.SessionOptions())
+                .intraOpThreads(2)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("intraOpThreads and interOpThreads cannot be set together with options, " +
+                        "set them on the provided options instead");
+    }
+}
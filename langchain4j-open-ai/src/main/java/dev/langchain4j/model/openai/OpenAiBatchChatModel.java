@@ -0,0 +1,458 @@
+package dev.langchain4j.model.openai;
+
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.batch.BatchChatModel;
+import dev.langchain4j.model.chat.batch.BatchChatRequest;
+import dev.langchain4j.model.chat.batch.BatchChatResult;
+import dev.langchain4j.model.chat.batch.BatchJob;
+import dev.langchain4j.model.chat.batch.BatchJobStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.request.DefaultChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.BatchError;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.aiMessageFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.finishReasonFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.fromOpenAiResponseFormat;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.toOpenAiChatRequest;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.tokenUsageFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.validate;
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+
+/**
+ * Represents an OpenAI chat model that processes requests using the
+ * <a href="https://platform.openai.com/docs/guides/batch">OpenAI Batch API</a>.
+ * <br>
+ * The requests are written into a JSONL file, which is uploaded and submitted as a batch
+ * against the "/v1/chat/completions" endpoint.
+ * Batches are processed asynchronously (within the {@code completionWindow}) at a lower price
+ * and with separate rate limits, which makes this model suitable for offline, throughput-oriented workloads.
+ * <br>
+ * Parameters are the same as for {@link OpenAiChatModel}.
+ */
+public class OpenAiBatchChatModel implements BatchChatModel {
+
+    static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+    static final int MAX_BATCH_SIZE = 50_000;
+
+    private final OpenAiClient client;
+    private final Integer maxRetries;
+
+    private final OpenAiChatRequestParameters defaultRequestParameters;
+    private final String responseFormat;
+    private final Set<Capability> supportedCapabilities;
+    private final Boolean strictJsonSchema;
+    private final Boolean strictTools;
+    private final String completionWindow;
+    private final Map<String, String> batchMetadata;
+
+    public OpenAiBatchChatModel(Builder builder) {
+
+        this.client = OpenAiClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .apiKey(builder.apiKey)
+                .organizationId(builder.organizationId)
+                .projectId(builder.projectId)
+                .connectTimeout(getOrDefault(builder.timeout, ofSeconds(15)))
+                .readTimeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .userAgent(DEFAULT_USER_AGENT)
+                .customHeaders(builder.customHeaders)
+                .build();
+        this.maxRetries = getOrDefault(builder.maxRetries, 2);
+
+        ChatRequestParameters commonParameters;
+        if (builder.defaultRequestParameters != null) {
+            validate(builder.defaultRequestParameters);
+            commonParameters = builder.defaultRequestParameters;
+        } else {
+            commonParameters = DefaultChatRequestParameters.EMPTY;
+        }
+
+        OpenAiChatRequestParameters openAiParameters =
+                builder.defaultRequestParameters instanceof OpenAiChatRequestParameters openAiChatRequestParameters ?
+                        openAiChatRequestParameters :
+                        OpenAiChatRequestParameters.EMPTY;
+
+        this.defaultRequestParameters = OpenAiChatRequestParameters.builder()
+                // common parameters
+                .modelName(getOrDefault(builder.modelName, commonParameters.modelName()))
+                .temperature(getOrDefault(builder.temperature, commonParameters.temperature()))
+                .topP(getOrDefault(builder.topP, commonParameters.topP()))
+                .frequencyPenalty(commonParameters.frequencyPenalty())
+                .presencePenalty(commonParameters.presencePenalty())
+                .maxOutputTokens(getOrDefault(builder.maxTokens, commonParameters.maxOutputTokens()))
+                .stopSequences(commonParameters.stopSequences())
+                .toolSpecifications(commonParameters.toolSpecifications())
+                .toolChoice(commonParameters.toolChoice())
+                .responseFormat(getOrDefault(fromOpenAiResponseFormat(builder.responseFormat), commonParameters.responseFormat()))
+                // OpenAI-specific parameters
+                .maxCompletionTokens(getOrDefault(builder.maxCompletionTokens, openAiParameters.maxCompletionTokens()))
+                .logitBias(openAiParameters.logitBias())
+                .parallelToolCalls(openAiParameters.parallelToolCalls())
+                .seed(getOrDefault(builder.seed, openAiParameters.seed()))
+                .user(openAiParameters.user())
+                .store(openAiParameters.store())
+                .metadata(openAiParameters.metadata())
+                .serviceTier(openAiParameters.serviceTier())
+                .reasoningEffort(openAiParameters.reasoningEffort())
+                .build();
+        this.responseFormat = builder.responseFormat;
+        this.supportedCapabilities = copy(builder.supportedCapabilities);
+        this.strictJsonSchema = getOrDefault(builder.strictJsonSchema, false);
+        this.strictTools = getOrDefault(builder.strictTools, false);
+        this.completionWindow = getOrDefault(builder.completionWindow, "24h");
+        this.batchMetadata = copy(builder.batchMetadata);
+    }
+
+    public OpenAiChatRequestParameters defaultRequestParameters() {
+        return defaultRequestParameters;
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        Set<Capability> capabilities = new HashSet<>(supportedCapabilities);
+        if ("json_schema".equals(responseFormat)) {
+            capabilities.add(RESPONSE_FORMAT_JSON_SCHEMA);
+        }
+        return capabilities;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public BatchJob submit(List<BatchChatRequest> requests) {
+        ensureNotEmpty(requests, "requests");
+
+        List<BatchRequestLine> lines = new ArrayList<>(requests.size());
+        for (BatchChatRequest request : requests) {
+            lines.add(BatchRequestLine.builder()
+                    .customId(request.id())
+                    .method("POST")
+                    .url(CHAT_COMPLETIONS_ENDPOINT)
+                    .body(toOpenAiRequest(request.chatRequest()))
+                    .build());
+        }
+
+        OpenAiFile inputFile = withRetryMappingExceptions(() ->
+                client.uploadBatchFile(lines).execute(), maxRetries);
+
+        CreateBatchRequest createBatchRequest = CreateBatchRequest.builder()
+                .inputFileId(inputFile.id())
+                .endpoint(CHAT_COMPLETIONS_ENDPOINT)
+                .completionWindow(completionWindow)
+                .metadata(batchMetadata.isEmpty() ? null : batchMetadata)
+                .build();
+
+        Batch batch = withRetryMappingExceptions(() ->
+                client.createBatch(createBatchRequest).execute(), maxRetries);
+
+        return toBatchJob(batch);
+    }
+
+    @Override
+    public BatchJob retrieve(String batchJobId) {
+        ensureNotBlank(batchJobId, "batchJobId");
+
+        Batch batch = withRetryMappingExceptions(() ->
+                client.retrieveBatch(batchJobId).execute(), maxRetries);
+
+        return toBatchJob(batch);
+    }
+
+    @Override
+    public List<BatchChatResult> results(BatchJob batchJob) {
+        ensureNotNull(batchJob, "batchJob");
+
+        Batch batch = withRetryMappingExceptions(() ->
+                client.retrieveBatch(batchJob.id()).execute(), maxRetries);
+
+        List<BatchChatResult> results = new ArrayList<>();
+        for (String fileId : asList(batch.outputFileId(), batch.errorFileId())) {
+            if (fileId == null) {
+                continue;
+            }
+            List<BatchResponseLine> lines = withRetryMappingExceptions(() ->
+                    client.batchFileContent(fileId).execute(), maxRetries);
+            for (BatchResponseLine line : lines) {
+                results.add(toBatchChatResult(line));
+            }
+        }
+        return results;
+    }
+
+    private ChatCompletionRequest toOpenAiRequest(ChatRequest chatRequest) {
+        OpenAiChatRequestParameters parameters = defaultRequestParameters.overrideWith(chatRequest.parameters());
+        validate(parameters);
+        return toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema).build();
+    }
+
+    private static BatchJob toBatchJob(Batch batch) {
+        return new BatchJob(batch.id(), toBatchJobStatus(batch.status()), errorMessageFrom(batch));
+    }
+
+    private static BatchJobStatus toBatchJobStatus(String status) {
+        if (status == null) {
+            return BatchJobStatus.IN_PROGRESS;
+        }
+        return switch (status) {
+            case "completed" -> BatchJobStatus.COMPLETED;
+            case "failed" -> BatchJobStatus.FAILED;
+            case "expired" -> BatchJobStatus.EXPIRED;
+            case "cancelled" -> BatchJobStatus.CANCELLED;
+            // "validating", "in_progress", "finalizing", "cancelling"
+            default -> BatchJobStatus.IN_PROGRESS;
+        };
+    }
+
+    private static String errorMessageFrom(Batch batch) {
+        if (batch.errors() == null || batch.errors().data() == null || batch.errors().data().isEmpty()) {
+            return null;
+        }
+        List<String> messages = new ArrayList<>();
+        for (BatchError error : batch.errors().data()) {
+            messages.add(error.line() == null ? error.message() : "line " + error.line() + ": " + error.message());
+        }
+        return String.join("; ", messages);
+    }
+
+    private static BatchChatResult toBatchChatResult(BatchResponseLine line) {
+        if (line.error() != null) {
+            return BatchChatResult.failure(line.customId(), line.error().message());
+        }
+        if (line.response() == null
+                || line.response().statusCode() == null
+                || line.response().statusCode() != 200
+                || line.response().body() == null) {
+            Integer statusCode = line.response() == null ? null : line.response().statusCode();
+            return BatchChatResult.failure(line.customId(), "Request failed with HTTP status code " + statusCode);
+        }
+        return BatchChatResult.success(line.customId(), toChatResponse(line.response().body()));
+    }
+
+    private static ChatResponse toChatResponse(ChatCompletionResponse openAiResponse) {
+
+        OpenAiChatResponseMetadata responseMetadata = OpenAiChatResponseMetadata.builder()
+                .id(openAiResponse.id())
+                .modelName(openAiResponse.model())
+                .tokenUsage(tokenUsageFrom(openAiResponse.usage()))
+                .finishReason(finishReasonFrom(openAiResponse.choices().get(0).finishReason()))
+                .created(openAiResponse.created())
+                .serviceTier(openAiResponse.serviceTier())
+                .systemFingerprint(openAiResponse.systemFingerprint())
+                .build();
+
+        return ChatResponse.builder()
+                .aiMessage(aiMessageFrom(openAiResponse))
+                .metadata(responseMetadata)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private HttpClientBuilder httpClientBuilder;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String projectId;
+
+        private ChatRequestParameters defaultRequestParameters;
+        private String modelName;
+        private Double temperature;
+        private Double topP;
+        private Integer maxTokens;
+        private Integer maxCompletionTokens;
+        private Integer seed;
+        private Set<Capability> supportedCapabilities;
+        private String responseFormat;
+        private Boolean strictJsonSchema;
+        private Boolean strictTools;
+        private String completionWindow;
+        private Map<String, String> batchMetadata;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Map<String, String> customHeaders;
+
+        public Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public Builder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public Builder projectId(String projectId) {
+            this.projectId = projectId;
+            return this;
+        }
+
+        /**
+         * Sets default common {@link ChatRequestParameters} or OpenAI-specific {@link OpenAiChatRequestParameters}.
+         * <br>
+         * When a parameter is set via an individual builder method (e.g., {@link #modelName(String)}),
+         * its value takes precedence over the same parameter set via {@link ChatRequestParameters}.
+         */
+        public Builder defaultRequestParameters(ChatRequestParameters parameters) {
+            this.defaultRequestParameters = parameters;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public Builder modelName(OpenAiChatModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public Builder temperature(Double temperature) {
+            this.temperature = temperature;
+            return this;
+        }
+
+        public Builder topP(Double topP) {
+            this.topP = topP;
+            return this;
+        }
+
+        public Builder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        public Builder maxCompletionTokens(Integer maxCompletionTokens) {
+            this.maxCompletionTokens = maxCompletionTokens;
+            return this;
+        }
+
+        public Builder seed(Integer seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder responseFormat(String responseFormat) {
+            this.responseFormat = responseFormat;
+            return this;
+        }
+
+        public Builder supportedCapabilities(Set<Capability> supportedCapabilities) {
+            this.supportedCapabilities = supportedCapabilities;
+            return this;
+        }
+
+        public Builder supportedCapabilities(Capability... supportedCapabilities) {
+            return supportedCapabilities(new HashSet<>(asList(supportedCapabilities)));
+        }
+
+        public Builder strictJsonSchema(Boolean strictJsonSchema) {
+            this.strictJsonSchema = strictJsonSchema;
+            return this;
+        }
+
+        public Builder strictTools(Boolean strictTools) {
+            this.strictTools = strictTools;
+            return this;
+        }
+
+        /**
+         * @param completionWindow the time frame within which the batch should be processed. Default: "24h".
+         */
+        public Builder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        /**
+         * @param batchMetadata the metadata attached to each submitted batch.
+         */
+        public Builder batchMetadata(Map<String, String> batchMetadata) {
+            this.batchMetadata = batchMetadata;
+            return this;
+        }
+
+        /**
+         * @param timeout the timeout of each HTTP request (e.g. uploading the batch file).
+         *                This is not the time allowed to process the batch, see {@link #completionWindow(String)}.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public Builder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public Builder customHeaders(Map<String, String> customHeaders) {
+            this.customHeaders = customHeaders;
+            return this;
+        }
+
+        public OpenAiBatchChatModel build() {
+            return new OpenAiBatchChatModel(this);
+        }
+    }
+}
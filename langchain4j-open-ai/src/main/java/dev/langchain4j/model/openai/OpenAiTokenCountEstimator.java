@@ -14,7 +14,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.TextContent;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
-import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.TokenOffsetEstimator;
 
 import java.util.List;
 import java.util.Map;
@@ -30,7 +30,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
  * Magic numbers present in this class were found empirically while testing.
  * There are integration tests in place that are making sure that the calculations here are very close to that of OpenAI.
  */
-public class OpenAiTokenCountEstimator implements TokenCountEstimator {
+public class OpenAiTokenCountEstimator implements TokenOffsetEstimator {
 
     private static final EncodingRegistry ENCODING_REGISTRY = Encodings.newDefaultEncodingRegistry();
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -76,6 +76,48 @@ public class OpenAiTokenCountEstimator implements TokenCountEstimator {
         return encoding.countTokensOrdinary(text);
     }
 
+    @Override
+    public int[] estimateTokenEndOffsetsInText(String text) {
+        IntArrayList tokens = encoding.encodeOrdinary(text);
+        int[] offsets = new int[tokens.size()];
+
+        // tokens are sequences of UTF-8 bytes, they are mapped back to the chars of the text
+        long tokenEndInBytes = 0;
+        long charEndInBytes = 0;
+        int charEnd = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            IntArrayList token = new IntArrayList();
+            token.add(tokens.get(i));
+            tokenEndInBytes += encoding.decodeBytes(token).length;
+            while (charEnd < text.length()) {
+                int codePoint = text.codePointAt(charEnd);
+                int codePointSizeInBytes = utf8Size(codePoint);
+                if (charEndInBytes + codePointSizeInBytes > tokenEndInBytes) {
+                    break;
+                }
+                charEndInBytes += codePointSizeInBytes;
+                charEnd += Character.charCount(codePoint);
+            }
+            offsets[i] = charEnd;
+        }
+        if (offsets.length > 0) {
+            offsets[offsets.length - 1] = text.length();
+        }
+        return offsets;
+    }
+
+    private static int utf8Size(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
     @Override
     public int estimateTokenCountInMessage(ChatMessage message) {
         int tokenCount = 1; // 1 token for role
@@ -5,6 +5,11 @@ import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.http.client.HttpClientBuilderLoader;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.log.LoggingHttpClient;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -16,16 +21,31 @@ import dev.langchain4j.model.openai.internal.image.GenerateImagesResponse;
 import dev.langchain4j.model.openai.internal.moderation.ModerationRequest;
 import dev.langchain4j.model.openai.internal.moderation.ModerationResponse;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.http.client.HttpMethod.GET;
 import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.DaemonExecutors.newDefaultExecutor;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static java.time.Duration.ofSeconds;
 
 public class DefaultOpenAiClient extends OpenAiClient {
 
+    /**
+     * The executor the blocking file and batch requests run on when executed asynchronously,
+     * shared by all clients, so that they do not block the common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    private static class DefaultAsyncExecutor {
+
+        private static final Executor INSTANCE = newDefaultExecutor("langchain4j-open-ai");
+    }
+
     private final HttpClient httpClient;
     private final String baseUrl;
     private final Map<String, String> defaultHeaders;
@@ -162,4 +182,86 @@ public class DefaultOpenAiClient extends OpenAiClient {
 
         return new RequestExecutor<>(httpClient, httpRequest, GenerateImagesResponse.class);
     }
+
+    @Override
+    public SyncOrAsync<OpenAiFile> uploadBatchFile(List<BatchRequestLine> lines) {
+
+        StringBuilder jsonl = new StringBuilder();
+        for (BatchRequestLine line : lines) {
+            jsonl.append(Json.toJsonLine(line)).append('\n');
+        }
+
+        String boundary = "langchain4j-" + UUID.randomUUID();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\n"
+                + "batch\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"batch.jsonl\"\r\n"
+                + "Content-Type: application/jsonl\r\n\r\n"
+                + jsonl
+                + "\r\n--" + boundary + "--\r\n";
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "files")
+                .addHeader("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .addHeaders(defaultHeaders)
+                .body(body)
+                .build();
+
+        return new SyncOrAsyncExecutor<>(
+                () -> new SyncRequestExecutor<>(httpClient, httpRequest, OpenAiFile.class).execute(),
+                DefaultAsyncExecutor.INSTANCE);
+    }
+
+    @Override
+    public SyncOrAsync<Batch> createBatch(CreateBatchRequest request) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "batches")
+                .addHeader("Content-Type", "application/json")
+                .addHeaders(defaultHeaders)
+                .body(Json.toJson(request))
+                .build();
+
+        return new SyncOrAsyncExecutor<>(
+                () -> new SyncRequestExecutor<>(httpClient, httpRequest, Batch.class).execute(),
+                DefaultAsyncExecutor.INSTANCE);
+    }
+
+    @Override
+    public SyncOrAsync<Batch> retrieveBatch(String batchId) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "batches/" + batchId)
+                .addHeaders(defaultHeaders)
+                .build();
+
+        return new SyncOrAsyncExecutor<>(
+                () -> new SyncRequestExecutor<>(httpClient, httpRequest, Batch.class).execute(),
+                DefaultAsyncExecutor.INSTANCE);
+    }
+
+    @Override
+    public SyncOrAsync<List<BatchResponseLine>> batchFileContent(String fileId) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "files/" + fileId + "/content")
+                .addHeaders(defaultHeaders)
+                .build();
+
+        return new SyncOrAsyncExecutor<>(() -> {
+            String jsonl = httpClient.execute(httpRequest).body();
+            List<BatchResponseLine> lines = new ArrayList<>();
+            for (String line : jsonl.split("\n")) {
+                if (!line.isBlank()) {
+                    lines.add(Json.fromJson(line, BatchResponseLine.class));
+                }
+            }
+            return lines;
+        }, DefaultAsyncExecutor.INSTANCE);
+    }
 }
@@ -20,6 +20,17 @@ class Json {
         }
     }
 
+    /**
+     * Serializes the object into a single line, as required by the JSONL format.
+     */
+    static String toJsonLine(Object o) {
+        try {
+            return OBJECT_MAPPER.writer().without(INDENT_OUTPUT).writeValueAsString(o);
+        } catch (JsonProcessingException jpe) {
+            throw new RuntimeException(jpe);
+        }
+    }
+
     static <T> T fromJson(String json, Class<T> type) {
         try {
             return OBJECT_MAPPER.readValue(json, type);
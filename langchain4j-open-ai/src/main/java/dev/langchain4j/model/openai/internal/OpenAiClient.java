@@ -1,6 +1,12 @@
 package dev.langchain4j.model.openai.internal;
 
+import dev.langchain4j.exception.UnsupportedFeatureException;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -15,6 +21,7 @@ import dev.langchain4j.model.openai.internal.spi.OpenAiClientBuilderFactory;
 import dev.langchain4j.model.openai.internal.spi.ServiceHelper;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 public abstract class OpenAiClient {
@@ -29,6 +36,37 @@ public abstract class OpenAiClient {
 
     public abstract SyncOrAsync<GenerateImagesResponse> imagesGeneration(GenerateImagesRequest request);
 
+    /**
+     * Uploads the lines as a JSONL file with the "batch" purpose.
+     * <br>
+     * The file and batch operations are used only by {@code OpenAiBatchChatModel}.
+     * Clients that do not support them (e.g., custom clients created by an {@link OpenAiClientBuilderFactory})
+     * do not need to override them.
+     */
+    public SyncOrAsync<OpenAiFile> uploadBatchFile(List<BatchRequestLine> lines) {
+        throw batchNotSupported();
+    }
+
+    public SyncOrAsync<Batch> createBatch(CreateBatchRequest request) {
+        throw batchNotSupported();
+    }
+
+    public SyncOrAsync<Batch> retrieveBatch(String batchId) {
+        throw batchNotSupported();
+    }
+
+    /**
+     * Downloads the JSONL output (or error) file of a batch.
+     */
+    public SyncOrAsync<List<BatchResponseLine>> batchFileContent(String fileId) {
+        throw batchNotSupported();
+    }
+
+    private UnsupportedFeatureException batchNotSupported() {
+        return new UnsupportedFeatureException(getClass().getName() + " does not support the OpenAI Batch API. "
+                + "Use the default OpenAiClient, or override the file and batch operations.");
+    }
+
     @SuppressWarnings("rawtypes")
     public static Builder builder() {
         for (OpenAiClientBuilderFactory factory : ServiceHelper.loadFactories(OpenAiClientBuilderFactory.class)) {
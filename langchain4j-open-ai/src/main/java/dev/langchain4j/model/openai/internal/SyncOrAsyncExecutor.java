@@ -0,0 +1,58 @@
+package dev.langchain4j.model.openai.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Executes a blocking request either synchronously, or asynchronously on the given {@link Executor}.
+ */
+class SyncOrAsyncExecutor<Response> implements SyncOrAsync<Response> {
+
+    private final Supplier<Response> request;
+    private final Executor executor;
+
+    SyncOrAsyncExecutor(Supplier<Response> request, Executor executor) {
+        this.request = request;
+        this.executor = executor;
+    }
+
+    @Override
+    public Response execute() {
+        return request.get();
+    }
+
+    @Override
+    public AsyncResponseHandling onResponse(Consumer<Response> responseHandler) {
+        return new AsyncResponseHandling() {
+
+            @Override
+            public ErrorHandling onError(Consumer<Throwable> errorHandler) {
+                return () -> {
+                    CompletableFuture<Response> future = CompletableFuture.supplyAsync(request, executor);
+                    future.whenComplete((response, error) -> {
+                        if (error != null) {
+                            errorHandler.accept(error instanceof CompletionException ? error.getCause() : error);
+                        } else {
+                            responseHandler.accept(response);
+                        }
+                    });
+                    return new ResponseHandle() {
+
+                        @Override
+                        public void cancel() {
+                            future.cancel(true);
+                        }
+                    };
+                };
+            }
+
+            @Override
+            public ErrorHandling ignoreErrors() {
+                return onError(ignored -> {});
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchError.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchError {
+
+    @JsonProperty
+    private final String code;
+    @JsonProperty
+    private final String message;
+    @JsonProperty
+    private final String param;
+    @JsonProperty
+    private final Integer line;
+
+    public BatchError(Builder builder) {
+        this.code = builder.code;
+        this.message = builder.message;
+        this.param = builder.param;
+        this.line = builder.line;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public Integer line() {
+        return line;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchError
+                && equalTo((BatchError) another);
+    }
+
+    private boolean equalTo(BatchError another) {
+        return Objects.equals(code, another.code)
+                && Objects.equals(message, another.message)
+                && Objects.equals(param, another.param)
+                && Objects.equals(line, another.line);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(code);
+        h += (h << 5) + Objects.hashCode(message);
+        h += (h << 5) + Objects.hashCode(param);
+        h += (h << 5) + Objects.hashCode(line);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchError{"
+                + "code=" + code
+                + ", message=" + message
+                + ", param=" + param
+                + ", line=" + line
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String code;
+        private String message;
+        private String param;
+        private Integer line;
+
+        public Builder code(String code) {
+            this.code = code;
+            return this;
+        }
+
+        public Builder message(String message) {
+            this.message = message;
+            return this;
+        }
+
+        public Builder param(String param) {
+            this.param = param;
+            return this;
+        }
+
+        public Builder line(Integer line) {
+            this.line = line;
+            return this;
+        }
+
+        public BatchError build() {
+            return new BatchError(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.List;
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchErrors.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchErrors {
+
+    @JsonProperty
+    private final List<BatchError> data;
+
+    public BatchErrors(Builder builder) {
+        this.data = builder.data;
+    }
+
+    public List<BatchError> data() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchErrors
+                && equalTo((BatchErrors) another);
+    }
+
+    private boolean equalTo(BatchErrors another) {
+        return Objects.equals(data, another.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(data);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchErrors{"
+                + "data=" + data
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private List<BatchError> data;
+
+        public Builder data(List<BatchError> data) {
+            this.data = data;
+            return this;
+        }
+
+        public BatchErrors build() {
+            return new BatchErrors(this);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchResponse.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchResponse {
+
+    @JsonProperty
+    private final Integer statusCode;
+    @JsonProperty
+    private final String requestId;
+    @JsonProperty
+    private final ChatCompletionResponse body;
+
+    public BatchResponse(Builder builder) {
+        this.statusCode = builder.statusCode;
+        this.requestId = builder.requestId;
+        this.body = builder.body;
+    }
+
+    public Integer statusCode() {
+        return statusCode;
+    }
+
+    public String requestId() {
+        return requestId;
+    }
+
+    public ChatCompletionResponse body() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchResponse
+                && equalTo((BatchResponse) another);
+    }
+
+    private boolean equalTo(BatchResponse another) {
+        return Objects.equals(statusCode, another.statusCode)
+                && Objects.equals(requestId, another.requestId)
+                && Objects.equals(body, another.body);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(statusCode);
+        h += (h << 5) + Objects.hashCode(requestId);
+        h += (h << 5) + Objects.hashCode(body);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponse{"
+                + "statusCode=" + statusCode
+                + ", requestId=" + requestId
+                + ", body=" + body
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private Integer statusCode;
+        private String requestId;
+        private ChatCompletionResponse body;
+
+        public Builder statusCode(Integer statusCode) {
+            this.statusCode = statusCode;
+            return this;
+        }
+
+        public Builder requestId(String requestId) {
+            this.requestId = requestId;
+            return this;
+        }
+
+        public Builder body(ChatCompletionResponse body) {
+            this.body = body;
+            return this;
+        }
+
+        public BatchResponse build() {
+            return new BatchResponse(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchResponseLine.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchResponseLine {
+
+    @JsonProperty
+    private final String id;
+    @JsonProperty
+    private final String customId;
+    @JsonProperty
+    private final BatchResponse response;
+    @JsonProperty
+    private final BatchError error;
+
+    public BatchResponseLine(Builder builder) {
+        this.id = builder.id;
+        this.customId = builder.customId;
+        this.response = builder.response;
+        this.error = builder.error;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String customId() {
+        return customId;
+    }
+
+    public BatchResponse response() {
+        return response;
+    }
+
+    public BatchError error() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchResponseLine
+                && equalTo((BatchResponseLine) another);
+    }
+
+    private boolean equalTo(BatchResponseLine another) {
+        return Objects.equals(id, another.id)
+                && Objects.equals(customId, another.customId)
+                && Objects.equals(response, another.response)
+                && Objects.equals(error, another.error);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(id);
+        h += (h << 5) + Objects.hashCode(customId);
+        h += (h << 5) + Objects.hashCode(response);
+        h += (h << 5) + Objects.hashCode(error);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponseLine{"
+                + "id=" + id
+                + ", customId=" + customId
+                + ", response=" + response
+                + ", error=" + error
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String id;
+        private String customId;
+        private BatchResponse response;
+        private BatchError error;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder customId(String customId) {
+            this.customId = customId;
+            return this;
+        }
+
+        public Builder response(BatchResponse response) {
+            this.response = response;
+            return this;
+        }
+
+        public Builder error(BatchError error) {
+            this.error = error;
+            return this;
+        }
+
+        public BatchResponseLine build() {
+            return new BatchResponseLine(this);
+        }
+    }
+}
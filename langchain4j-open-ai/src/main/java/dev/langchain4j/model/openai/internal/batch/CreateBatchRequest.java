@@ -0,0 +1,123 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+
+@JsonDeserialize(builder = CreateBatchRequest.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class CreateBatchRequest {
+
+    @JsonProperty
+    private final String inputFileId;
+    @JsonProperty
+    private final String endpoint;
+    @JsonProperty
+    private final String completionWindow;
+    @JsonProperty
+    private final Map<String, String> metadata;
+
+    public CreateBatchRequest(Builder builder) {
+        this.inputFileId = builder.inputFileId;
+        this.endpoint = builder.endpoint;
+        this.completionWindow = builder.completionWindow;
+        this.metadata = builder.metadata;
+    }
+
+    public String inputFileId() {
+        return inputFileId;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public String completionWindow() {
+        return completionWindow;
+    }
+
+    public Map<String, String> metadata() {
+        return metadata;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof CreateBatchRequest
+                && equalTo((CreateBatchRequest) another);
+    }
+
+    private boolean equalTo(CreateBatchRequest another) {
+        return Objects.equals(inputFileId, another.inputFileId)
+                && Objects.equals(endpoint, another.endpoint)
+                && Objects.equals(completionWindow, another.completionWindow)
+                && Objects.equals(metadata, another.metadata);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(inputFileId);
+        h += (h << 5) + Objects.hashCode(endpoint);
+        h += (h << 5) + Objects.hashCode(completionWindow);
+        h += (h << 5) + Objects.hashCode(metadata);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "CreateBatchRequest{"
+                + "inputFileId=" + inputFileId
+                + ", endpoint=" + endpoint
+                + ", completionWindow=" + completionWindow
+                + ", metadata=" + metadata
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String inputFileId;
+        private String endpoint;
+        private String completionWindow;
+        private Map<String, String> metadata;
+
+        public Builder inputFileId(String inputFileId) {
+            this.inputFileId = inputFileId;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public Builder metadata(Map<String, String> metadata) {
+            this.metadata = metadata;
+            return this;
+        }
+
+        public CreateBatchRequest build() {
+            return new CreateBatchRequest(this);
+        }
+    }
+}
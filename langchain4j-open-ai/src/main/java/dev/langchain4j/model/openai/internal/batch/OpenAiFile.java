@@ -0,0 +1,122 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = OpenAiFile.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class OpenAiFile {
+
+    @JsonProperty
+    private final String id;
+    @JsonProperty
+    private final Long bytes;
+    @JsonProperty
+    private final String filename;
+    @JsonProperty
+    private final String purpose;
+
+    public OpenAiFile(Builder builder) {
+        this.id = builder.id;
+        this.bytes = builder.bytes;
+        this.filename = builder.filename;
+        this.purpose = builder.purpose;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Long bytes() {
+        return bytes;
+    }
+
+    public String filename() {
+        return filename;
+    }
+
+    public String purpose() {
+        return purpose;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof OpenAiFile
+                && equalTo((OpenAiFile) another);
+    }
+
+    private boolean equalTo(OpenAiFile another) {
+        return Objects.equals(id, another.id)
+                && Objects.equals(bytes, another.bytes)
+                && Objects.equals(filename, another.filename)
+                && Objects.equals(purpose, another.purpose);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(id);
+        h += (h << 5) + Objects.hashCode(bytes);
+        h += (h << 5) + Objects.hashCode(filename);
+        h += (h << 5) + Objects.hashCode(purpose);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenAiFile{"
+                + "id=" + id
+                + ", bytes=" + bytes
+                + ", filename=" + filename
+                + ", purpose=" + purpose
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String id;
+        private Long bytes;
+        private String filename;
+        private String purpose;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder bytes(Long bytes) {
+            this.bytes = bytes;
+            return this;
+        }
+
+        public Builder filename(String filename) {
+            this.filename = filename;
+            return this;
+        }
+
+        public Builder purpose(String purpose) {
+            this.purpose = purpose;
+            return this;
+        }
+
+        public OpenAiFile build() {
+            return new OpenAiFile(this);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.UnsupportedFeatureException;
+import dev.langchain4j.model.chat.batch.BatchChatRequest;
+import dev.langchain4j.model.chat.batch.BatchChatResult;
+import dev.langchain4j.model.chat.batch.BatchJob;
+import dev.langchain4j.model.chat.batch.BatchJobStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.SyncOrAsync;
+import dev.langchain4j.model.openai.internal.SyncOrAsyncOrStreaming;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
+import dev.langchain4j.model.openai.internal.completion.CompletionResponse;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
+import dev.langchain4j.model.openai.internal.image.GenerateImagesRequest;
+import dev.langchain4j.model.openai.internal.image.GenerateImagesResponse;
+import dev.langchain4j.model.openai.internal.moderation.ModerationRequest;
+import dev.langchain4j.model.openai.internal.moderation.ModerationResponse;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OpenAiBatchChatModelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BatchApiStandIn batchApi;
+    private OpenAiBatchChatModel model;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        batchApi = new BatchApiStandIn();
+        model = OpenAiBatchChatModel.builder()
+                .baseUrl(batchApi.baseUrl())
+                .apiKey("test-key")
+                .modelName(GPT_4_O_MINI)
+                .temperature(0.0)
+                .maxRetries(0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchApi.stop();
+    }
+
+    @Test
+    void should_submit_batch_and_fetch_results() {
+
+        // given
+        List<BatchChatRequest> requests = List.of(
+                BatchChatRequest.from("request-1", ChatRequest.builder()
+                        .messages(UserMessage.from("first"))
+                        .build()),
+                BatchChatRequest.from("request-2", ChatRequest.builder()
+                        .messages(UserMessage.from("fail"))
+                        .build()),
+                BatchChatRequest.from("request-3", ChatRequest.builder()
+                        .messages(UserMessage.from("third"))
+                        .maxOutputTokens(10)
+                        .build()));
+
+        // when
+        BatchJob submitted = model.submit(requests);
+
+        // then
+        assertThat(submitted.status()).isEqualTo(BatchJobStatus.IN_PROGRESS);
+        assertThat(batchApi.endpoint).isEqualTo("/v1/chat/completions");
+        assertThat(batchApi.inputLines).hasSize(3);
+        JsonNode firstLine = batchApi.inputLines.get(0);
+        assertThat(firstLine.get("custom_id").asText()).isEqualTo("request-1");
+        assertThat(firstLine.get("method").asText()).isEqualTo("POST");
+        assertThat(firstLine.get("url").asText()).isEqualTo("/v1/chat/completions");
+        assertThat(firstLine.at("/body/model").asText()).isEqualTo(GPT_4_O_MINI.toString());
+        assertThat(firstLine.at("/body/temperature").asDouble()).isEqualTo(0.0);
+        assertThat(firstLine.at("/body/messages/0/content").asText()).isEqualTo("first");
+        assertThat(batchApi.inputLines.get(2).at("/body/max_tokens").asInt()).isEqualTo(10);
+
+        // when
+        BatchJob retrieved = model.retrieve(submitted.id());
+
+        // then
+        assertThat(retrieved.id()).isEqualTo(submitted.id());
+        assertThat(retrieved.status()).isEqualTo(BatchJobStatus.COMPLETED);
+
+        // when
+        List<BatchChatResult> results = model.results(retrieved);
+
+        // then
+        assertThat(results).hasSize(3);
+        Map<String, BatchChatResult> resultsById = new ConcurrentHashMap<>();
+        results.forEach(result -> resultsById.put(result.id(), result));
+
+        assertThat(resultsById.get("request-1").isSuccessful()).isTrue();
+        assertThat(resultsById.get("request-1").chatResponse().aiMessage().text()).isEqualTo("Echo: first");
+        assertThat(resultsById.get("request-1").chatResponse().tokenUsage().totalTokenCount())
+                .isEqualTo(3);
+
+        assertThat(resultsById.get("request-2").isSuccessful()).isFalse();
+        assertThat(resultsById.get("request-2").errorMessage()).isEqualTo("Something went wrong");
+
+        assertThat(resultsById.get("request-3").chatResponse().aiMessage().text()).isEqualTo("Echo: third");
+    }
+
+    @Test
+    void should_report_failed_batch() {
+
+        // given
+        batchApi.failBatches = true;
+
+        BatchJob submitted = model.submit(List.of(BatchChatRequest.from("request-1", ChatRequest.builder()
+                .messages(UserMessage.from("first"))
+                .build())));
+
+        // when
+        BatchJob retrieved = model.retrieve(submitted.id());
+
+        // then
+        assertThat(retrieved.status()).isEqualTo(BatchJobStatus.FAILED);
+        assertThat(retrieved.errorMessage()).isEqualTo("line 1: Invalid model");
+    }
+
+    @Test
+    void should_download_batch_file_asynchronously() throws Exception {
+
+        // given
+        OpenAiClient client = OpenAiClient.builder()
+                .baseUrl(batchApi.baseUrl())
+                .apiKey("test-key")
+                .build();
+        BatchJob submitted = model.submit(List.of(
+                BatchChatRequest.from("request-1", ChatRequest.builder()
+                        .messages(UserMessage.from("first"))
+                        .build()),
+                BatchChatRequest.from("request-2", ChatRequest.builder()
+                        .messages(UserMessage.from("second"))
+                        .build())));
+        Batch batch = client.retrieveBatch(submitted.id()).execute();
+
+        CompletableFuture<List<BatchResponseLine>> future = new CompletableFuture<>();
+        AtomicReference<Thread> responseThread = new AtomicReference<>();
+
+        // when
+        client.batchFileContent(batch.outputFileId())
+                .onResponse(lines -> {
+                    responseThread.set(Thread.currentThread());
+                    future.complete(lines);
+                })
+                .onError(future::completeExceptionally)
+                .execute();
+
+        // then
+        assertThat(future.get(10, SECONDS))
+                .extracting(BatchResponseLine::customId)
+                .containsExactly("request-1", "request-2");
+        assertThat(responseThread.get()).isNotInstanceOf(ForkJoinWorkerThread.class);
+    }
+
+    @Test
+    void should_fail_with_descriptive_exception_when_client_does_not_support_batches() {
+
+        // given
+        OpenAiClient client = new OpenAiClient() {
+
+            @Override
+            public SyncOrAsyncOrStreaming<CompletionResponse> completion(CompletionRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public SyncOrAsyncOrStreaming<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public SyncOrAsync<EmbeddingResponse> embedding(EmbeddingRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public SyncOrAsync<ModerationResponse> moderation(ModerationRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public SyncOrAsync<GenerateImagesResponse> imagesGeneration(GenerateImagesRequest request) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // when-then
+        assertThatThrownBy(() -> client.retrieveBatch("batch-1"))
+                .isExactlyInstanceOf(UnsupportedFeatureException.class)
+                .hasMessageContaining("does not support the OpenAI Batch API");
+    }
+
+    /**
+     * A minimal stand-in for the files and batches endpoints of the OpenAI API.
+     * Each batch is completed on the first retrieval and each request is answered with an echo of its message,
+     * unless the message is "fail".
+     */
+    private static class BatchApiStandIn {
+
+        private final HttpServer server;
+        private final AtomicInteger ids = new AtomicInteger();
+        private final Map<String, String> files = new ConcurrentHashMap<>();
+
+        private volatile List<JsonNode> inputLines;
+        private volatile String endpoint;
+        private volatile boolean failBatches;
+
+        BatchApiStandIn() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1/files", this::handleFiles);
+            server.createContext("/v1/batches", this::handleBatches);
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://localhost:" + server.getAddress().getPort() + "/v1";
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handleFiles(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            if (exchange.getRequestMethod().equals("POST")) {
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+                String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+                String filePart = body.substring(body.indexOf("filename="));
+                String content = filePart.substring(
+                        filePart.indexOf("\r\n\r\n") + 4, filePart.indexOf("\r\n--" + boundary));
+                String fileId = "file-" + ids.incrementAndGet();
+                files.put(fileId, content);
+                inputLines = content.lines().map(BatchApiStandIn::readTree).toList();
+                respond(exchange, "{\"id\":\"" + fileId + "\",\"purpose\":\"batch\",\"filename\":\"batch.jsonl\"}");
+            } else {
+                String fileId = path.substring("/v1/files/".length(), path.length() - "/content".length());
+                respond(exchange, files.get(fileId));
+            }
+        }
+
+        private void handleBatches(HttpExchange exchange) throws IOException {
+            if (exchange.getRequestMethod().equals("POST")) {
+                JsonNode request = readTree(new String(exchange.getRequestBody().readAllBytes(), UTF_8));
+                endpoint = request.get("endpoint").asText();
+                String inputFileId = request.get("input_file_id").asText();
+                respond(exchange, "{\"id\":\"batch_" + inputFileId + "\",\"status\":\"validating\"}");
+                return;
+            }
+
+            String batchId = exchange.getRequestURI().getPath().substring("/v1/batches/".length());
+            if (failBatches) {
+                respond(exchange, "{\"id\":\"" + batchId + "\",\"status\":\"failed\","
+                        + "\"errors\":{\"data\":[{\"code\":\"invalid\",\"message\":\"Invalid model\",\"line\":1}]}}");
+                return;
+            }
+
+            StringBuilder output = new StringBuilder();
+            StringBuilder errors = new StringBuilder();
+            for (JsonNode line : inputLines) {
+                String customId = line.get("custom_id").asText();
+                String message = line.at("/body/messages/0/content").asText();
+                if (message.equals("fail")) {
+                    errors.append("{\"id\":\"r\",\"custom_id\":\"").append(customId)
+                            .append("\",\"response\":null,")
+                            .append("\"error\":{\"code\":\"server_error\",\"message\":\"Something went wrong\"}}\n");
+                } else {
+                    ObjectNode outputLine = OBJECT_MAPPER.createObjectNode()
+                            .put("id", "r")
+                            .put("custom_id", customId);
+                    outputLine.set("response", response(message));
+                    output.append(outputLine).append("\n");
+                }
+            }
+            files.put("output-" + batchId, output.toString());
+            files.put("errors-" + batchId, errors.toString());
+            respond(exchange, "{\"id\":\"" + batchId + "\",\"status\":\"completed\","
+                    + "\"output_file_id\":\"output-" + batchId + "\",\"error_file_id\":\"errors-" + batchId + "\","
+                    + "\"request_counts\":{\"total\":3,\"completed\":2,\"failed\":1}}");
+        }
+
+        private static ObjectNode response(String message) {
+            ObjectNode body = OBJECT_MAPPER.createObjectNode()
+                    .put("id", "chatcmpl-1")
+                    .put("model", GPT_4_O_MINI.toString());
+            ObjectNode choice = body.putArray("choices").addObject().put("index", 0).put("finish_reason", "stop");
+            choice.putObject("message").put("role", "assistant").put("content", "Echo: " + message);
+            body.putObject("usage").put("prompt_tokens", 1).put("completion_tokens", 2).put("total_tokens", 3);
+
+            ObjectNode response = OBJECT_MAPPER.createObjectNode()
+                    .put("status_code", 200)
+                    .put("request_id", "req-1");
+            response.set("body", body);
+            return response;
+        }
+
+        private static JsonNode readTree(String json) {
+            try {
+                return OBJECT_MAPPER.readTree(json);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static void respond(HttpExchange exchange, String body) throws IOException {
+            byte[] bytes = body.getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
@@ -40,6 +40,25 @@ class OpenAiTokenCountEstimatorTest {
         assertThat(decodedText).isEqualTo("This is a text which will be encoded with trunc");
     }
 
+    @Test
+    void should_estimate_token_end_offsets() {
+        assertThat(tokenCountEstimator.estimateTokenEndOffsetsInText("Hello, how are you?"))
+                .containsExactly(5, 6, 10, 14, 18, 19);
+
+        assertThat(tokenCountEstimator.estimateTokenEndOffsetsInText("")).isEmpty();
+    }
+
+    @Test
+    void should_estimate_token_end_offsets_of_multi_byte_characters() {
+        String text = "Zürich is 🏔️ beautiful, 東京 too.";
+
+        int[] offsets = tokenCountEstimator.estimateTokenEndOffsetsInText(text);
+
+        assertThat(offsets).hasSize(tokenCountEstimator.estimateTokenCountInText(text));
+        assertThat(offsets).isSorted();
+        assertThat(offsets[offsets.length - 1]).isEqualTo(text.length());
+    }
+
     @Test
     void should_count_tokens_in_short_texts() {
         assertThat(tokenCountEstimator.estimateTokenCountInText("Hello")).isEqualTo(1);
@@ -3,6 +3,8 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
 
@@ -11,8 +13,10 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.OrderedParallelIterator;
 import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
@@ -482,30 +486,151 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Recursively loads {@link Document}s from the specified directory and its subdirectories, lazily and in parallel.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, int)} for details.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return a lazily populated stream of documents, which must be closed.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true);
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * lazily and in parallel.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, int)} for details.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths (relative to {@code directoryPath}) match
+     *                      the provided {@link PathMatcher} will be loaded.
+     * @return a lazily populated stream of documents, which must be closed.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, PathMatcher pathMatcher) {
+        return streamDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * lazily and in parallel.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, int)} for details.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return a lazily populated stream of documents, which must be closed.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser) {
+        return streamDocumentsRecursively(
+                directoryPath, pathMatcher, documentParser, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * lazily and in parallel.
+     * <br>
+     * Unlike {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}, the documents are not collected
+     * into a list: the directory tree is walked and the files are parsed as the returned stream is consumed,
+     * so that only a bounded number of documents is held in memory at once,
+     * and the consumer (e.g., {@link dev.langchain4j.store.embedding.EmbeddingStoreIngestor#ingest(Stream)})
+     * can process the first documents while the next ones are still being parsed.
+     * <br>
+     * Files are parsed by {@code parallelism} threads, at most {@code 2 * parallelism} files ahead of the consumer.
+     * The documents are returned in the order in which the files are found.
+     * <br>
+     * Each file is loaded independently: the files that fail to load are logged and skipped,
+     * the blank ones are skipped.
+     * <br>
+     * The returned stream holds open directories and threads, so it must be closed, e.g.:
+     * <pre>
+     * try (Stream&lt;Document&gt; documents = FileSystemDocumentLoader.streamDocumentsRecursively(directory)) {
+     *     ingestor.ingest(documents);
+     * }
+     * </pre>
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file.
+     *                       It is called concurrently, so it must be thread-safe.
+     * @param parallelism    The maximum number of files parsed concurrently.
+     * @return a lazily populated stream of documents, which must be closed.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser, int parallelism) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+        ensureNotNull(pathMatcher, "pathMatcher");
+        ensureNotNull(documentParser, "documentParser");
+        ensureGreaterThanZero(parallelism, "parallelism");
+
+        Stream<Path> pathStream;
+        try {
+            pathStream = Files.walk(directoryPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // the files are parsed on a dedicated pool of threads, in the order of the files,
+        // with a bounded number of files in flight ahead of the consumer
+        OrderedParallelIterator<Path, Document> iterator = new OrderedParallelIterator<>(
+                matchingFiles(pathStream, pathMatcher, directoryPath).iterator(),
+                file -> loadDocumentOrNull(file, documentParser),
+                parallelism,
+                "langchain4j-document-loader");
+
+        return iterator.stream().onClose(pathStream::close);
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
 
-        pathStream
+        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).forEach(file -> {
+            Document document = loadDocumentOrNull(file, documentParser);
+            if (document != null) {
+                documents.add(document);
+            }
+        });
+
+        return documents;
+    }
+
+    private static Stream<Path> matchingFiles(Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
                 .map(pathMatcherRoot::relativize)
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
-                .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
+                .map(pathMatcherRoot::resolve);
+    }
 
-        return documents;
+    /**
+     * @return the loaded document, or {@code null} if the file is blank or failed to load.
+     */
+    private static Document loadDocumentOrNull(Path file, DocumentParser documentParser) {
+        try {
+            return loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+            return null;
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+            return null;
+        }
     }
 }
@@ -5,6 +5,8 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.util.regex.Pattern;
+
 /**
  * Splits the provided {@link Document} into lines and attempts to fit as many lines as possible
  * into a single {@link TextSegment}, adhering to the limit set by {@code maxSegmentSize}.
@@ -28,6 +30,8 @@ import dev.langchain4j.model.TokenCountEstimator;
  */
 public class DocumentByLineSplitter extends HierarchicalDocumentSplitter {
 
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("\\s*\\R\\s*"); // additional whitespaces are ignored
+
     public DocumentByLineSplitter(int maxSegmentSizeInChars,
                                   int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
@@ -54,7 +58,12 @@ public class DocumentByLineSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s*\\R\\s*"); // additional whitespaces are ignored
+        return SPLIT_PATTERN.split(text);
+    }
+
+    @Override
+    protected Pattern splitPattern() {
+        return SPLIT_PATTERN;
     }
 
     @Override
@@ -5,6 +5,8 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.util.regex.Pattern;
+
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
@@ -25,7 +27,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  */
 public class DocumentByRegexSplitter extends HierarchicalDocumentSplitter {
 
-    private final String regex;
+    private final Pattern regex;
     private final String joinDelimiter;
 
     public DocumentByRegexSplitter(String regex,
@@ -33,7 +35,7 @@ public class DocumentByRegexSplitter extends HierarchicalDocumentSplitter {
                                    int maxSegmentSizeInChars,
                                    int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.regex = ensureNotNull(regex, "regex");
+        this.regex = Pattern.compile(ensureNotNull(regex, "regex"));
         this.joinDelimiter = ensureNotNull(joinDelimiter, "joinDelimiter");
     }
 
@@ -43,7 +45,7 @@ public class DocumentByRegexSplitter extends HierarchicalDocumentSplitter {
                                    int maxOverlapSizeInChars,
                                    DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.regex = ensureNotNull(regex, "regex");
+        this.regex = Pattern.compile(ensureNotNull(regex, "regex"));
         this.joinDelimiter = ensureNotNull(joinDelimiter, "joinDelimiter");
     }
 
@@ -53,7 +55,7 @@ public class DocumentByRegexSplitter extends HierarchicalDocumentSplitter {
                                    int maxOverlapSizeInTokens,
                                    TokenCountEstimator tokenCountEstimator) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, null);
-        this.regex = ensureNotNull(regex, "regex");
+        this.regex = Pattern.compile(ensureNotNull(regex, "regex"));
         this.joinDelimiter = ensureNotNull(joinDelimiter, "joinDelimiter");
     }
 
@@ -64,13 +66,18 @@ public class DocumentByRegexSplitter extends HierarchicalDocumentSplitter {
                                    TokenCountEstimator tokenCountEstimator,
                                    DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.regex = ensureNotNull(regex, "regex");
+        this.regex = Pattern.compile(ensureNotNull(regex, "regex"));
         this.joinDelimiter = ensureNotNull(joinDelimiter, "joinDelimiter");
     }
 
     @Override
     public String[] split(String text) {
-        return text.split(regex);
+        return regex.split(text);
+    }
+
+    @Override
+    protected Pattern splitPattern() {
+        return regex;
     }
 
     @Override
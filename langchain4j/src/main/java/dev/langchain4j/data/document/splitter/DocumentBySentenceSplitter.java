@@ -6,6 +6,7 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.util.Span;
 
 import java.io.InputStream;
 
@@ -19,6 +20,8 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * For token-based limit, a {@link TokenCountEstimator} must be provided.
  * <p>
  * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
+ * The model is loaded once and shared by all instances. Each thread uses its own {@link SentenceDetectorME},
+ * so an instance of this splitter can be used concurrently.
  * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
@@ -32,26 +35,32 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
+    private static final String DEFAULT_SENTENCE_MODEL_PATH = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
+
+    private static volatile SentenceModel defaultSentenceModel;
+
     private final SentenceModel sentenceModel;
+    // SentenceDetectorME is not thread-safe, while SentenceModel is
+    private final ThreadLocal<SentenceDetectorME> sentenceDetector = ThreadLocal.withInitial(this::newSentenceDetector);
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       TokenCountEstimator tokenCountEstimator) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -59,7 +68,7 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       TokenCountEstimator tokenCountEstimator,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     /**
@@ -76,19 +85,44 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
         this.sentenceModel = ensureNotNull(sentenceModel, "sentenceModel");
     }
 
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
-            return new SentenceModel(is);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    private static SentenceModel defaultSentenceModel() {
+        SentenceModel sentenceModel = defaultSentenceModel;
+        if (sentenceModel == null) {
+            synchronized (DocumentBySentenceSplitter.class) {
+                sentenceModel = defaultSentenceModel;
+                if (sentenceModel == null) {
+                    try (InputStream is =
+                                 DocumentBySentenceSplitter.class.getResourceAsStream(DEFAULT_SENTENCE_MODEL_PATH)) {
+                        sentenceModel = new SentenceModel(is);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    defaultSentenceModel = sentenceModel;
+                }
+            }
         }
+        return sentenceModel;
+    }
+
+    private SentenceDetectorME newSentenceDetector() {
+        return new SentenceDetectorME(sentenceModel);
     }
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return sentenceDetector.get().sentDetect(text);
+    }
+
+    /**
+     * Returns the positions of the sentences of the provided text, ordered and without surrounding whitespace.
+     */
+    Span[] sentencePositions(String text) {
+        return sentenceDetector.get().sentPosDetect(text);
+    }
+
+    @Override
+    boolean partsAreSentences() {
+        return true;
     }
 
     @Override
@@ -0,0 +1,214 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenOffsetEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.data.document.splitter.HierarchicalDocumentSplitter.createSegment;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Splits the provided {@link Document} into {@link TextSegment}s of at most {@code maxSegmentSizeInTokens} tokens,
+ * tokenizing the document only once.
+ * <p>
+ * Unlike the {@link HierarchicalDocumentSplitter}s, which estimate the token count of every part
+ * and of every segment being built (so each piece of text is tokenized many times),
+ * this splitter tokenizes the whole document with {@link TokenOffsetEstimator#estimateTokenEndOffsetsInText(String)}
+ * and then cuts the segments on token boundaries. Splitting takes time linear in the size of the document.
+ * <p>
+ * Each segment is filled with as many tokens as possible, then it is cut at the best boundary
+ * in the second half of the segment: preferably between paragraphs, then between sentences, then between lines,
+ * then between words. If there is no such boundary, the segment is cut after {@code maxSegmentSizeInTokens} tokens.
+ * Sentence boundaries are detected heuristically (a '.', '!' or '?' followed by a whitespace).
+ * <p>
+ * If {@code maxOverlapSizeInTokens} is greater than zero, each segment starts with (up to) the last
+ * {@code maxOverlapSizeInTokens} tokens of the previous segment, starting at a sentence boundary, or at least
+ * at a word boundary, if possible.
+ * <p>
+ * The sizes are measured in the tokens of the whole document. As tokenization depends on the surrounding text,
+ * tokenizing the text of a segment on its own can give a slightly different number of tokens.
+ * <p>
+ * Each {@link TextSegment} inherits all metadata from the {@link Document} and includes an "index" metadata key
+ * representing its position within the document (starting from 0).
+ */
+public class DocumentByTokenSplitter implements DocumentSplitter {
+
+    private static final byte NO_BOUNDARY = 0;
+    private static final byte WORD_BOUNDARY = 1;
+    private static final byte LINE_BOUNDARY = 2;
+    private static final byte SENTENCE_BOUNDARY = 3;
+    private static final byte PARAGRAPH_BOUNDARY = 4;
+
+    private final int maxSegmentSize;
+    private final int maxOverlapSize;
+    private final TokenOffsetEstimator tokenOffsetEstimator;
+
+    public DocumentByTokenSplitter(int maxSegmentSizeInTokens,
+                                   int maxOverlapSizeInTokens,
+                                   TokenOffsetEstimator tokenOffsetEstimator) {
+        this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSizeInTokens, "maxSegmentSize");
+        this.maxOverlapSize = ensureBetween(maxOverlapSizeInTokens, 0, maxSegmentSize, "maxOverlapSize");
+        this.tokenOffsetEstimator = ensureNotNull(tokenOffsetEstimator, "tokenOffsetEstimator");
+    }
+
+    @Override
+    public List<TextSegment> split(Document document) {
+        ensureNotNull(document, "document");
+
+        String text = document.text();
+        int[] tokenEnds = tokenOffsetEstimator.estimateTokenEndOffsetsInText(text);
+        byte[] boundaries = boundaries(text, tokenEnds);
+        int tokenCount = tokenEnds.length;
+
+        List<TextSegment> segments = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        while (start < tokenCount) {
+            end = tokenCount - start <= maxSegmentSize ? tokenCount : cut(boundaries, start, end);
+
+            String segmentText = trimmedSubstring(text, offset(tokenEnds, start), offset(tokenEnds, end));
+            if (!segmentText.isEmpty()) {
+                segments.add(createSegment(segmentText, document, segments.size()));
+            }
+
+            if (end == tokenCount) {
+                break;
+            }
+            start = maxOverlapSize == 0 ? end : overlapStart(boundaries, start, end);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the (exclusive) end token of the segment starting at the {@code start} token.
+     * The segment always ends after the end of the previous segment, so that it is not contained in it.
+     */
+    private int cut(byte[] boundaries, int start, int previousEnd) {
+        int maxEnd = start + maxSegmentSize;
+        int minEnd = Math.max(start + Math.max(1, maxSegmentSize / 2), previousEnd + 1);
+
+        int[] lastBoundaryOfKind = new int[PARAGRAPH_BOUNDARY + 1];
+        for (int end = maxEnd; end >= minEnd; end--) {
+            byte boundary = boundaries[end];
+            if (lastBoundaryOfKind[boundary] == 0) {
+                lastBoundaryOfKind[boundary] = end;
+            }
+        }
+        for (int kind = PARAGRAPH_BOUNDARY; kind > NO_BOUNDARY; kind--) {
+            if (lastBoundaryOfKind[kind] != 0) {
+                return lastBoundaryOfKind[kind];
+            }
+        }
+        return maxEnd;
+    }
+
+    /**
+     * Returns the start token of the segment following the segment from the {@code start} to the {@code end} token.
+     */
+    private int overlapStart(byte[] boundaries, int start, int end) {
+        int minStart = Math.max(end - maxOverlapSize, start + 1);
+        int wordStart = -1;
+        for (int overlapStart = minStart; overlapStart < end; overlapStart++) {
+            byte boundary = boundaries[overlapStart];
+            if (boundary >= SENTENCE_BOUNDARY) {
+                return overlapStart;
+            }
+            if (boundary != NO_BOUNDARY && wordStart == -1) {
+                wordStart = overlapStart;
+            }
+        }
+        return wordStart != -1 ? wordStart : Math.min(minStart, end);
+    }
+
+    /**
+     * Classifies the boundary before each token (and after the last one), in a single pass over the text.
+     */
+    private static byte[] boundaries(String text, int[] tokenEnds) {
+        byte[] boundaries = new byte[tokenEnds.length + 1];
+        boundaries[0] = PARAGRAPH_BOUNDARY;
+        boundaries[tokenEnds.length] = PARAGRAPH_BOUNDARY;
+
+        // the whitespace run around the current offset, from runStart (inclusive) to runEnd (exclusive)
+        int runStart = 0;
+        int runEnd = 0;
+        int runLineBreaks = 0;
+        for (int token = 1; token < tokenEnds.length; token++) {
+            int offset = tokenEnds[token - 1];
+            if (offset > runEnd) {
+                boolean whitespaceBefore = Character.isWhitespace(text.charAt(offset - 1));
+                boolean whitespaceAfter = offset < text.length() && Character.isWhitespace(text.charAt(offset));
+                if (!whitespaceBefore && !whitespaceAfter) {
+                    boundaries[token] = NO_BOUNDARY;
+                    continue;
+                }
+                // each whitespace run is scanned only once, as the offsets are ascending
+                runStart = offset;
+                while (runStart > 0 && Character.isWhitespace(text.charAt(runStart - 1))) {
+                    runStart--;
+                }
+                runEnd = offset;
+                while (runEnd < text.length() && Character.isWhitespace(text.charAt(runEnd))) {
+                    runEnd++;
+                }
+                runLineBreaks = countLineBreaks(text, runStart, runEnd);
+            } else if (runStart == runEnd) {
+                boundaries[token] = NO_BOUNDARY;
+                continue;
+            }
+
+            if (runLineBreaks >= 2) {
+                boundaries[token] = PARAGRAPH_BOUNDARY;
+            } else if (isEndOfSentence(text, runStart)) {
+                boundaries[token] = SENTENCE_BOUNDARY;
+            } else if (runLineBreaks == 1) {
+                boundaries[token] = LINE_BOUNDARY;
+            } else {
+                boundaries[token] = WORD_BOUNDARY;
+            }
+        }
+        return boundaries;
+    }
+
+    private static int countLineBreaks(String text, int start, int end) {
+        int lineBreaks = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == end || text.charAt(i + 1) != '\n'))) {
+                lineBreaks++;
+            }
+        }
+        return lineBreaks;
+    }
+
+    /**
+     * Returns {@code true} if the text before the {@code offset} ends with '.', '!' or '?',
+     * optionally followed by closing quotes or brackets.
+     */
+    private static boolean isEndOfSentence(String text, int offset) {
+        int i = offset - 1;
+        while (i >= 0 && "\"')]".indexOf(text.charAt(i)) >= 0) {
+            i--;
+        }
+        return i >= 0 && ".!?".indexOf(text.charAt(i)) >= 0;
+    }
+
+    private static int offset(int[] tokenEnds, int token) {
+        return token == 0 ? 0 : tokenEnds[token - 1];
+    }
+
+    private static String trimmedSubstring(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+}
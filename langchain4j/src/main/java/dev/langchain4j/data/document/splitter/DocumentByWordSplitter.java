@@ -5,6 +5,8 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.util.regex.Pattern;
+
 /**
  * Splits the provided {@link Document} into words and attempts to fit as many words as possible
  * into a single {@link TextSegment}, adhering to the limit set by {@code maxSegmentSize}.
@@ -28,6 +30,8 @@ import dev.langchain4j.model.TokenCountEstimator;
  */
 public class DocumentByWordSplitter extends HierarchicalDocumentSplitter {
 
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("\\s+"); // additional whitespaces are ignored
+
     public DocumentByWordSplitter(int maxSegmentSizeInChars,
                                   int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
@@ -54,7 +58,12 @@ public class DocumentByWordSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s+"); // additional whitespaces are ignored
+        return SPLIT_PATTERN.split(text);
+    }
+
+    @Override
+    protected Pattern splitPattern() {
+        return SPLIT_PATTERN;
     }
 
     @Override
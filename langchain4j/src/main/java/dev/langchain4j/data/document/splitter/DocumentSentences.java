@@ -0,0 +1,141 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.Internal;
+import opennlp.tools.util.Span;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The sentences of a document split into {@link TextParts} with offsets, used by {@link HierarchicalDocumentSplitter}
+ * to build the overlap between segments.
+ * <br>
+ * The sentences are detected once per document, when the first overlap is needed,
+ * instead of detecting the sentences of each segment again.
+ * The last sentences of a segment are then found by their offsets in the document.
+ * They are clipped to the segment, and the regions of the parts they cover are joined with the join delimiter,
+ * so they read the same as the sentences detected in the text of the segment.
+ */
+@Internal
+class DocumentSentences {
+
+    private static final int NONE = -1;
+
+    private final TextParts parts;
+    private final String joinDelimiter;
+    private final DocumentBySentenceSplitter sentenceSplitter;
+
+    private int[] starts;
+    private int[] ends;
+
+    // the offset in the document where the current segment starts, or NONE if it is empty
+    private int segmentStart = NONE;
+    // whether the current segment starts with an overlap that is not a region of the document
+    private boolean segmentStartsWithUnknownOverlap;
+
+    DocumentSentences(TextParts parts, String joinDelimiter, DocumentBySentenceSplitter sentenceSplitter) {
+        this.parts = parts;
+        this.joinDelimiter = joinDelimiter;
+        this.sentenceSplitter = sentenceSplitter;
+    }
+
+    /**
+     * Records that the part with the provided index was appended to the current segment.
+     */
+    void partAppended(int index) {
+        if (segmentStart == NONE) {
+            segmentStart = parts.start(index);
+        }
+    }
+
+    /**
+     * Records that the next segment starts with the provided overlap,
+     * which was not built by {@link #overlapSentences(int, SegmentBuilder)} (e.g., it comes from a sub-splitter).
+     */
+    void unknownOverlap(String overlap) {
+        segmentStart = NONE;
+        segmentStartsWithUnknownOverlap = !overlap.isEmpty();
+    }
+
+    /**
+     * Returns the longest sequence of the last sentences of the current segment that fits into the provided builder,
+     * and records that the next segment starts with them.
+     *
+     * @param lastPartIndex  The index of the last part of the current segment.
+     * @param overlapBuilder The empty builder of the overlap.
+     * @return The sentences, or {@code null} if they cannot be found in the document,
+     * because they continue into an overlap that is not a region of the document.
+     */
+    List<String> overlapSentences(int lastPartIndex, SegmentBuilder overlapBuilder) {
+        if (segmentStart == NONE) {
+            return null;
+        }
+        if (starts == null) {
+            detectSentences();
+        }
+
+        int segmentEnd = parts.end(lastPartIndex);
+        Deque<String> sentences = new ArrayDeque<>();
+        int overlapStart = NONE;
+        boolean overlapFull = false;
+        for (int i = lastSentenceBefore(segmentEnd); i >= 0 && ends[i] > segmentStart; i--) {
+            int from = Math.max(starts[i], segmentStart);
+            String sentence = regionText(from, Math.min(ends[i], segmentEnd));
+            if (sentence.isEmpty()) {
+                continue;
+            }
+            if (!overlapBuilder.hasSpaceFor(sentence)) {
+                overlapFull = true;
+                break;
+            }
+            if (segmentStartsWithUnknownOverlap && from == segmentStart) {
+                // this sentence might continue in the unknown overlap
+                return null;
+            }
+            overlapBuilder.prepend(sentence);
+            sentences.addFirst(sentence);
+            overlapStart = from;
+        }
+        if (segmentStartsWithUnknownOverlap && !overlapFull) {
+            // the overlap would include sentences of the unknown overlap
+            return null;
+        }
+
+        segmentStart = overlapStart;
+        segmentStartsWithUnknownOverlap = false;
+        return new ArrayList<>(sentences);
+    }
+
+    private void detectSentences() {
+        Span[] spans = sentenceSplitter.sentencePositions(parts.text());
+        starts = new int[spans.length];
+        ends = new int[spans.length];
+        for (int i = 0; i < spans.length; i++) {
+            starts[i] = spans[i].getStart();
+            ends[i] = spans[i].getEnd();
+        }
+    }
+
+    private int lastSentenceBefore(int offset) {
+        int index = Arrays.binarySearch(starts, offset);
+        return index >= 0 ? index - 1 : -index - 2;
+    }
+
+    private String regionText(int from, int to) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = parts.indexOf(from); i < parts.size() && parts.start(i) < to; i++) {
+            int start = Math.max(from, parts.start(i));
+            int end = Math.min(to, parts.end(i));
+            if (start < end) {
+                if (sb.length() > 0) {
+                    sb.append(joinDelimiter);
+                }
+                sb.append(parts.text(), start, end);
+            }
+        }
+        return sb.toString().trim();
+    }
+}
@@ -8,14 +8,19 @@ import dev.langchain4j.model.TokenCountEstimator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import static dev.langchain4j.internal.Utils.firstChars;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
 
 /**
  * Base class for hierarchical document splitters.
@@ -24,17 +29,22 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
 
-    private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
+    private static final String INDEX = "index";
+
+
+    // shared by all splitters, it is thread-safe and loading the sentence model is expensive
+    private static volatile DocumentBySentenceSplitter overlapSentenceSplitter;
+
+    private static DocumentBySentenceSplitter getOverlapSentenceSplitter() {
+        DocumentBySentenceSplitter splitter = overlapSentenceSplitter;
+        if (splitter == null) {
+            splitter = new DocumentBySentenceSplitter(1, 0, null, null);
+            overlapSentenceSplitter = splitter;
         }
-        return overlapSentenceSplitter;
+        return splitter;
     }
 
-    private static final String INDEX = "index";
-
     protected final int maxSegmentSize;
     protected final int maxOverlapSize;
     protected final TokenCountEstimator tokenCountEstimator;
@@ -117,46 +127,120 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      */
     protected abstract DocumentSplitter defaultSubSplitter();
 
+    /**
+     * Whether the parts returned by {@link #split(String)} are sentences.
+     * If so, the overlap is built from the parts of the segment,
+     * instead of splitting the segment into sentences again.
+     */
+    boolean partsAreSentences() {
+        return false;
+    }
+
+    /**
+     * The regex used by {@link #split(String)}, if any.
+     * If provided, the text is split with this regex instead of calling {@link #split(String)},
+     * and the parts are kept as offsets into the text, instead of being copied into new strings.
+     * <br>
+     * Subclasses overriding {@link #split(String)} of a splitter returning a regex here
+     * must override this method to return {@code null}, otherwise their override is not called.
+     *
+     * @return The regex, or {@code null} to always split with {@link #split(String)}.
+     */
+    protected Pattern splitPattern() {
+        return null;
+    }
+
+    /**
+     * Whether {@link #split(Document)} only creates segments from the text of the document, as implemented by this class.
+     * If so, a parent splitter using this splitter as a sub-splitter splits the text directly,
+     * without creating intermediate documents, segments and metadata.
+     * <br>
+     * Subclasses overriding {@link #split(Document)} must override this method to return {@code false},
+     * otherwise their override is not called when this splitter is used as a sub-splitter.
+     *
+     * @return Whether this splitter can split the text of a sub-segment directly.
+     */
+    protected boolean splitsTextDirectly() {
+        return true;
+    }
+
     @Override
     public List<TextSegment> split(Document document) {
         ensureNotNull(document, "document");
 
         List<TextSegment> segments = new ArrayList<>();
-        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
-        AtomicInteger index = new AtomicInteger(0);
+        splitIntoSegmentTexts(document.text(),
+                segmentText -> segments.add(createSegment(segmentText, document, segments.size())));
+        return segments;
+    }
 
-        String[] parts = split(document.text());
+    /**
+     * Splits the provided text into the texts of the segments.
+     * <br>
+     * The parts are appended to the segment as regions of the text, and the {@code String} of a segment
+     * is only created once, when the segment is complete.
+     * When measuring sizes in characters, no {@code String} is created for the parts at all.
+     *
+     * @param text            The text to be split.
+     * @param segmentConsumer The consumer of the segment texts, called in order.
+     * @return The text of the last segment, or {@code null} if there are no segments.
+     */
+    private String splitIntoSegmentTexts(String text, Consumer<String> segmentConsumer) {
+        String lastSegment = null;
+        SegmentBuilder segmentBuilder = newSegmentBuilder(maxSegmentSize);
+
+        TextParts parts = toParts(text);
+        // the sentences of the current segment, when they are known from the parts, see partsAreSentences()
+        List<String> segmentSentences = partsAreSentences() && maxOverlapSize > 0 ? new ArrayList<>() : null;
+        // otherwise, the sentences of the document, when the parts are regions of it
+        DocumentSentences documentSentences = segmentSentences == null && maxOverlapSize > 0 && parts.hasOffsets()
+                ? new DocumentSentences(parts, joinDelimiter(), getOverlapSentenceSplitter())
+                : null;
         String overlap = null;
-        for (String part : parts) {
-            int partSize = segmentBuilder.sizeOf(part);
+        for (int i = 0; i < parts.size(); i++) {
+            int partSize = tokenCountEstimator == null ? parts.length(i) : estimateSize(parts.get(i));
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                append(parts, i, segmentBuilder, segmentSentences, documentSentences);
                 continue;
             }
 
-            if (segmentBuilder.isNotEmpty()) {
+            if (segmentBuilder.isNotEmpty() && !segmentBuilder.contentEquals(overlap)) {
                 // The part won't fit in the current segment, so we flush the current segment.
                 String segmentText = segmentBuilder.toString();
-                if (!segmentText.equals(overlap)) {
-                    segments.add(createSegment(segmentText, document, index.getAndIncrement()));
-
-                    overlap = overlapFrom(segmentText);
+                segmentConsumer.accept(segmentText);
+                lastSegment = segmentText;
+
+                List<String> overlapSentences = null;
+                if (segmentSentences != null) {
+                    overlapSentences = overlapSentences(segmentSentences);
+                } else if (documentSentences != null) {
+                    overlapSentences = documentSentences.overlapSentences(i - 1, newSegmentBuilder(maxOverlapSize));
+                }
+                boolean overlapLocated = overlapSentences != null;
+                if (!overlapLocated) {
+                    overlapSentences = overlapSentences(segmentText);
+                }
+                overlap = join(overlapSentences);
+                resetSentences(segmentSentences, overlapSentences);
+                if (documentSentences != null && !overlapLocated) {
+                    documentSentences.unknownOverlap(overlap);
+                }
 
-                    segmentBuilder.reset();
-                    segmentBuilder.append(overlap);
+                segmentBuilder.reset();
+                segmentBuilder.append(overlap);
 
-                    if (segmentBuilder.hasSpaceFor(partSize)) {
-                        // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
-                        continue;
-                    }
+                if (segmentBuilder.hasSpaceFor(partSize)) {
+                    // The part fits in the current segment, so we append it.
+                    append(parts, i, segmentBuilder, segmentSentences, documentSentences);
+                    continue;
                 }
             }
 
             // Enforce that we have a sub-splitter defined.
             if (subSplitter == null) {
+                String part = parts.get(i);
                 throw new RuntimeException(String.format(
                         "The text \"%s...\" (%s %s long) doesn't fit into the maximum segment size (%s %s), " +
                                 "and there is no subSplitter defined to split it further.",
@@ -168,22 +252,102 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
-            for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
-                segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
+            parts.appendTo(segmentBuilder, i);
+            String lastSubSegment = subSplit(segmentBuilder.toString(), segmentConsumer);
+            if (lastSubSegment != null) {
+                lastSegment = lastSubSegment;
+            } else if (lastSegment == null) {
+                throw new IndexOutOfBoundsException("The subSplitter returned no segments");
             }
 
-            TextSegment lastSegment = segments.get(segments.size() - 1);
-            overlap = overlapFrom(lastSegment.text());
+            List<String> overlapSentences = overlapSentences(lastSegment);
+            overlap = join(overlapSentences);
+            resetSentences(segmentSentences, overlapSentences);
+            if (documentSentences != null) {
+                documentSentences.unknownOverlap(overlap);
+            }
 
             segmentBuilder.reset();
             segmentBuilder.append(overlap);
         }
 
-        if (segmentBuilder.isNotEmpty() && !segmentBuilder.toString().equals(overlap)) {
-            segments.add(createSegment(segmentBuilder.toString(), document, index.getAndIncrement()));
+        if (segmentBuilder.isNotEmpty() && !segmentBuilder.contentEquals(overlap)) {
+            lastSegment = segmentBuilder.toString();
+            segmentConsumer.accept(lastSegment);
+        }
+
+        return lastSegment;
+    }
+
+    private TextParts toParts(String text) {
+        Pattern splitPattern = splitPattern();
+        return splitPattern != null ? TextParts.split(text, splitPattern) : TextParts.of(split(text));
+    }
+
+    /**
+     * Splits the provided text with the sub-splitter.
+     *
+     * @return The text of the last sub-segment, or {@code null} if there are no sub-segments.
+     */
+    private String subSplit(String text, Consumer<String> segmentConsumer) {
+        if (subSplitter instanceof HierarchicalDocumentSplitter hierarchicalSubSplitter
+                && hierarchicalSubSplitter.splitsTextDirectly()) {
+            // the segment texts are used directly, without creating intermediate documents, segments and metadata
+            ensureNotBlank(text, "text");
+            return hierarchicalSubSplitter.splitIntoSegmentTexts(text, segmentConsumer);
+        }
+
+        String lastSubSegment = null;
+        for (TextSegment subSegment : subSplitter.split(Document.from(text))) {
+            lastSubSegment = subSegment.text();
+            segmentConsumer.accept(lastSubSegment);
         }
+        return lastSubSegment;
+    }
 
+    private SegmentBuilder newSegmentBuilder(int maxSize) {
+        return tokenCountEstimator == null
+                ? new SegmentBuilder(maxSize, joinDelimiter())
+                : new SegmentBuilder(maxSize, this::estimateSize, joinDelimiter());
+    }
+
+    /**
+     * Splits the provided documents into segments concurrently, splitting each document in a task
+     * run by the provided {@link Executor}.
+     * <br>
+     * The segments are returned in the same order as by {@link #splitAll(List)}:
+     * all segments of the first document, then all segments of the second document, etc.
+     * <br>
+     * The splitters provided by LangChain4j can be used concurrently, as long as the {@link TokenCountEstimator}
+     * (if any) and the sub-splitter can be used concurrently as well.
+     *
+     * @param documents The documents to be split.
+     * @param executor  The executor running the splitting of the documents. It is not shut down by this method.
+     * @return The segments of all documents.
+     */
+    public List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        ensureNotNull(documents, "documents");
+        ensureNotNull(executor, "executor");
+        if (documents.size() < 2) {
+            return splitAll(documents);
+        }
+
+        List<CompletableFuture<List<TextSegment>>> futures = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            futures.add(CompletableFuture.supplyAsync(() -> split(document), executor));
+        }
+
+        List<TextSegment> segments = new ArrayList<>();
+        for (CompletableFuture<List<TextSegment>> future : futures) {
+            try {
+                segments.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
         return segments;
     }
 
@@ -194,23 +358,58 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      * @return The overlap region, or an empty string if there is no overlap.
      */
     String overlapFrom(String segmentText) {
+        return join(overlapSentences(segmentText));
+    }
+
+    private List<String> overlapSentences(String segmentText) {
         if (maxOverlapSize == 0) {
-            return "";
+            return emptyList();
         }
 
         // always split by sentence, as it is the smallest meaningful unit of text
-        List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
-        Collections.reverse(sentences);
-
-        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
-        for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
-            } else {
-                break;
-            }
+        return overlapSentences(Arrays.asList(getOverlapSentenceSplitter().split(segmentText)));
+    }
+
+    /**
+     * Returns the longest sequence of the last sentences that fits into {@code maxOverlapSize}.
+     */
+    private List<String> overlapSentences(List<String> sentences) {
+        if (maxOverlapSize == 0) {
+            return emptyList();
+        }
+
+        SegmentBuilder overlapBuilder = newSegmentBuilder(maxOverlapSize);
+        int from = sentences.size();
+        while (from > 0 && overlapBuilder.hasSpaceFor(sentences.get(from - 1))) {
+            overlapBuilder.prepend(sentences.get(from - 1));
+            from--;
+        }
+        return new ArrayList<>(sentences.subList(from, sentences.size()));
+    }
+
+    private String join(List<String> sentences) {
+        return String.join(joinDelimiter(), sentences).trim();
+    }
+
+    private static void append(TextParts parts,
+                               int index,
+                               SegmentBuilder segmentBuilder,
+                               List<String> segmentSentences,
+                               DocumentSentences documentSentences) {
+        parts.appendTo(segmentBuilder, index);
+        if (segmentSentences != null) {
+            segmentSentences.add(parts.get(index));
+        }
+        if (documentSentences != null) {
+            documentSentences.partAppended(index);
+        }
+    }
+
+    private static void resetSentences(List<String> segmentSentences, List<String> overlapSentences) {
+        if (segmentSentences != null) {
+            segmentSentences.clear();
+            segmentSentences.addAll(overlapSentences);
         }
-        return overlapBuilder.toString();
     }
 
     /**
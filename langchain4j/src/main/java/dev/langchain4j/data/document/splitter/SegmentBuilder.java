@@ -9,6 +9,8 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <br>
+ * The segment is accumulated in a {@link StringBuilder}, and its {@code String} is only created by {@link #toString()}.
  */
 @Internal
 class SegmentBuilder {
@@ -17,7 +19,7 @@ class SegmentBuilder {
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
 
     /**
@@ -34,6 +36,22 @@ class SegmentBuilder {
         this.joinSeparatorSize = sizeOf(joinSeparator);
     }
 
+    /**
+     * Creates a new instance of {@link SegmentBuilder} that measures sizes in characters.
+     * <br>
+     * Character counts are additive, so the size of the segment is updated incrementally,
+     * without re-measuring the whole segment on every append.
+     *
+     * @param maxSegmentSize The maximum size of a segment in characters.
+     * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
+     */
+    public SegmentBuilder(int maxSegmentSize, String joinSeparator) {
+        this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSize, "maxSegmentSize");
+        this.sizeFunction = null;
+        this.joinSeparator = ensureNotNull(joinSeparator, "joinSeparator");
+        this.joinSeparatorSize = joinSeparator.length();
+    }
+
     /**
      * Returns the current size of the segment (as returned by the {@code sizeFunction}).
      *
@@ -78,7 +96,7 @@ class SegmentBuilder {
      * @return The size of the provided text.
      */
     public int sizeOf(String text) {
-        return sizeFunction.apply(text);
+        return sizeFunction == null ? text.length() : sizeFunction.apply(text);
     }
 
     /**
@@ -87,11 +105,22 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, 0, text.length());
+    }
+
+    /**
+     * Appends the specified region of the provided text to the current segment, without copying it into a new string.
+     *
+     * @param text  The text containing the region to append.
+     * @param start The start index of the region (inclusive).
+     * @param end   The end index of the region (exclusive).
+     */
+    public void append(CharSequence text, int start, int end) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text, start, end);
+        updateSize();
     }
 
     /**
@@ -101,11 +130,14 @@ class SegmentBuilder {
      */
     public void prepend(String text) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
-        } else {
-            segment = text;
+            segment.insert(0, joinSeparator);
         }
-        segmentSize = sizeOf(segment);
+        segment.insert(0, text);
+        updateSize();
+    }
+
+    private void updateSize() {
+        segmentSize = sizeFunction == null ? segment.length() : sizeOf(segment.toString());
     }
 
     /**
@@ -114,19 +146,61 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
+    }
+
+    /**
+     * Returns {@code true} if the current segment is equal to the provided text, as {@link #toString()} would be.
+     * Unlike {@code toString().equals(text)}, it does not create a new string.
+     *
+     * @param text The text to compare with, can be {@code null}.
+     * @return {@code true} if the current segment is equal to the provided text.
+     */
+    public boolean contentEquals(String text) {
+        if (text == null) {
+            return false;
+        }
+        int start = trimmedStart();
+        int end = trimmedEnd(start);
+        if (end - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (segment.charAt(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        int start = trimmedStart();
+        return segment.substring(start, trimmedEnd(start));
+    }
+
+    // same as String.trim()
+    private int trimmedStart() {
+        int start = 0;
+        while (start < segment.length() && segment.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int start) {
+        int end = segment.length();
+        while (end > start && segment.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
     }
 }
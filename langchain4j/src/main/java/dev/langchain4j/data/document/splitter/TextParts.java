@@ -0,0 +1,131 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.Internal;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The parts of a text, as split by {@link HierarchicalDocumentSplitter}.
+ * <br>
+ * When the text is split by a regex, the parts are kept as offsets into the original text,
+ * so no {@code String} is created for a part unless {@link #get(int)} is called.
+ */
+@Internal
+class TextParts {
+
+    private final String text;
+    private final String[] parts;
+    private final int[] starts;
+    private final int[] ends;
+    private final int size;
+
+    private TextParts(String text, String[] parts, int[] starts, int[] ends, int size) {
+        this.text = text;
+        this.parts = parts;
+        this.starts = starts;
+        this.ends = ends;
+        this.size = size;
+    }
+
+    /**
+     * Wraps the parts returned by {@link HierarchicalDocumentSplitter#split(String)}.
+     */
+    static TextParts of(String[] parts) {
+        return new TextParts(null, parts, null, null, parts.length);
+    }
+
+    /**
+     * Splits the provided text around the matches of the provided pattern.
+     * The parts are exactly the same as the ones returned by {@code pattern.split(text)}.
+     */
+    static TextParts split(String text, Pattern pattern) {
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int size = 0;
+
+        int index = 0;
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            if (index == 0 && matcher.start() == 0 && matcher.end() == 0) {
+                // no empty leading part for a zero-width match at the beginning
+                continue;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = index;
+            ends[size] = matcher.start();
+            size++;
+            index = matcher.end();
+        }
+
+        if (index == 0) {
+            // no match found
+            return new TextParts(text, null, new int[] {0}, new int[] {text.length()}, 1);
+        }
+
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size + 1);
+            ends = Arrays.copyOf(ends, size + 1);
+        }
+        starts[size] = index;
+        ends[size] = text.length();
+        size++;
+
+        // trailing empty parts are removed
+        while (size > 0 && starts[size - 1] == ends[size - 1]) {
+            size--;
+        }
+        return new TextParts(text, null, starts, ends, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Whether the parts are kept as offsets into the text, see {@link #start(int)} and {@link #end(int)}.
+     */
+    boolean hasOffsets() {
+        return parts == null;
+    }
+
+    String text() {
+        return text;
+    }
+
+    int start(int index) {
+        return starts[index];
+    }
+
+    int end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Returns the index of the part containing or following the provided offset of the text.
+     */
+    int indexOf(int offset) {
+        int index = Arrays.binarySearch(ends, 0, size, offset + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int length(int index) {
+        return parts != null ? parts[index].length() : ends[index] - starts[index];
+    }
+
+    String get(int index) {
+        return parts != null ? parts[index] : text.substring(starts[index], ends[index]);
+    }
+
+    void appendTo(SegmentBuilder segmentBuilder, int index) {
+        if (parts != null) {
+            segmentBuilder.append(parts[index]);
+        } else {
+            segmentBuilder.append(text, starts[index], ends[index]);
+        }
+    }
+}
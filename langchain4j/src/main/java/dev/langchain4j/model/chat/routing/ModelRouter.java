@@ -0,0 +1,141 @@
+package dev.langchain4j.model.chat.routing;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static java.util.Comparator.comparingDouble;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides in which order the routed models are tried and when a hedged request should be sent.
+ * Shared by {@link RoutingChatModel} and {@link RoutingStreamingChatModel}.
+ */
+class ModelRouter<M> {
+
+    /**
+     * Even a model that performs badly gets at least this fraction of the weight of the best model,
+     * so that it keeps being probed and can recover once the provider is healthy again.
+     */
+    static final double MIN_RELATIVE_WEIGHT = 0.05;
+
+    private final List<RoutedModel<M>> models;
+    private final Double hedgingPercentile;
+    private final Duration hedgingDelay;
+    private final int maxAttempts;
+    private final int maxHedgedRequests;
+
+    ModelRouter(
+            List<M> models,
+            Double hedgingPercentile,
+            Duration hedgingDelay,
+            Integer maxAttempts,
+            Integer maxHedgedRequests) {
+        this.models = new ArrayList<>();
+        ensureNotEmpty(models, "models").forEach(model -> this.models.add(new RoutedModel<>(model)));
+        this.hedgingPercentile =
+                hedgingPercentile == null ? null : ensureBetween(hedgingPercentile, 0.0, 1.0, "hedgingPercentile");
+        this.hedgingDelay = hedgingDelay;
+        this.maxAttempts = maxAttempts == null
+                ? this.models.size()
+                : Math.min(ensureGreaterThanZero(maxAttempts, "maxAttempts"), this.models.size());
+        this.maxHedgedRequests = maxHedgedRequests == null
+                ? 1
+                : ensureBetween(maxHedgedRequests, 0, Integer.MAX_VALUE, "maxHedgedRequests");
+    }
+
+    List<RoutedModel<M>> models() {
+        return models;
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+
+    int maxHedgedRequests() {
+        return maxHedgedRequests;
+    }
+
+    /**
+     * Returns the first {@link #maxAttempts()} models in the order they should be tried.
+     * The order is a weighted random permutation (weighted random sampling without replacement),
+     * where faster and more reliable models have a higher chance to be tried first.
+     */
+    List<RoutedModel<M>> candidates() {
+        if (models.size() == 1) {
+            return models;
+        }
+
+        Map<RoutedModel<M>, Double> weights = weights();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<RoutedModel<M>, Double> keys = new HashMap<>();
+        for (RoutedModel<M> model : models) {
+            // Efraimidis-Spirakis: the model with the largest log(u) / weight wins
+            double u = 1.0 - random.nextDouble(); // (0, 1]
+            keys.put(model, Math.log(u) / weights.get(model));
+        }
+
+        List<RoutedModel<M>> candidates = new ArrayList<>(models);
+        candidates.sort(comparingDouble(keys::get).reversed());
+        return candidates.subList(0, maxAttempts);
+    }
+
+    /**
+     * Weight of a model is proportional to its success rate (squared, to penalize errors more)
+     * and inversely proportional to its average latency.
+     * Weights are normalized so that the best model has weight 1.
+     */
+    Map<RoutedModel<M>, Double> weights() {
+        double fastestKnownLatency = Double.MAX_VALUE;
+        for (RoutedModel<M> model : models) {
+            double averageLatency = model.averageLatencyNanos();
+            if (averageLatency >= 0) {
+                fastestKnownLatency = Math.min(fastestKnownLatency, averageLatency);
+            }
+        }
+        if (fastestKnownLatency == Double.MAX_VALUE) {
+            fastestKnownLatency = 1;
+        }
+
+        Map<RoutedModel<M>, Double> weights = new HashMap<>();
+        double maxWeight = 0;
+        for (RoutedModel<M> model : models) {
+            double averageLatency = model.averageLatencyNanos();
+            // models without observations are treated optimistically, so that they get explored
+            double latency = averageLatency < 0 ? fastestKnownLatency : Math.max(averageLatency, 1);
+            double successRate = 1 - model.errorRate();
+            double weight = successRate * successRate / latency;
+            weights.put(model, weight);
+            maxWeight = Math.max(maxWeight, weight);
+        }
+
+        for (Map.Entry<RoutedModel<M>, Double> entry : weights.entrySet()) {
+            double relativeWeight = maxWeight > 0 ? entry.getValue() / maxWeight : 1;
+            entry.setValue(Math.max(relativeWeight, MIN_RELATIVE_WEIGHT));
+        }
+        return weights;
+    }
+
+    /**
+     * Returns how long to wait for a response from the given model before sending a hedged request
+     * to the next model, or {@code null} if hedging is disabled.
+     * <br>
+     * When a {@code hedgingPercentile} is configured and enough latencies have been observed for the model,
+     * the corresponding latency percentile is used.
+     * Otherwise, the fixed {@code hedgingDelay} is used (if configured).
+     */
+    Duration hedgingDelay(RoutedModel<M> model) {
+        if (hedgingPercentile != null) {
+            long percentileNanos = model.latencyPercentileNanos(hedgingPercentile);
+            if (percentileNanos >= 0) {
+                return Duration.ofNanos(percentileNanos);
+            }
+        }
+        return hedgingDelay;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.langchain4j.model.chat.routing;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.Arrays;
+
+/**
+ * Wraps a model routed by {@link RoutingChatModel} or {@link RoutingStreamingChatModel}
+ * together with the latency and error statistics observed for it.
+ * <br>
+ * Latencies of the most recent successful calls are kept in a fixed-size window and are used
+ * to calculate latency percentiles (for hedging).
+ * Exponentially weighted moving averages of latency and error rate are used to calculate routing weights.
+ */
+class RoutedModel<M> {
+
+    static final int LATENCY_WINDOW_SIZE = 128;
+    static final int MIN_SAMPLES_FOR_PERCENTILE = 16;
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final M model;
+    private final long[] latencyWindow = new long[LATENCY_WINDOW_SIZE];
+    private int nextLatencyIndex;
+    private int latencyCount;
+    private double averageLatencyNanos = -1;
+    private double errorRate;
+
+    RoutedModel(M model) {
+        this.model = ensureNotNull(model, "model");
+    }
+
+    M model() {
+        return model;
+    }
+
+    synchronized void recordSuccess(long latencyNanos) {
+        recordLatency(latencyNanos);
+        errorRate = (1 - SMOOTHING_FACTOR) * errorRate;
+    }
+
+    synchronized void recordFailure() {
+        errorRate = (1 - SMOOTHING_FACTOR) * errorRate + SMOOTHING_FACTOR;
+    }
+
+    /**
+     * Records a latency sample without affecting the error rate.
+     * Used for calls that were cancelled because another call completed first:
+     * the elapsed time is a lower bound of the real latency of such a call.
+     */
+    synchronized void recordLatency(long latencyNanos) {
+        latencyWindow[nextLatencyIndex] = latencyNanos;
+        nextLatencyIndex = (nextLatencyIndex + 1) % LATENCY_WINDOW_SIZE;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+        averageLatencyNanos = averageLatencyNanos < 0
+                ? latencyNanos
+                : (1 - SMOOTHING_FACTOR) * averageLatencyNanos + SMOOTHING_FACTOR * latencyNanos;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 1.
+     * @return the latency percentile in nanoseconds,
+     * or {@code -1} if not enough samples have been collected yet.
+     */
+    synchronized long latencyPercentileNanos(double percentile) {
+        if (latencyCount < MIN_SAMPLES_FOR_PERCENTILE) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencyWindow, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(index, latencyCount - 1))];
+    }
+
+    /**
+     * @return the moving average of latency in nanoseconds, or {@code -1} if no calls have been observed yet.
+     */
+    synchronized double averageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+
+    synchronized double errorRate() {
+        return errorRate;
+    }
+}
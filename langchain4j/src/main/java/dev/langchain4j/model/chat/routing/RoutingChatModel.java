@@ -0,0 +1,278 @@
+package dev.langchain4j.model.chat.routing;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link ChatModel} that routes requests between multiple underlying {@link ChatModel}s
+ * (for example, {@code OpenAiChatModel}, {@code AzureOpenAiChatModel} and {@code OllamaChatModel}).
+ * <br>
+ * <br>
+ * For each request, the underlying models are ordered using weighted random selection,
+ * where the weight of each model is derived from its observed latency and error rate.
+ * Faster and more reliable models are therefore tried first more often,
+ * while slower or failing models are still probed from time to time, so that they can recover.
+ * <br>
+ * <br>
+ * If a model fails, the request is sent to the next model (failover), up to {@code maxAttempts} models in total.
+ * <br>
+ * <br>
+ * Optionally, hedged requests can be enabled: when a model has not responded within
+ * its {@code hedgingPercentile} latency (for example, p95), or within a fixed {@code hedgingDelay}
+ * while not enough latencies have been observed yet, a duplicate request is sent to the next model.
+ * The first successful response is returned and the remaining in-flight requests are cancelled
+ * (their threads are interrupted).
+ * Please note that hedging can increase costs, as the same request might be processed by multiple providers.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code hedgingPercentile}: the latency percentile (between 0 and 1) after which a hedged request is sent.
+ * <br>
+ * - {@code hedgingDelay}: the delay after which a hedged request is sent
+ * while not enough latencies have been observed to calculate a {@code hedgingPercentile}.
+ * <br>
+ * - {@code maxHedgedRequests}: the maximum number of hedged requests sent for a single request. Default: 1.
+ * <br>
+ * - {@code maxAttempts}: the maximum number of models tried for a single request. Default: all models.
+ * <br>
+ * - {@code executor}: the {@link Executor} used to call the underlying models.
+ * By default, virtual threads are used when available, otherwise a cached thread pool.
+ * <br>
+ * <br>
+ * Listeners configured on the underlying models are invoked for each call made to them.
+ *
+ * @see RoutingStreamingChatModel
+ */
+public class RoutingChatModel implements ChatModel {
+
+    private final ModelRouter<ChatModel> router;
+    private final Executor executor;
+
+    public RoutingChatModel(Builder builder) {
+        this.router = new ModelRouter<>(
+                builder.models,
+                builder.hedgingPercentile,
+                builder.hedgingDelay,
+                builder.maxAttempts,
+                builder.maxHedgedRequests);
+        this.executor = getOrDefault(builder.executor, RoutingChatModel::createDefaultExecutor);
+    }
+
+    static Executor createDefaultExecutor() {
+        return createVirtualThreadExecutor(Executors::newCachedThreadPool);
+    }
+
+    @Override
+    public ChatResponse doChat(ChatRequest chatRequest) {
+
+        List<RoutedModel<ChatModel>> candidates = router.candidates();
+        CompletionService<ChatResponse> completionService = new ExecutorCompletionService<>(executor);
+        List<Attempt> inFlight = new ArrayList<>();
+        int launched = 0;
+        int hedged = 0;
+        Throwable lastError = null;
+        AtomicBoolean done = new AtomicBoolean();
+
+        inFlight.add(launch(candidates.get(launched++), chatRequest, completionService, done));
+
+        try {
+            while (!inFlight.isEmpty()) {
+
+                Attempt latest = inFlight.get(inFlight.size() - 1);
+                Duration hedgingDelay = hedged < router.maxHedgedRequests() && launched < candidates.size()
+                        ? router.hedgingDelay(latest.model())
+                        : null;
+
+                Future<ChatResponse> completed;
+                if (hedgingDelay == null) {
+                    completed = completionService.take();
+                } else {
+                    long remainingNanos = latest.startNanos() + hedgingDelay.toNanos() - System.nanoTime();
+                    completed = completionService.poll(Math.max(remainingNanos, 0), NANOSECONDS);
+                    if (completed == null) {
+                        inFlight.add(launch(candidates.get(launched++), chatRequest, completionService, done));
+                        hedged++;
+                        continue;
+                    }
+                }
+
+                remove(inFlight, completed);
+                try {
+                    return completed.get();
+                } catch (ExecutionException e) {
+                    lastError = e.getCause();
+                    if (launched < candidates.size()) {
+                        inFlight.add(launch(candidates.get(launched++), chatRequest, completionService, done));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LangChain4jException("Interrupted while waiting for a response", e);
+        } finally {
+            done.set(true);
+            cancel(inFlight);
+        }
+
+        if (lastError instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new LangChain4jException(lastError);
+    }
+
+    private static Attempt launch(
+            RoutedModel<ChatModel> model,
+            ChatRequest chatRequest,
+            CompletionService<ChatResponse> completionService,
+            AtomicBoolean done) {
+        long startNanos = System.nanoTime();
+        Future<ChatResponse> future = completionService.submit(() -> {
+            try {
+                ChatResponse chatResponse = model.model().chat(chatRequest);
+                model.recordSuccess(System.nanoTime() - startNanos);
+                return chatResponse;
+            } catch (Exception e) {
+                if (!done.get()) { // failures of cancelled calls are not counted
+                    model.recordFailure();
+                }
+                throw e;
+            }
+        });
+        return new Attempt(model, future, startNanos);
+    }
+
+    private static void remove(List<Attempt> inFlight, Future<ChatResponse> future) {
+        inFlight.removeIf(attempt -> attempt.future() == future);
+    }
+
+    private static void cancel(List<Attempt> inFlight) {
+        for (Attempt attempt : inFlight) {
+            if (attempt.future().cancel(true)) {
+                attempt.model().recordLatency(System.nanoTime() - attempt.startNanos());
+            }
+        }
+    }
+
+    /**
+     * Returns only capabilities supported by all underlying models.
+     */
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        Set<Capability> capabilities = null;
+        for (RoutedModel<ChatModel> model : router.models()) {
+            if (capabilities == null) {
+                capabilities = new HashSet<>(model.model().supportedCapabilities());
+            } else {
+                capabilities.retainAll(model.model().supportedCapabilities());
+            }
+        }
+        return capabilities;
+    }
+
+    private record Attempt(RoutedModel<ChatModel> model, Future<ChatResponse> future, long startNanos) {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private List<ChatModel> models;
+        private Double hedgingPercentile;
+        private Duration hedgingDelay;
+        private Integer maxHedgedRequests;
+        private Integer maxAttempts;
+        private Executor executor;
+
+        /**
+         * @param models the models to route requests between.
+         * @return builder
+         */
+        public Builder models(List<ChatModel> models) {
+            this.models = models;
+            return this;
+        }
+
+        /**
+         * @param models the models to route requests between.
+         * @return builder
+         */
+        public Builder models(ChatModel... models) {
+            return models(asList(models));
+        }
+
+        /**
+         * @param hedgingPercentile the latency percentile (between 0 and 1, e.g. 0.95)
+         *                          after which a hedged request is sent to the next model.
+         * @return builder
+         */
+        public Builder hedgingPercentile(Double hedgingPercentile) {
+            this.hedgingPercentile = hedgingPercentile;
+            return this;
+        }
+
+        /**
+         * @param hedgingDelay the delay after which a hedged request is sent to the next model.
+         *                     When {@link #hedgingPercentile(Double)} is also set, this delay is used only
+         *                     until enough latencies have been observed to calculate the percentile.
+         * @return builder
+         */
+        public Builder hedgingDelay(Duration hedgingDelay) {
+            this.hedgingDelay = hedgingDelay;
+            return this;
+        }
+
+        /**
+         * @param maxHedgedRequests the maximum number of hedged requests sent for a single request. Default: 1.
+         * @return builder
+         */
+        public Builder maxHedgedRequests(Integer maxHedgedRequests) {
+            this.maxHedgedRequests = maxHedgedRequests;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts the maximum number of models (including hedged requests and failovers)
+         *                    tried for a single request. Default: all models.
+         * @return builder
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param executor the {@link Executor} used to call the underlying models.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public RoutingChatModel build() {
+            return new RoutingChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package dev.langchain4j.model.chat.routing;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.internal.DaemonExecutors;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A {@link StreamingChatModel} that routes requests between multiple underlying {@link StreamingChatModel}s.
+ * This is a streaming counterpart of {@link RoutingChatModel}, please refer to its Javadoc for details
+ * on weighted routing, failover and hedging.
+ * <br>
+ * <br>
+ * For streaming, latency is measured as time to the first event (partial or complete response)
+ * and failover and hedging are possible only until the first event is received:
+ * the model that emits the first event wins and all events from other models are ignored.
+ * An error that occurs after the first event is propagated to the {@link StreamingChatResponseHandler}.
+ * <br>
+ * Since {@link StreamingChatModel} does not support cancellation,
+ * requests that lost the race are not cancelled, but their output is discarded.
+ *
+ * @see RoutingChatModel
+ */
+public class RoutingStreamingChatModel implements StreamingChatModel {
+
+    private static final ScheduledExecutorService HEDGING_SCHEDULER =
+            DaemonExecutors.newSingleThreadScheduledExecutor("langchain4j-hedging-scheduler");
+
+    private final ModelRouter<StreamingChatModel> router;
+    private final Executor executor;
+
+    public RoutingStreamingChatModel(Builder builder) {
+        this.router = new ModelRouter<>(
+                builder.models,
+                builder.hedgingPercentile,
+                builder.hedgingDelay,
+                builder.maxAttempts,
+                builder.maxHedgedRequests);
+        this.executor = getOrDefault(builder.executor, RoutingChatModel::createDefaultExecutor);
+    }
+
+    @Override
+    public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        new RoutedCall(router.candidates(), chatRequest, handler).launchNext();
+    }
+
+    /**
+     * Returns only capabilities supported by all underlying models.
+     */
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        Set<Capability> capabilities = null;
+        for (RoutedModel<StreamingChatModel> model : router.models()) {
+            if (capabilities == null) {
+                capabilities = new HashSet<>(model.model().supportedCapabilities());
+            } else {
+                capabilities.retainAll(model.model().supportedCapabilities());
+            }
+        }
+        return capabilities;
+    }
+
+    /**
+     * Tracks the state of a single routed streaming request.
+     * All state transitions happen under the lock of this object,
+     * while the user-provided handler is always invoked outside the lock.
+     */
+    private class RoutedCall {
+
+        private final List<RoutedModel<StreamingChatModel>> candidates;
+        private final ChatRequest chatRequest;
+        private final StreamingChatResponseHandler handler;
+
+        private int launched;
+        private int hedged;
+        private int pending;
+        private Attempt winner;
+        private boolean finished;
+
+        RoutedCall(
+                List<RoutedModel<StreamingChatModel>> candidates,
+                ChatRequest chatRequest,
+                StreamingChatResponseHandler handler) {
+            this.candidates = candidates;
+            this.chatRequest = chatRequest;
+            this.handler = handler;
+        }
+
+        private synchronized boolean launchNext() {
+            if (finished || winner != null || launched >= candidates.size()) {
+                return false;
+            }
+
+            Attempt attempt = new Attempt(candidates.get(launched++));
+            pending++;
+            executor.execute(() -> {
+                try {
+                    attempt.model.model().chat(chatRequest, attempt);
+                } catch (Exception e) {
+                    attempt.onError(e);
+                }
+            });
+
+            if (hedged < router.maxHedgedRequests() && launched < candidates.size()) {
+                Duration hedgingDelay = router.hedgingDelay(attempt.model);
+                if (hedgingDelay != null) {
+                    HEDGING_SCHEDULER.schedule(this::hedge, hedgingDelay.toNanos(), NANOSECONDS);
+                }
+            }
+            return true;
+        }
+
+        private synchronized void hedge() {
+            if (!finished && winner == null && launched < candidates.size()) {
+                hedged++;
+                launchNext();
+            }
+        }
+
+        /**
+         * @return {@code true} if the events of the given attempt should be forwarded to the handler
+         */
+        private synchronized boolean claim(Attempt attempt) {
+            if (winner == null && !finished) {
+                winner = attempt;
+            }
+            return winner == attempt;
+        }
+
+        private synchronized boolean finish(Attempt attempt) {
+            if (winner == attempt && !finished) {
+                finished = true;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return {@code true} if the error should be propagated to the handler
+         */
+        private synchronized boolean onAttemptFailed(Attempt attempt) {
+            if (finished) {
+                return false;
+            }
+            if (winner == attempt) {
+                finished = true;
+                return true;
+            }
+            pending--;
+            if (winner == null && !launchNext() && pending == 0) {
+                finished = true;
+                return true;
+            }
+            return false;
+        }
+
+        private class Attempt implements StreamingChatResponseHandler {
+
+            private final RoutedModel<StreamingChatModel> model;
+            private final long startNanos = System.nanoTime();
+            private boolean firstEventReceived;
+
+            Attempt(RoutedModel<StreamingChatModel> model) {
+                this.model = model;
+            }
+
+            private synchronized void onFirstEvent() {
+                if (!firstEventReceived) {
+                    firstEventReceived = true;
+                    model.recordSuccess(System.nanoTime() - startNanos);
+                }
+            }
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                onFirstEvent();
+                if (claim(this)) {
+                    handler.onPartialResponse(partialResponse);
+                }
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                onFirstEvent();
+                if (claim(this) && finish(this)) {
+                    handler.onCompleteResponse(completeResponse);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                model.recordFailure();
+                if (onAttemptFailed(this)) {
+                    handler.onError(error);
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private List<StreamingChatModel> models;
+        private Double hedgingPercentile;
+        private Duration hedgingDelay;
+        private Integer maxHedgedRequests;
+        private Integer maxAttempts;
+        private Executor executor;
+
+        /**
+         * @param models the models to route requests between.
+         * @return builder
+         */
+        public Builder models(List<StreamingChatModel> models) {
+            this.models = models;
+            return this;
+        }
+
+        /**
+         * @param models the models to route requests between.
+         * @return builder
+         */
+        public Builder models(StreamingChatModel... models) {
+            return models(asList(models));
+        }
+
+        /**
+         * @param hedgingPercentile the time-to-first-event percentile (between 0 and 1, e.g. 0.95)
+         *                          after which a hedged request is sent to the next model.
+         * @return builder
+         */
+        public Builder hedgingPercentile(Double hedgingPercentile) {
+            this.hedgingPercentile = hedgingPercentile;
+            return this;
+        }
+
+        /**
+         * @param hedgingDelay the delay after which a hedged request is sent to the next model
+         *                     if no event has been received yet.
+         *                     When {@link #hedgingPercentile(Double)} is also set, this delay is used only
+         *                     until enough latencies have been observed to calculate the percentile.
+         * @return builder
+         */
+        public Builder hedgingDelay(Duration hedgingDelay) {
+            this.hedgingDelay = hedgingDelay;
+            return this;
+        }
+
+        /**
+         * @param maxHedgedRequests the maximum number of hedged requests sent for a single request. Default: 1.
+         * @return builder
+         */
+        public Builder maxHedgedRequests(Integer maxHedgedRequests) {
+            this.maxHedgedRequests = maxHedgedRequests;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts the maximum number of models (including hedged requests and failovers)
+         *                    tried for a single request. Default: all models.
+         * @return builder
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param executor the {@link Executor} used to start requests to the underlying models.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public RoutingStreamingChatModel build() {
+            return new RoutingStreamingChatModel(this);
+        }
+    }
+}
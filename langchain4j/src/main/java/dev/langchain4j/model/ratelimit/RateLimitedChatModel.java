@@ -0,0 +1,131 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.Set;
+
+/**
+ * A {@link ChatModel} that admits each request through a {@link RateLimiter} before delegating it to
+ * the underlying {@link ChatModel}.
+ * <br>
+ * When a {@link TokenCountEstimator} is configured, the number of tokens of each request is estimated
+ * as the number of tokens in the messages plus the {@code maxOutputTokens} (if set),
+ * since most providers count the latter against the tokens-per-minute quota.
+ * Once the response is received, the estimation is reconciled with the actual {@link TokenUsage}.
+ * Without a {@link TokenCountEstimator}, only the request and concurrency limits are applied before the call
+ * and the token budget is consumed by the actual {@link TokenUsage} after it.
+ *
+ * @see RateLimiter
+ */
+public class RateLimitedChatModel implements ChatModel {
+
+    private final ChatModel chatModel;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+
+    public RateLimitedChatModel(Builder builder) {
+        this.chatModel = ensureNotNull(builder.chatModel, "chatModel");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+    }
+
+    @Override
+    public ChatResponse doChat(ChatRequest chatRequest) {
+        RateLimiter.Permit permit = rateLimiter.acquire(
+                estimateTokenCount(chatRequest, chatModel.defaultRequestParameters(), tokenCountEstimator));
+        Integer actualTokenCount = null;
+        try {
+            ChatResponse chatResponse = chatModel.chat(chatRequest);
+            actualTokenCount = totalTokenCount(chatResponse.tokenUsage());
+            return chatResponse;
+        } finally {
+            permit.release(actualTokenCount);
+        }
+    }
+
+    static int estimateTokenCount(
+            ChatRequest chatRequest,
+            ChatRequestParameters defaultParameters,
+            TokenCountEstimator tokenCountEstimator) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokenCount = tokenCountEstimator.estimateTokenCountInMessages(chatRequest.messages());
+        Integer maxOutputTokens = chatRequest.maxOutputTokens();
+        if (maxOutputTokens == null && defaultParameters != null) {
+            maxOutputTokens = defaultParameters.maxOutputTokens();
+        }
+        return maxOutputTokens == null ? tokenCount : tokenCount + maxOutputTokens;
+    }
+
+    static Integer totalTokenCount(TokenUsage tokenUsage) {
+        if (tokenUsage == null) {
+            return null;
+        }
+        if (tokenUsage.totalTokenCount() != null) {
+            return tokenUsage.totalTokenCount();
+        }
+        return tokenUsage.inputTokenCount();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return chatModel.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return chatModel.supportedCapabilities();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatModel chatModel;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+
+        /**
+         * @param chatModel the underlying {@link ChatModel}.
+         * @return builder
+         */
+        public Builder chatModel(ChatModel chatModel) {
+            this.chatModel = chatModel;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the {@link RateLimiter}. It can be shared between multiple models.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator the {@link TokenCountEstimator} used to estimate the number of tokens
+         *                            of each request before it is sent.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        public RateLimitedChatModel build() {
+            return new RateLimitedChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.totalTokenCount;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.util.List;
+
+/**
+ * An {@link EmbeddingModel} that admits each request through a {@link RateLimiter} before delegating it to
+ * the underlying {@link EmbeddingModel}.
+ * <br>
+ * When a {@link TokenCountEstimator} is configured, the number of tokens of each request is estimated
+ * as the sum of tokens in all {@link TextSegment}s and reconciled with the actual token usage afterward.
+ *
+ * @see RateLimiter
+ */
+public class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel embeddingModel;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+
+    public RateLimitedEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        RateLimiter.Permit permit = rateLimiter.acquire(estimateTokenCount(textSegments));
+        Integer actualTokenCount = null;
+        try {
+            Response<List<Embedding>> response = embeddingModel.embedAll(textSegments);
+            actualTokenCount = totalTokenCount(response.tokenUsage());
+            return response;
+        } finally {
+            permit.release(actualTokenCount);
+        }
+    }
+
+    private int estimateTokenCount(List<TextSegment> textSegments) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokenCount = 0;
+        for (TextSegment textSegment : textSegments) {
+            tokenCount += tokenCountEstimator.estimateTokenCountInText(textSegment.text());
+        }
+        return tokenCount;
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+
+        /**
+         * @param embeddingModel the underlying {@link EmbeddingModel}.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the {@link RateLimiter}. It can be shared between multiple models.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator the {@link TokenCountEstimator} used to estimate the number of tokens
+         *                            of each request before it is sent.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        public RateLimitedEmbeddingModel build() {
+            return new RateLimitedEmbeddingModel(this);
+        }
+    }
+}
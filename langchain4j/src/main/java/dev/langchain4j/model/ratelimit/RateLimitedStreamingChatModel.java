@@ -0,0 +1,120 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.estimateTokenCount;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.totalTokenCount;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.util.Set;
+
+/**
+ * A {@link StreamingChatModel} that admits each request through a {@link RateLimiter} before delegating it to
+ * the underlying {@link StreamingChatModel}.
+ * The calling thread is blocked until the request is admitted.
+ * The permit is released when the complete response or an error is received.
+ * <br>
+ * Please refer to {@link RateLimitedChatModel} for details on how the number of tokens is estimated.
+ *
+ * @see RateLimiter
+ */
+public class RateLimitedStreamingChatModel implements StreamingChatModel {
+
+    private final StreamingChatModel streamingChatModel;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+
+    public RateLimitedStreamingChatModel(Builder builder) {
+        this.streamingChatModel = ensureNotNull(builder.streamingChatModel, "streamingChatModel");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+    }
+
+    @Override
+    public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        RateLimiter.Permit permit = rateLimiter.acquire(
+                estimateTokenCount(chatRequest, streamingChatModel.defaultRequestParameters(), tokenCountEstimator));
+        try {
+            streamingChatModel.chat(chatRequest, new StreamingChatResponseHandler() {
+
+                @Override
+                public void onPartialResponse(String partialResponse) {
+                    handler.onPartialResponse(partialResponse);
+                }
+
+                @Override
+                public void onCompleteResponse(ChatResponse completeResponse) {
+                    permit.release(totalTokenCount(completeResponse.tokenUsage()));
+                    handler.onCompleteResponse(completeResponse);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    permit.release(null);
+                    handler.onError(error);
+                }
+            });
+        } catch (RuntimeException e) {
+            permit.release(null);
+            throw e;
+        }
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return streamingChatModel.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return streamingChatModel.supportedCapabilities();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatModel streamingChatModel;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+
+        /**
+         * @param streamingChatModel the underlying {@link StreamingChatModel}.
+         * @return builder
+         */
+        public Builder streamingChatModel(StreamingChatModel streamingChatModel) {
+            this.streamingChatModel = streamingChatModel;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the {@link RateLimiter}. It can be shared between multiple models.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator the {@link TokenCountEstimator} used to estimate the number of tokens
+         *                            of each request before it is sent.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        public RateLimitedStreamingChatModel build() {
+            return new RateLimitedStreamingChatModel(this);
+        }
+    }
+}
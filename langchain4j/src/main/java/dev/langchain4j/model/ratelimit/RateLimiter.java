@@ -0,0 +1,330 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.TokenCountEstimator;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A client-side rate limiter and concurrency governor for model calls.
+ * <br>
+ * <br>
+ * It admits requests ahead of time against the configured budgets, so that the provider quota is never exceeded
+ * and there is no need to react to HTTP 429 responses with retries:
+ * <br>
+ * - {@code requestLimit}: the maximum number of requests per period (e.g. requests per minute, RPM).
+ * <br>
+ * - {@code tokenLimit}: the maximum number of tokens per period (e.g. tokens per minute, TPM).
+ * The number of tokens is estimated before the call (e.g. using a {@link TokenCountEstimator})
+ * and reconciled with the actual token usage reported by the provider once the call completes.
+ * <br>
+ * - {@code maxConcurrentRequests}: the maximum number of requests in flight at the same time.
+ * <br>
+ * <br>
+ * Both budgets are implemented as token buckets that continuously refill over the period.
+ * Waiting requests are admitted in FIFO order, so that large requests are not starved by small ones.
+ * When the {@code maxWaitTime} is configured and a request cannot be admitted within it,
+ * a {@link RateLimitException} is thrown.
+ * <br>
+ * <br>
+ * A single {@code RateLimiter} is meant to be shared by all models (and AI services) that consume the same quota,
+ * see {@link RateLimitedChatModel}, {@link RateLimitedStreamingChatModel} and {@link RateLimitedEmbeddingModel}.
+ * Statistics about admitted and rejected requests and the time they spent waiting
+ * are available via {@link #metrics()}.
+ */
+public class RateLimiter {
+
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final Semaphore concurrencyLimit;
+    private final Duration maxWaitTime;
+
+    /**
+     * Fair lock held by the request at the head of the queue (including while it waits for the budget),
+     * so that waiting requests are admitted in FIFO order.
+     */
+    private final ReentrantLock admissionLock = new ReentrantLock(true);
+    /**
+     * Guards the state of the token buckets, it is never held while waiting.
+     */
+    private final Object bucketLock = new Object();
+
+    private final LongAdder admittedRequests = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    public RateLimiter(Builder builder) {
+        long nowNanos = System.nanoTime();
+        this.requestBucket = builder.requestLimit == null
+                ? null
+                : new TokenBucket(builder.requestLimit, builder.requestLimitPeriod, nowNanos);
+        this.tokenBucket = builder.tokenLimit == null
+                ? null
+                : new TokenBucket(builder.tokenLimit, builder.tokenLimitPeriod, nowNanos);
+        this.concurrencyLimit = builder.maxConcurrentRequests == null
+                ? null
+                : new Semaphore(ensureGreaterThanZero(builder.maxConcurrentRequests, "maxConcurrentRequests"), true);
+        this.maxWaitTime = builder.maxWaitTime;
+    }
+
+    /**
+     * Waits until a request consuming the given number of tokens can be admitted.
+     *
+     * @param estimatedTokenCount the estimated number of tokens the request will consume.
+     *                            If it exceeds the {@code tokenLimit}, the whole token budget is consumed.
+     * @return the {@link Permit} that must be released once the request completes.
+     * @throws RateLimitException if the request cannot be admitted within the {@code maxWaitTime}.
+     */
+    public Permit acquire(int estimatedTokenCount) {
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = maxWaitTime == null ? Long.MAX_VALUE : startNanos + maxWaitTime.toNanos();
+        double tokens = tokenBucket == null ? 0 : Math.min(Math.max(estimatedTokenCount, 0), tokenBucket.capacity());
+
+        waitingRequests.incrementAndGet();
+        try {
+            acquireBudget(tokens, deadlineNanos);
+            acquireConcurrency(tokens, deadlineNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LangChain4jException("Interrupted while waiting for the rate limiter", e);
+        } finally {
+            waitingRequests.decrementAndGet();
+        }
+
+        long waitNanos = System.nanoTime() - startNanos;
+        admittedRequests.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        inFlightRequests.incrementAndGet();
+        return new Permit(tokens);
+    }
+
+    private void acquireBudget(double tokens, long deadlineNanos) throws InterruptedException {
+        if (requestBucket == null && tokenBucket == null) {
+            return;
+        }
+
+        if (!admissionLock.tryLock(remainingNanos(deadlineNanos), NANOSECONDS)) {
+            throw reject("Timed out waiting in the queue");
+        }
+        try {
+            while (true) {
+                long waitNanos = tryConsume(tokens);
+                if (waitNanos == 0) {
+                    return;
+                }
+                if (waitNanos > remainingNanos(deadlineNanos)) {
+                    throw reject("The request cannot be admitted within maxWaitTime (" + maxWaitTime + ")");
+                }
+                NANOSECONDS.sleep(waitNanos);
+            }
+        } finally {
+            admissionLock.unlock();
+        }
+    }
+
+    /**
+     * @return {@code 0} if the budget was consumed, otherwise how many nanoseconds to wait before trying again
+     */
+    private long tryConsume(double tokens) {
+        synchronized (bucketLock) {
+            long nowNanos = System.nanoTime();
+            long waitNanos = Math.max(
+                    requestBucket == null ? 0 : requestBucket.nanosUntilAvailable(1, nowNanos),
+                    tokenBucket == null ? 0 : tokenBucket.nanosUntilAvailable(tokens, nowNanos));
+            if (waitNanos == 0) {
+                if (requestBucket != null) {
+                    requestBucket.consume(1);
+                }
+                if (tokenBucket != null) {
+                    tokenBucket.consume(tokens);
+                }
+            }
+            return waitNanos;
+        }
+    }
+
+    private void acquireConcurrency(double tokens, long deadlineNanos) throws InterruptedException {
+        if (concurrencyLimit == null) {
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire(remainingNanos(deadlineNanos), NANOSECONDS)) {
+            returnBudget(tokens);
+            throw reject("Timed out waiting for one of the in-flight requests to complete");
+        }
+    }
+
+    private void returnBudget(double tokens) {
+        synchronized (bucketLock) {
+            long nowNanos = System.nanoTime();
+            if (requestBucket != null) {
+                requestBucket.adjust(1, nowNanos);
+            }
+            if (tokenBucket != null) {
+                tokenBucket.adjust(tokens, nowNanos);
+            }
+        }
+    }
+
+    private RateLimitException reject(String reason) {
+        rejectedRequests.increment();
+        return new RateLimitException("Request rejected by the client-side rate limiter: " + reason);
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        if (deadlineNanos == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @return a snapshot of the statistics collected by this rate limiter.
+     */
+    public RateLimiterMetrics metrics() {
+        long admitted = admittedRequests.sum();
+        long totalWait = totalWaitNanos.sum();
+        Double availableRequests;
+        Double availableTokens;
+        synchronized (bucketLock) {
+            long nowNanos = System.nanoTime();
+            availableRequests = requestBucket == null ? null : requestBucket.available(nowNanos);
+            availableTokens = tokenBucket == null ? null : tokenBucket.available(nowNanos);
+        }
+        return new RateLimiterMetrics(
+                admitted,
+                rejectedRequests.sum(),
+                waitingRequests.get(),
+                inFlightRequests.get(),
+                Duration.ofNanos(totalWait),
+                Duration.ofNanos(admitted == 0 ? 0 : totalWait / admitted),
+                Duration.ofNanos(maxWaitNanos.get()),
+                availableRequests,
+                availableTokens);
+    }
+
+    /**
+     * A permit to execute a single request. It must be released once the request completes (successfully or not).
+     */
+    public class Permit {
+
+        private final double tokens;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(double tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Releases this permit.
+         *
+         * @param actualTokenCount the number of tokens actually consumed by the request
+         *                         (e.g. {@code TokenUsage.totalTokenCount()}), or {@code null} if unknown.
+         *                         When known, the token budget is corrected by the difference
+         *                         between the estimated and the actual number of tokens.
+         */
+        public void release(Integer actualTokenCount) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlightRequests.decrementAndGet();
+            if (concurrencyLimit != null) {
+                concurrencyLimit.release();
+            }
+            if (tokenBucket != null && actualTokenCount != null) {
+                synchronized (bucketLock) {
+                    tokenBucket.adjust(tokens - actualTokenCount, System.nanoTime());
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer requestLimit;
+        private Duration requestLimitPeriod;
+        private Integer tokenLimit;
+        private Duration tokenLimitPeriod;
+        private Integer maxConcurrentRequests;
+        private Duration maxWaitTime;
+
+        /**
+         * @param requestsPerMinute the maximum number of requests per minute (RPM).
+         * @return builder
+         */
+        public Builder requestsPerMinute(Integer requestsPerMinute) {
+            return requestLimit(requestsPerMinute, Duration.ofMinutes(1));
+        }
+
+        /**
+         * @param limit  the maximum number of requests per period.
+         * @param period the period.
+         * @return builder
+         */
+        public Builder requestLimit(Integer limit, Duration period) {
+            this.requestLimit = limit;
+            this.requestLimitPeriod = period;
+            return this;
+        }
+
+        /**
+         * @param tokensPerMinute the maximum number of tokens per minute (TPM).
+         * @return builder
+         */
+        public Builder tokensPerMinute(Integer tokensPerMinute) {
+            return tokenLimit(tokensPerMinute, Duration.ofMinutes(1));
+        }
+
+        /**
+         * @param limit  the maximum number of tokens per period.
+         * @param period the period.
+         * @return builder
+         */
+        public Builder tokenLimit(Integer limit, Duration period) {
+            this.tokenLimit = limit;
+            this.tokenLimitPeriod = period;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests the maximum number of requests in flight at the same time.
+         * @return builder
+         */
+        public Builder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param maxWaitTime the maximum time a request can wait to be admitted.
+         *                    If it cannot be admitted within this time, a {@link RateLimitException} is thrown.
+         *                    By default, requests wait as long as needed.
+         * @return builder
+         */
+        public Builder maxWaitTime(Duration maxWaitTime) {
+            this.maxWaitTime = maxWaitTime;
+            return this;
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.langchain4j.model.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the statistics collected by a {@link RateLimiter}.
+ */
+public class RateLimiterMetrics {
+
+    private final long admittedRequests;
+    private final long rejectedRequests;
+    private final int waitingRequests;
+    private final int inFlightRequests;
+    private final Duration totalWaitTime;
+    private final Duration averageWaitTime;
+    private final Duration maxWaitTime;
+    private final Double availableRequests;
+    private final Double availableTokens;
+
+    public RateLimiterMetrics(
+            long admittedRequests,
+            long rejectedRequests,
+            int waitingRequests,
+            int inFlightRequests,
+            Duration totalWaitTime,
+            Duration averageWaitTime,
+            Duration maxWaitTime,
+            Double availableRequests,
+            Double availableTokens) {
+        this.admittedRequests = admittedRequests;
+        this.rejectedRequests = rejectedRequests;
+        this.waitingRequests = waitingRequests;
+        this.inFlightRequests = inFlightRequests;
+        this.totalWaitTime = totalWaitTime;
+        this.averageWaitTime = averageWaitTime;
+        this.maxWaitTime = maxWaitTime;
+        this.availableRequests = availableRequests;
+        this.availableTokens = availableTokens;
+    }
+
+    /**
+     * @return the number of requests admitted so far.
+     */
+    public long admittedRequests() {
+        return admittedRequests;
+    }
+
+    /**
+     * @return the number of requests rejected so far because they could not be admitted within the max wait time.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests;
+    }
+
+    /**
+     * @return the number of requests currently waiting to be admitted.
+     */
+    public int waitingRequests() {
+        return waitingRequests;
+    }
+
+    /**
+     * @return the number of requests admitted, but not yet completed.
+     */
+    public int inFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * @return the total time admitted requests spent waiting.
+     */
+    public Duration totalWaitTime() {
+        return totalWaitTime;
+    }
+
+    /**
+     * @return the average time admitted requests spent waiting.
+     */
+    public Duration averageWaitTime() {
+        return averageWaitTime;
+    }
+
+    /**
+     * @return the longest time an admitted request spent waiting.
+     */
+    public Duration maxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * @return the number of requests that can be admitted right now, or {@code null} if requests are not limited.
+     */
+    public Double availableRequests() {
+        return availableRequests;
+    }
+
+    /**
+     * @return the number of tokens that can be consumed right now, or {@code null} if tokens are not limited.
+     */
+    public Double availableTokens() {
+        return availableTokens;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiterMetrics {" + " admittedRequests = "
+                + admittedRequests + ", rejectedRequests = "
+                + rejectedRequests + ", waitingRequests = "
+                + waitingRequests + ", inFlightRequests = "
+                + inFlightRequests + ", totalWaitTime = "
+                + totalWaitTime + ", averageWaitTime = "
+                + averageWaitTime + ", maxWaitTime = "
+                + maxWaitTime + ", availableRequests = "
+                + availableRequests + ", availableTokens = "
+                + availableTokens + " }";
+    }
+}
@@ -0,0 +1,73 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.time.Duration;
+
+/**
+ * A token bucket that holds up to {@code capacity} permits and continuously refills
+ * at a rate of {@code capacity} permits per {@code period}.
+ * <br>
+ * This class is not thread-safe, access must be guarded by the owning {@link RateLimiter}.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private double available;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, Duration period, long nowNanos) {
+        this.capacity = ensureGreaterThanZero(capacity, "capacity");
+        long periodNanos = ensureNotNull(period, "period").toNanos();
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("period must be positive, but is: " + period);
+        }
+        this.permitsPerNano = this.capacity / periodNanos;
+        this.available = this.capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    double capacity() {
+        return capacity;
+    }
+
+    double available(long nowNanos) {
+        refill(nowNanos);
+        return available;
+    }
+
+    /**
+     * @return how many nanoseconds to wait until the given amount of permits is available,
+     * or {@code 0} if it is available now
+     */
+    long nanosUntilAvailable(double amount, long nowNanos) {
+        refill(nowNanos);
+        if (available >= amount) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((amount - available) / permitsPerNano));
+    }
+
+    void consume(double amount) {
+        available -= amount;
+    }
+
+    /**
+     * Adds permits back (when the amount is positive) or takes additional permits (when the amount is negative).
+     * Taking additional permits can bring the bucket below zero, delaying subsequent requests accordingly.
+     */
+    void adjust(double amount, long nowNanos) {
+        refill(nowNanos);
+        available = Math.min(capacity, available + amount);
+    }
+
+    private void refill(long nowNanos) {
+        long elapsedNanos = nowNanos - lastRefillNanos;
+        if (elapsedNanos > 0) {
+            available = Math.min(capacity, available + elapsedNanos * permitsPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
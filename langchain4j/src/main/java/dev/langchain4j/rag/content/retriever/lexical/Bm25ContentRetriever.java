@@ -0,0 +1,127 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link ContentRetriever} that retrieves {@link Content}s from a {@link Bm25Index} using lexical (keyword) search.
+ * <br>
+ * The returned {@link Content}s contain the BM25 score as {@link ContentMetadata#SCORE}
+ * and the ID of the segment as {@link ContentMetadata#EMBEDDING_ID}.
+ * When the index is kept in sync with an {@link dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore}
+ * (see {@link Bm25Index#from(dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore)}),
+ * these IDs are the same as the ones returned by
+ * {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}.
+ * <br>
+ * For hybrid search, use both retrievers, for example via
+ * {@link dev.langchain4j.rag.query.router.DefaultQueryRouter}.
+ * The {@link dev.langchain4j.rag.content.aggregator.DefaultContentAggregator} then fuses their results
+ * using Reciprocal Rank Fusion, which only depends on the ranks, so the different score scales do not matter:
+ * <pre>
+ * RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+ *         .queryRouter(new DefaultQueryRouter(embeddingStoreContentRetriever, bm25ContentRetriever))
+ *         .build();
+ * </pre>
+ */
+public class Bm25ContentRetriever implements ContentRetriever {
+
+    private static final int DEFAULT_MAX_RESULTS = 3;
+    private static final double DEFAULT_MIN_SCORE = 0.0;
+
+    private final Bm25Index index;
+    private final int maxResults;
+    private final double minScore;
+    private final Filter filter;
+
+    public Bm25ContentRetriever(Bm25Index index, Integer maxResults, Double minScore, Filter filter) {
+        this.index = ensureNotNull(index, "index");
+        this.maxResults = ensureGreaterThanZero(getOrDefault(maxResults, DEFAULT_MAX_RESULTS), "maxResults");
+        this.minScore = getOrDefault(minScore, DEFAULT_MIN_SCORE);
+        this.filter = filter;
+    }
+
+    public static Bm25ContentRetrieverBuilder builder() {
+        return new Bm25ContentRetrieverBuilder();
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+        return index.search(query.text(), maxResults, minScore, filter).stream()
+                .map(match -> Content.from(
+                        match.segment(),
+                        Map.of(
+                                ContentMetadata.SCORE, match.score(),
+                                ContentMetadata.EMBEDDING_ID, match.id()
+                        )
+                ))
+                .collect(toList());
+    }
+
+    @Override
+    public String toString() {
+        return "Bm25ContentRetriever{" +
+                "maxResults=" + maxResults +
+                ", minScore=" + minScore +
+                ", filter=" + filter +
+                '}';
+    }
+
+    public static class Bm25ContentRetrieverBuilder {
+
+        private Bm25Index index;
+        private Integer maxResults;
+        private Double minScore;
+        private Filter filter;
+
+        Bm25ContentRetrieverBuilder() {
+        }
+
+        /**
+         * @param index The index to search in.
+         */
+        public Bm25ContentRetrieverBuilder index(Bm25Index index) {
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * @param maxResults The maximum number of {@link Content}s to retrieve. Default: 3.
+         */
+        public Bm25ContentRetrieverBuilder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * @param minScore The minimum BM25 score of the retrieved {@link Content}s. Default: 0.
+         *                 Note that BM25 scores are not normalized, a suitable value depends on the corpus.
+         */
+        public Bm25ContentRetrieverBuilder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param filter The filter applied to the metadata of the segments. Default: no filter.
+         */
+        public Bm25ContentRetrieverBuilder filter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public Bm25ContentRetriever build() {
+            return new Bm25ContentRetriever(index, maxResults, minScore, filter);
+        }
+    }
+}
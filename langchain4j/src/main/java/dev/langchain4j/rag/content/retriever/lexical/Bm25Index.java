@@ -0,0 +1,553 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStoreListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * An in-process inverted index that ranks {@link TextSegment}s using
+ * <a href="https://en.wikipedia.org/wiki/Okapi_BM25">Okapi BM25</a>.
+ * <br>
+ * Lexical search complements embedding search: it finds exact identifiers, product codes, error messages
+ * and rare words, which embedding models tend to blur.
+ * Use it via {@link Bm25ContentRetriever}.
+ * <br>
+ * For each term, the index keeps a postings list with the numbers of the segments containing the term
+ * and the term frequencies. Postings lists are stored as delta-encoded variable-length integers,
+ * which usually takes 2-3 bytes per posting.
+ * <br>
+ * The index is updated incrementally: segments can be added and removed at any time.
+ * Removed segments are only marked as such and are purged from the postings lists
+ * once they make up a significant part of the index.
+ * <br>
+ * To keep the index in sync with an {@link InMemoryEmbeddingStore}, register it as a listener:
+ * <pre>
+ * Bm25Index index = new Bm25Index();
+ * embeddingStore.addListener(index);
+ * </pre>
+ * The index is thread-safe: searches run concurrently, modifications are exclusive.
+ */
+public class Bm25Index implements InMemoryEmbeddingStoreListener<TextSegment> {
+
+    static final double DEFAULT_K1 = 1.2;
+    static final double DEFAULT_B = 0.75;
+
+    private static final int MIN_REMOVED_SEGMENTS_TO_COMPACT = 1024;
+
+    private final Bm25Tokenizer tokenizer;
+    private final float k1;
+    private final float b;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+
+    private final Map<String, Integer> segmentNumbers = new HashMap<>();
+    private final List<IndexedSegment> segments = new ArrayList<>();
+    private int[] segmentLengths = new int[1024];
+    private int segmentCount;
+    private int removedSegmentCount;
+    private long totalLength;
+
+    private final Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+
+    public Bm25Index() {
+        this(null, null, null);
+    }
+
+    /**
+     * @param tokenizer The tokenizer. Default: {@link DefaultBm25Tokenizer}.
+     * @param k1        Controls term frequency saturation. Default: {@value #DEFAULT_K1}.
+     * @param b         Controls how much the score is normalized by the segment length. Default: {@value #DEFAULT_B}.
+     */
+    public Bm25Index(Bm25Tokenizer tokenizer, Double k1, Double b) {
+        this.tokenizer = getOrDefault(tokenizer, DefaultBm25Tokenizer::new);
+        this.k1 = (float) ensureGreaterThanZero(getOrDefault(k1, DEFAULT_K1), "k1");
+        this.b = (float) ensureBetween(getOrDefault(b, DEFAULT_B), 0.0, 1.0, "b");
+    }
+
+    public static Bm25IndexBuilder builder() {
+        return new Bm25IndexBuilder();
+    }
+
+    /**
+     * Creates a {@link Bm25Index} containing the text segments of the given store
+     * and registers it as a listener of the store, so that it stays in sync with it.
+     *
+     * @param embeddingStore The store to index.
+     * @return The index.
+     */
+    public static Bm25Index from(InMemoryEmbeddingStore<TextSegment> embeddingStore) {
+        Bm25Index index = new Bm25Index();
+        ensureNotNull(embeddingStore, "embeddingStore").addListener(index);
+        return index;
+    }
+
+    /**
+     * Adds the segment to the index. If a segment with the same ID is already indexed, it is replaced.
+     */
+    public void add(String id, TextSegment segment) {
+        addAll(List.of(id), List.of(segment));
+    }
+
+    /**
+     * Adds the segments to the index. If a segment with the same ID is already indexed, it is replaced.
+     */
+    public void addAll(List<String> ids, List<TextSegment> segments) {
+        ensureNotNull(ids, "ids");
+        ensureNotNull(segments, "segments");
+        if (ids.size() != segments.size()) {
+            throw new IllegalArgumentException("The list of ids and segments must have the same size");
+        }
+
+        // tokenization is the expensive part, it is done before taking the lock
+        List<Map<String, Integer>> termFrequencies = new ArrayList<>(segments.size());
+        int[] lengths = new int[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            ensureNotBlank(ids.get(i), "id");
+            TextSegment segment = segments.get(i);
+            List<String> terms = segment == null ? List.of() : tokenizer.tokenize(segment.text());
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String term : terms) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+            termFrequencies.add(frequencies);
+            lengths[i] = terms.size();
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                removeIfPresent(id);
+                if (segments.get(i) != null) {
+                    index(id, segments.get(i), termFrequencies.get(i), lengths[i]);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(String id, TextSegment segment, Map<String, Integer> termFrequencies, int length) {
+        int segmentNumber = segments.size();
+        int[] segmentTermIds = new int[termFrequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> termFrequency : termFrequencies.entrySet()) {
+            int termId = termIds.computeIfAbsent(termFrequency.getKey(), ignored -> {
+                postings.add(new Postings());
+                return postings.size() - 1;
+            });
+            postings.get(termId).add(segmentNumber, termFrequency.getValue());
+            segmentTermIds[i++] = termId;
+        }
+
+        segments.add(new IndexedSegment(id, segment, segmentTermIds));
+        if (segmentNumber == segmentLengths.length) {
+            segmentLengths = Arrays.copyOf(segmentLengths, segmentLengths.length * 2);
+        }
+        segmentLengths[segmentNumber] = length;
+        segmentNumbers.put(id, segmentNumber);
+        segmentCount++;
+        totalLength += length;
+    }
+
+    /**
+     * Removes the segment with the given ID from the index, if present.
+     */
+    public void remove(String id) {
+        removeAll(List.of(id));
+    }
+
+    /**
+     * Removes the segments with the given IDs from the index, if present.
+     */
+    public void removeAll(Collection<String> ids) {
+        ensureNotNull(ids, "ids");
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                removeIfPresent(id);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all segments from the index.
+     */
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            postings.clear();
+            segmentNumbers.clear();
+            segments.clear();
+            segmentLengths = new int[1024];
+            segmentCount = 0;
+            removedSegmentCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeIfPresent(String id) {
+        Integer segmentNumber = segmentNumbers.remove(id);
+        if (segmentNumber == null) {
+            return;
+        }
+        IndexedSegment removed = segments.set(segmentNumber, null);
+        for (int termId : removed.termIds) {
+            postings.get(termId).segmentFrequency--;
+        }
+        totalLength -= segmentLengths[segmentNumber];
+        segmentLengths[segmentNumber] = -1;
+        segmentCount--;
+        removedSegmentCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (removedSegmentCount >= MIN_REMOVED_SEGMENTS_TO_COMPACT && removedSegmentCount > segmentCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumbers the remaining segments and rewrites the postings lists without the removed segments.
+     */
+    private void compact() {
+        int[] newNumbers = new int[segments.size()];
+        List<IndexedSegment> remaining = new ArrayList<>(segmentCount);
+        int[] remainingLengths = new int[Math.max(1024, segmentCount)];
+        for (int segmentNumber = 0; segmentNumber < segments.size(); segmentNumber++) {
+            IndexedSegment segment = segments.get(segmentNumber);
+            if (segment == null) {
+                newNumbers[segmentNumber] = -1;
+            } else {
+                newNumbers[segmentNumber] = remaining.size();
+                remainingLengths[remaining.size()] = segmentLengths[segmentNumber];
+                segmentNumbers.put(segment.id, remaining.size());
+                remaining.add(segment);
+            }
+        }
+
+        for (int termId = 0; termId < postings.size(); termId++) {
+            Postings compacted = new Postings();
+            Postings.Reader reader = postings.get(termId).reader();
+            while (reader.next()) {
+                int newNumber = newNumbers[reader.segmentNumber];
+                if (newNumber >= 0) {
+                    compacted.add(newNumber, reader.termFrequency);
+                }
+            }
+            postings.set(termId, compacted);
+        }
+
+        segments.clear();
+        segments.addAll(remaining);
+        segmentLengths = remainingLengths;
+        removedSegmentCount = 0;
+    }
+
+    /**
+     * @return The number of indexed segments.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segmentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the segments that best match the query.
+     *
+     * @param query      The query.
+     * @param maxResults The maximum number of matches to return.
+     * @param minScore   The minimum BM25 score of the returned matches.
+     * @param filter     The filter applied to the {@link dev.langchain4j.data.document.Metadata} of the segments,
+     *                   or {@code null} to not filter.
+     * @return The matches, sorted by score, descending.
+     */
+    public List<Bm25Match> search(String query, int maxResults, double minScore, Filter filter) {
+        ensureGreaterThanZero(maxResults, "maxResults");
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenizer.tokenize(query)));
+
+        lock.readLock().lock();
+        try {
+            if (segmentCount == 0 || queryTerms.isEmpty()) {
+                return List.of();
+            }
+
+            Accumulator accumulator = getOrDefault(accumulators.poll(), Accumulator::new);
+            accumulator.prepare(segments.size());
+            try {
+                float averageLength = Math.max(1.0f, (float) ((double) totalLength / segmentCount));
+                for (String queryTerm : queryTerms) {
+                    Integer termId = termIds.get(queryTerm);
+                    if (termId != null) {
+                        accumulate(postings.get(termId), averageLength, accumulator);
+                    }
+                }
+                return topMatches(accumulator, maxResults, minScore, filter);
+            } finally {
+                accumulator.reset();
+                accumulators.offer(accumulator);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Term-at-a-time scoring: adds the contribution of a single query term to the scores of all segments containing it.
+     */
+    private void accumulate(Postings termPostings, float averageLength, Accumulator accumulator) {
+        int segmentFrequency = termPostings.segmentFrequency;
+        if (segmentFrequency <= 0) {
+            return;
+        }
+        float idf = (float) Math.log(1 + (segmentCount - segmentFrequency + 0.5) / (segmentFrequency + 0.5));
+        float lengthNormalization = k1 * b / averageLength;
+        float constantNormalization = k1 * (1 - b);
+
+        Postings.Reader reader = termPostings.reader();
+        while (reader.next()) {
+            int segmentNumber = reader.segmentNumber;
+            int length = segmentLengths[segmentNumber];
+            if (length < 0) {
+                continue; // removed
+            }
+            int termFrequency = reader.termFrequency;
+            float score = idf * termFrequency * (k1 + 1)
+                    / (termFrequency + constantNormalization + lengthNormalization * length);
+            accumulator.add(segmentNumber, score);
+        }
+    }
+
+    private List<Bm25Match> topMatches(Accumulator accumulator, int maxResults, double minScore, Filter filter) {
+        PriorityQueue<Bm25Match> matches = new PriorityQueue<>(comparingDouble(Bm25Match::score));
+        for (int i = 0; i < accumulator.touchedCount; i++) {
+            int segmentNumber = accumulator.touched[i];
+            float score = accumulator.scores[segmentNumber];
+            if (score < minScore) {
+                continue;
+            }
+            if (matches.size() == maxResults && score <= matches.peek().score()) {
+                continue;
+            }
+            IndexedSegment segment = segments.get(segmentNumber);
+            if (filter != null && !filter.test(segment.segment.metadata())) {
+                continue;
+            }
+            matches.add(new Bm25Match(segment.id, segment.segment, score));
+            if (matches.size() > maxResults) {
+                matches.poll();
+            }
+        }
+
+        List<Bm25Match> result = new ArrayList<>(matches);
+        result.sort(comparingDouble(Bm25Match::score).reversed());
+        return result;
+    }
+
+    @Override
+    public void onAdd(List<String> ids, List<TextSegment> embedded) {
+        addAll(ids, embedded);
+    }
+
+    @Override
+    public void onRemove(Collection<String> ids) {
+        removeAll(ids);
+    }
+
+    @Override
+    public void onRemoveAll() {
+        removeAll();
+    }
+
+    private static class IndexedSegment {
+
+        private final String id;
+        private final TextSegment segment;
+        private final int[] termIds;
+
+        private IndexedSegment(String id, TextSegment segment, int[] termIds) {
+            this.id = id;
+            this.segment = segment;
+            this.termIds = termIds;
+        }
+    }
+
+    /**
+     * A postings list: pairs of (segment number, term frequency), sorted by segment number.
+     * Segment numbers are stored as deltas from the previous one, both numbers as variable-length integers
+     * (7 bits per byte, the highest bit marks that more bytes follow).
+     */
+    static class Postings {
+
+        private byte[] bytes = new byte[4];
+        private int size;
+        private int lastSegmentNumber = -1;
+        private int segmentFrequency;
+
+        void add(int segmentNumber, int termFrequency) {
+            writeVarInt(segmentNumber - lastSegmentNumber);
+            writeVarInt(termFrequency);
+            lastSegmentNumber = segmentNumber;
+            segmentFrequency++;
+        }
+
+        private void writeVarInt(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        Reader reader() {
+            return new Reader(bytes, size);
+        }
+
+        static class Reader {
+
+            private final byte[] bytes;
+            private final int size;
+            private int position;
+
+            int segmentNumber = -1;
+            int termFrequency;
+
+            private Reader(byte[] bytes, int size) {
+                this.bytes = bytes;
+                this.size = size;
+            }
+
+            boolean next() {
+                if (position >= size) {
+                    return false;
+                }
+                segmentNumber += readVarInt();
+                termFrequency = readVarInt();
+                return true;
+            }
+
+            private int readVarInt() {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Score accumulator, pooled and reused across searches to avoid allocating an array
+     * of the size of the index for every query. Only the touched entries are reset after a search.
+     */
+    private static class Accumulator {
+
+        private float[] scores = new float[0];
+        private int[] touched = new int[64];
+        private int touchedCount;
+
+        void prepare(int capacity) {
+            if (scores.length < capacity) {
+                scores = new float[Math.max(capacity, scores.length * 3 / 2)];
+            }
+        }
+
+        void add(int segmentNumber, float score) {
+            if (scores[segmentNumber] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedCount++] = segmentNumber;
+            }
+            scores[segmentNumber] += score;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    public static class Bm25IndexBuilder {
+
+        private Bm25Tokenizer tokenizer;
+        private Double k1;
+        private Double b;
+
+        Bm25IndexBuilder() {
+        }
+
+        /**
+         * @param tokenizer The tokenizer. Default: {@link DefaultBm25Tokenizer}.
+         */
+        public Bm25IndexBuilder tokenizer(Bm25Tokenizer tokenizer) {
+            this.tokenizer = tokenizer;
+            return this;
+        }
+
+        /**
+         * @param k1 Controls term frequency saturation. Default: {@value Bm25Index#DEFAULT_K1}.
+         */
+        public Bm25IndexBuilder k1(Double k1) {
+            this.k1 = k1;
+            return this;
+        }
+
+        /**
+         * @param b Controls how much the score is normalized by the segment length,
+         *          from 0 (not at all) to 1 (fully). Default: {@value Bm25Index#DEFAULT_B}.
+         */
+        public Bm25IndexBuilder b(Double b) {
+            this.b = b;
+            return this;
+        }
+
+        public Bm25Index build() {
+            return new Bm25Index(tokenizer, k1, b);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import dev.langchain4j.data.segment.TextSegment;
+
+/**
+ * A {@link TextSegment} found by a {@link Bm25Index}, together with its BM25 score.
+ *
+ * @param id      The ID under which the segment was added to the index.
+ * @param segment The matched segment.
+ * @param score   The BM25 score. Unlike embedding relevance scores, it is not normalized:
+ *                it grows with the number and the rarity of the matched query terms.
+ */
+public record Bm25Match(String id, TextSegment segment, double score) {
+}
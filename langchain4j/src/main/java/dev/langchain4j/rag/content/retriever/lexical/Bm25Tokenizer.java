@@ -0,0 +1,22 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import java.util.List;
+
+/**
+ * Splits a text into the terms that are indexed and searched by a {@link Bm25Index}.
+ * <br>
+ * The same tokenizer is used both for the indexed segments and for the queries,
+ * so implementations must be deterministic.
+ *
+ * @see DefaultBm25Tokenizer
+ */
+public interface Bm25Tokenizer {
+
+    /**
+     * Tokenizes the given text.
+     *
+     * @param text The text to tokenize.
+     * @return The terms, in the order in which they appear in the text. Terms can repeat.
+     */
+    List<String> tokenize(String text);
+}
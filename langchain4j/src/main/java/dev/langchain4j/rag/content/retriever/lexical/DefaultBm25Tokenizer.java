@@ -0,0 +1,77 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Locale.ROOT;
+
+/**
+ * The default {@link Bm25Tokenizer}.
+ * <br>
+ * The text is lower-cased and split into runs of letters and digits.
+ * Additionally, when a whitespace-delimited word consists of several such runs joined by
+ * {@code -}, {@code _}, {@code .} or {@code /} (e.g. a product code like {@code "XR-2000"}, a version like {@code "1.2.0"}
+ * or an identifier like {@code "max_tokens"}), the whole word is emitted as a term as well,
+ * so that exact identifiers are matched with a higher score than their parts.
+ * <br>
+ * No stemming and no stop-word removal is performed: frequent words get a low weight from BM25 anyway.
+ */
+public class DefaultBm25Tokenizer implements Bm25Tokenizer {
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        int length = text.length();
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean whitespace = i == length || Character.isWhitespace(text.charAt(i));
+            if (!whitespace && wordStart < 0) {
+                wordStart = i;
+            } else if (whitespace && wordStart >= 0) {
+                tokenizeWord(text, wordStart, i, terms);
+                wordStart = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void tokenizeWord(String text, int from, int to, List<String> terms) {
+        int runs = 0;
+        boolean compound = true;
+        int firstRunStart = -1;
+        int lastRunEnd = -1;
+        int runStart = -1;
+        for (int i = from; i <= to; i++) {
+            boolean letterOrDigit = i < to && Character.isLetterOrDigit(text.charAt(i));
+            if (letterOrDigit && runStart < 0) {
+                if (runs > 0 && !isJoiner(text, lastRunEnd, i)) {
+                    compound = false;
+                }
+                runStart = i;
+                if (firstRunStart < 0) {
+                    firstRunStart = i;
+                }
+            } else if (!letterOrDigit && runStart >= 0) {
+                terms.add(text.substring(runStart, i).toLowerCase(ROOT));
+                runs++;
+                lastRunEnd = i;
+                runStart = -1;
+            }
+        }
+        if (runs > 1 && compound) {
+            terms.add(text.substring(firstRunStart, lastRunEnd).toLowerCase(ROOT));
+        }
+    }
+
+    private static boolean isJoiner(String text, int from, int to) {
+        if (to - from != 1) {
+            return false;
+        }
+        char c = text.charAt(from);
+        return c == '-' || c == '_' || c == '.' || c == '/';
+    }
+}
@@ -0,0 +1,479 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.TimeoutException;
+import dev.langchain4j.model.chat.batch.BatchChatModel;
+import dev.langchain4j.model.chat.batch.BatchChatRequest;
+import dev.langchain4j.model.chat.batch.BatchChatResult;
+import dev.langchain4j.model.chat.batch.BatchJob;
+import dev.langchain4j.model.chat.batch.BatchJobStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ResponseFormat;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Executes many invocations of an AI Service as a single batch, using the batch API of the LLM provider
+ * (see {@link BatchChatModel}), instead of calling the LLM synchronously for each invocation.
+ * This is intended for offline, throughput-oriented workloads (e.g. nightly classification jobs):
+ * batch APIs are usually cheaper and have separate rate limits, so such workloads do not compete with
+ * interactive traffic, but the results can take up to several hours to become available.
+ * <br>
+ * Invocations are recorded by calling the AI Service methods on a recording proxy, the results are available
+ * once {@link #execute()} returns, parsed into the return types of the methods, the same way as AI Services do:
+ * <pre>
+ * interface SentimentAnalyzer {
+ *
+ *     &#64;UserMessage("Analyze sentiment of {{it}}")
+ *     Sentiment analyzeSentimentOf(String text);
+ * }
+ *
+ * AiServiceBatch&lt;SentimentAnalyzer&gt; batch = AiServiceBatch.builder(SentimentAnalyzer.class)
+ *         .batchChatModel(batchChatModel)
+ *         .build();
+ *
+ * List&lt;AiServiceBatchResult&lt;Sentiment&gt;&gt; results = new ArrayList&lt;&gt;();
+ * for (String review : reviews) {
+ *     results.add(batch.add(analyzer -&gt; analyzer.analyzeSentimentOf(review)));
+ * }
+ *
+ * batch.execute(); // submits the batch and waits until it is processed
+ *
+ * Sentiment sentiment = results.get(0).get();
+ * </pre>
+ * When there are more invocations than the {@link BatchChatModel#maxBatchSize()}, they are split into
+ * several batches, which are submitted and polled together.
+ * <br>
+ * Since the requests are prepared upfront and processed independently, the following AI Service features
+ * are not available in batch mode: chat memory, tools, RAG, moderation, guardrails,
+ * streaming and asynchronous methods.
+ *
+ * @param <T> The interface of the AI Service.
+ */
+public class AiServiceBatch<T> {
+
+    private final Class<T> aiServiceClass;
+    private final BatchChatModel batchChatModel;
+    private final Function<Object, Optional<String>> systemMessageProvider;
+    private final Duration pollInterval;
+    private final Duration timeout;
+
+    private final ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
+    private final Map<Method, AiServiceMethodPlan> plans = new HashMap<>();
+    private final Map<String, PendingInvocation> pendingInvocations = new LinkedHashMap<>();
+    private final Object executionLock = new Object();
+    private final T recorder;
+    private volatile List<String> batchJobIds = List.of();
+
+    private Method recordedMethod;
+    private Object[] recordedArgs;
+    private int invocationCounter;
+
+    protected AiServiceBatch(Builder<T> builder) {
+        this.aiServiceClass = ensureNotNull(builder.aiServiceClass, "aiServiceClass");
+        this.batchChatModel = ensureNotNull(builder.batchChatModel, "batchChatModel");
+        this.systemMessageProvider = getOrDefault(builder.systemMessageProvider, memoryId -> Optional.empty());
+        this.pollInterval = getOrDefault(builder.pollInterval, Duration.ofSeconds(30));
+        this.timeout = builder.timeout;
+        this.recorder = createRecorder(aiServiceClass);
+    }
+
+    /**
+     * Records an invocation of the AI Service, to be executed as a part of the batch.
+     * The {@code invocation} must call exactly one method of the AI Service it receives.
+     * The value returned by that call is a placeholder and should be ignored.
+     *
+     * @param invocation the invocation, e.g. {@code analyzer -> analyzer.analyzeSentimentOf(review)}
+     * @param <R>        the return type of the invoked method.
+     * @return the handle to the result, completed when {@link #execute()} returns.
+     */
+    public synchronized <R> AiServiceBatchResult<R> add(Function<T, R> invocation) {
+        ensureNotNull(invocation, "invocation");
+
+        recordedMethod = null;
+        recordedArgs = null;
+        invocation.apply(recorder);
+        if (recordedMethod == null) {
+            throw illegalConfiguration("The invocation must call a method of the '%s'", aiServiceClass.getName());
+        }
+
+        AiServiceMethodPlan plan = plans.computeIfAbsent(recordedMethod, this::createPlan);
+        ChatRequest chatRequest = toChatRequest(plan, recordedArgs);
+
+        AiServiceBatchResult<R> result = new AiServiceBatchResult<>("request-" + invocationCounter++);
+        pendingInvocations.put(result.id(), new PendingInvocation(plan, chatRequest, result));
+        return result;
+    }
+
+    /**
+     * @return the number of invocations that were added, but whose results have not been completed yet.
+     */
+    public synchronized int size() {
+        return pendingInvocations.size();
+    }
+
+    /**
+     * @return the IDs of the batch jobs submitted by the last {@link #execute()}, including the ones submitted
+     * before it failed or timed out, e.g. to cancel them or to fetch their results later
+     * via the {@link BatchChatModel}.
+     */
+    public List<String> batchJobIds() {
+        return List.copyOf(batchJobIds);
+    }
+
+    /**
+     * Submits all invocations added since the last execution, waits until they are processed
+     * (polling the status of the batches every {@code pollInterval}) and completes their results.
+     * Invocations that have failed or whose output could not be parsed are completed with an error,
+     * see {@link AiServiceBatchResult#isSuccessful()}.
+     * <br>
+     * If submitting, polling or fetching the results fails (or times out), all the invocations of this execution
+     * whose results have not been completed yet are completed with an error, and the exception is rethrown.
+     * The batch jobs that have already been submitted are not cancelled, see {@link #batchJobIds()}.
+     * <br>
+     * Invocations can be added concurrently, while the batches are being processed.
+     * They are submitted by the next execution.
+     *
+     * @throws TimeoutException if the batches were not processed within the configured {@code timeout}.
+     */
+    public void execute() {
+        synchronized (executionLock) {
+            List<PendingInvocation> invocations;
+            synchronized (this) {
+                invocations = new ArrayList<>(pendingInvocations.values());
+            }
+            batchJobIds = new CopyOnWriteArrayList<>();
+            if (invocations.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<BatchJob> batchJobs = submit(invocations);
+                batchJobs = awaitTermination(batchJobs);
+                completeResults(invocations, batchJobs);
+            } catch (RuntimeException e) {
+                String reason = getOrDefault(e.getMessage(), e.getClass().getName());
+                for (PendingInvocation invocation : invocations) {
+                    if (!invocation.result.isDone()) {
+                        fail(invocation, "The batch execution has failed: " + reason);
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void completeResults(List<PendingInvocation> invocations, List<BatchJob> batchJobs) {
+        Map<String, PendingInvocation> invocationsById = new HashMap<>();
+        for (PendingInvocation invocation : invocations) {
+            invocationsById.put(invocation.result.id(), invocation);
+        }
+
+        Map<String, BatchJob> batchJobsById = new HashMap<>();
+        for (BatchJob batchJob : batchJobs) {
+            batchJobsById.put(batchJob.id(), batchJob);
+            if (batchJob.status() != BatchJobStatus.FAILED) {
+                for (BatchChatResult batchChatResult : batchChatModel.results(batchJob)) {
+                    PendingInvocation invocation = invocationsById.remove(batchChatResult.id());
+                    if (invocation != null) {
+                        complete(invocation, batchChatResult);
+                    }
+                }
+            }
+        }
+
+        for (PendingInvocation invocation : invocationsById.values()) {
+            BatchJob batchJob = batchJobsById.get(invocation.batchJobId);
+            String reason;
+            if (batchJob == null) {
+                reason = "the batch did not return a result for it";
+            } else if (batchJob.errorMessage() != null) {
+                reason = batchJob.errorMessage();
+            } else {
+                reason = "the batch '" + batchJob.id() + "' has finished with status " + batchJob.status();
+            }
+            fail(invocation, "No result: " + reason);
+        }
+    }
+
+    private List<BatchJob> submit(List<PendingInvocation> invocations) {
+        int maxBatchSize = batchChatModel.maxBatchSize();
+        List<BatchJob> batchJobs = new ArrayList<>();
+        for (int start = 0; start < invocations.size(); start += maxBatchSize) {
+            List<PendingInvocation> chunk =
+                    invocations.subList(start, Math.min(start + maxBatchSize, invocations.size()));
+            batchJobs.add(submitChunk(chunk));
+        }
+        return batchJobs;
+    }
+
+    private BatchJob submitChunk(List<PendingInvocation> chunk) {
+        List<BatchChatRequest> requests = new ArrayList<>(chunk.size());
+        for (PendingInvocation invocation : chunk) {
+            requests.add(BatchChatRequest.from(invocation.result.id(), invocation.chatRequest));
+        }
+        BatchJob batchJob = batchChatModel.submit(requests);
+        batchJobIds.add(batchJob.id());
+        for (PendingInvocation invocation : chunk) {
+            invocation.batchJobId = batchJob.id();
+        }
+        return batchJob;
+    }
+
+    private List<BatchJob> awaitTermination(List<BatchJob> batchJobs) {
+        long deadline = timeout == null ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+        List<BatchJob> current = new ArrayList<>(batchJobs);
+        while (true) {
+            boolean allTerminal = true;
+            for (int i = 0; i < current.size(); i++) {
+                if (!current.get(i).status().isTerminal()) {
+                    current.set(i, batchChatModel.retrieve(current.get(i).id()));
+                }
+                allTerminal &= current.get(i).status().isTerminal();
+            }
+            if (allTerminal) {
+                return current;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException(
+                        "The batches " + batchJobIds + " were not processed within " + timeout);
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LangChain4jException(
+                    "Interrupted while waiting for the batches " + batchJobIds + " to be processed", e);
+        }
+    }
+
+    private void fail(PendingInvocation invocation, String errorMessage) {
+        invocation.result.fail(errorMessage, null);
+        removePending(invocation);
+    }
+
+    private synchronized void removePending(PendingInvocation invocation) {
+        pendingInvocations.remove(invocation.result.id());
+    }
+
+    private void complete(PendingInvocation invocation, BatchChatResult batchChatResult) {
+        try {
+            completeResult(invocation, batchChatResult);
+        } finally {
+            removePending(invocation);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeResult(PendingInvocation invocation, BatchChatResult batchChatResult) {
+        AiServiceBatchResult<Object> result = (AiServiceBatchResult<Object>) invocation.result;
+        ChatResponse chatResponse = batchChatResult.chatResponse();
+        if (!batchChatResult.isSuccessful()) {
+            result.fail(getOrDefault(batchChatResult.errorMessage(), "Unknown error"), null);
+            return;
+        }
+
+        Type returnType = invocation.plan.returnType();
+        try {
+            Object parsedResponse = serviceOutputParser.parse(chatResponse, returnType);
+            if (typeHasRawClass(returnType, Result.class)) {
+                parsedResponse = Result.builder()
+                        .content(parsedResponse)
+                        .tokenUsage(chatResponse.tokenUsage())
+                        .finishReason(chatResponse.finishReason())
+                        .build();
+            }
+            result.complete(parsedResponse, chatResponse);
+        } catch (RuntimeException e) {
+            result.fail(getOrDefault(e.getMessage(), e.getClass().getName()), chatResponse);
+        }
+    }
+
+    private AiServiceMethodPlan createPlan(Method method) {
+        AiServiceMethodPlan plan = new AiServiceMethodPlan(method, serviceOutputParser, List.of());
+        if (plan.streaming() || plan.async()) {
+            throw illegalConfiguration(
+                    "'%s' is not a supported return type of an AI Service method executed in batch mode",
+                    method.getGenericReturnType().getTypeName());
+        }
+        if (plan.moderated()) {
+            throw illegalConfiguration("The @Moderate annotation is not supported in batch mode");
+        }
+        return plan;
+    }
+
+    private ChatRequest toChatRequest(AiServiceMethodPlan plan, Object[] args) {
+        Object memoryId = plan.memoryId(args).orElse(ChatMemoryService.DEFAULT);
+        Optional<SystemMessage> systemMessage = plan.systemMessage(memoryId, args, systemMessageProvider);
+        String userMessageTemplate = plan.userMessageTemplate(args);
+        Map<String, Object> variables = plan.userMessageVariables(userMessageTemplate, args);
+        UserMessage userMessage = plan.userMessage(userMessageTemplate, variables, args);
+
+        Optional<JsonSchema> jsonSchema = Optional.empty();
+        if (batchChatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA)) {
+            jsonSchema = plan.jsonSchema();
+        }
+        if (jsonSchema.isEmpty()) {
+            userMessage = appendOutputFormatInstructions(plan, userMessage);
+        }
+
+        List<ChatMessage> messages = new ArrayList<>(2);
+        systemMessage.ifPresent(messages::add);
+        messages.add(userMessage);
+
+        ChatRequest.Builder chatRequestBuilder = ChatRequest.builder().messages(messages);
+        jsonSchema.ifPresent(schema -> chatRequestBuilder.responseFormat(
+                ResponseFormat.builder().type(JSON).jsonSchema(schema).build()));
+        return chatRequestBuilder.build();
+    }
+
+    private static UserMessage appendOutputFormatInstructions(AiServiceMethodPlan plan, UserMessage userMessage) {
+        String text = userMessage.singleText() + plan.outputFormatInstructions();
+        if (isNotNullOrBlank(userMessage.name())) {
+            return UserMessage.from(userMessage.name(), text);
+        }
+        return UserMessage.from(text);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T createRecorder(Class<T> aiServiceClass) {
+        if (!aiServiceClass.isInterface()) {
+            throw illegalConfiguration("The type '%s' must be an interface", aiServiceClass.getName());
+        }
+        return (T) Proxy.newProxyInstance(
+                aiServiceClass.getClassLoader(), new Class<?>[] {aiServiceClass}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(this, args);
+                    }
+                    if (recordedMethod != null) {
+                        throw illegalConfiguration("The invocation must call exactly one method of the '%s'",
+                                aiServiceClass.getName());
+                    }
+                    recordedMethod = method;
+                    recordedArgs = args;
+                    return placeholder(method.getReturnType());
+                });
+    }
+
+    private static Object placeholder(Class<?> returnType) {
+        if (!returnType.isPrimitive()) {
+            return null;
+        } else if (returnType == boolean.class) {
+            return false;
+        } else if (returnType == char.class) {
+            return '\0';
+        } else if (returnType == byte.class) {
+            return (byte) 0;
+        } else if (returnType == short.class) {
+            return (short) 0;
+        } else if (returnType == int.class) {
+            return 0;
+        } else if (returnType == long.class) {
+            return 0L;
+        } else if (returnType == float.class) {
+            return 0f;
+        } else if (returnType == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+
+    private static class PendingInvocation {
+
+        private final AiServiceMethodPlan plan;
+        private final ChatRequest chatRequest;
+        private final AiServiceBatchResult<?> result;
+        private String batchJobId;
+
+        private PendingInvocation(AiServiceMethodPlan plan, ChatRequest chatRequest, AiServiceBatchResult<?> result) {
+            this.plan = plan;
+            this.chatRequest = chatRequest;
+            this.result = result;
+        }
+    }
+
+    public static <T> Builder<T> builder(Class<T> aiServiceClass) {
+        return new Builder<>(aiServiceClass);
+    }
+
+    public static class Builder<T> {
+
+        private final Class<T> aiServiceClass;
+        private BatchChatModel batchChatModel;
+        private Function<Object, Optional<String>> systemMessageProvider;
+        private Duration pollInterval;
+        private Duration timeout;
+
+        protected Builder(Class<T> aiServiceClass) {
+            this.aiServiceClass = aiServiceClass;
+        }
+
+        public Builder<T> batchChatModel(BatchChatModel batchChatModel) {
+            this.batchChatModel = batchChatModel;
+            return this;
+        }
+
+        /**
+         * Configures the system message provider, which provides a system message template for each invocation.
+         * Since there is no chat memory in batch mode, the provider receives the value of the
+         * parameter annotated with @{@link MemoryId}, if any, or {@code "default"} otherwise.
+         */
+        public Builder<T> systemMessageProvider(Function<Object, String> systemMessageProvider) {
+            this.systemMessageProvider = systemMessageProvider == null
+                    ? null
+                    : memoryId -> Optional.ofNullable(systemMessageProvider.apply(memoryId));
+            return this;
+        }
+
+        /**
+         * @param pollInterval how often the status of the submitted batches is checked. Default: 30 seconds.
+         */
+        public Builder<T> pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * @param timeout how long {@link AiServiceBatch#execute()} waits for the batches to be processed.
+         *                By default, it waits until the LLM provider completes, fails or expires the batches.
+         */
+        public Builder<T> timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public AiServiceBatch<T> build() {
+            return new AiServiceBatch<>(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+/**
+ * A handle to the result of an AI Service invocation added to an {@link AiServiceBatch}.
+ * It is completed when {@link AiServiceBatch#execute()} returns.
+ *
+ * @param <T> The return type of the invoked AI Service method.
+ */
+public class AiServiceBatchResult<T> {
+
+    private final String id;
+
+    private volatile boolean done;
+    private volatile T content;
+    private volatile ChatResponse chatResponse;
+    private volatile String errorMessage;
+
+    AiServiceBatchResult(String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the ID of the request in the batch.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return {@code true} if the batch containing this invocation has been executed.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * @return {@code true} if the invocation has been executed and its output has been parsed successfully.
+     */
+    public boolean isSuccessful() {
+        return done && errorMessage == null;
+    }
+
+    /**
+     * @return the parsed output of the LLM, of the same type as the AI Service method returns.
+     * @throws IllegalStateException if the batch has not been executed yet or this invocation has failed.
+     */
+    public T get() {
+        if (!done) {
+            throw new IllegalStateException("The batch containing request '" + id + "' has not been executed yet");
+        }
+        if (errorMessage != null) {
+            throw new IllegalStateException("Request '" + id + "' has failed: " + errorMessage);
+        }
+        return content;
+    }
+
+    /**
+     * @return the raw response of the LLM, or {@code null} if there is none.
+     */
+    public ChatResponse chatResponse() {
+        return chatResponse;
+    }
+
+    /**
+     * @return the reason of the failure, or {@code null} if the invocation has not failed.
+     */
+    public String errorMessage() {
+        return errorMessage;
+    }
+
+    void complete(T content, ChatResponse chatResponse) {
+        this.content = content;
+        this.chatResponse = chatResponse;
+        this.done = true;
+    }
+
+    void fail(String errorMessage, ChatResponse chatResponse) {
+        this.errorMessage = errorMessage;
+        this.chatResponse = chatResponse;
+        this.done = true;
+    }
+}
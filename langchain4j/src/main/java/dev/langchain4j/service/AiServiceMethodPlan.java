@@ -0,0 +1,320 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.InternalReflectionVariableResolver.asString;
+import static dev.langchain4j.service.TypeUtils.resolveFirstGenericParameterType;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import dev.langchain4j.spi.services.TokenStreamAdapter;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * A pre-compiled invocation plan of a single AI Service method.
+ * <br>
+ * Everything that depends only on the method itself (validation of parameters, annotations,
+ * message templates loaded from resources and parsed, variable names, JSON schema of the return type, etc.)
+ * is resolved once, when the method is invoked for the first time.
+ * Only binding of the arguments and rendering of the templates happens on each invocation.
+ */
+@Internal
+class AiServiceMethodPlan {
+
+    private static final String IT = "{{it}}";
+
+    private final Method method;
+    private final Parameter[] parameters;
+    private final String[] variableNames;
+    private final boolean hasVariableIt;
+    private final int variableItIndex;
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+    private final int userMessageIndex;
+
+    private final PromptTemplate systemPromptTemplate;
+    private final boolean systemMessageTemplateUsesIt;
+
+    private final String userMessageTemplate;
+    private final PromptTemplate userPromptTemplate;
+    private final boolean userMessageTemplateUsesIt;
+
+    private final boolean async;
+    private final Type returnType;
+    private final boolean streaming;
+    private final TokenStreamAdapter tokenStreamAdapter;
+    private final boolean moderated;
+
+    private final ServiceOutputParser serviceOutputParser;
+    private volatile Optional<JsonSchema> jsonSchema;
+    private volatile String outputFormatInstructions;
+
+    AiServiceMethodPlan(
+            Method method,
+            ServiceOutputParser serviceOutputParser,
+            Collection<TokenStreamAdapter> tokenStreamAdapters) {
+
+        DefaultAiServices.validateParameters(method);
+
+        this.method = method;
+        this.parameters = method.getParameters();
+        this.variableNames = new String[parameters.length];
+        boolean hasVariableIt = false;
+        int memoryIdIndex = -1;
+        int userNameIndex = -1;
+        int userMessageIndex = -1;
+        for (int i = 0; i < parameters.length; i++) {
+            variableNames[i] = InternalReflectionVariableResolver.getVariableName(parameters[i]);
+            hasVariableIt |= "it".equals(variableNames[i]);
+            if (memoryIdIndex < 0 && parameters[i].isAnnotationPresent(MemoryId.class)) {
+                memoryIdIndex = i;
+            }
+            if (userNameIndex < 0 && parameters[i].isAnnotationPresent(UserName.class)) {
+                userNameIndex = i;
+            }
+            if (userMessageIndex < 0
+                    && parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
+                userMessageIndex = i;
+            }
+        }
+        this.hasVariableIt = hasVariableIt;
+        this.variableItIndex = InternalReflectionVariableResolver.findIndexOfVariableIt(parameters);
+        this.memoryIdIndex = memoryIdIndex;
+        this.userNameIndex = userNameIndex;
+
+        dev.langchain4j.service.SystemMessage systemMessage =
+                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
+        String systemMessageTemplate = systemMessage == null
+                ? null
+                : getTemplate(
+                        method, "System", systemMessage.fromResource(), systemMessage.value(), systemMessage.delimiter());
+        this.systemPromptTemplate = systemMessageTemplate == null ? null : PromptTemplate.from(systemMessageTemplate);
+        this.systemMessageTemplateUsesIt = systemMessageTemplate != null && systemMessageTemplate.contains(IT);
+
+        dev.langchain4j.service.UserMessage userMessage =
+                method.getAnnotation(dev.langchain4j.service.UserMessage.class);
+        if (userMessage != null && userMessageIndex >= 0) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName());
+        }
+        if (userMessage == null && userMessageIndex < 0 && !isTheOnlyArgumentUserMessage(parameters)) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' does not have a user message defined.", method.getName());
+        }
+        if (userMessage == null && userMessageIndex < 0) {
+            userMessageIndex = 0;
+        }
+        this.userMessageIndex = userMessageIndex;
+        this.userMessageTemplate = userMessage == null
+                ? null
+                : getTemplate(method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter());
+        this.userPromptTemplate = userMessageTemplate == null ? null : PromptTemplate.from(userMessageTemplate);
+        this.userMessageTemplateUsesIt = userMessageTemplate != null && userMessageTemplate.contains(IT);
+
+        Type genericReturnType = method.getGenericReturnType();
+        this.async = typeHasRawClass(genericReturnType, CompletableFuture.class)
+                || typeHasRawClass(genericReturnType, CompletionStage.class);
+        this.returnType = async ? resolveFirstGenericParameterType(genericReturnType) : genericReturnType;
+        this.tokenStreamAdapter = findTokenStreamAdapter(returnType, tokenStreamAdapters);
+        this.streaming = returnType == TokenStream.class || tokenStreamAdapter != null;
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+        this.serviceOutputParser = serviceOutputParser;
+    }
+
+    private static boolean isTheOnlyArgumentUserMessage(Parameter[] parameters) {
+        return parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+    }
+
+    private static TokenStreamAdapter findTokenStreamAdapter(
+            Type returnType, Collection<TokenStreamAdapter> tokenStreamAdapters) {
+        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
+            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
+                return tokenStreamAdapter;
+            }
+        }
+        return null;
+    }
+
+    Method method() {
+        return method;
+    }
+
+    /**
+     * @return {@code true} if the method returns a {@link CompletableFuture} or a {@link CompletionStage}
+     */
+    boolean async() {
+        return async;
+    }
+
+    /**
+     * @return the return type of the method, or the type of the future's result for asynchronous methods
+     */
+    Type returnType() {
+        return returnType;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    boolean moderated() {
+        return moderated;
+    }
+
+    Object adapt(TokenStream tokenStream) {
+        if (tokenStreamAdapter == null) {
+            throw new IllegalStateException("Can't find suitable TokenStreamAdapter");
+        }
+        return tokenStreamAdapter.adapt(tokenStream);
+    }
+
+    /**
+     * Prepares the system message, either from the {@link dev.langchain4j.service.SystemMessage} annotation
+     * or from the template provided by the {@code systemMessageProvider}.
+     */
+    Optional<SystemMessage> systemMessage(
+            Object memoryId, Object[] args, Function<Object, Optional<String>> systemMessageProvider) {
+        if (systemPromptTemplate != null) {
+            return Optional.of(systemPromptTemplate
+                    .apply(variables(systemMessageTemplateUsesIt, args))
+                    .toSystemMessage());
+        }
+        return systemMessageProvider
+                .apply(memoryId)
+                .map(template -> PromptTemplate.from(template)
+                        .apply(variables(template.contains(IT), args))
+                        .toSystemMessage());
+    }
+
+    /**
+     * @return the user message template, either from the {@link dev.langchain4j.service.UserMessage} annotation
+     * on the method or from the argument annotated with {@link dev.langchain4j.service.UserMessage}
+     * (or the only argument of the method)
+     */
+    String userMessageTemplate(Object[] args) {
+        if (userMessageTemplate != null) {
+            return userMessageTemplate;
+        }
+        return asString(args[userMessageIndex]);
+    }
+
+    Map<String, Object> userMessageVariables(String userMessageTemplate, Object[] args) {
+        boolean templateUsesIt =
+                userPromptTemplate != null ? userMessageTemplateUsesIt : userMessageTemplate.contains(IT);
+        return variables(templateUsesIt, args);
+    }
+
+    UserMessage userMessage(String userMessageTemplate, Map<String, Object> variables, Object[] args) {
+        PromptTemplate promptTemplate =
+                userPromptTemplate != null ? userPromptTemplate : PromptTemplate.from(userMessageTemplate);
+        String text = promptTemplate.apply(variables).text();
+        if (userNameIndex >= 0) {
+            return UserMessage.from(args[userNameIndex].toString(), text);
+        }
+        return UserMessage.from(text);
+    }
+
+    private Map<String, Object> variables(boolean templateUsesIt, Object[] args) {
+        if (args == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> variables = new HashMap<>(args.length + 2, 1);
+        for (int i = 0; i < args.length; i++) {
+            variables.put(variableNames[i], args[i]);
+        }
+
+        if (templateUsesIt && !hasVariableIt) {
+            if (variableItIndex < 0) {
+                throw illegalConfiguration(
+                        "Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put("it", asString(args[variableItIndex]));
+        }
+
+        return variables;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    parameters[memoryIdIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<JsonSchema> jsonSchema() {
+        Optional<JsonSchema> jsonSchema = this.jsonSchema;
+        if (jsonSchema == null) {
+            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+            this.jsonSchema = jsonSchema;
+        }
+        return jsonSchema;
+    }
+
+    String outputFormatInstructions() {
+        String outputFormatInstructions = this.outputFormatInstructions;
+        if (outputFormatInstructions == null) {
+            outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+            this.outputFormatInstructions = outputFormatInstructions;
+        }
+        return outputFormatInstructions;
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+                Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+}
@@ -14,6 +14,7 @@ import dev.langchain4j.guardrail.OutputGuardrailRequest;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.output.TokenUsage;
@@ -51,6 +52,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     private final List<ToolSpecification> toolSpecifications;
     private final Map<String, ToolExecutor> toolExecutors;
+    private final ResponseFormat responseFormat;
     private final List<String> responseBuffer = new ArrayList<>();
     private final boolean hasOutputGuardrails;
 
@@ -66,6 +68,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
             TokenUsage tokenUsage,
             List<ToolSpecification> toolSpecifications,
             Map<String, ToolExecutor> toolExecutors,
+            ResponseFormat responseFormat,
             GuardrailRequestParams commonGuardrailParams,
             Object methodKey) {
         this.chatExecutor = ensureNotNull(chatExecutor, "chatExecutor");
@@ -84,6 +87,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
         this.toolSpecifications = copy(toolSpecifications);
         this.toolExecutors = copy(toolExecutors);
+        this.responseFormat = responseFormat;
         this.hasOutputGuardrails = context.guardrailService().hasOutputGuardrails(methodKey);
     }
 
@@ -123,6 +127,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
             ChatRequest chatRequest = ChatRequest.builder()
                     .messages(messagesToSend(memoryId))
                     .toolSpecifications(toolSpecifications)
+                    .responseFormat(responseFormat)
                     .build();
 
             var handler = new AiServiceStreamingResponseHandler(
@@ -137,6 +142,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
                     TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()),
                     toolSpecifications,
                     toolExecutors,
+                    responseFormat,
                     commonGuardrailParams,
                     methodKey);
 
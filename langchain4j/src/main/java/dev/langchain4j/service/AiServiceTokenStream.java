@@ -3,6 +3,8 @@ package dev.langchain4j.service;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.agent.tool.ToolSpecification;
@@ -12,9 +14,12 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.StreamingJsonParser;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.ToolExecution;
 import dev.langchain4j.service.tool.ToolExecutor;
 import java.util.List;
@@ -38,8 +43,11 @@ public class AiServiceTokenStream implements TokenStream {
     private Consumer<ToolExecution> toolExecutionHandler;
     private Consumer<ChatResponse> completeResponseHandler;
     private Consumer<Throwable> errorHandler;
+    private Class<?> elementType;
+    private StreamingJsonParser.Listener elementListener;
 
     private int onPartialResponseInvoked;
+    private int onPartialElementInvoked;
     private int onCompleteResponseInvoked;
     private int onRetrievedInvoked;
     private int onToolExecutedInvoked;
@@ -71,6 +79,14 @@ public class AiServiceTokenStream implements TokenStream {
         return this;
     }
 
+    @Override
+    public <T> TokenStream onPartialElement(Class<T> elementType, Consumer<T> elementHandler) {
+        this.elementType = ensureNotNull(elementType, "elementType");
+        this.elementListener = StreamingJsonParser.Listener.arrayElements(elementType, elementHandler);
+        this.onPartialElementInvoked++;
+        return this;
+    }
+
     @Override
     public TokenStream onRetrieved(Consumer<List<Content>> contentsHandler) {
         this.contentsHandler = contentsHandler;
@@ -110,9 +126,11 @@ public class AiServiceTokenStream implements TokenStream {
     public void start() {
         validateConfiguration();
 
+        ResponseFormat responseFormat = elementType == null ? null : elementsResponseFormat();
         ChatRequest chatRequest = ChatRequest.builder()
                 .messages(messages)
                 .toolSpecifications(toolSpecifications)
+                .responseFormat(responseFormat)
                 .build();
 
         ChatExecutor chatExecutor = ChatExecutor.builder(context.streamingChatModel)
@@ -124,7 +142,7 @@ public class AiServiceTokenStream implements TokenStream {
                 chatExecutor,
                 context,
                 memoryId,
-                partialResponseHandler,
+                partialResponseHandler(),
                 toolExecutionHandler,
                 completeResponseHandler,
                 errorHandler,
@@ -132,6 +150,7 @@ public class AiServiceTokenStream implements TokenStream {
                 new TokenUsage(),
                 toolSpecifications,
                 toolExecutors,
+                responseFormat,
                 commonGuardrailParams,
                 methodKey);
 
@@ -142,10 +161,35 @@ public class AiServiceTokenStream implements TokenStream {
         context.streamingChatModel.chat(chatRequest, handler);
     }
 
+    private ResponseFormat elementsResponseFormat() {
+        if (!context.streamingChatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA)) {
+            return null;
+        }
+        return new ServiceOutputParser()
+                .listJsonSchema(elementType)
+                .map(jsonSchema ->
+                        ResponseFormat.builder().type(JSON).jsonSchema(jsonSchema).build())
+                .orElse(null);
+    }
+
+    private Consumer<String> partialResponseHandler() {
+        if (elementListener == null) {
+            return partialResponseHandler;
+        }
+        StreamingJsonParser parser = new StreamingJsonParser(elementListener);
+        return partialResponse -> {
+            partialResponseHandler.accept(partialResponse);
+            parser.feed(partialResponse);
+        };
+    }
+
     private void validateConfiguration() {
         if (onPartialResponseInvoked != 1) {
             throw new IllegalConfigurationException("onPartialResponse must be invoked on TokenStream exactly 1 time");
         }
+        if (onPartialElementInvoked > 1) {
+            throw new IllegalConfigurationException("onPartialElement can be invoked on TokenStream at most 1 time");
+        }
         if (onCompleteResponseInvoked > 1) {
             throw new IllegalConfigurationException("onCompleteResponse can be invoked on TokenStream at most 1 time");
         }
@@ -24,6 +24,7 @@ import dev.langchain4j.model.input.structured.StructuredPrompt;
 import dev.langchain4j.model.moderation.Moderation;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.observability.Tracer;
 import dev.langchain4j.rag.DefaultRetrievalAugmentor;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
@@ -36,7 +37,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -64,6 +68,7 @@ import java.util.function.Function;
  * - Tools, configured via {@link #tools(Collection)}, {@link #tools(Object...)}, {@link #tools(Map)} or {@link #toolProvider(ToolProvider)} and methods annotated with @{@link Tool}
  * - Various method return types (output parsers), see more details below
  * - Streaming (use {@link TokenStream} as a return type)
+ * - Asynchronous invocation (use {@link CompletableFuture} as a return type), configured via {@link #executor(Executor)}
  * - Structured prompts as method arguments (see @{@link StructuredPrompt})
  * - Auto-moderation, configured via @{@link Moderate} annotation
  * </pre>
@@ -91,6 +96,7 @@ import java.util.function.Function;
  * - many default Java types: {@code Date}, {@code LocalDateTime}, {@code BigDecimal}, etc., if you want to use the LLM for data extraction
  * - any custom POJO, if you want to use the LLM for data extraction.
  * - Result&lt;T&gt; if you want to access {@link TokenUsage} or sources ({@link Content}s retrieved during RAG), aside from T, which can be of any type listed above. For example: Result&lt;String&gt;, Result&lt;MyCustomPojo&gt;
+ * - CompletableFuture&lt;T&gt; or CompletionStage&lt;T&gt; if you want to invoke the method asynchronously, where T can be of any type listed above. For example: CompletableFuture&lt;String&gt;, CompletableFuture&lt;Result&lt;MyCustomPojo&gt;&gt;
  * For POJOs, it is advisable to use the "json mode" feature if the LLM provider supports it. For OpenAI, this can be enabled by calling {@code responseFormat("json_object")} during model construction.
  *
  * </pre>
@@ -291,6 +297,40 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures a {@link Tracer} that reports a span for each phase of each AI Service method invocation:
+     * prompt template rendering, retrieval augmentation (with a nested span for each content retriever),
+     * chat memory access, moderation, each LLM call, each tool execution, guardrails and output parsing.
+     * See {@link dev.langchain4j.observability.SpanNames} for details.
+     * <br>
+     * By default, a no-op tracer is used.
+     *
+     * @param tracer The tracer to report spans to.
+     * @return builder
+     */
+    public AiServices<T> tracer(Tracer tracer) {
+        context.tracer = ensureNotNull(tracer, "tracer");
+        return this;
+    }
+
+    /**
+     * Configures the {@link Executor} used to invoke methods returning {@link CompletableFuture}
+     * or {@link CompletionStage}. The whole invocation (RAG, chat memory access, LLM calls, tool executions,
+     * guardrails and output parsing) runs on this executor and the calling thread is never blocked.
+     * Moderation (see {@link Moderate}) runs on a separate, shared executor, so that an invocation waiting
+     * for its moderation never waits for a task queued behind it on this executor.
+     * <br>
+     * By default, a virtual thread is started for each invocation when running on Java 21+,
+     * otherwise a cached thread pool is used.
+     *
+     * @param executor The executor to invoke asynchronous methods on.
+     * @return builder
+     */
+    public AiServices<T> executor(Executor executor) {
+        context.executor = ensureNotNull(executor, "executor");
+        return this;
+    }
+
     /**
      * Configures the tools that the LLM can use.
      *
@@ -1,9 +1,22 @@
 package dev.langchain4j.service;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.TracingUtils.chatInChildSpan;
+import static dev.langchain4j.internal.TracingUtils.inChildSpan;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
+import static dev.langchain4j.observability.SpanNames.AI_SERVICE_CLASS;
+import static dev.langchain4j.observability.SpanNames.AI_SERVICE_INVOKE;
+import static dev.langchain4j.observability.SpanNames.AI_SERVICE_METHOD;
+import static dev.langchain4j.observability.SpanNames.CHAT_MEMORY_LOAD;
+import static dev.langchain4j.observability.SpanNames.CHAT_MEMORY_STORE;
+import static dev.langchain4j.observability.SpanNames.INPUT_GUARDRAILS;
+import static dev.langchain4j.observability.SpanNames.MODERATION;
+import static dev.langchain4j.observability.SpanNames.OUTPUT_GUARDRAILS;
+import static dev.langchain4j.observability.SpanNames.OUTPUT_PARSER_PARSE;
+import static dev.langchain4j.observability.SpanNames.PROMPT_TEMPLATE_RENDER;
+import static dev.langchain4j.observability.SpanNames.RETRIEVAL_AUGMENTOR_AUGMENT;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -15,6 +28,7 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
 import dev.langchain4j.guardrail.InputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.internal.DaemonExecutors;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -22,10 +36,10 @@ import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.chat.response.ChatResponse;
-import dev.langchain4j.model.input.Prompt;
-import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.model.moderation.Moderation;
 import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.observability.Scope;
+import dev.langchain4j.observability.Span;
 import dev.langchain4j.rag.AugmentationRequest;
 import dev.langchain4j.rag.AugmentationResult;
 import dev.langchain4j.rag.query.Metadata;
@@ -36,7 +50,6 @@ import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import dev.langchain4j.service.tool.ToolServiceResult;
 import dev.langchain4j.spi.services.TokenStreamAdapter;
-import java.io.InputStream;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -47,10 +60,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 @Internal
@@ -59,6 +73,26 @@ class DefaultAiServices<T> extends AiServices<T> {
     private final ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
     private final Collection<TokenStreamAdapter> tokenStreamAdapters = loadFactories(TokenStreamAdapter.class);
 
+    /**
+     * The default executor for asynchronous methods, shared by all AI Services.
+     */
+    private static class DefaultAsyncExecutor {
+
+        private static final Executor INSTANCE =
+                createVirtualThreadExecutor(() -> DaemonExecutors.newCachedPool("langchain4j-ai-service"));
+    }
+
+    /**
+     * The executor moderation runs on, shared by all AI Services.
+     * It is separate from the executor of asynchronous methods: an asynchronous invocation waits for its moderation,
+     * so running both on the same (possibly bounded) executor could starve or deadlock it.
+     */
+    private static class DefaultModerationExecutor {
+
+        private static final Executor INSTANCE =
+                createVirtualThreadExecutor(() -> DaemonExecutors.newCachedPool("langchain4j-moderation"));
+    }
+
     DefaultAiServices(AiServiceContext context) {
         super(context);
     }
@@ -106,7 +140,11 @@ class DefaultAiServices<T> extends AiServices<T> {
                 throw illegalConfiguration(
                         "'%s' is not a supported return type of an AI Service method", returnType.getName());
             }
-            if (returnType == Result.class || returnType == List.class || returnType == Set.class) {
+            if (returnType == Result.class
+                    || returnType == List.class
+                    || returnType == Set.class
+                    || returnType == CompletableFuture.class
+                    || returnType == CompletionStage.class) {
                 TypeUtils.validateReturnTypesAreProperlyParametrized(method.getName(), method.getGenericReturnType());
             }
 
@@ -126,7 +164,10 @@ class DefaultAiServices<T> extends AiServices<T> {
                 new Class<?>[] {context.aiServiceClass},
                 new InvocationHandler() {
 
-                    private final ExecutorService executor = Executors.newCachedThreadPool();
+                    private final Executor asyncExecutor = context.executor != null
+                            ? context.executor
+                            : DefaultAsyncExecutor.INSTANCE;
+                    private final Map<Method, AiServiceMethodPlan> plans = new ConcurrentHashMap<>();
 
                     @Override
                     public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
@@ -146,24 +187,81 @@ class DefaultAiServices<T> extends AiServices<T> {
                             };
                         }
 
-                        validateParameters(method);
+                        AiServiceMethodPlan plan = plans.computeIfAbsent(
+                                method, m -> new AiServiceMethodPlan(m, serviceOutputParser, tokenStreamAdapters));
 
-                        final Object memoryId = findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT);
+                        Span span = context.tracer
+                                .startSpan(AI_SERVICE_INVOKE)
+                                .setAttribute(AI_SERVICE_CLASS, context.aiServiceClass.getName())
+                                .setAttribute(AI_SERVICE_METHOD, method.getName());
+                        if (plan.async()) {
+                            return invokeAsync(plan, args, span);
+                        }
+                        return invoke(plan, args, span);
+                    }
+
+                    private CompletableFuture<Object> invokeAsync(AiServiceMethodPlan plan, Object[] args, Span span) {
+                        CompletableFuture<Object> future = new CompletableFuture<>();
+                        try {
+                            asyncExecutor.execute(() -> {
+                                try {
+                                    future.complete(invoke(plan, args, span));
+                                } catch (Throwable e) {
+                                    future.completeExceptionally(e);
+                                }
+                            });
+                        } catch (RuntimeException e) {
+                            span.recordException(e);
+                            span.end();
+                            future.completeExceptionally(e);
+                        }
+                        return future;
+                    }
+
+                    private Object invoke(AiServiceMethodPlan plan, Object[] args, Span span) throws Exception {
+                        try (Scope ignored = span.makeCurrent()) {
+                            return doInvoke(plan, args, span);
+                        } catch (Exception e) {
+                            span.recordException(e);
+                            throw e;
+                        } finally {
+                            span.end();
+                        }
+                    }
+
+                    private Object doInvoke(AiServiceMethodPlan plan, Object[] args, Span span) throws Exception {
+
+                        final Method method = plan.method();
+                        final Object memoryId = plan.memoryId(args).orElse(ChatMemoryService.DEFAULT);
                         final ChatMemory chatMemory = context.hasChatMemory()
-                                ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
+                                ? inChildSpan(span, CHAT_MEMORY_LOAD,
+                                        () -> context.chatMemoryService.getOrCreateChatMemory(memoryId))
                                 : null;
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        var userMessageTemplate = getUserMessageTemplate(method, args);
-                        var variables = InternalReflectionVariableResolver.findTemplateVariables(
-                                userMessageTemplate, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args, userMessageTemplate, variables);
+                        Optional<SystemMessage> systemMessage;
+                        String userMessageTemplate;
+                        Map<String, Object> variables;
+                        UserMessage userMessage;
+                        Span renderSpan = span.startChild(PROMPT_TEMPLATE_RENDER);
+                        try {
+                            systemMessage = plan.systemMessage(memoryId, args, context.systemMessageProvider);
+                            userMessageTemplate = plan.userMessageTemplate(args);
+                            variables = plan.userMessageVariables(userMessageTemplate, args);
+                            userMessage = plan.userMessage(userMessageTemplate, variables, args);
+                        } catch (RuntimeException e) {
+                            renderSpan.recordException(e);
+                            throw e;
+                        } finally {
+                            renderSpan.end();
+                        }
+
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
                             List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
                             Metadata metadata = Metadata.from(userMessage, memoryId, chatMemoryMessages);
                             AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, metadata);
-                            augmentationResult = context.retrievalAugmentor.augment(augmentationRequest);
+                            augmentationResult = inChildSpan(span, RETRIEVAL_AUGMENTOR_AUGMENT,
+                                    () -> context.retrievalAugmentor.augment(augmentationRequest));
                             userMessage = (UserMessage) augmentationResult.chatMessage();
                         }
 
@@ -179,32 +277,35 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 context.guardrailService(), method, userMessage, commonGuardrailParam);
 
                         // TODO give user ability to provide custom OutputParser
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        Type returnType = plan.returnType();
+                        boolean streaming = plan.streaming();
 
                         boolean supportsJsonSchema = supportsJsonSchema(); // TODO should it be called for
                         // returnType==String?
 
                         Optional<JsonSchema> jsonSchema = Optional.empty();
                         if (supportsJsonSchema && !streaming) {
-                            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+                            jsonSchema = plan.jsonSchema();
                         }
                         if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+                            userMessage = appendOutputFormatInstructions(plan, userMessage);
                         }
 
                         List<ChatMessage> messages = new ArrayList<>();
 
                         if (context.hasChatMemory()) {
-                            systemMessage.ifPresent(chatMemory::add);
-                            chatMemory.add(userMessage);
-                            messages.addAll(chatMemory.messages());
+                            UserMessage finalUserMessage = userMessage;
+                            inChildSpan(span, CHAT_MEMORY_STORE, () -> {
+                                systemMessage.ifPresent(chatMemory::add);
+                                chatMemory.add(finalUserMessage);
+                                messages.addAll(chatMemory.messages());
+                            });
                         } else {
                             systemMessage.ifPresent(messages::add);
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages, span);
 
                         ToolServiceContext toolServiceContext =
                                 context.toolService.createContext(memoryId, userMessage);
@@ -227,7 +328,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             if (returnType == TokenStream.class) {
                                 return tokenStream;
                             } else {
-                                return adapt(tokenStream, returnType);
+                                return plan.adapt(tokenStream);
                             }
                         }
 
@@ -253,7 +354,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .chatRequest(chatRequest)
                                 .build();
 
-                        ChatResponse chatResponse = chatExecutor.execute();
+                        ChatResponse chatResponse = chatInChildSpan(span, chatExecutor::execute);
 
                         verifyModerationIfNeeded(moderationFuture);
 
@@ -276,7 +377,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return response;
                         }
 
-                        var parsedResponse = serviceOutputParser.parse((ChatResponse) response, returnType);
+                        var parsedResponse = inChildSpan(span, OUTPUT_PARSER_PARSE,
+                                () -> serviceOutputParser.parse((ChatResponse) response, returnType));
 
                         if (typeHasRawClass(returnType, Result.class)) {
                             return Result.builder()
@@ -291,31 +393,14 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
-                    private boolean canAdaptTokenStreamTo(Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-
-                    private Object adapt(TokenStream tokenStream, Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return tokenStreamAdapter.adapt(tokenStream);
-                            }
-                        }
-                        throw new IllegalStateException("Can't find suitable TokenStreamAdapter");
-                    }
-
                     private boolean supportsJsonSchema() {
                         return context.chatModel != null
                                 && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
                     }
 
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(
+                            AiServiceMethodPlan plan, UserMessage userMessage) {
+                        String outputFormatInstructions = plan.outputFormatInstructions();
                         String text = userMessage.singleText() + outputFormatInstructions;
                         if (isNotNullOrBlank(userMessage.name())) {
                             userMessage = UserMessage.from(userMessage.name(), text);
@@ -325,14 +410,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage;
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
-                            return executor.submit(() -> {
-                                List<ChatMessage> messagesToModerate = removeToolMessages(messages);
-                                return context.moderationModel
-                                        .moderate(messagesToModerate)
-                                        .content();
-                            });
+                    private Future<Moderation> triggerModerationIfNeeded(
+                            AiServiceMethodPlan plan, List<ChatMessage> messages, Span span) {
+                        if (plan.moderated()) {
+                            return CompletableFuture.supplyAsync(
+                                    () -> inChildSpan(span, MODERATION, () -> {
+                                        List<ChatMessage> messagesToModerate = removeToolMessages(messages);
+                                        return context.moderationModel
+                                                .moderate(messagesToModerate)
+                                                .content();
+                                    }),
+                                    DefaultModerationExecutor.INSTANCE);
                         }
                         return null;
                     }
@@ -353,7 +441,10 @@ class DefaultAiServices<T> extends AiServices<T> {
                     .userMessage(userMessage)
                     .commonParams(commonGuardrailParams)
                     .build();
-            return guardrailService.executeGuardrails(method, inputGuardrailRequest);
+            return inChildSpan(
+                    Span.current(),
+                    INPUT_GUARDRAILS,
+                    () -> guardrailService.executeGuardrails(method, inputGuardrailRequest));
         }
 
         return userMessage;
@@ -372,146 +463,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                     .chatExecutor(chatExecutor)
                     .requestParams(commonGuardrailParams)
                     .build();
-            return guardrailService.executeGuardrails(method, outputGuardrailRequest);
+            return inChildSpan(
+                    Span.current(),
+                    OUTPUT_GUARDRAILS,
+                    () -> guardrailService.<Method, T>executeGuardrails(method, outputGuardrailRequest));
         }
 
         return (T) responseFromLLM;
     }
-
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method).map(systemMessageTemplate -> PromptTemplate.from(
-                        systemMessageTemplate)
-                .apply(InternalReflectionVariableResolver.findTemplateVariables(systemMessageTemplate, method, args))
-                .toSystemMessage());
-    }
-
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
-        }
-
-        return context.systemMessageProvider.apply(memoryId);
-    }
-
-    private static UserMessage prepareUserMessage(
-            Method method, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
-        Prompt prompt = PromptTemplate.from(userMessageTemplate).apply(variables);
-
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
-        return maybeUserName
-                .map(userName -> UserMessage.from(userName, prompt.text()))
-                .orElseGet(prompt::toUserMessage);
-    }
-
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName());
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(InternalReflectionVariableResolver.asString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
-        String messageTemplate;
-        if (!resource.trim().isEmpty()) {
-            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
-            if (messageTemplate == null) {
-                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
-            }
-        } else {
-            messageTemplate = String.join(delimiter, value);
-        }
-        if (messageTemplate.trim().isEmpty()) {
-            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
-        }
-        return messageTemplate;
-    }
-
-    private static String getResourceText(Class<?> clazz, String resource) {
-        InputStream inputStream = clazz.getResourceAsStream(resource);
-        if (inputStream == null) {
-            inputStream = clazz.getResourceAsStream("/" + resource);
-        }
-        return getText(inputStream);
-    }
-
-    private static String getText(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (Scanner scanner = new Scanner(inputStream);
-                Scanner s = scanner.useDelimiter("\\A")) {
-            return s.hasNext() ? s.next() : "";
-        }
-    }
-
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
-                }
-                return Optional.of(memoryId);
-            }
-        }
-        return Optional.empty();
-    }
 }
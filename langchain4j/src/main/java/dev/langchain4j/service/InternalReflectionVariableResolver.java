@@ -45,7 +45,7 @@ public class InternalReflectionVariableResolver {
         return variables;
     }
 
-    private static String getVariableName(Parameter parameter) {
+    static String getVariableName(Parameter parameter) {
         V annotation = parameter.getAnnotation(V.class);
         if (annotation != null) {
             return annotation.value();
@@ -56,24 +56,36 @@ public class InternalReflectionVariableResolver {
 
     private static String getValueOfVariableIt(Parameter[] parameters, Object[] args) {
         if (args != null) {
-            if (args.length == 1) {
-                Parameter parameter = parameters[0];
-                if (!parameter.isAnnotationPresent(MemoryId.class)
-                        && !parameter.isAnnotationPresent(UserMessage.class)
-                        && !parameter.isAnnotationPresent(UserName.class)
-                        && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
-                    return asString(args[0]);
-                }
+            int index = findIndexOfVariableIt(parameters);
+            if (index >= 0) {
+                return asString(args[index]);
             }
+        }
+
+        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+    }
 
-            for (int i = 0; i < args.length; i++) {
-                if (isAnnotatedWithIt(parameters[i])) {
-                    return asString(args[i]);
-                }
+    /**
+     * @return the index of the parameter providing the value of the prompt template variable "{{it}}",
+     * or {@code -1} if there is no such parameter
+     */
+    static int findIndexOfVariableIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
             }
         }
 
-        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     private static boolean isAnnotatedWithIt(Parameter parameter) {
@@ -1,5 +1,6 @@
 package dev.langchain4j.service;
 
+import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
@@ -24,6 +25,27 @@ public interface TokenStream {
      */
     TokenStream onPartialResponse(Consumer<String> partialResponseHandler);
 
+    /**
+     * The provided consumer will be invoked every time an element of the list generated by a language model
+     * is complete, deserialized into the given type, while the rest of the list is still being streamed.
+     * This allows processing the first elements of a {@code List<T>} structured output
+     * before the whole response is received.
+     * <p>
+     * If the streaming chat model supports {@link Capability#RESPONSE_FORMAT_JSON_SCHEMA},
+     * the JSON schema of a {@code List<T>} is sent with the request.
+     * Otherwise, the language model should be instructed (e.g., in the system message) to answer with a JSON array.
+     * <p>
+     * The partial responses are still passed to the {@link #onPartialResponse(Consumer)} consumer.
+     *
+     * @param elementType    the type of the elements of the list
+     * @param elementHandler lambda that will be invoked with each element as soon as it is complete
+     * @param <T>            the type of the elements of the list
+     * @return token stream instance used to configure or start stream processing
+     */
+    default <T> TokenStream onPartialElement(Class<T> elementType, Consumer<T> elementHandler) {
+        throw new UnsupportedOperationException("onPartialElement is not supported by " + getClass().getName());
+    }
+
     /**
      * The provided consumer will be invoked if any {@link Content}s are retrieved using {@link RetrievalAugmentor}.
      * <p>
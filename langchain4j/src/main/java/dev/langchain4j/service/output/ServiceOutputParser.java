@@ -9,8 +9,10 @@ import dev.langchain4j.service.Result;
 import dev.langchain4j.service.TokenStream;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.service.TypeUtils.getRawClass;
@@ -84,6 +86,14 @@ public class ServiceOutputParser {
         return outputParser.jsonSchema();
     }
 
+    /**
+     * Returns the JSON schema of a {@code List} of the given element type,
+     * used when the elements are streamed one by one (see {@link TokenStream#onPartialElement(Class, Consumer)}).
+     */
+    public Optional<JsonSchema> listJsonSchema(Class<?> elementType) {
+        return outputParserFactory.get(List.class, elementType).jsonSchema();
+    }
+
     public String outputFormatInstructions(Type returnType) {
 
         if (typeHasRawClass(returnType, Result.class)) {
@@ -2,7 +2,10 @@ package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
 import static dev.langchain4j.internal.Exceptions.runtime;
+import static dev.langchain4j.internal.TracingUtils.chatInChildSpan;
 import static dev.langchain4j.internal.Utils.getAnnotatedMethod;
+import static dev.langchain4j.observability.SpanNames.EXECUTE_TOOL;
+import static dev.langchain4j.observability.SpanNames.TOOL_NAME;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 
 import dev.langchain4j.Internal;
@@ -19,6 +22,8 @@ import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.observability.Scope;
+import dev.langchain4j.observability.Span;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -118,6 +123,7 @@ public class ToolService {
         TokenUsage tokenUsageAccumulator = chatResponse.metadata().tokenUsage();
         int executionsLeft = maxSequentialToolsInvocations;
         List<ToolExecution> toolExecutions = new ArrayList<>();
+        Span span = Span.current();
 
         while (true) {
 
@@ -142,10 +148,8 @@ public class ToolService {
             for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
                 ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? applyToolHallucinationStrategy(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+                ToolExecutionResultMessage toolExecutionResultMessage =
+                        executeTool(toolExecutor, toolExecutionRequest, memoryId, span);
 
                 toolExecutions.add(ToolExecution.builder()
                         .request(toolExecutionRequest)
@@ -168,7 +172,7 @@ public class ToolService {
                     .parameters(parameters)
                     .build();
 
-            chatResponse = chatModel.chat(chatRequest);
+            chatResponse = chatInChildSpan(span, () -> chatModel.chat(chatRequest));
 
             tokenUsageAccumulator = TokenUsage.sum(
                     tokenUsageAccumulator, chatResponse.metadata().tokenUsage());
@@ -184,6 +188,22 @@ public class ToolService {
         return new ToolServiceResult(chatResponse, toolExecutions);
     }
 
+    private ToolExecutionResultMessage executeTool(
+            ToolExecutor toolExecutor, ToolExecutionRequest toolExecutionRequest, Object memoryId, Span span) {
+        Span toolSpan = span.startChild(EXECUTE_TOOL).setAttribute(TOOL_NAME, toolExecutionRequest.name());
+        try (Scope ignored = toolSpan.makeCurrent()) {
+            return toolExecutor == null
+                    ? applyToolHallucinationStrategy(toolExecutionRequest)
+                    : ToolExecutionResultMessage.from(
+                            toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+        } catch (RuntimeException e) {
+            toolSpan.recordException(e);
+            throw e;
+        } finally {
+            toolSpan.end();
+        }
+    }
+
     public ToolExecutionResultMessage applyToolHallucinationStrategy(ToolExecutionRequest toolExecutionRequest) {
         return toolHallucinationStrategy.apply(toolExecutionRequest);
     }
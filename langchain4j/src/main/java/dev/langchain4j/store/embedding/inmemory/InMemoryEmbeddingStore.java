@@ -51,6 +51,7 @@ import static java.util.stream.Collectors.toList;
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
+    private final transient List<InMemoryEmbeddingStoreListener<Embedded>> listeners = new CopyOnWriteArrayList<>();
 
     public InMemoryEmbeddingStore() {
         this.entries = new CopyOnWriteArrayList<>();
@@ -80,7 +81,9 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        Entry<Embedded> entry = new Entry<>(id, embedding, embedded);
+        entries.add(entry);
+        notifyAdded(List.of(id), List.of(entry));
     }
 
     @Override
@@ -111,9 +114,22 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
         entries.addAll(newEntries);
 
-        return newEntries.stream()
+        List<String> ids = newEntries.stream()
                 .map(entry -> entry.id)
                 .collect(toList());
+        notifyAdded(ids, newEntries);
+        return ids;
+    }
+
+    private void notifyAdded(List<String> ids, List<Entry<Embedded>> newEntries) {
+        if (listeners.isEmpty() || newEntries.isEmpty()) {
+            return;
+        }
+        List<Embedded> embedded = new ArrayList<>(newEntries.size());
+        for (Entry<Embedded> entry : newEntries) {
+            embedded.add(entry.embedded);
+        }
+        listeners.forEach(listener -> listener.onAdd(ids, embedded));
     }
 
     @Override
@@ -121,26 +137,71 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotEmpty(ids, "ids");
 
         entries.removeIf(entry -> ids.contains(entry.id));
+        listeners.forEach(listener -> listener.onRemove(ids));
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
+        List<String> removedIds = new ArrayList<>();
         entries.removeIf(entry -> {
+            boolean matches;
             if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
+                matches = filter.test(((TextSegment) entry.embedded).metadata());
             } else if (entry.embedded == null) {
-                return false;
+                matches = false;
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
             }
+            if (matches) {
+                removedIds.add(entry.id);
+            }
+            return matches;
         });
+        if (!removedIds.isEmpty()) {
+            listeners.forEach(listener -> listener.onRemove(removedIds));
+        }
     }
 
     @Override
     public void removeAll() {
         entries.clear();
+        listeners.forEach(InMemoryEmbeddingStoreListener::onRemoveAll);
+    }
+
+    /**
+     * Registers a listener that is notified about all subsequent changes of this store.
+     * <br>
+     * Upon registration, the listener is notified (via {@link InMemoryEmbeddingStoreListener#onAdd(List, List)})
+     * about the entries that are already present in the store, so that it can build its initial state.
+     * <br>
+     * Listeners are not serialized together with the store.
+     *
+     * @param listener The listener to register.
+     */
+    public void addListener(InMemoryEmbeddingStoreListener<Embedded> listener) {
+        ensureNotNull(listener, "listener");
+        listeners.add(listener);
+        List<Entry<Embedded>> existingEntries = new ArrayList<>(entries);
+        if (!existingEntries.isEmpty()) {
+            List<String> ids = new ArrayList<>(existingEntries.size());
+            List<Embedded> embedded = new ArrayList<>(existingEntries.size());
+            for (Entry<Embedded> entry : existingEntries) {
+                ids.add(entry.id);
+                embedded.add(entry.embedded);
+            }
+            listener.onAdd(ids, embedded);
+        }
+    }
+
+    /**
+     * Unregisters a listener previously registered with {@link #addListener(InMemoryEmbeddingStoreListener)}.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeListener(InMemoryEmbeddingStoreListener<Embedded> listener) {
+        listeners.remove(listener);
     }
 
     @Override
@@ -0,0 +1,41 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Listens to the changes of an {@link InMemoryEmbeddingStore}.
+ * <br>
+ * Can be used to keep a secondary index (for example, a lexical index over the same text segments)
+ * in sync with the store.
+ * Listeners are called synchronously, on the thread that modified the store, after the modification was applied.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ * @see InMemoryEmbeddingStore#addListener(InMemoryEmbeddingStoreListener)
+ */
+public interface InMemoryEmbeddingStoreListener<Embedded> {
+
+    /**
+     * Called when entries were added to the store.
+     *
+     * @param ids      The IDs of the added entries.
+     * @param embedded The embedded objects of the added entries, in the same order as the IDs.
+     *                 Elements can be {@code null} when an entry was added without an embedded object.
+     */
+    default void onAdd(List<String> ids, List<Embedded> embedded) {
+    }
+
+    /**
+     * Called when entries were removed from the store.
+     *
+     * @param ids The IDs of the removed entries.
+     */
+    default void onRemove(Collection<String> ids) {
+    }
+
+    /**
+     * Called when all entries were removed from the store.
+     */
+    default void onRemoveAll() {
+    }
+}
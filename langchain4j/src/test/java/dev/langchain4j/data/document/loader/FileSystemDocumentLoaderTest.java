@@ -3,6 +3,7 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,8 +17,11 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -268,6 +272,92 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
                 .isEqualTo(documents);
     }
 
+    @Test
+    void should_stream_the_same_documents_as_loaded_recursively() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.banana");
+
+        // when
+        List<Document> streamed;
+        try (Stream<Document> documents =
+                streamDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser(), 2)) {
+            streamed = documents.toList();
+        }
+
+        // then
+        assertThat(streamed)
+                .isEqualTo(loadDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser()));
+    }
+
+    @Test
+    void should_stream_documents_in_order_and_skip_files_that_fail_to_load(@TempDir Path directory)
+            throws IOException {
+
+        // given
+        for (int i = 0; i < 20; i++) {
+            Path subdirectory = Files.createDirectories(directory.resolve("dir-" + i % 3));
+            Files.writeString(subdirectory.resolve("file-" + i + ".txt"), "content " + i);
+        }
+        Files.writeString(directory.resolve("broken.txt"), "broken");
+        Files.writeString(directory.resolve("blank.txt"), " ");
+
+        DocumentParser failingParser = inputStream -> {
+            Document document = new TextDocumentParser().parse(inputStream);
+            if (document.text().equals("broken")) {
+                throw new RuntimeException("cannot parse");
+            }
+            return document;
+        };
+
+        PathMatcher allFiles = path -> true;
+        List<Document> expected = loadDocumentsRecursively(directory, allFiles, failingParser);
+
+        // when
+        List<Document> streamed;
+        try (Stream<Document> documents = streamDocumentsRecursively(directory, allFiles, failingParser, 4)) {
+            streamed = documents.toList();
+        }
+
+        // then
+        assertThat(streamed).hasSize(20).isEqualTo(expected);
+        assertThat(streamed).noneMatch(document -> document.text().equals("broken"));
+    }
+
+    @Test
+    void should_parse_files_lazily(@TempDir Path directory) throws IOException {
+
+        // given
+        for (int i = 0; i < 100; i++) {
+            Files.writeString(directory.resolve("file-" + i + ".txt"), "content " + i);
+        }
+
+        AtomicInteger parsed = new AtomicInteger();
+        DocumentParser countingParser = inputStream -> {
+            parsed.incrementAndGet();
+            return new TextDocumentParser().parse(inputStream);
+        };
+
+        // when
+        List<Document> firstDocuments;
+        try (Stream<Document> documents = streamDocumentsRecursively(directory, path -> true, countingParser, 2)) {
+            firstDocuments = documents.limit(3).toList();
+        }
+
+        // then
+        assertThat(firstDocuments).hasSize(3);
+        // at most 2 * parallelism files are parsed ahead of the consumer
+        assertThat(parsed.get()).isLessThanOrEqualTo(3 + 4);
+    }
+
+    @Test
+    void should_fail_to_stream_documents_from_non_directory() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(Paths.get("bad_directory")))
+                .withMessageContaining("'bad_directory' is not a directory");
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
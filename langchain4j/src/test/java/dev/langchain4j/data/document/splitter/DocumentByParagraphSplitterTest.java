@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -489,6 +490,35 @@ class DocumentByParagraphSplitterTest {
         );
     }
 
+    @Test
+    void should_call_overridden_split_when_split_pattern_is_disabled() {
+
+        // given
+        Document document = Document.from("First paragraph.\n\nSecond paragraph.");
+
+        DocumentSplitter splitter = new DocumentByParagraphSplitter(20, 0) {
+
+            @Override
+            public String[] split(String text) {
+                return text.toUpperCase().split("\\s*\\R\\s*\\R\\s*");
+            }
+
+            @Override
+            protected Pattern splitPattern() {
+                return null;
+            }
+        };
+
+        // when
+        List<TextSegment> segments = splitter.split(document);
+
+        // then
+        assertThat(segments).containsExactly(
+                TextSegment.from("FIRST PARAGRAPH.", Metadata.from("index", "0")),
+                TextSegment.from("SECOND PARAGRAPH.", Metadata.from("index", "1"))
+        );
+    }
+
     private static String sentences(int fromInclusive, int toInclusive) {
         StringBuilder sb = new StringBuilder();
         for (int i = fromInclusive; i <= toInclusive; i++) {
@@ -7,7 +7,10 @@ import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -174,4 +177,34 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
+
+    @Test
+    void should_split_all_documents_in_parallel() {
+
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = 0; j < 30; j++) {
+                text.append(format("This is sentence %s of document %s. ", j, i));
+            }
+            documents.add(Document.from(text.toString(), metadata("document", String.valueOf(i))));
+        }
+
+        DocumentBySentenceSplitter splitter = new DocumentBySentenceSplitter(100, 40);
+
+        List<TextSegment> sequentialSegments = splitter.splitAll(documents);
+        List<TextSegment> parallelSegments;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            parallelSegments = splitter.splitAll(documents, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(parallelSegments).isEqualTo(sequentialSegments);
+        assertThat(parallelSegments.get(0).text())
+                .isEqualTo("This is sentence 0 of document 0. This is sentence 1 of document 0.");
+        // the overlap is built from the last sentences of the previous segment
+        assertThat(parallelSegments.get(1).text()).startsWith("This is sentence 1 of document 0.");
+    }
 }
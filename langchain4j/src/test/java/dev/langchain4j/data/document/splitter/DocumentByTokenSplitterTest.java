@@ -0,0 +1,206 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenOffsetEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static dev.langchain4j.data.segment.TextSegment.textSegment;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentByTokenSplitterTest {
+
+    @Test
+    void should_split_at_paragraph_boundaries() {
+
+        // given
+        String text = "First paragraph, first sentence. First paragraph, second sentence.\n\n"
+                + "Second paragraph, first sentence. Second paragraph, second sentence.\n\n"
+                + "Third paragraph, first sentence. Third paragraph, second sentence.";
+        Document document = Document.from(text, metadata("document", "0"));
+        WordTokenizer tokenizer = new WordTokenizer();
+
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(20, 0, tokenizer);
+
+        // when
+        List<TextSegment> segments = splitter.split(document);
+
+        // then
+        assertThat(segments).containsExactly(
+                textSegment("First paragraph, first sentence. First paragraph, second sentence.",
+                        metadata("index", "0").put("document", "0")),
+                textSegment("Second paragraph, first sentence. Second paragraph, second sentence.",
+                        metadata("index", "1").put("document", "0")),
+                textSegment("Third paragraph, first sentence. Third paragraph, second sentence.",
+                        metadata("index", "2").put("document", "0"))
+        );
+        assertThat(tokenizer.tokenizations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_split_at_sentence_boundaries_when_paragraph_does_not_fit() {
+
+        // given
+        String text = "This is the first sentence. This is the second sentence. This is the third sentence.";
+
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(13, 0, new WordTokenizer());
+
+        // when
+        List<TextSegment> segments = splitter.split(Document.from(text));
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly(
+                "This is the first sentence. This is the second sentence.",
+                "This is the third sentence."
+        );
+    }
+
+    @Test
+    void should_split_at_word_boundaries_when_sentence_does_not_fit() {
+
+        // given
+        String text = "one two three four five six seven";
+
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(3, 0, new WordTokenizer());
+
+        // when
+        List<TextSegment> segments = splitter.split(Document.from(text));
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly(
+                "one two three",
+                "four five six",
+                "seven"
+        );
+    }
+
+    @Test
+    void should_cut_within_word_when_there_is_no_boundary() {
+
+        // given
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(4, 0, new CharacterTokenizer());
+
+        // when
+        List<TextSegment> segments = splitter.split(Document.from("abcdefghij"));
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    void should_overlap_from_sentence_boundary() {
+
+        // given
+        String text = "One two three. Four five six. Seven eight nine. Ten eleven twelve.";
+
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(12, 6, new WordTokenizer());
+
+        // when
+        List<TextSegment> segments = splitter.split(Document.from(text));
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly(
+                "One two three. Four five six. Seven eight nine.",
+                "Seven eight nine. Ten eleven twelve."
+        );
+    }
+
+    @Test
+    void should_never_exceed_max_segment_size() {
+
+        // given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("word").append(i).append(i % 7 == 0 ? ". " : " ").append(i % 50 == 0 ? "\n\n" : "");
+        }
+        WordTokenizer tokenizer = new WordTokenizer();
+
+        DocumentByTokenSplitter splitter = new DocumentByTokenSplitter(40, 10, tokenizer);
+
+        // when
+        List<TextSegment> segments = splitter.split(Document.from(text.toString()));
+
+        // then
+        assertThat(segments).isNotEmpty();
+        for (TextSegment segment : segments) {
+            assertThat(tokenizer.estimateTokenCountInText(segment.text())).isLessThanOrEqualTo(40);
+        }
+        assertThat(segments.get(segments.size() - 1).text()).endsWith("word999");
+    }
+
+    /**
+     * Splits the text into words and punctuation marks, each token including the preceding whitespace.
+     */
+    private static class WordTokenizer implements TokenOffsetEstimator {
+
+        private static final Pattern TOKEN = Pattern.compile("\\s*\\w+|\\s*[^\\w\\s]|\\s+");
+
+        final AtomicInteger tokenizations = new AtomicInteger();
+
+        @Override
+        public int[] estimateTokenEndOffsetsInText(String text) {
+            tokenizations.incrementAndGet();
+            List<Integer> ends = new ArrayList<>();
+            Matcher matcher = TOKEN.matcher(text);
+            while (matcher.find()) {
+                ends.add(matcher.end());
+            }
+            return ends.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            int count = 0;
+            Matcher matcher = TOKEN.matcher(text);
+            while (matcher.find()) {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class CharacterTokenizer implements TokenOffsetEstimator {
+
+        @Override
+        public int[] estimateTokenEndOffsetsInText(String text) {
+            int[] ends = new int[text.length()];
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = i + 1;
+            }
+            return ends;
+        }
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.langchain4j.data.document.splitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentSentencesTest {
+
+    private static final Pattern LINES = Pattern.compile("\\s*\\R\\s*");
+
+    private static final DocumentBySentenceSplitter SENTENCE_SPLITTER = new DocumentBySentenceSplitter(1, 0);
+
+    @Test
+    void should_return_last_sentences_of_segment_joined_like_in_segment() {
+
+        // given
+        TextParts parts = TextParts.split("Hello.  \r\n  How are\r\nyou? I am fine.\nBye.", LINES);
+        DocumentSentences sentences = new DocumentSentences(parts, "\n", SENTENCE_SPLITTER);
+        sentences.partAppended(0);
+        sentences.partAppended(1);
+        sentences.partAppended(2);
+
+        // when
+        List<String> overlapSentences = sentences.overlapSentences(2, new SegmentBuilder(25, "\n"));
+
+        // then
+        assertThat(overlapSentences).containsExactly("How are\nyou?", "I am fine.");
+    }
+
+    @Test
+    void should_clip_sentences_to_segment() {
+
+        // given
+        TextParts parts = TextParts.split("Hello. How\nare you\nto-day? Bye.", LINES);
+        DocumentSentences sentences = new DocumentSentences(parts, "\n", SENTENCE_SPLITTER);
+        sentences.partAppended(0);
+        sentences.partAppended(1);
+
+        // when
+        List<String> overlapSentences = sentences.overlapSentences(1, new SegmentBuilder(100, "\n"));
+
+        // then
+        assertThat(overlapSentences).containsExactly("Hello.", "How\nare you");
+
+        // when
+        sentences.partAppended(2);
+        overlapSentences = sentences.overlapSentences(2, new SegmentBuilder(100, "\n"));
+
+        // then the next segment starts with the previous overlap
+        assertThat(overlapSentences).containsExactly("Hello.", "How\nare you\nto-day?", "Bye.");
+    }
+
+    @Test
+    void should_not_return_sentences_continuing_into_unknown_overlap() {
+
+        // given
+        TextParts parts = TextParts.split("First sentence.\nSecond\nsentence. Third sentence.", LINES);
+        DocumentSentences sentences = new DocumentSentences(parts, "\n", SENTENCE_SPLITTER);
+        sentences.unknownOverlap("overlap from a sub-splitter");
+        sentences.partAppended(2);
+
+        // when-then
+        assertThat(sentences.overlapSentences(2, new SegmentBuilder(20, "\n"))).containsExactly("Third sentence.");
+        sentences.unknownOverlap("overlap from a sub-splitter");
+        sentences.partAppended(2);
+        assertThat(sentences.overlapSentences(2, new SegmentBuilder(100, "\n"))).isNull();
+    }
+}
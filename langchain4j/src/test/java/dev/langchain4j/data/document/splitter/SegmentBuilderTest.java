@@ -65,4 +65,31 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void by_chars() {
+        SegmentBuilder builder = new SegmentBuilder(20, "\n\n");
+
+        builder.append("first paragraph. second paragraph.", 0, 16);
+        assertThat(builder.getSize()).isEqualTo(16);
+        assertThat(builder.hasSpaceFor(2)).isTrue();
+        assertThat(builder.hasSpaceFor(3)).isFalse();
+
+        builder.append("second", 0, 2);
+        assertThat(builder.getSize()).isEqualTo(20);
+        assertThat(builder.toString()).isEqualTo("first paragraph.\n\nse");
+    }
+
+    @Test
+    void content_equals() {
+        SegmentBuilder builder = new SegmentBuilder(100, " ");
+
+        builder.append("  Hello");
+        builder.append("world ");
+
+        assertThat(builder.contentEquals("Hello world")).isTrue();
+        assertThat(builder.contentEquals("  Hello world ")).isFalse();
+        assertThat(builder.contentEquals("Hello")).isFalse();
+        assertThat(builder.contentEquals(null)).isFalse();
+    }
 }
@@ -0,0 +1,71 @@
+package dev.langchain4j.data.document.splitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextPartsTest {
+
+    @Test
+    void should_split_exactly_like_pattern_split() {
+
+        List<String> regexes = List.of("\\s+", "\\s*\\R\\s*", "\\s*(?>\\R)\\s*(?>\\R)\\s*", ",", "(?=b)", "");
+        List<String> texts = List.of(
+                "",
+                " ",
+                "abc",
+                " a b  c ",
+                "a\n\nb\n \n c\n\n",
+                "\n\na\nb\n",
+                ",a,,b,,",
+                ",,,",
+                "bab",
+                "abba"
+        );
+
+        for (String regex : regexes) {
+            Pattern pattern = Pattern.compile(regex);
+            for (String text : texts) {
+
+                TextParts parts = TextParts.split(text, pattern);
+
+                List<String> actual = new ArrayList<>();
+                for (int i = 0; i < parts.size(); i++) {
+                    assertThat(parts.length(i)).isEqualTo(parts.get(i).length());
+                    actual.add(parts.get(i));
+                }
+                assertThat(actual)
+                        .as("'%s' split by '%s'", text, regex)
+                        .containsExactly(pattern.split(text));
+            }
+        }
+    }
+
+    @Test
+    void should_append_region_of_text() {
+
+        TextParts parts = TextParts.split("one two  three", Pattern.compile("\\s+"));
+        SegmentBuilder segmentBuilder = new SegmentBuilder(100, "|");
+
+        for (int i = 0; i < parts.size(); i++) {
+            parts.appendTo(segmentBuilder, i);
+        }
+
+        assertThat(segmentBuilder.toString()).isEqualTo("one|two|three");
+        assertThat(segmentBuilder.getSize()).isEqualTo(13);
+    }
+
+    @Test
+    void should_wrap_parts() {
+
+        TextParts parts = TextParts.of(new String[]{"one", "two"});
+
+        assertThat(parts.size()).isEqualTo(2);
+        assertThat(parts.get(1)).isEqualTo("two");
+        assertThat(parts.length(1)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,266 @@
+package dev.langchain4j.model.chat.routing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoutingChatModelTest {
+
+    private WireMockServer primary;
+    private WireMockServer secondary;
+
+    @BeforeEach
+    void beforeEach() {
+        primary = new WireMockServer(options().dynamicPort());
+        primary.start();
+        secondary = new WireMockServer(options().dynamicPort());
+        secondary.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        primary.stop();
+        secondary.stop();
+    }
+
+    @Test
+    void should_fail_over_to_next_model_when_model_fails() {
+
+        // given
+        stubError(primary, 500);
+        stubResponse(secondary, "secondary", 0);
+
+        ChatModel model = RoutingChatModel.builder()
+                .models(openAiChatModel(primary), openAiChatModel(secondary))
+                .build();
+
+        // when-then
+        for (int i = 0; i < 10; i++) {
+            assertThat(model.chat("hi")).isEqualTo("secondary");
+        }
+    }
+
+    @Test
+    void should_throw_last_error_when_all_models_fail() {
+
+        // given
+        stubError(primary, 500);
+        stubError(secondary, 503);
+
+        ChatModel model = RoutingChatModel.builder()
+                .models(openAiChatModel(primary), openAiChatModel(secondary))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hi")).isExactlyInstanceOf(InternalServerException.class);
+        primary.verify(1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+        secondary.verify(1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+    }
+
+    @Test
+    void should_respect_max_attempts() {
+
+        // given
+        stubError(primary, 500);
+        stubError(secondary, 500);
+
+        ChatModel model = RoutingChatModel.builder()
+                .models(openAiChatModel(primary), openAiChatModel(secondary))
+                .maxAttempts(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hi")).isExactlyInstanceOf(InternalServerException.class);
+        assertThat(primary.getAllServeEvents().size() + secondary.getAllServeEvents().size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_send_hedged_request_when_model_is_slow() {
+
+        // given
+        stubResponse(primary, "slow", 3_000);
+        stubResponse(secondary, "fast", 0);
+
+        ChatModel model = RoutingChatModel.builder()
+                .models(openAiChatModel(primary), openAiChatModel(secondary))
+                .hedgingDelay(Duration.ofMillis(100))
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+
+            // when
+            long startMillis = System.currentTimeMillis();
+            String answer = model.chat("hi");
+
+            // then
+            assertThat(answer).isEqualTo("fast");
+            assertThat(System.currentTimeMillis() - startMillis).isLessThan(2_000);
+        }
+    }
+
+    @Test
+    void should_not_hedge_when_hedging_is_not_configured() {
+
+        // given
+        stubResponse(primary, "primary", 300);
+        stubResponse(secondary, "secondary", 300);
+
+        ChatModel model = RoutingChatModel.builder()
+                .models(openAiChatModel(primary), openAiChatModel(secondary))
+                .build();
+
+        // when
+        String answer = model.chat("hi");
+
+        // then
+        assertThat(answer).isIn("primary", "secondary");
+        assertThat(primary.getAllServeEvents().size() + secondary.getAllServeEvents().size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_route_more_requests_to_faster_model() {
+
+        // given
+        AtomicInteger fastCalls = new AtomicInteger();
+        AtomicInteger slowCalls = new AtomicInteger();
+        ChatModel fast = new ChatModelMock(request -> {
+            fastCalls.incrementAndGet();
+            return AiMessage.from("fast");
+        });
+        ChatModel slow = new ChatModelMock(request -> {
+            slowCalls.incrementAndGet();
+            sleep(20);
+            return AiMessage.from("slow");
+        });
+
+        ChatModel model = RoutingChatModel.builder().models(fast, slow).build();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            model.chat("hi");
+        }
+
+        // then
+        assertThat(fastCalls.get()).isGreaterThan(slowCalls.get() * 3);
+        assertThat(slowCalls.get()).isPositive(); // slow model is still probed
+    }
+
+    @Test
+    void should_route_fewer_requests_to_failing_model() {
+
+        // given
+        AtomicInteger healthyCalls = new AtomicInteger();
+        AtomicInteger failingCalls = new AtomicInteger();
+        ChatModel healthy = new ChatModelMock(request -> {
+            healthyCalls.incrementAndGet();
+            return AiMessage.from("healthy");
+        });
+        ChatModel failing = new ChatModelMock(request -> {
+            failingCalls.incrementAndGet();
+            throw new RuntimeException("failing");
+        });
+
+        ChatModel model = RoutingChatModel.builder().models(healthy, failing).build();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(model.chat("hi")).isEqualTo("healthy");
+        }
+
+        // then
+        assertThat(healthyCalls.get()).isEqualTo(100);
+        assertThat(failingCalls.get()).isLessThan(50);
+    }
+
+    @Test
+    void should_return_capabilities_supported_by_all_models() {
+
+        // given
+        ChatModel withJsonSchema = new ChatModelMock("a") {
+            @Override
+            public Set<Capability> supportedCapabilities() {
+                return Set.of(RESPONSE_FORMAT_JSON_SCHEMA);
+            }
+        };
+        ChatModel withoutJsonSchema = new ChatModelMock("b");
+
+        // when-then
+        assertThat(RoutingChatModel.builder().models(withJsonSchema).build().supportedCapabilities())
+                .containsExactly(RESPONSE_FORMAT_JSON_SCHEMA);
+        assertThat(RoutingChatModel.builder()
+                        .models(withJsonSchema, withoutJsonSchema)
+                        .build()
+                        .supportedCapabilities())
+                .isEmpty();
+    }
+
+    static ChatModel openAiChatModel(WireMockServer server) {
+        return OpenAiChatModel.builder()
+                .baseUrl(server.baseUrl() + "/v1")
+                .apiKey("test")
+                .modelName("gpt-4o-mini")
+                .maxRetries(0)
+                .build();
+    }
+
+    static void stubResponse(WireMockServer server, String text, int delayMillis) {
+        server.stubFor(post(urlEqualTo("/v1/chat/completions"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withFixedDelay(delayMillis)
+                        .withBody(
+                                """
+                                {
+                                  "id": "chatcmpl-1",
+                                  "object": "chat.completion",
+                                  "created": 1,
+                                  "model": "gpt-4o-mini",
+                                  "choices": [
+                                    {
+                                      "index": 0,
+                                      "message": {"role": "assistant", "content": "%s"},
+                                      "finish_reason": "stop"
+                                    }
+                                  ],
+                                  "usage": {"prompt_tokens": 1, "completion_tokens": 1, "total_tokens": 2}
+                                }
+                                """
+                                        .formatted(text))));
+    }
+
+    static void stubError(WireMockServer server, int status) {
+        server.stubFor(post(urlEqualTo("/v1/chat/completions"))
+                .willReturn(aResponse().withStatus(status).withBody("{\"error\": {\"message\": \"error\"}}")));
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package dev.langchain4j.model.chat.routing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoutingStreamingChatModelTest {
+
+    private WireMockServer primary;
+    private WireMockServer secondary;
+
+    @BeforeEach
+    void beforeEach() {
+        primary = new WireMockServer(options().dynamicPort());
+        primary.start();
+        secondary = new WireMockServer(options().dynamicPort());
+        secondary.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        primary.stop();
+        secondary.stop();
+    }
+
+    @Test
+    void should_fail_over_to_next_model_when_model_fails() {
+
+        // given
+        RoutingChatModelTest.stubError(primary, 500);
+        stubStreamingResponse(secondary, "secondary", 0);
+
+        StreamingChatModel model = RoutingStreamingChatModel.builder()
+                .models(openAiStreamingChatModel(primary), openAiStreamingChatModel(secondary))
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+
+            // when
+            TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+            model.chat("hi", handler);
+
+            // then
+            assertThat(handler.get().aiMessage().text()).isEqualTo("secondary");
+        }
+    }
+
+    @Test
+    void should_propagate_error_when_all_models_fail() {
+
+        // given
+        RoutingChatModelTest.stubError(primary, 500);
+        RoutingChatModelTest.stubError(secondary, 500);
+
+        StreamingChatModel model = RoutingStreamingChatModel.builder()
+                .models(openAiStreamingChatModel(primary), openAiStreamingChatModel(secondary))
+                .build();
+
+        // when
+        TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+        model.chat("hi", handler);
+
+        // then
+        assertThatThrownBy(handler::get).isInstanceOf(RuntimeException.class);
+        assertThat(primary.getAllServeEvents()).hasSize(1);
+        assertThat(secondary.getAllServeEvents()).hasSize(1);
+    }
+
+    @Test
+    void should_send_hedged_request_when_model_is_slow() {
+
+        // given
+        stubStreamingResponse(primary, "slow", 3_000);
+        stubStreamingResponse(secondary, "fast", 0);
+
+        StreamingChatModel model = RoutingStreamingChatModel.builder()
+                .models(openAiStreamingChatModel(primary), openAiStreamingChatModel(secondary))
+                .hedgingDelay(Duration.ofMillis(100))
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+
+            // when
+            long startMillis = System.currentTimeMillis();
+            TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+            model.chat("hi", handler);
+
+            // then
+            assertThat(handler.get().aiMessage().text()).isEqualTo("fast");
+            assertThat(System.currentTimeMillis() - startMillis).isLessThan(2_000);
+        }
+    }
+
+    @Test
+    void should_forward_events_only_from_first_responding_model() {
+
+        // given
+        StreamingChatModel fast = StreamingChatModelMock.thatAlwaysStreams("Hello", " ", "world");
+        StreamingChatModel slow = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                RoutingChatModelTest.sleep(300);
+                handler.onPartialResponse("Bye");
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from("Bye"))
+                        .build());
+            }
+        };
+
+        StreamingChatModel model = RoutingStreamingChatModel.builder()
+                .models(fast, slow)
+                .hedgingDelay(Duration.ofMillis(50))
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+
+            // when
+            TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+            model.chat("hi", handler);
+
+            // then
+            assertThat(handler.get().aiMessage().text()).isEqualTo("Hello world");
+        }
+    }
+
+    @Test
+    void should_route_fewer_requests_to_failing_model() {
+
+        // given
+        AtomicInteger failingCalls = new AtomicInteger();
+        StreamingChatModel healthy = StreamingChatModelMock.thatAlwaysStreams("healthy");
+        StreamingChatModel failing = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                failingCalls.incrementAndGet();
+                handler.onError(new RuntimeException("failing"));
+            }
+        };
+
+        StreamingChatModel model = RoutingStreamingChatModel.builder()
+                .models(healthy, failing)
+                .build();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+            model.chat("hi", handler);
+            assertThat(handler.get().aiMessage().text()).isEqualTo("healthy");
+        }
+
+        // then
+        assertThat(failingCalls.get()).isLessThan(50);
+    }
+
+    private static StreamingChatModel openAiStreamingChatModel(WireMockServer server) {
+        return OpenAiStreamingChatModel.builder()
+                .baseUrl(server.baseUrl() + "/v1")
+                .apiKey("test")
+                .modelName("gpt-4o-mini")
+                .build();
+    }
+
+    private static void stubStreamingResponse(WireMockServer server, String text, int delayMillis) {
+        server.stubFor(post(urlEqualTo("/v1/chat/completions"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withFixedDelay(delayMillis)
+                        .withBody(
+                                """
+                                data: {"id":"1","object":"chat.completion.chunk","created":1,"model":"gpt-4o-mini","choices":[{"index":0,"delta":{"role":"assistant","content":"%s"},"finish_reason":null}]}
+
+                                data: {"id":"1","object":"chat.completion.chunk","created":1,"model":"gpt-4o-mini","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                                data: [DONE]
+
+                                """
+                                        .formatted(text))));
+    }
+}
@@ -0,0 +1,125 @@
+package dev.langchain4j.model.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedChatModelTest {
+
+    static final TokenCountEstimator ONE_TOKEN_PER_CHARACTER = new TokenCountEstimator() {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            return estimateTokenCountInText(((UserMessage) message).singleText());
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            int tokenCount = 0;
+            for (ChatMessage message : messages) {
+                tokenCount += estimateTokenCountInMessage(message);
+            }
+            return tokenCount;
+        }
+    };
+
+    @Test
+    void should_reserve_estimated_tokens_and_reconcile_with_actual_usage() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(1000).build();
+
+        ChatModel chatModel = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                // the estimated tokens (5 for the message + 100 for the max output tokens) are reserved
+                assertThat(rateLimiter.metrics().availableTokens()).isBetween(895.0, 896.0);
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("world"))
+                        .tokenUsage(new TokenUsage(5, 1))
+                        .build();
+            }
+        };
+
+        ChatModel model = RateLimitedChatModel.builder()
+                .chatModel(chatModel)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(ONE_TOKEN_PER_CHARACTER)
+                .build();
+
+        // when
+        ChatResponse chatResponse = model.chat(ChatRequest.builder()
+                .messages(UserMessage.from("hello"))
+                .maxOutputTokens(100)
+                .build());
+
+        // then
+        assertThat(chatResponse.aiMessage().text()).isEqualTo("world");
+        assertThat(rateLimiter.metrics().availableTokens()).isBetween(994.0, 995.0);
+        assertThat(rateLimiter.metrics().inFlightRequests()).isZero();
+    }
+
+    @Test
+    void should_release_permit_when_model_fails() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .maxConcurrentRequests(1)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+
+        ChatModel model = RateLimitedChatModel.builder()
+                .chatModel(ChatModelMock.thatAlwaysThrowsException())
+                .rateLimiter(rateLimiter)
+                .build();
+
+        // when-then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> model.chat("hi")).isExactlyInstanceOf(RuntimeException.class);
+        }
+        assertThat(rateLimiter.metrics().inFlightRequests()).isZero();
+        assertThat(rateLimiter.metrics().admittedRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void should_share_rate_limiter_between_models() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .requestsPerMinute(2)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+
+        ChatModel first = RateLimitedChatModel.builder()
+                .chatModel(ChatModelMock.thatAlwaysResponds("first"))
+                .rateLimiter(rateLimiter)
+                .build();
+        ChatModel second = RateLimitedChatModel.builder()
+                .chatModel(ChatModelMock.thatAlwaysResponds("second"))
+                .rateLimiter(rateLimiter)
+                .build();
+
+        // when-then
+        assertThat(first.chat("hi")).isEqualTo("first");
+        assertThat(second.chat("hi")).isEqualTo("second");
+        assertThatThrownBy(() -> first.chat("hi")).isExactlyInstanceOf(RateLimitException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModelTest.ONE_TOKEN_PER_CHARACTER;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedEmbeddingModelTest {
+
+    @Test
+    void should_reserve_estimated_tokens_and_reconcile_with_actual_usage() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(100).build();
+
+        EmbeddingModel embeddingModel = textSegments -> {
+            // "first" + "second" = 11 estimated tokens
+            assertThat(rateLimiter.metrics().availableTokens()).isBetween(89.0, 90.0);
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {1, 2}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(4));
+        };
+
+        EmbeddingModel model = RateLimitedEmbeddingModel.builder()
+                .embeddingModel(embeddingModel)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(ONE_TOKEN_PER_CHARACTER)
+                .build();
+
+        // when
+        Response<List<Embedding>> response =
+                model.embedAll(asList(TextSegment.from("first"), TextSegment.from("second")));
+
+        // then
+        assertThat(response.content()).hasSize(2);
+        assertThat(rateLimiter.metrics().availableTokens()).isBetween(96.0, 97.0);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.langchain4j.model.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedStreamingChatModelTest {
+
+    @Test
+    void should_release_permit_when_response_is_complete() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .maxConcurrentRequests(1)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+
+        StreamingChatModel model = RateLimitedStreamingChatModel.builder()
+                .streamingChatModel(StreamingChatModelMock.thatAlwaysStreams("Hello", " ", "world"))
+                .rateLimiter(rateLimiter)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+
+            // when
+            TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+            model.chat("hi", handler);
+
+            // then
+            assertThat(handler.get().aiMessage().text()).isEqualTo("Hello world");
+        }
+        assertThat(rateLimiter.metrics().admittedRequests()).isEqualTo(3);
+        assertThat(rateLimiter.metrics().inFlightRequests()).isZero();
+    }
+}
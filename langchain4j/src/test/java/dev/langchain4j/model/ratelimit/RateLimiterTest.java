@@ -0,0 +1,160 @@
+package dev.langchain4j.model.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.RateLimitException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    @Test
+    void should_admit_requests_within_budget_without_waiting() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder().requestsPerMinute(5).build();
+
+        // when
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(0).release(null);
+        }
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofMillis(100));
+        RateLimiterMetrics metrics = rateLimiter.metrics();
+        assertThat(metrics.admittedRequests()).isEqualTo(5);
+        assertThat(metrics.rejectedRequests()).isZero();
+        assertThat(metrics.waitingRequests()).isZero();
+        assertThat(metrics.inFlightRequests()).isZero();
+        assertThat(metrics.availableRequests()).isLessThan(1);
+        assertThat(metrics.availableTokens()).isNull();
+    }
+
+    @Test
+    void should_wait_when_request_budget_is_exhausted() {
+
+        // given
+        RateLimiter rateLimiter =
+                RateLimiter.builder().requestLimit(5, Duration.ofMillis(500)).build();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(0).release(null);
+        }
+
+        // when
+        long startNanos = System.nanoTime();
+        rateLimiter.acquire(0).release(null);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(80));
+        assertThat(rateLimiter.metrics().maxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(80));
+    }
+
+    @Test
+    void should_wait_when_token_budget_is_exhausted() {
+
+        // given
+        RateLimiter rateLimiter =
+                RateLimiter.builder().tokenLimit(100, Duration.ofSeconds(1)).build();
+        rateLimiter.acquire(100).release(null);
+
+        // when
+        long startNanos = System.nanoTime();
+        rateLimiter.acquire(50).release(null);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+    }
+
+    @Test
+    void should_reject_when_request_cannot_be_admitted_within_max_wait_time() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .requestsPerMinute(1)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+        rateLimiter.acquire(0).release(null);
+
+        // when-then
+        assertThatThrownBy(() -> rateLimiter.acquire(0))
+                .isExactlyInstanceOf(RateLimitException.class)
+                .hasMessageContaining("maxWaitTime");
+        assertThat(rateLimiter.metrics().rejectedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void should_correct_token_budget_with_actual_token_count() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .tokensPerMinute(100)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+
+        // when
+        rateLimiter.acquire(100).release(10);
+
+        // then
+        assertThat(rateLimiter.metrics().availableTokens()).isBetween(90.0, 91.0);
+        rateLimiter.acquire(80).release(80);
+        assertThatThrownBy(() -> rateLimiter.acquire(80)).isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void should_limit_concurrent_requests() {
+
+        // given
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .maxConcurrentRequests(1)
+                .maxWaitTime(Duration.ofMillis(50))
+                .build();
+
+        // when
+        RateLimiter.Permit permit = rateLimiter.acquire(0);
+
+        // then
+        assertThat(rateLimiter.metrics().inFlightRequests()).isEqualTo(1);
+        assertThatThrownBy(() -> rateLimiter.acquire(0)).isExactlyInstanceOf(RateLimitException.class);
+
+        permit.release(null);
+        permit.release(null); // releasing twice has no effect
+
+        rateLimiter.acquire(0).release(null);
+        assertThat(rateLimiter.metrics().inFlightRequests()).isZero();
+    }
+
+    @Test
+    void should_admit_waiting_requests_in_fifo_order() throws Exception {
+
+        // given
+        RateLimiter rateLimiter =
+                RateLimiter.builder().requestLimit(1, Duration.ofMillis(100)).build();
+        rateLimiter.acquire(0).release(null);
+
+        List<Integer> admissionOrder = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            int requestNumber = i;
+            Thread thread = new Thread(() -> {
+                rateLimiter.acquire(0).release(null);
+                admissionOrder.add(requestNumber);
+            });
+            thread.start();
+            threads.add(thread);
+            Thread.sleep(20);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(admissionOrder).containsExactly(0, 1, 2, 3);
+    }
+}
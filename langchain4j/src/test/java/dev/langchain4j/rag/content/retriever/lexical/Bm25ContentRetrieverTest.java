@@ -0,0 +1,39 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.query.Query;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25ContentRetrieverTest {
+
+    @Test
+    void should_retrieve_contents_with_score_and_id() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("id-1", TextSegment.from("Error E-4012 means that the battery is overheating."));
+        index.add("id-2", TextSegment.from("Error E-4013 means that the filter is full."));
+        index.add("id-3", TextSegment.from("The battery lasts for two hours."));
+
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder()
+                .index(index)
+                .maxResults(2)
+                .build();
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("what does E-4012 mean?"));
+
+        // then
+        assertThat(contents).hasSize(2);
+        assertThat(contents.get(0).textSegment().text()).contains("E-4012");
+        assertThat(contents.get(0).metadata()).containsEntry(ContentMetadata.EMBEDDING_ID, "id-1");
+        assertThat((Double) contents.get(0).metadata().get(ContentMetadata.SCORE))
+                .isGreaterThan((Double) contents.get(1).metadata().get(ContentMetadata.SCORE));
+    }
+}
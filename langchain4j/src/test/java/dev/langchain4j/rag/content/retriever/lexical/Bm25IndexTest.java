@@ -0,0 +1,165 @@
+package dev.langchain4j.rag.content.retriever.lexical;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25IndexTest {
+
+    @Test
+    void should_tokenize_words_and_compound_identifiers() {
+
+        // given
+        Bm25Tokenizer tokenizer = new DefaultBm25Tokenizer();
+
+        // when
+        List<String> terms = tokenizer.tokenize("Order XR-2000 (v1.2.0), see max_tokens! Don't panic.");
+
+        // then
+        assertThat(terms).containsExactly(
+                "order",
+                "xr", "2000", "xr-2000",
+                "v1", "2", "0", "v1.2.0",
+                "see",
+                "max", "tokens", "max_tokens",
+                "don", "t",
+                "panic");
+    }
+
+    @Test
+    void should_rank_segments_by_bm25_score() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("The XR-2000 vacuum cleaner has a washable filter."));
+        index.add("2", TextSegment.from("The XR-2100 vacuum cleaner is cordless."));
+        index.add("3", TextSegment.from("Our vacuum cleaners come with a two year warranty."));
+        index.add("4", TextSegment.from("Unrelated text about cooking pasta."));
+
+        // when
+        List<Bm25Match> matches = index.search("filter for XR-2000", 10, 0.0, null);
+
+        // then
+        assertThat(matches).extracting(Bm25Match::id).containsExactly("1", "2");
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(matches.get(0).segment().text()).startsWith("The XR-2000");
+    }
+
+    @Test
+    void should_limit_results_and_apply_min_score_and_filter() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        for (int i = 0; i < 10; i++) {
+            String text = "apple ".repeat(i + 1) + "banana";
+            index.add(String.valueOf(i), TextSegment.from(text, Metadata.from("even", i % 2 == 0 ? "yes" : "no")));
+        }
+
+        // when
+        List<Bm25Match> top = index.search("apple", 3, 0.0, null);
+        List<Bm25Match> even = index.search("apple", 10, 0.0, metadataKey("even").isEqualTo("yes"));
+        List<Bm25Match> none = index.search("apple", 10, 1000.0, null);
+
+        // then
+        assertThat(top).extracting(Bm25Match::id).containsExactly("9", "8", "7");
+        assertThat(even).extracting(Bm25Match::id).containsExactly("8", "6", "4", "2", "0");
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    void should_add_replace_and_remove_segments_incrementally() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("first apple"));
+        index.add("2", TextSegment.from("second apple"));
+
+        // when
+        index.add("1", TextSegment.from("first banana"));
+        index.remove("2");
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("apple", 10, 0.0, null)).isEmpty();
+        assertThat(index.search("banana", 10, 0.0, null)).extracting(Bm25Match::id).containsExactly("1");
+
+        // when
+        index.removeAll();
+
+        // then
+        assertThat(index.size()).isEqualTo(0);
+        assertThat(index.search("banana", 10, 0.0, null)).isEmpty();
+    }
+
+    @Test
+    void should_return_same_results_after_compaction() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        List<String> ids = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            ids.add(String.valueOf(i));
+            segments.add(TextSegment.from("segment number " + i + (i % 7 == 0 ? " lucky" : "")));
+        }
+        index.addAll(ids, segments);
+
+        // when
+        index.removeAll(ids.subList(0, 2000)); // triggers compaction
+        index.add("new", TextSegment.from("a new lucky segment"));
+
+        // then
+        assertThat(index.size()).isEqualTo(1001);
+        List<Bm25Match> matches = index.search("lucky", 1000, 0.0, null);
+        assertThat(matches).hasSize(144);
+        assertThat(matches).extracting(Bm25Match::id).contains("2002", "2996", "new").doesNotContain("1995");
+        assertThat(index.search("2500", 10, 0.0, null)).extracting(Bm25Match::id).containsExactly("2500");
+    }
+
+    @Test
+    void should_stay_in_sync_with_in_memory_embedding_store() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        String existingId = embeddingStore.add(embedding(), TextSegment.from("existing apple", Metadata.from("k", "v")));
+
+        Bm25Index index = Bm25Index.from(embeddingStore);
+
+        // when
+        String addedId = embeddingStore.add(embedding(), TextSegment.from("added apple"));
+        List<String> addedIds = embeddingStore.addAll(
+                List.of(embedding(), embedding()),
+                List.of(TextSegment.from("batch apple"), TextSegment.from("batch banana")));
+
+        // then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("apple", 10, 0.0, null)).extracting(Bm25Match::id)
+                .containsExactlyInAnyOrder(existingId, addedId, addedIds.get(0));
+
+        // when
+        embeddingStore.removeAll(metadataKey("k").isEqualTo("v"));
+        embeddingStore.remove(addedId);
+
+        // then
+        assertThat(index.search("apple", 10, 0.0, null)).extracting(Bm25Match::id)
+                .containsExactly(addedIds.get(0));
+
+        // when
+        embeddingStore.removeAll();
+
+        // then
+        assertThat(index.size()).isEqualTo(0);
+    }
+
+    private static Embedding embedding() {
+        return Embedding.from(new float[]{1, 0});
+    }
+}
@@ -0,0 +1,428 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.TimeoutException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.batch.BatchChatModel;
+import dev.langchain4j.model.chat.batch.BatchChatRequest;
+import dev.langchain4j.model.chat.batch.BatchChatResult;
+import dev.langchain4j.model.chat.batch.BatchJob;
+import dev.langchain4j.model.chat.batch.BatchJobStatus;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class AiServiceBatchTest {
+
+    enum Sentiment {
+        POSITIVE,
+        NEGATIVE
+    }
+
+    record Person(String name, int age) {}
+
+    interface Analyzer {
+
+        @dev.langchain4j.service.SystemMessage("You are a sentiment analyzer")
+        @UserMessage("Analyze sentiment of {{it}}")
+        Sentiment analyzeSentimentOf(String text);
+
+        @UserMessage("Extract person from {{it}}")
+        Person extractPersonFrom(String text);
+
+        Result<String> chat(String message);
+
+        TokenStream stream(String message);
+    }
+
+    /**
+     * Processes each batch in-memory: the batch is completed on the second retrieval
+     * and each request is answered by the given function.
+     */
+    static class InMemoryBatchChatModel implements BatchChatModel {
+
+        private final Function<BatchChatRequest, String> responder;
+        private final int maxBatchSize;
+        private final Set<Capability> capabilities;
+
+        final Map<String, List<BatchChatRequest>> submittedBatches = new LinkedHashMap<>();
+        final Map<String, Integer> retrievals = new LinkedHashMap<>();
+        BatchJobStatus finalStatus = BatchJobStatus.COMPLETED;
+
+        InMemoryBatchChatModel(Function<BatchChatRequest, String> responder) {
+            this(responder, Integer.MAX_VALUE, Set.of());
+        }
+
+        InMemoryBatchChatModel(
+                Function<BatchChatRequest, String> responder, int maxBatchSize, Set<Capability> capabilities) {
+            this.responder = responder;
+            this.maxBatchSize = maxBatchSize;
+            this.capabilities = capabilities;
+        }
+
+        @Override
+        public BatchJob submit(List<BatchChatRequest> requests) {
+            String id = "batch-" + submittedBatches.size();
+            submittedBatches.put(id, requests);
+            return new BatchJob(id, BatchJobStatus.IN_PROGRESS);
+        }
+
+        @Override
+        public BatchJob retrieve(String batchJobId) {
+            int count = retrievals.merge(batchJobId, 1, Integer::sum);
+            return new BatchJob(batchJobId, count < 2 ? BatchJobStatus.IN_PROGRESS : finalStatus);
+        }
+
+        @Override
+        public List<BatchChatResult> results(BatchJob batchJob) {
+            List<BatchChatResult> results = new ArrayList<>();
+            for (BatchChatRequest request : submittedBatches.get(batchJob.id())) {
+                String response = responder.apply(request);
+                if (response == null) {
+                    results.add(BatchChatResult.failure(request.id(), "Something went wrong"));
+                } else {
+                    results.add(BatchChatResult.success(
+                            request.id(),
+                            ChatResponse.builder()
+                                    .aiMessage(AiMessage.from(response))
+                                    .build()));
+                }
+            }
+            return results;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public Set<Capability> supportedCapabilities() {
+            return capabilities;
+        }
+    }
+
+    @Test
+    void should_execute_invocations_as_batches_and_parse_results() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(
+                request -> request.chatRequest().messages().toString().contains("love") ? "POSITIVE" : "NEGATIVE",
+                2,
+                Set.of());
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ZERO)
+                .build();
+
+        // when
+        AiServiceBatchResult<Sentiment> first = batch.add(analyzer -> analyzer.analyzeSentimentOf("I love it"));
+        AiServiceBatchResult<Sentiment> second = batch.add(analyzer -> analyzer.analyzeSentimentOf("I hate it"));
+        AiServiceBatchResult<Sentiment> third = batch.add(analyzer -> analyzer.analyzeSentimentOf("I love that"));
+
+        // then
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(first.isDone()).isFalse();
+        assertThat(batchChatModel.submittedBatches).isEmpty();
+
+        // when
+        batch.execute();
+
+        // then
+        assertThat(batch.size()).isEqualTo(0);
+        assertThat(batchChatModel.submittedBatches).hasSize(2);
+        assertThat(first.get()).isEqualTo(Sentiment.POSITIVE);
+        assertThat(second.get()).isEqualTo(Sentiment.NEGATIVE);
+        assertThat(third.get()).isEqualTo(Sentiment.POSITIVE);
+
+        BatchChatRequest request = batchChatModel.submittedBatches.get("batch-0").get(0);
+        assertThat(request.chatRequest().messages().get(0)).isEqualTo(SystemMessage.from("You are a sentiment analyzer"));
+        assertThat(((dev.langchain4j.data.message.UserMessage)
+                                request.chatRequest().messages().get(1))
+                        .singleText())
+                .startsWith("Analyze sentiment of I love it")
+                .contains("POSITIVE", "NEGATIVE");
+    }
+
+    @Test
+    void should_use_json_schema_when_supported() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(
+                request -> "{\"name\": \"Klaus\", \"age\": 42}", Integer.MAX_VALUE, Set.of(RESPONSE_FORMAT_JSON_SCHEMA));
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ZERO)
+                .build();
+
+        // when
+        AiServiceBatchResult<Person> result = batch.add(analyzer -> analyzer.extractPersonFrom("Klaus is 42"));
+        batch.execute();
+
+        // then
+        assertThat(result.get()).isEqualTo(new Person("Klaus", 42));
+
+        BatchChatRequest request = batchChatModel.submittedBatches.get("batch-0").get(0);
+        assertThat(request.chatRequest().responseFormat().jsonSchema()).isNotNull();
+        assertThat(((dev.langchain4j.data.message.UserMessage)
+                                request.chatRequest().messages().get(0))
+                        .singleText())
+                .isEqualTo("Extract person from Klaus is 42");
+    }
+
+    @Test
+    void should_complete_failed_invocations_with_error() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> {
+            String text = request.chatRequest().messages().toString();
+            if (text.contains("fail")) {
+                return null;
+            }
+            return text.contains("parse") ? "not a sentiment" : "POSITIVE";
+        });
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ZERO)
+                .build();
+
+        AiServiceBatchResult<Sentiment> succeeded = batch.add(analyzer -> analyzer.analyzeSentimentOf("good"));
+        AiServiceBatchResult<Sentiment> failed = batch.add(analyzer -> analyzer.analyzeSentimentOf("fail"));
+        AiServiceBatchResult<Sentiment> unparseable = batch.add(analyzer -> analyzer.analyzeSentimentOf("parse"));
+
+        // when
+        batch.execute();
+
+        // then
+        assertThat(succeeded.isSuccessful()).isTrue();
+        assertThat(succeeded.get()).isEqualTo(Sentiment.POSITIVE);
+
+        assertThat(failed.isDone()).isTrue();
+        assertThat(failed.isSuccessful()).isFalse();
+        assertThat(failed.errorMessage()).isEqualTo("Something went wrong");
+        assertThatThrownBy(failed::get)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Something went wrong");
+
+        assertThat(unparseable.isSuccessful()).isFalse();
+        assertThat(unparseable.chatResponse().aiMessage().text()).isEqualTo("not a sentiment");
+    }
+
+    @Test
+    void should_complete_all_invocations_with_error_when_batch_fails() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "POSITIVE");
+        batchChatModel.finalStatus = BatchJobStatus.FAILED;
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ZERO)
+                .build();
+
+        AiServiceBatchResult<Result<String>> result = batch.add(analyzer -> analyzer.chat("Hi"));
+
+        // when
+        batch.execute();
+
+        // then
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.errorMessage()).contains("batch-0", "FAILED");
+    }
+
+    @Test
+    void should_return_result_with_metadata() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "Hello");
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ZERO)
+                .build();
+
+        AiServiceBatchResult<Result<String>> result = batch.add(analyzer -> analyzer.chat("Hi"));
+
+        // when
+        batch.execute();
+
+        // then
+        assertThat(result.get().content()).isEqualTo("Hello");
+    }
+
+    @Test
+    void should_time_out() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "POSITIVE") {
+
+            @Override
+            public BatchJob retrieve(String batchJobId) {
+                return new BatchJob(batchJobId, BatchJobStatus.IN_PROGRESS);
+            }
+        };
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ofMillis(10))
+                .timeout(Duration.ofMillis(50))
+                .build();
+
+        AiServiceBatchResult<Sentiment> result = batch.add(analyzer -> analyzer.analyzeSentimentOf("good"));
+
+        // when-then
+        assertThatThrownBy(batch::execute)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessageContaining("batch-0");
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.errorMessage()).contains("were not processed within");
+        assertThat(batch.batchJobIds()).containsExactly("batch-0");
+        assertThat(batch.size()).isZero();
+    }
+
+    @Test
+    void should_complete_all_results_with_error_when_submission_fails() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "POSITIVE", 1, Set.of()) {
+
+            @Override
+            public BatchJob submit(List<BatchChatRequest> requests) {
+                if (!submittedBatches.isEmpty()) {
+                    throw new IllegalStateException("quota exceeded");
+                }
+                return super.submit(requests);
+            }
+        };
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ofMillis(1))
+                .build();
+
+        AiServiceBatchResult<Sentiment> first = batch.add(analyzer -> analyzer.analyzeSentimentOf("good"));
+        AiServiceBatchResult<Sentiment> second = batch.add(analyzer -> analyzer.analyzeSentimentOf("bad"));
+
+        // when-then
+        assertThatThrownBy(batch::execute)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("quota exceeded");
+        assertThat(first.isDone()).isTrue();
+        assertThat(first.errorMessage()).isEqualTo("The batch execution has failed: quota exceeded");
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.isSuccessful()).isFalse();
+        assertThat(batch.batchJobIds()).containsExactly("batch-0");
+        assertThat(batch.size()).isZero();
+    }
+
+    @Test
+    void should_accept_invocations_while_batches_are_processed() {
+
+        // given
+        AtomicReference<AiServiceBatch<Analyzer>> batch = new AtomicReference<>();
+        List<AiServiceBatchResult<Sentiment>> addedDuringExecution = new ArrayList<>();
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "POSITIVE") {
+
+            @Override
+            public BatchJob retrieve(String batchJobId) {
+                if (addedDuringExecution.isEmpty()) {
+                    Thread thread = new Thread(() -> addedDuringExecution.add(
+                            batch.get().add(analyzer -> analyzer.analyzeSentimentOf("bad"))));
+                    thread.start();
+                    try {
+                        thread.join(5_000);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return super.retrieve(batchJobId);
+            }
+        };
+
+        batch.set(AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ofMillis(1))
+                .build());
+
+        AiServiceBatchResult<Sentiment> result = batch.get().add(analyzer -> analyzer.analyzeSentimentOf("good"));
+
+        // when
+        batch.get().execute();
+
+        // then
+        assertThat(result.get()).isEqualTo(Sentiment.POSITIVE);
+        assertThat(addedDuringExecution).hasSize(1);
+        assertThat(addedDuringExecution.get(0).isDone()).isFalse();
+        assertThat(batch.get().size()).isEqualTo(1);
+
+        // when
+        batch.get().execute();
+
+        // then
+        assertThat(addedDuringExecution.get(0).get()).isEqualTo(Sentiment.POSITIVE);
+        assertThat(batch.get().size()).isZero();
+    }
+
+    @Test
+    void should_restore_interrupt_flag_when_interrupted_while_waiting() {
+
+        // given
+        InMemoryBatchChatModel batchChatModel = new InMemoryBatchChatModel(request -> "POSITIVE");
+
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(batchChatModel)
+                .pollInterval(Duration.ofSeconds(10))
+                .build();
+
+        AiServiceBatchResult<Sentiment> result = batch.add(analyzer -> analyzer.analyzeSentimentOf("good"));
+
+        // when
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(batch::execute)
+                    .isExactlyInstanceOf(LangChain4jException.class)
+                    .hasMessageContaining("Interrupted");
+
+            // then
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.isSuccessful()).isFalse();
+    }
+
+    @Test
+    void should_fail_when_method_is_not_supported_in_batch_mode() {
+
+        // given
+        AiServiceBatch<Analyzer> batch = AiServiceBatch.builder(Analyzer.class)
+                .batchChatModel(new InMemoryBatchChatModel(request -> "Hello"))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> batch.add(analyzer -> analyzer.stream("Hi")))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessageContaining("not a supported return type");
+        assertThatThrownBy(() -> batch.add(analyzer -> "no invocation"))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessageContaining("must call a method");
+    }
+}
@@ -1,18 +1,25 @@
 package dev.langchain4j.service;
 
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
+import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
+import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.rag.content.Content;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -107,8 +114,71 @@ class AiServiceTokenStreamTest {
                 .hasMessage("onCompleteResponse can be invoked on TokenStream at most 1 time");
     }
 
+    @Test
+    void start_onPartialElementInvokedMultipleTimes_shouldThrowException() {
+        tokenStream
+                .onPartialResponse(DUMMY_PARTIAL_RESPONSE_HANDLER)
+                .onPartialElement(String.class, element -> {})
+                .onPartialElement(String.class, element -> {})
+                .ignoreErrors();
+
+        assertThatThrownBy(() -> tokenStream.start())
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("onPartialElement can be invoked on TokenStream at most 1 time");
+    }
+
+    record Item(String name, int quantity) {}
+
+    @Test
+    void should_pass_list_elements_to_onPartialElement_as_soon_as_they_are_streamed() {
+
+        // given
+        List<String> partialResponses = List.of(
+                "{\"values\": [{\"name\": \"a\", ", "\"quantity\": 1}, {\"name\"", ": \"b\", \"quantity\": 2}]}");
+        List<ChatRequest> chatRequests = new ArrayList<>();
+        StreamingChatModel streamingModel = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                chatRequests.add(chatRequest);
+                partialResponses.forEach(handler::onPartialResponse);
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from(String.join("", partialResponses)))
+                        .build());
+            }
+
+            @Override
+            public Set<Capability> supportedCapabilities() {
+                return Set.of(RESPONSE_FORMAT_JSON_SCHEMA);
+            }
+        };
+
+        List<Object> events = new ArrayList<>();
+
+        // when
+        setupAiServiceTokenStream(streamingModel)
+                .onPartialResponse(events::add)
+                .onPartialElement(Item.class, events::add)
+                .ignoreErrors()
+                .start();
+
+        // then
+        assertThat(events)
+                .containsExactly(
+                        partialResponses.get(0),
+                        partialResponses.get(1),
+                        new Item("a", 1),
+                        partialResponses.get(2),
+                        new Item("b", 2));
+        assertThat(chatRequests).hasSize(1);
+        assertThat(chatRequests.get(0).responseFormat().jsonSchema().name()).isEqualTo("List_of_Item");
+    }
+
     private AiServiceTokenStream setupAiServiceTokenStream() {
-        StreamingChatModel streamingModel = mock(StreamingChatModel.class);
+        return setupAiServiceTokenStream(mock(StreamingChatModel.class));
+    }
+
+    private AiServiceTokenStream setupAiServiceTokenStream(StreamingChatModel streamingModel) {
         ChatModel chatModel = mock(ChatModel.class);
 
         AiServiceContext context = new AiServiceContext(getClass());
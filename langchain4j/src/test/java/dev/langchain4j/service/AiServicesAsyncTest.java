@@ -0,0 +1,215 @@
+package dev.langchain4j.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class AiServicesAsyncTest {
+
+    interface Assistant {
+
+        CompletableFuture<String> chat(String userMessage);
+
+        @UserMessage("How old is {{it}}?")
+        CompletionStage<Integer> age(String name);
+
+        CompletableFuture<Result<String>> chatWithResult(String userMessage);
+    }
+
+    interface ModeratedAssistant {
+
+        @Moderate
+        CompletableFuture<String> chat(String userMessage);
+    }
+
+    interface AssistantWithRawFuture {
+
+        @SuppressWarnings("rawtypes")
+        CompletableFuture chat(String userMessage);
+    }
+
+    @Test
+    void should_invoke_method_asynchronously() throws Exception {
+
+        // given
+        CountDownLatch modelCalled = new CountDownLatch(1);
+        CountDownLatch responseAllowed = new CountDownLatch(1);
+        AtomicReference<Thread> modelThread = new AtomicReference<>();
+        ChatModel chatModel = new ChatModelMock(chatRequest -> {
+            modelThread.set(Thread.currentThread());
+            modelCalled.countDown();
+            await(responseAllowed);
+            return AiMessage.from("Hello");
+        });
+
+        Assistant assistant = AiServices.create(Assistant.class, chatModel);
+
+        // when
+        CompletableFuture<String> future = assistant.chat("Hi");
+
+        // then
+        assertThat(modelCalled.await(10, SECONDS)).isTrue();
+        assertThat(future).isNotDone();
+        assertThat(modelThread.get()).isNotSameAs(Thread.currentThread());
+
+        responseAllowed.countDown();
+        assertThat(future.get(10, SECONDS)).isEqualTo("Hello");
+    }
+
+    @Test
+    void should_parse_output_asynchronously() throws Exception {
+
+        // given
+        ChatModelMock chatModel = ChatModelMock.thatAlwaysResponds("42");
+
+        Assistant assistant = AiServices.create(Assistant.class, chatModel);
+
+        // when
+        Integer age = assistant.age("Klaus").toCompletableFuture().get(10, SECONDS);
+
+        // then
+        assertThat(age).isEqualTo(42);
+        assertThat(chatModel.userMessageText()).startsWith("How old is Klaus?");
+    }
+
+    @Test
+    void should_return_result_asynchronously() throws Exception {
+
+        // given
+        ChatModel chatModel = ChatModelMock.thatAlwaysResponds("Hello");
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(chatModel)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .build();
+
+        // when
+        Result<String> result = assistant.chatWithResult("Hi").get(10, SECONDS);
+
+        // then
+        assertThat(result.content()).isEqualTo("Hello");
+    }
+
+    @Test
+    void should_use_configured_executor() throws Exception {
+
+        // given
+        AtomicReference<String> modelThreadName = new AtomicReference<>();
+        ChatModel chatModel = new ChatModelMock(chatRequest -> {
+            modelThreadName.set(Thread.currentThread().getName());
+            return AiMessage.from("Hello");
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "my-executor"));
+        try {
+            Assistant assistant = AiServices.builder(Assistant.class)
+                    .chatModel(chatModel)
+                    .executor(executor)
+                    .build();
+
+            // when
+            String answer = assistant.chat("Hi").get(10, SECONDS);
+
+            // then
+            assertThat(answer).isEqualTo("Hello");
+            assertThat(modelThreadName.get()).isEqualTo("my-executor");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_not_run_moderation_on_configured_executor() throws Exception {
+
+        // given
+        AtomicReference<String> moderationThreadName = new AtomicReference<>();
+        ModerationModel moderationModel = new ModerationModel() {
+
+            @Override
+            public Response<Moderation> moderate(String text) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Response<Moderation> moderate(List<ChatMessage> messages) {
+                moderationThreadName.set(Thread.currentThread().getName());
+                return Response.from(Moderation.notFlagged());
+            }
+        };
+
+        // a single thread, busy with the invocation waiting for its moderation
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "my-executor"));
+        try {
+            ModeratedAssistant assistant = AiServices.builder(ModeratedAssistant.class)
+                    .chatModel(ChatModelMock.thatAlwaysResponds("Hello"))
+                    .moderationModel(moderationModel)
+                    .executor(executor)
+                    .build();
+
+            // when
+            String answer = assistant.chat("Hi").get(10, SECONDS);
+
+            // then
+            assertThat(answer).isEqualTo("Hello");
+            assertThat(moderationThreadName.get()).isNotEqualTo("my-executor");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_complete_exceptionally_when_model_fails() {
+
+        // given
+        ChatModel chatModel = ChatModelMock.thatAlwaysThrowsExceptionWithMessage("Something went wrong");
+
+        Assistant assistant = AiServices.create(Assistant.class, chatModel);
+
+        // when
+        CompletableFuture<String> future = assistant.chat("Hi");
+
+        // then
+        assertThatThrownBy(() -> future.get(10, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("Something went wrong");
+    }
+
+    @Test
+    void should_fail_when_future_is_not_parameterized() {
+
+        // given
+        ChatModel chatModel = ChatModelMock.thatAlwaysResponds("Hello");
+
+        // when-then
+        assertThatThrownBy(() -> AiServices.create(AssistantWithRawFuture.class, chatModel))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be parameterized with a concrete type");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
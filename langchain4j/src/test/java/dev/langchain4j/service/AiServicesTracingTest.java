@@ -0,0 +1,237 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.observability.SpanNames.AI_SERVICE_INVOKE;
+import static dev.langchain4j.observability.SpanNames.CHAT;
+import static dev.langchain4j.observability.SpanNames.CHAT_MEMORY_LOAD;
+import static dev.langchain4j.observability.SpanNames.CHAT_MEMORY_STORE;
+import static dev.langchain4j.observability.SpanNames.CONTENT_AGGREGATOR_AGGREGATE;
+import static dev.langchain4j.observability.SpanNames.CONTENT_INJECTOR_INJECT;
+import static dev.langchain4j.observability.SpanNames.CONTENT_RETRIEVER_RETRIEVE;
+import static dev.langchain4j.observability.SpanNames.EXECUTE_TOOL;
+import static dev.langchain4j.observability.SpanNames.OUTPUT_PARSER_PARSE;
+import static dev.langchain4j.observability.SpanNames.PROMPT_TEMPLATE_RENDER;
+import static dev.langchain4j.observability.SpanNames.QUERY_ROUTER_ROUTE;
+import static dev.langchain4j.observability.SpanNames.QUERY_TRANSFORMER_TRANSFORM;
+import static dev.langchain4j.observability.SpanNames.RETRIEVAL_AUGMENTOR_AUGMENT;
+import static dev.langchain4j.observability.SpanNames.TOOL_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.observability.Span;
+import dev.langchain4j.observability.Tracer;
+import dev.langchain4j.rag.DefaultRetrievalAugmentor;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.router.DefaultQueryRouter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class AiServicesTracingTest {
+
+    interface Assistant {
+
+        String chat(String message);
+    }
+
+    static class Clock {
+
+        @Tool
+        String currentTime() {
+            return "12:00";
+        }
+    }
+
+    @Test
+    void should_report_span_for_each_phase() {
+
+        // given
+        RecordingTracer tracer = new RecordingTracer();
+
+        ContentRetriever retriever1 = query -> List.of(Content.from("one"));
+        ContentRetriever retriever2 = query -> List.of(Content.from("two"));
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(new ChatModelMock(request -> AiMessage.from("Berlin")))
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .retrievalAugmentor(DefaultRetrievalAugmentor.builder()
+                        .queryRouter(new DefaultQueryRouter(retriever1, retriever2))
+                        .build())
+                .tracer(tracer)
+                .build();
+
+        // when
+        assistant.chat("What is the capital of Germany?");
+
+        // then
+        assertThat(tracer.spans)
+                .extracting(RecordingSpan::path)
+                .containsExactlyInAnyOrder(
+                        AI_SERVICE_INVOKE,
+                        AI_SERVICE_INVOKE + " > " + CHAT_MEMORY_LOAD,
+                        AI_SERVICE_INVOKE + " > " + PROMPT_TEMPLATE_RENDER,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + QUERY_TRANSFORMER_TRANSFORM,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + QUERY_ROUTER_ROUTE,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + CONTENT_RETRIEVER_RETRIEVE,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + CONTENT_RETRIEVER_RETRIEVE,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + CONTENT_AGGREGATOR_AGGREGATE,
+                        AI_SERVICE_INVOKE + " > " + RETRIEVAL_AUGMENTOR_AUGMENT + " > " + CONTENT_INJECTOR_INJECT,
+                        AI_SERVICE_INVOKE + " > " + CHAT_MEMORY_STORE,
+                        AI_SERVICE_INVOKE + " > " + CHAT,
+                        AI_SERVICE_INVOKE + " > " + OUTPUT_PARSER_PARSE);
+        assertThat(tracer.spans).allMatch(span -> span.ended);
+        assertThat(Span.current()).isSameAs(Span.noop());
+    }
+
+    @Test
+    void should_report_span_for_each_llm_call_and_tool_execution() {
+
+        // given
+        RecordingTracer tracer = new RecordingTracer();
+
+        ChatModel chatModel = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                if (chatRequest.messages().get(chatRequest.messages().size() - 1)
+                        instanceof ToolExecutionResultMessage) {
+                    return ChatResponse.builder()
+                            .aiMessage(AiMessage.from("It is 12:00"))
+                            .tokenUsage(new TokenUsage(20, 1))
+                            .build();
+                }
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from(ToolExecutionRequest.builder()
+                                .id("1")
+                                .name("currentTime")
+                                .arguments("{}")
+                                .build()))
+                        .tokenUsage(new TokenUsage(10, 5))
+                        .build();
+            }
+        };
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(chatModel)
+                .tools(new Clock())
+                .tracer(tracer)
+                .build();
+
+        // when
+        String answer = assistant.chat("What time is it?");
+
+        // then
+        assertThat(answer).isEqualTo("It is 12:00");
+
+        List<RecordingSpan> chatSpans = tracer.spans.stream()
+                .filter(span -> span.name.equals(CHAT))
+                .toList();
+        assertThat(chatSpans).hasSize(2);
+        assertThat(chatSpans).allMatch(span -> span.parent.name.equals(AI_SERVICE_INVOKE));
+        assertThat(chatSpans.get(0).attributes)
+                .containsEntry("gen_ai.usage.input_tokens", 10L)
+                .containsEntry("gen_ai.usage.output_tokens", 5L);
+
+        List<RecordingSpan> toolSpans = tracer.spans.stream()
+                .filter(span -> span.name.equals(EXECUTE_TOOL))
+                .toList();
+        assertThat(toolSpans).hasSize(1);
+        assertThat(toolSpans.get(0).attributes).containsEntry(TOOL_NAME, "currentTime");
+        assertThat(toolSpans.get(0).parent.name).isEqualTo(AI_SERVICE_INVOKE);
+    }
+
+    @Test
+    void should_record_exception_on_failed_phase() {
+
+        // given
+        RecordingTracer tracer = new RecordingTracer();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysThrowsExceptionWithMessage("boom"))
+                .tracer(tracer)
+                .build();
+
+        // when
+        assertThatThrownBy(() -> assistant.chat("hi")).hasMessage("boom");
+
+        // then
+        RecordingSpan chatSpan = tracer.spans.stream()
+                .filter(span -> span.name.equals(CHAT))
+                .findFirst()
+                .orElseThrow();
+        assertThat(chatSpan.exception).hasMessage("boom");
+        assertThat(chatSpan.parent.exception).hasMessage("boom");
+        assertThat(tracer.spans).allMatch(span -> span.ended);
+    }
+
+    static class RecordingTracer implements Tracer {
+
+        final List<RecordingSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Span startSpan(String name) {
+            return new RecordingSpan(name, null, spans);
+        }
+    }
+
+    static class RecordingSpan implements Span {
+
+        final String name;
+        final RecordingSpan parent;
+        final List<RecordingSpan> spans;
+        final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        volatile Throwable exception;
+        volatile boolean ended;
+
+        RecordingSpan(String name, RecordingSpan parent, List<RecordingSpan> spans) {
+            this.name = name;
+            this.parent = parent;
+            this.spans = spans;
+            spans.add(this);
+        }
+
+        String path() {
+            return parent == null ? name : parent.path() + " > " + name;
+        }
+
+        @Override
+        public Span setAttribute(String key, String value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, long value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public Span startChild(String name) {
+            return new RecordingSpan(name, this, spans);
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.HallucinatedToolNameStrategy;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -277,6 +278,64 @@ class AiServicesUserMessageConfigTest {
                         "Error: The method 'illegalChat6' has multiple @UserMessage annotations. Please use only one.");
     }
 
+    @Test
+    void should_bind_new_arguments_on_each_invocation() {
+
+        // given
+        AiService aiService = AiServices.builder(AiService.class)
+                .chatModel(chatModel)
+                .build();
+
+        // when
+        aiService.chat6("Germany");
+        aiService.chat6("France");
+        aiService.chat3("What is the capital of {{country}}?", "Italy");
+        aiService.chat3("What is the largest city of {{country}}?", "Italy");
+
+        // then
+        verify(chatModel).chat(chatRequest("What is the capital of Germany?"));
+        verify(chatModel).chat(chatRequest("What is the capital of France?"));
+        verify(chatModel).chat(chatRequest("What is the capital of Italy?"));
+        verify(chatModel).chat(chatRequest("What is the largest city of Italy?"));
+    }
+
+    @Test
+    void should_reuse_method_plan_for_different_arguments() throws NoSuchMethodException {
+
+        // given
+        AiServiceMethodPlan plan = new AiServiceMethodPlan(
+                AiService.class.getMethod("chat3", String.class, String.class), new ServiceOutputParser(), List.of());
+
+        // when
+        dev.langchain4j.data.message.UserMessage first = userMessage(plan, "What is the capital of {{country}}?", "Germany");
+        dev.langchain4j.data.message.UserMessage second = userMessage(plan, "What is the largest city of {{country}}?", "Italy");
+
+        // then
+        assertThat(first.singleText()).isEqualTo("What is the capital of Germany?");
+        assertThat(second.singleText()).isEqualTo("What is the largest city of Italy?");
+    }
+
+    private static dev.langchain4j.data.message.UserMessage userMessage(AiServiceMethodPlan plan, Object... args) {
+        String template = plan.userMessageTemplate(args);
+        return plan.userMessage(template, plan.userMessageVariables(template, args), args);
+    }
+
+    @Test
+    void should_fail_on_each_invocation_of_illegally_configured_method() {
+
+        // given
+        AiService aiService = AiServices.builder(AiService.class)
+                .chatModel(chatModel)
+                .build();
+
+        // when-then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> aiService.illegalChat2("Germany"))
+                    .isExactlyInstanceOf(IllegalConfigurationException.class)
+                    .hasMessage("Error: The method 'illegalChat2' does not have a user message defined.");
+        }
+    }
+
     interface AssistantHallucinatedTool {
         Result<AiMessage> chat(String userMessage);
     }